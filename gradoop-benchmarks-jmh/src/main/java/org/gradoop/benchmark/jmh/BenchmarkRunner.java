@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ *
+ * Accepts the common JMH command line options. Unless specified otherwise, results are written
+ * as JSON to {@link #DEFAULT_RESULT_FILE}, so that runs of different revisions can be compared,
+ * e.g.:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar PropertyValue -rff before.json
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+  /**
+   * Default file results are written to.
+   */
+  public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  /**
+   * Runs the benchmarks selected by the given JMH command line options.
+   *
+   * @param args JMH command line options
+   * @throws Exception on failure
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLineOptions.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+    }
+
+    new Runner(options.build()).run();
+  }
+}
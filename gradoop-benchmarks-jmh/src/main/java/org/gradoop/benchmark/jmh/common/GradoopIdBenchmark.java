@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.common;
+
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks generating, comparing and normalizing {@link GradoopId}s using the id strategy
+ * configured via system properties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdBenchmark {
+
+  /**
+   * First id to be compared.
+   */
+  private GradoopId first;
+
+  /**
+   * Second id to be compared.
+   */
+  private GradoopId second;
+
+  /**
+   * Hex string representation of the first id.
+   */
+  private String string;
+
+  /**
+   * Target of normalized keys.
+   */
+  private MemorySegment segment;
+
+  /**
+   * Initializes the ids.
+   */
+  @Setup
+  public void setup() {
+    first = GradoopId.get();
+    second = GradoopId.get();
+    string = first.toString();
+    segment = MemorySegmentFactory.wrap(new byte[first.getMaxNormalizedKeyLen()]);
+  }
+
+  /**
+   * Generates a new id.
+   *
+   * @return new id
+   */
+  @Benchmark
+  public GradoopId get() {
+    return GradoopId.get();
+  }
+
+  /**
+   * Compares two ids.
+   *
+   * @return comparison result
+   */
+  @Benchmark
+  public int compareTo() {
+    return first.compareTo(second);
+  }
+
+  /**
+   * Checks two ids for equality.
+   *
+   * @return true, iff both ids are equal
+   */
+  @Benchmark
+  public boolean equalTo() {
+    return first.equals(second);
+  }
+
+  /**
+   * Computes the hash code of an id.
+   *
+   * @return hash code
+   */
+  @Benchmark
+  public int hash() {
+    return first.hashCode();
+  }
+
+  /**
+   * Writes the normalized key of an id.
+   *
+   * @return segment containing the normalized key
+   */
+  @Benchmark
+  public MemorySegment normalizedKey() {
+    first.copyNormalizedKey(segment, 0, segment.size());
+    return segment;
+  }
+
+  /**
+   * Parses an id from its hex string representation.
+   *
+   * @return parsed id
+   */
+  @Benchmark
+  public GradoopId fromString() {
+    return GradoopId.fromString(string);
+  }
+}
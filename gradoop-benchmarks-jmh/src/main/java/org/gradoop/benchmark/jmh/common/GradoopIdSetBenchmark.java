@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.common;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the common operations on {@link GradoopIdSet}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdSetBenchmark {
+
+  /**
+   * Number of ids per set.
+   */
+  @Param({"4", "64"})
+  private int size;
+
+  /**
+   * Ids contained in {@link #set}.
+   */
+  private List<GradoopId> ids;
+
+  /**
+   * Set containing all ids.
+   */
+  private GradoopIdSet set;
+
+  /**
+   * Set that shares its last id with {@link #set}.
+   */
+  private GradoopIdSet other;
+
+  /**
+   * Id that is not contained in {@link #set}.
+   */
+  private GradoopId missing;
+
+  /**
+   * Initializes the sets.
+   */
+  @Setup
+  public void setup() {
+    ids = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ids.add(GradoopId.get());
+    }
+    set = GradoopIdSet.fromExisting(ids);
+
+    other = new GradoopIdSet();
+    for (int i = 1; i < size; i++) {
+      other.add(GradoopId.get());
+    }
+    other.add(ids.get(size - 1));
+
+    missing = GradoopId.get();
+  }
+
+  /**
+   * Builds a set by adding ids one by one.
+   *
+   * @return new set
+   */
+  @Benchmark
+  public GradoopIdSet add() {
+    GradoopIdSet result = new GradoopIdSet();
+    for (GradoopId id : ids) {
+      result.add(id);
+    }
+    return result;
+  }
+
+  /**
+   * Builds a set from an existing collection.
+   *
+   * @return new set
+   */
+  @Benchmark
+  public GradoopIdSet fromExisting() {
+    return GradoopIdSet.fromExisting(ids);
+  }
+
+  /**
+   * Checks whether a set contains an id that is not part of it.
+   *
+   * @return false
+   */
+  @Benchmark
+  public boolean containsMissing() {
+    return set.contains(missing);
+  }
+
+  /**
+   * Checks whether two sets share an id.
+   *
+   * @return true
+   */
+  @Benchmark
+  public boolean containsAny() {
+    return set.containsAny(other);
+  }
+
+  /**
+   * Merges two sets.
+   *
+   * @return merged set
+   */
+  @Benchmark
+  public GradoopIdSet addAll() {
+    GradoopIdSet result = GradoopIdSet.fromExisting(ids);
+    result.addAll(other);
+    return result;
+  }
+
+  /**
+   * Iterates all ids of a set.
+   *
+   * @return number of ids
+   */
+  @Benchmark
+  public int iterate() {
+    int count = 0;
+    for (GradoopId ignored : set) {
+      count++;
+    }
+    return count;
+  }
+}
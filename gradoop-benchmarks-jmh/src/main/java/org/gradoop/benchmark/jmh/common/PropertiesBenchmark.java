@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading, writing and serializing {@link Properties}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesBenchmark {
+
+  /**
+   * Number of properties per instance.
+   */
+  @Param({"4", "16"})
+  private int size;
+
+  /**
+   * Property keys.
+   */
+  private List<String> keys;
+
+  /**
+   * Property values, one per key.
+   */
+  private List<PropertyValue> values;
+
+  /**
+   * Properties to be read and serialized.
+   */
+  private Properties properties;
+
+  /**
+   * Dictionary containing all property keys.
+   */
+  private PropertyKeyDictionary dictionary;
+
+  /**
+   * Serialization target.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Serialized properties.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Serialized properties using the key dictionary.
+   */
+  private DataInputDeserializer dictionaryInput;
+
+  /**
+   * Serialized form of the properties.
+   */
+  private byte[] serialized;
+
+  /**
+   * Serialized form of the properties using the key dictionary.
+   */
+  private byte[] dictionarySerialized;
+
+  /**
+   * Initializes the properties and their serialized representations.
+   *
+   * @throws IOException on failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    keys = new ArrayList<>(size);
+    values = new ArrayList<>(size);
+    properties = Properties.createWithCapacity(size);
+    for (int i = 0; i < size; i++) {
+      String key = "key" + i;
+      PropertyValue value = i % 2 == 0 ?
+        PropertyValue.create((long) i) : PropertyValue.create("value" + i);
+      keys.add(key);
+      values.add(value);
+      properties.set(key, value);
+    }
+    dictionary = PropertyKeyDictionary.fromKeys(keys);
+
+    output = new DataOutputSerializer(1024);
+    properties.write(output);
+    serialized = output.getCopyOfBuffer();
+    output.clear();
+    properties.write(output, dictionary);
+    dictionarySerialized = output.getCopyOfBuffer();
+    output.clear();
+
+    input = new DataInputDeserializer();
+    dictionaryInput = new DataInputDeserializer();
+  }
+
+  /**
+   * Creates properties and sets all key value pairs.
+   *
+   * @return properties
+   */
+  @Benchmark
+  public Properties set() {
+    Properties result = Properties.createWithCapacity(size);
+    for (int i = 0; i < size; i++) {
+      result.set(keys.get(i), values.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Reads the value of the last key.
+   *
+   * @return property value
+   */
+  @Benchmark
+  public PropertyValue get() {
+    return properties.get(keys.get(size - 1));
+  }
+
+  /**
+   * Serializes the properties.
+   *
+   * @return serialization target
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public DataOutputSerializer write() throws IOException {
+    output.clear();
+    properties.write(output);
+    return output;
+  }
+
+  /**
+   * Serializes the properties using the key dictionary.
+   *
+   * @return serialization target
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public DataOutputSerializer writeWithDictionary() throws IOException {
+    output.clear();
+    properties.write(output, dictionary);
+    return output;
+  }
+
+  /**
+   * Deserializes the properties.
+   *
+   * @return properties
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public Properties read() throws IOException {
+    input.setBuffer(serialized, 0, serialized.length);
+    Properties result = Properties.create();
+    result.read(input);
+    return result;
+  }
+
+  /**
+   * Deserializes the properties using the key dictionary.
+   *
+   * @return properties
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public Properties readWithDictionary() throws IOException {
+    dictionaryInput.setBuffer(dictionarySerialized, 0, dictionarySerialized.length);
+    Properties result = Properties.create();
+    result.read(dictionaryInput, dictionary);
+    return result;
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.common;
+
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating, reading and comparing {@link PropertyValue}s of each supported type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyValueBenchmark {
+
+  /**
+   * Maximum number of bytes of the benchmarked normalized keys.
+   */
+  private static final int NORMALIZED_KEY_LENGTH = 16;
+
+  /**
+   * Type of the benchmarked property values.
+   */
+  @Param({
+    "boolean", "int", "long", "float", "double", "string", "bigdecimal", "gradoopid",
+    "date", "time", "datetime"
+  })
+  private String type;
+
+  /**
+   * Object the property values are created from.
+   */
+  private Object object;
+
+  /**
+   * First property value to be read and compared.
+   */
+  private PropertyValue first;
+
+  /**
+   * Second property value, differs from the first one in its last byte.
+   */
+  private PropertyValue second;
+
+  /**
+   * Target of normalized keys.
+   */
+  private MemorySegment segment;
+
+  /**
+   * Initializes the property values for the benchmarked type.
+   */
+  @Setup
+  public void setup() {
+    object = createObject(type, 0);
+    first = PropertyValue.create(object);
+    second = PropertyValue.create(createObject(type, 1));
+    segment = MemorySegmentFactory.wrap(
+      new byte[Math.min(first.getMaxNormalizedKeyLen(), NORMALIZED_KEY_LENGTH)]);
+  }
+
+  /**
+   * Creates a property value from a java object.
+   *
+   * @return property value
+   */
+  @Benchmark
+  public PropertyValue create() {
+    return PropertyValue.create(object);
+  }
+
+  /**
+   * Reads the java object of a property value.
+   *
+   * @return java object
+   */
+  @Benchmark
+  public Object get() {
+    return first.getObject();
+  }
+
+  /**
+   * Compares two property values of the same type.
+   *
+   * @return comparison result
+   */
+  @Benchmark
+  public int compareTo() {
+    return first.compareTo(second);
+  }
+
+  /**
+   * Checks two property values of the same type for equality.
+   *
+   * @return true, iff both values are equal
+   */
+  @Benchmark
+  public boolean equalTo() {
+    return first.equals(second);
+  }
+
+  /**
+   * Writes the normalized key of a property value.
+   *
+   * @return segment containing the normalized key
+   */
+  @Benchmark
+  public MemorySegment normalizedKey() {
+    first.copyNormalizedKey(segment, 0, segment.size());
+    return segment;
+  }
+
+  /**
+   * Creates a java object of the given type.
+   *
+   * @param type type name
+   * @param offset offset to derive different objects of the same type
+   * @return java object
+   */
+  private static Object createObject(String type, int offset) {
+    switch (type) {
+    case "boolean":
+      return offset == 0;
+    case "int":
+      return 42 + offset;
+    case "long":
+      return 42L + offset;
+    case "float":
+      return 42.0f + offset;
+    case "double":
+      return 42.0d + offset;
+    case "string":
+      return "Gradoop property value " + offset;
+    case "bigdecimal":
+      return new BigDecimal("42.42").add(BigDecimal.valueOf(offset));
+    case "gradoopid":
+      return GradoopId.get();
+    case "date":
+      return LocalDate.of(2018, 1, 1).plusDays(offset);
+    case "time":
+      return LocalTime.of(12, 0).plusSeconds(offset);
+    case "datetime":
+      return LocalDateTime.of(2018, 1, 1, 12, 0).plusSeconds(offset);
+    default:
+      throw new IllegalArgumentException("Unsupported type: " + type);
+    }
+  }
+}
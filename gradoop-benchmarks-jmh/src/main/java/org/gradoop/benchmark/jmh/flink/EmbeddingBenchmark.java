@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.flink;
+
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks appending to, projecting and merging {@link Embedding}s as done by the Cypher
+ * physical operators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmbeddingBenchmark {
+
+  /**
+   * Number of id entries per embedding.
+   */
+  @Param({"3", "9"})
+  private int columns;
+
+  /**
+   * Left embedding containing one property per column.
+   */
+  private Embedding left;
+
+  /**
+   * Right embedding which shares its first column with the last column of the left one.
+   */
+  private Embedding right;
+
+  /**
+   * Id appended to the left embedding.
+   */
+  private GradoopId id;
+
+  /**
+   * Property appended to the left embedding.
+   */
+  private PropertyValue property;
+
+  /**
+   * Property columns kept by the projection.
+   */
+  private List<Integer> projection;
+
+  /**
+   * Merge function of the join operator.
+   */
+  private MergeEmbeddings merge;
+
+  /**
+   * Collects the merged embedding.
+   */
+  private LastElementCollector<Embedding> collector;
+
+  /**
+   * Initializes the embeddings.
+   */
+  @Setup
+  public void setup() {
+    left = new Embedding();
+    right = new Embedding();
+    GradoopId joinId = GradoopId.get();
+    for (int i = 0; i < columns; i++) {
+      left.add(i == columns - 1 ? joinId : GradoopId.get(), PropertyValue.create((long) i));
+      right.add(i == 0 ? joinId : GradoopId.get(), PropertyValue.create("value" + i));
+    }
+    id = GradoopId.get();
+    property = PropertyValue.create(42L);
+    projection = IntStream.range(0, columns).filter(i -> i % 2 == 0).boxed()
+      .collect(Collectors.toList());
+    merge = new MergeEmbeddings(columns, Collections.singletonList(0),
+      new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    collector = new LastElementCollector<>();
+  }
+
+  /**
+   * Appends an id and a property to a copy of an embedding.
+   *
+   * @return extended embedding
+   */
+  @Benchmark
+  public Embedding append() {
+    Embedding result = left.copy();
+    result.add(id, property);
+    return result;
+  }
+
+  /**
+   * Reads an id entry of an embedding.
+   *
+   * @return id
+   */
+  @Benchmark
+  public GradoopId getId() {
+    return left.getId(columns - 1);
+  }
+
+  /**
+   * Reads a property of an embedding.
+   *
+   * @return property value
+   */
+  @Benchmark
+  public PropertyValue getProperty() {
+    return left.getProperty(columns - 1);
+  }
+
+  /**
+   * Projects every second property of an embedding.
+   *
+   * @return projected embedding
+   */
+  @Benchmark
+  public Embedding project() {
+    return left.project(projection);
+  }
+
+  /**
+   * Merges two embeddings on a shared column.
+   *
+   * @return merged embedding
+   * @throws Exception on failure
+   */
+  @Benchmark
+  public Embedding merge() throws Exception {
+    merge.join(left, right, collector);
+    return collector.getLast();
+  }
+
+  /**
+   * Keeps only the last collected element.
+   *
+   * @param <T> element type
+   */
+  private static class LastElementCollector<T> implements Collector<T> {
+
+    /**
+     * Last collected element.
+     */
+    private T last;
+
+    @Override
+    public void collect(T record) {
+      last = record;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public T getLast() {
+      return last;
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.flink;
+
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.functions.StringEscaper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks splitting and unescaping CSV lines using {@link StringEscaper}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringEscaperBenchmark {
+
+  /**
+   * Number of tokens per line.
+   */
+  @Param({"4", "32"})
+  private int tokens;
+
+  /**
+   * Fraction of tokens containing an escaped delimiter.
+   */
+  @Param({"0.0", "0.5"})
+  private double escapedFraction;
+
+  /**
+   * Line to be split.
+   */
+  private String line;
+
+  /**
+   * Token to be unescaped.
+   */
+  private String escapedToken;
+
+  /**
+   * Initializes the CSV line.
+   */
+  @Setup
+  public void setup() {
+    String delimiter = CSVConstants.VALUE_DELIMITER;
+    escapedToken = "escaped\\" + delimiter + "token\\n";
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < tokens; i++) {
+      if (i > 0) {
+        sb.append(delimiter);
+      }
+      sb.append(i < tokens * escapedFraction ? escapedToken : "token" + i);
+    }
+    line = sb.toString();
+  }
+
+  /**
+   * Splits a line on the value delimiter.
+   *
+   * @return tokens
+   */
+  @Benchmark
+  public String[] split() {
+    return StringEscaper.split(line, CSVConstants.VALUE_DELIMITER);
+  }
+
+  /**
+   * Unescapes a single token.
+   *
+   * @return unescaped token
+   */
+  @Benchmark
+  public String unescape() {
+    return StringEscaper.unescape(escapedToken);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.storage;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.utils.KryoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the element codec of the accumulo store ({@link KryoUtils}) with the generic kryo
+ * path it replaced, which allocated new streams per call and serialized the object graph of
+ * ids and properties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccumuloCodecBenchmark {
+
+  /**
+   * Number of properties per vertex.
+   */
+  @Param({"4", "16"})
+  private int size;
+
+  /**
+   * Vertex to be encoded.
+   */
+  private Vertex vertex;
+
+  /**
+   * Vertex encoded by {@link KryoUtils}.
+   */
+  private byte[] encoded;
+
+  /**
+   * Vertex encoded by the generic path.
+   */
+  private byte[] encodedGeneric;
+
+  /**
+   * Kryo instance configured like the generic path.
+   */
+  private Kryo genericKryo;
+
+  /**
+   * Initializes the vertex and its encodings.
+   *
+   * @throws IOException on encoding failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    Properties properties = Properties.create();
+    for (int i = 0; i < size; i++) {
+      properties.set("key" + i, i % 2 == 0 ?
+        PropertyValue.create("value" + i) : PropertyValue.create((long) i));
+    }
+    vertex = new Vertex(GradoopId.get(), "Person", properties,
+      GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get()));
+
+    genericKryo = new Kryo();
+    genericKryo.setReferences(false);
+    genericKryo.register(Collection.class);
+    genericKryo.register(Map.class);
+
+    encoded = KryoUtils.dumps(vertex);
+    encodedGeneric = dumpsGeneric();
+  }
+
+  /**
+   * Encodes a vertex with pooled buffers and registered serializers.
+   *
+   * @return encoded vertex
+   * @throws IOException on encoding failure
+   */
+  @Benchmark
+  public byte[] dumps() throws IOException {
+    return KryoUtils.dumps(vertex);
+  }
+
+  /**
+   * Decodes a vertex with pooled buffers and registered serializers.
+   *
+   * @return decoded vertex
+   * @throws IOException on decoding failure
+   */
+  @Benchmark
+  public Vertex loads() throws IOException {
+    return KryoUtils.loads(encoded, Vertex.class);
+  }
+
+  /**
+   * Encodes a vertex with new streams and generic serializers.
+   *
+   * @return encoded vertex
+   * @throws IOException on encoding failure
+   */
+  @Benchmark
+  public byte[] dumpsGeneric() throws IOException {
+    try (
+      ByteArrayOutputStream content = new ByteArrayOutputStream();
+      Output output = new Output(content)
+    ) {
+      genericKryo.writeObject(output, vertex);
+      output.flush();
+      return content.toByteArray();
+    }
+  }
+
+  /**
+   * Decodes a vertex with new streams and generic serializers.
+   *
+   * @return decoded vertex
+   * @throws IOException on decoding failure
+   */
+  @Benchmark
+  public Vertex loadsGeneric() throws IOException {
+    try (
+      ByteArrayInputStream content = new ByteArrayInputStream(encodedGeneric);
+      Input input = new Input(content)
+    ) {
+      return genericKryo.readObject(input, Vertex.class);
+    }
+  }
+}
@@ -39,6 +39,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  * This implementation reuses much of the code of BSON's ObjectId
  * (org.bson.types.ObjectId) to guarantee uniqueness. Much of the code is copied directly or
  * has only small changes.
+ * <p>
+ * The size and layout of an id depend on the configured {@link GradoopIdStrategy}.
  *
  * @see EPGMIdentifiable
  * <p>
@@ -46,16 +48,20 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<GradoopId> {
 
+  /**
+   * Strategy used to represent and generate ids, see {@link GradoopIdStrategy}.
+   */
+  public static final GradoopIdStrategy STRATEGY = GradoopIdStrategy.fromSystemProperties();
+
   /**
    * Number of bytes to represent an id internally.
    */
-  public static final int ID_SIZE = 12;
+  public static final int ID_SIZE = STRATEGY.getIdSize();
 
   /**
    * Represents a null id.
    */
-  public static final GradoopId NULL_VALUE =
-    new GradoopId(0, 0, (short) 0, 0);
+  public static final GradoopId NULL_VALUE = new GradoopId(new byte[ID_SIZE]);
 
   /**
    * Integer containing a unique identifier of the machine
@@ -147,6 +153,10 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   private GradoopId(final int timestamp, final int machineIdentifier, final short processIdentifier,
     final int counter, final boolean checkCounter) {
+    if (STRATEGY != GradoopIdStrategy.OBJECT_ID) {
+      throw new UnsupportedOperationException(
+        "ObjectId components are not supported by id strategy " + STRATEGY);
+    }
     if ((machineIdentifier & HIGH_ORDER_ONE_BYTE) != 0) {
       throw new IllegalArgumentException("The machine identifier must be between 0" +
         " and 16777215 (it must fit in three bytes).");
@@ -156,7 +166,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
         " and 16777215 (it must fit in three bytes).");
     }
 
-    ByteBuffer buffer = ByteBuffer.allocate(12);
+    ByteBuffer buffer = ByteBuffer.allocate(GradoopIdStrategy.OBJECT_ID.getIdSize());
 
     buffer.put((byte) (timestamp >> 24));
     buffer.put((byte) (timestamp >> 16));
@@ -239,10 +249,68 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return new GradoopId
    */
   public static GradoopId get() {
+    if (STRATEGY == GradoopIdStrategy.SEQUENCE) {
+      return fromLong(SequenceIdGenerator.getInstance().next());
+    }
     return new GradoopId(dateToTimestampSeconds(new Date()), MACHINE_IDENTIFIER,
       PROCESS_IDENTIFIER, NEXT_COUNTER.getAndIncrement(), false);
   }
 
+  /**
+   * Returns the GradoopId represented by the given long value. This is only supported by the
+   * {@link GradoopIdStrategy#SEQUENCE} strategy.
+   *
+   * @param value long representation
+   * @return GradoopId
+   */
+  public static GradoopId fromLong(long value) {
+    checkLongRepresentation();
+    byte[] bytes = new byte[Long.BYTES];
+    for (int i = Long.BYTES - 1; i >= 0; i--) {
+      bytes[i] = (byte) value;
+      value >>>= Byte.SIZE;
+    }
+    return new GradoopId(bytes);
+  }
+
+  /**
+   * Returns the long representation of this id. This is only supported by the
+   * {@link GradoopIdStrategy#SEQUENCE} strategy.
+   *
+   * @return long representation
+   */
+  public long toLong() {
+    checkLongRepresentation();
+    return toLong(bytes, 0);
+  }
+
+  /**
+   * Returns the long stored in big endian order at the given offset of a byte array.
+   *
+   * @param bytes byte array
+   * @param offset offset of the long
+   * @return long value
+   */
+  private static long toLong(byte[] bytes, int offset) {
+    long value = 0;
+    for (int i = offset; i < offset + Long.BYTES; i++) {
+      value = (value << Byte.SIZE) | (bytes[i] & 0xff);
+    }
+    return value;
+  }
+
+  /**
+   * Makes sure ids have a long representation.
+   *
+   * @throws UnsupportedOperationException if ids are not represented by a long
+   */
+  private static void checkLongRepresentation() {
+    if (STRATEGY != GradoopIdStrategy.SEQUENCE) {
+      throw new UnsupportedOperationException(
+        "Long representation is not supported by id strategy " + STRATEGY);
+    }
+  }
+
   /**
    * Converts a date into the seconds since unix epoch.
    *
@@ -267,7 +335,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
         "invalid hexadecimal representation of a GradoopId: [" + string + "]");
     }
 
-    byte[] b = new byte[12];
+    byte[] b = new byte[ID_SIZE];
     for (int i = 0; i < b.length; i++) {
       b[i] = (byte) Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16);
     }
@@ -289,7 +357,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     }
 
     int len = hexString.length();
-    if (len != 24) {
+    if (len != 2 * ID_SIZE) {
       return false;
     }
 
@@ -365,10 +433,28 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public int hashCode() {
-    int result = getTimeStamp();
-    result = 31 * result + getMachineIdentifier();
-    result = 31 * result + (int) getProcessIdentifier();
-    result = 31 * result + getCounter();
+    return hashCode(bytes, 0);
+  }
+
+  /**
+   * Returns the hash code of the GradoopId stored at the given offset of a byte array. The
+   * result is equal to {@link #hashCode()} of the corresponding GradoopId instance.
+   *
+   * @param bytes byte array containing the id
+   * @param offset offset of the id
+   * @return hash code
+   */
+  static int hashCode(byte[] bytes, int offset) {
+    if (STRATEGY == GradoopIdStrategy.SEQUENCE) {
+      return Long.hashCode(toLong(bytes, offset));
+    }
+    int result = makeInt(bytes[offset], bytes[offset + 1], bytes[offset + 2], bytes[offset + 3]);
+    result = 31 * result +
+      makeInt((byte) 0, bytes[offset + 4], bytes[offset + 5], bytes[offset + 6]);
+    result = 31 * result +
+      (int) (short) makeInt((byte) 0, (byte) 0, bytes[offset + 7], bytes[offset + 8]);
+    result = 31 * result +
+      makeInt((byte) 0, bytes[offset + 9], bytes[offset + 10], bytes[offset + 11]);
     return result;
   }
 
@@ -399,7 +485,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public String toString() {
-    char[] chars = new char[24];
+    char[] chars = new char[2 * ID_SIZE];
     int i = 0;
     for (byte b : bytes) {
       chars[i++] = HEX_CHARS[b >> 4 & 0xF];
@@ -456,47 +542,6 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     target.write(source, ID_SIZE);
   }
 
-  //------------------------------------------------------------------------------------------------
-  // private little helpers
-  //------------------------------------------------------------------------------------------------
-
-  /**
-   * Returns the timestamp component of the id.
-   *
-   * @return the timestamp
-   */
-  private int getTimeStamp() {
-    return makeInt(bytes[0], bytes[1], bytes[2], bytes[3]);
-  }
-
-  /**
-   * Returns the machine identifier component of the id.
-   *
-   * @return the machine identifier
-   */
-  private int getMachineIdentifier() {
-    return makeInt((byte) 0, bytes[4], bytes[5], bytes[6]);
-  }
-
-  /**
-   * Returns the process identifier component of the id.
-   *
-   * @return the process identifier
-   */
-  private short getProcessIdentifier() {
-    return (short) makeInt((byte) 0, (byte) 0, bytes[7], bytes[8]);
-  }
-
-  /**
-   * Returns the counter component of the id.
-   *
-   * @return the counter
-   */
-  private int getCounter() {
-    return makeInt((byte) 0, bytes[9], bytes[10], bytes[11]);
-  }
-
-
   //------------------------------------------------------------------------------------------------
   // static helper functions
   //------------------------------------------------------------------------------------------------
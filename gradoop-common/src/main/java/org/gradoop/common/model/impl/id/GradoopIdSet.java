@@ -23,29 +23,54 @@ import java.io.IOException;
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
+import static org.gradoop.common.model.impl.id.GradoopId.ID_SIZE;
+
 /**
  * Represents a set of {@link GradoopId} instances, ignoring any duplicates.
  *
- * Note that by implementing {@link java.util.List} Flink uses the Kryo serializer for
- * (de-)serializing the list.
+ * The ids are stored in a single byte array, packed and sorted by {@link GradoopId#compareTo}.
+ * Lookups use binary search and set operations between two instances merge or gallop over both
+ * arrays without materializing {@link GradoopId} objects. {@link GradoopId} instances are only
+ * created when iterating the set.
+ *
+ * By implementing {@link Value}, Flink (de-)serializes the set with its value serializer, which
+ * calls {@link #write(DataOutputView)} and {@link #read(DataInputView)}. Both copy the number of
+ * ids followed by the packed id bytes, so no Kryo serializer is involved.
  *
  * @see GradoopId
  */
 public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
   /**
-   * Contains the set of gradoop ids.
+   * Number of ids the array is initialized with on the first insertion.
+   */
+  private static final int DEFAULT_CAPACITY = 4;
+
+  /**
+   * Contains the sorted ids, each occupying {@link GradoopId#ID_SIZE} bytes. The array may be
+   * larger than required.
    */
-  private Set<GradoopId> ids;
+  private byte[] bytes;
+
+  /**
+   * Number of ids in the set.
+   */
+  private int size;
+
+  /**
+   * Number of structural modifications, used to detect concurrent modifications while iterating.
+   */
+  private transient int modCount;
 
   /**
    * Required default constructor for instantiation by serialization logic.
    */
   public GradoopIdSet() {
-    this.ids = new HashSet<>();
+    this.bytes = new byte[0];
   }
 
   /**
@@ -54,7 +79,9 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @param bytes bytes representing multiple gradoop ids
    */
   private GradoopIdSet(byte[] bytes) {
-    this.ids = readIds(bytes);
+    this.bytes = Arrays.copyOf(bytes, bytes.length - bytes.length % ID_SIZE);
+    this.size = this.bytes.length / ID_SIZE;
+    normalize();
   }
 
   /**
@@ -63,39 +90,8 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @param ids a collection of {@link GradoopId}s
    */
   private GradoopIdSet(Collection<GradoopId> ids) {
-    this.ids = new HashSet<>(ids);
-  }
-
-  /**
-   * Since we will need to do operations on individual ids we need
-   * to reconstruct the {@link GradoopId} instances.
-   * @param bytes serialized sequence of {@link GradoopId}s
-   * @return a set representation
-   */
-  private Set<GradoopId> readIds(byte[] bytes) {
-    ids = new HashSet<>();
-    for (int i = 0; i < bytes.length / GradoopId.ID_SIZE; i++) {
-      byte[] idBytes = new byte[GradoopId.ID_SIZE];
-      System.arraycopy(bytes, i * GradoopId.ID_SIZE, idBytes, 0, GradoopId.ID_SIZE);
-      ids.add(GradoopId.fromByteArray(idBytes));
-    }
-    return ids;
-  }
-
-  /**
-   * Serialize all ids into a byte array.
-   * @param ids sequence of {@link GradoopId}s
-   * @return a binary representation
-   */
-  private byte[] writeIds(Set<GradoopId> ids) {
-    byte[] bytes = new byte[ids.size() * GradoopId.ID_SIZE];
-
-    int i = 0;
-    for (GradoopId id : ids) {
-      System.arraycopy(id.toByteArray(), 0, bytes, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
-      i++;
-    }
-    return bytes;
+    this();
+    addAll(ids);
   }
 
   /**
@@ -119,7 +115,8 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
   }
 
   /**
-   * Creates a new instance from multiple GradoopIDs represented as byte array.
+   * Creates a new instance from multiple GradoopIDs represented as byte array. The ids do not
+   * need to be sorted or distinct.
    *
    * @param bytes byte array representing multiple gradoop ids
    * @return gradoop id set
@@ -135,16 +132,53 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean add(GradoopId id) {
-    return this.ids.add(id);
+    int index = indexOf(id.toByteArray(), 0);
+    if (index >= 0) {
+      return false;
+    }
+    index = -(index + 1);
+    ensureCapacity(size + 1);
+    System.arraycopy(bytes, index * ID_SIZE, bytes, (index + 1) * ID_SIZE,
+      (size - index) * ID_SIZE);
+    System.arraycopy(id.toByteArray(), 0, bytes, index * ID_SIZE, ID_SIZE);
+    size++;
+    modCount++;
+    return true;
   }
 
   /**
-   * Adds the given gradoop ids to the set.
+   * Adds the given gradoop ids to the set by merging both sorted id arrays.
    *
    * @param ids the ids to add
    */
   public void addAll(GradoopIdSet ids) {
-    this.ids.addAll(ids.ids);
+    if (ids.isEmpty() || ids == this) {
+      return;
+    }
+    byte[] merged = new byte[(size + ids.size) * ID_SIZE];
+    int i = 0;
+    int j = 0;
+    int k = 0;
+
+    while (i < size && j < ids.size) {
+      int comparison = compare(bytes, i * ID_SIZE, ids.bytes, j * ID_SIZE);
+      if (comparison <= 0) {
+        System.arraycopy(bytes, i++ * ID_SIZE, merged, k++ * ID_SIZE, ID_SIZE);
+        if (comparison == 0) {
+          j++;
+        }
+      } else {
+        System.arraycopy(ids.bytes, j++ * ID_SIZE, merged, k++ * ID_SIZE, ID_SIZE);
+      }
+    }
+    System.arraycopy(bytes, i * ID_SIZE, merged, k * ID_SIZE, (size - i) * ID_SIZE);
+    k += size - i;
+    System.arraycopy(ids.bytes, j * ID_SIZE, merged, k * ID_SIZE, (ids.size - j) * ID_SIZE);
+    k += ids.size - j;
+
+    bytes = merged;
+    size = k;
+    modCount++;
   }
 
   /**
@@ -154,7 +188,27 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean addAll(Collection<? extends GradoopId> ids) {
-    return this.ids.addAll(ids);
+    int sizeBefore = size;
+    if (ids instanceof GradoopIdSet) {
+      addAll((GradoopIdSet) ids);
+    } else if (ids.size() > 1) {
+      GradoopId[] sorted = ids.toArray(new GradoopId[ids.size()]);
+      Arrays.sort(sorted);
+      GradoopIdSet other = new GradoopIdSet();
+      other.bytes = new byte[sorted.length * ID_SIZE];
+      for (GradoopId id : sorted) {
+        if (other.size == 0 ||
+          compare(other.bytes, (other.size - 1) * ID_SIZE, id.toByteArray(), 0) != 0) {
+          System.arraycopy(id.toByteArray(), 0, other.bytes, other.size++ * ID_SIZE, ID_SIZE);
+        }
+      }
+      addAll(other);
+    } else {
+      for (GradoopId id : ids) {
+        add(id);
+      }
+    }
+    return size != sizeBefore;
   }
 
   /**
@@ -165,7 +219,27 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean contains(Object identifier) {
-    return this.ids.contains(identifier);
+    return identifier instanceof GradoopId &&
+      indexOf(((GradoopId) identifier).toByteArray(), 0) >= 0;
+  }
+
+  /**
+   * Removes the given id from the set.
+   *
+   * @param identifier the id to remove
+   * @return true, iff the set contained the id
+   */
+  @Override
+  public boolean remove(Object identifier) {
+    if (!(identifier instanceof GradoopId)) {
+      return false;
+    }
+    int index = indexOf(((GradoopId) identifier).toByteArray(), 0);
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
   }
 
   /**
@@ -178,10 +252,13 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
     if (other.size() > this.size()) {
       return false;
     }
-    for (GradoopId id : other) {
-      if (!this.contains(id)) {
+    int position = 0;
+    for (int i = 0; i < other.size; i++) {
+      position = gallop(bytes, position, size, other.bytes, i * ID_SIZE);
+      if (position == size || compare(bytes, position * ID_SIZE, other.bytes, i * ID_SIZE) != 0) {
         return false;
       }
+      position++;
     }
     return true;
   }
@@ -194,6 +271,9 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean containsAll(Collection<?> other) {
+    if (other instanceof GradoopIdSet) {
+      return containsAll((GradoopIdSet) other);
+    }
     if (other instanceof Set && other.size() > this.size()) {
       return false;
     }
@@ -212,20 +292,20 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(GradoopIdSet other) {
-    // Algorithm: the sizes of both lists might be vastly different
-    // to prevent the case of iterating multiple times over large collections
-    // we make sure to always iterate over the smaller one
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other.ids;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other.ids;
-      contains = this.ids;
+    // Algorithm: the sizes of both sets might be vastly different. We iterate over the smaller
+    // one and gallop through the larger one, which skips long runs of non-matching ids.
+    GradoopIdSet iterate = this;
+    GradoopIdSet search = other;
+    if (this.size() > other.size()) {
+      iterate = other;
+      search = this;
     }
 
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
+    int position = 0;
+    for (int i = 0; i < iterate.size && position < search.size; i++) {
+      position = gallop(search.bytes, position, search.size, iterate.bytes, i * ID_SIZE);
+      if (position < search.size &&
+        compare(search.bytes, position * ID_SIZE, iterate.bytes, i * ID_SIZE) == 0) {
         return true;
       }
     }
@@ -239,45 +319,117 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(Set<GradoopId> other) {
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other;
-      contains = this.ids;
+    if (other instanceof GradoopIdSet) {
+      return containsAny((GradoopIdSet) other);
     }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
-        return true;
+    if (this.size() > other.size()) {
+      for (GradoopId id : other) {
+        if (this.contains(id)) {
+          return true;
+        }
+      }
+    } else {
+      for (GradoopId id : this) {
+        if (other.contains(id)) {
+          return true;
+        }
       }
     }
     return false;
   }
 
+  /**
+   * Removes all ids that are contained in the given collection.
+   *
+   * @param other ids to remove
+   * @return true, iff the set changed
+   */
+  @Override
+  public boolean removeAll(Collection<?> other) {
+    return filter(other, false);
+  }
+
+  /**
+   * Removes all ids that are not contained in the given collection.
+   *
+   * @param other ids to retain
+   * @return true, iff the set changed
+   */
+  @Override
+  public boolean retainAll(Collection<?> other) {
+    return filter(other, true);
+  }
+
   /**
    * Checks if the set is empty.
    *
    * @return true, iff the set contains no elements
    */
   public boolean isEmpty() {
-    return ids.isEmpty();
+    return size == 0;
   }
 
   /**
-   * {@inheritDoc}
+   * Returns an iterator over the ids in ascending order.
+   *
+   * @return id iterator
    */
   @Override
   public Iterator<GradoopId> iterator() {
-    return ids.iterator();
+    return new Iterator<GradoopId>() {
+      /**
+       * Index of the next id.
+       */
+      private int next;
+      /**
+       * Index of the last returned id or -1, if it has been removed.
+       */
+      private int last = -1;
+      /**
+       * Expected modification count.
+       */
+      private int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @Override
+      public GradoopId next() {
+        if (expectedModCount != modCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (next >= size) {
+          throw new NoSuchElementException();
+        }
+        last = next++;
+        return GradoopId.fromByteArray(
+          Arrays.copyOfRange(bytes, last * ID_SIZE, next * ID_SIZE));
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) {
+          throw new IllegalStateException();
+        }
+        if (expectedModCount != modCount) {
+          throw new ConcurrentModificationException();
+        }
+        removeAt(last);
+        next = last;
+        last = -1;
+        expectedModCount = modCount;
+      }
+    };
   }
 
   /**
    * Clears the set.
    */
   public void clear() {
-    ids.clear();
+    size = 0;
+    modCount++;
   }
 
   /**
@@ -286,7 +438,7 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return number of elements in the set
    */
   public int size() {
-    return ids.size();
+    return size;
   }
 
   /**
@@ -295,25 +447,25 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return byte array representation
    */
   public byte[] toByteArray() {
-    return writeIds(ids);
+    return Arrays.copyOf(bytes, size * ID_SIZE);
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    if (isEmpty()) {
-      out.writeInt(0);
-    } else {
-      out.writeInt(size());
-      out.write(writeIds(ids));
-    }
+    out.writeInt(size);
+    out.write(bytes, 0, size * ID_SIZE);
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
     int n = in.readInt();
-    byte[] bytes = new byte[n * GradoopId.ID_SIZE];
-    in.readFully(bytes);
-    this.ids = readIds(bytes);
+    if (bytes.length < n * ID_SIZE) {
+      bytes = new byte[n * ID_SIZE];
+    }
+    in.readFully(bytes, 0, n * ID_SIZE);
+    size = n;
+    modCount++;
+    normalize();
   }
 
   @Override
@@ -325,18 +477,27 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
       // same number of ids
       equal = this.size() == that.size();
 
-      if (equal) {
-        // same ids
-        equal = this.ids.equals(that.ids);
+      // same ids, both arrays are sorted
+      for (int i = 0; equal && i < size * ID_SIZE; i++) {
+        equal = this.bytes[i] == that.bytes[i];
       }
     }
 
     return equal;
   }
 
+  /**
+   * Returns the sum of the hash codes of all contained ids, as defined by {@link Set#hashCode()}.
+   *
+   * @return hash code
+   */
   @Override
   public int hashCode() {
-    return ids.hashCode();
+    int hashCode = 0;
+    for (int i = 0; i < size; i++) {
+      hashCode += GradoopId.hashCode(bytes, i * ID_SIZE);
+    }
+    return hashCode;
   }
 
   @Override
@@ -358,4 +519,158 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
       sb.append(',').append(' ');
     }
   }
+
+  //------------------------------------------------------------------------------------------------
+  // private helpers
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Binary search for the given id.
+   *
+   * @param key byte array containing the id
+   * @param keyOffset offset of the id
+   * @return index of the id, if it is contained, otherwise (-(insertion point) - 1)
+   */
+  private int indexOf(byte[] key, int keyOffset) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = compare(bytes, mid * ID_SIZE, key, keyOffset);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else if (comparison > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Returns the index of the first id in {@code [from, to)} which is greater than or equal to
+   * the given key. The search first probes exponentially growing steps starting at {@code from}
+   * and then performs a binary search in the last step.
+   *
+   * @param ids sorted ids
+   * @param from first index (inclusive)
+   * @param to last index (exclusive)
+   * @param key byte array containing the key
+   * @param keyOffset offset of the key
+   * @return index of the first id greater than or equal to the key or {@code to}
+   */
+  private static int gallop(byte[] ids, int from, int to, byte[] key, int keyOffset) {
+    int step = 1;
+    int low = from;
+    int high = from;
+    while (high < to && compare(ids, high * ID_SIZE, key, keyOffset) < 0) {
+      low = high + 1;
+      high = from + step;
+      step <<= 1;
+    }
+    high = Math.min(high, to);
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (compare(ids, mid * ID_SIZE, key, keyOffset) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Performs a byte-wise comparison of two ids, equivalent to {@link GradoopId#compareTo}.
+   *
+   * @param a first byte array
+   * @param aOffset offset of the first id
+   * @param b second byte array
+   * @param bOffset offset of the second id
+   * @return a negative integer, zero, or a positive integer as the first id is less than, equal
+   *         to, or greater than the second one
+   */
+  private static int compare(byte[] a, int aOffset, byte[] b, int bOffset) {
+    for (int i = 0; i < ID_SIZE; i++) {
+      if (a[aOffset + i] != b[bOffset + i]) {
+        return (a[aOffset + i] & 0xff) - (b[bOffset + i] & 0xff);
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Makes sure the array can hold the given number of ids.
+   *
+   * @param capacity required number of ids
+   */
+  private void ensureCapacity(int capacity) {
+    if (bytes.length < capacity * ID_SIZE) {
+      int newCapacity = Math.max(Math.max(capacity, size * 2), DEFAULT_CAPACITY);
+      bytes = Arrays.copyOf(bytes, newCapacity * ID_SIZE);
+    }
+  }
+
+  /**
+   * Removes the id at the given index.
+   *
+   * @param index index of the id to remove
+   */
+  private void removeAt(int index) {
+    System.arraycopy(bytes, (index + 1) * ID_SIZE, bytes, index * ID_SIZE,
+      (size - index - 1) * ID_SIZE);
+    size--;
+    modCount++;
+  }
+
+  /**
+   * Keeps only the ids that are (or are not) contained in the given collection.
+   *
+   * @param other collection to check
+   * @param retain true, to keep the ids contained in the collection, false to remove them
+   * @return true, iff the set changed
+   */
+  private boolean filter(Collection<?> other, boolean retain) {
+    GradoopIdSet otherSet = other instanceof GradoopIdSet ? (GradoopIdSet) other : null;
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      boolean contained = otherSet != null ?
+        otherSet.indexOf(bytes, i * ID_SIZE) >= 0 :
+        other.contains(GradoopId.fromByteArray(
+          Arrays.copyOfRange(bytes, i * ID_SIZE, (i + 1) * ID_SIZE)));
+      if (contained == retain) {
+        if (kept != i) {
+          System.arraycopy(bytes, i * ID_SIZE, bytes, kept * ID_SIZE, ID_SIZE);
+        }
+        kept++;
+      }
+    }
+    boolean changed = kept != size;
+    if (changed) {
+      size = kept;
+      modCount++;
+    }
+    return changed;
+  }
+
+  /**
+   * Sorts the ids and removes duplicates, unless the ids are already strictly ascending. This is
+   * only required for byte arrays not written by this class.
+   */
+  private void normalize() {
+    boolean sorted = true;
+    for (int i = 1; sorted && i < size; i++) {
+      sorted = compare(bytes, (i - 1) * ID_SIZE, bytes, i * ID_SIZE) < 0;
+    }
+    if (!sorted) {
+      GradoopId[] ids = new GradoopId[size];
+      for (int i = 0; i < size; i++) {
+        ids[i] = GradoopId.fromByteArray(Arrays.copyOfRange(bytes, i * ID_SIZE, (i + 1) * ID_SIZE));
+      }
+      size = 0;
+      bytes = new byte[0];
+      addAll(Arrays.asList(ids));
+    }
+  }
 }
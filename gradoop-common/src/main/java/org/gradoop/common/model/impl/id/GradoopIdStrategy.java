@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+/**
+ * Defines how {@link GradoopId}s are represented and generated.
+ *
+ * The strategy is selected once per JVM using the system property {@value #STRATEGY_PROPERTY}
+ * and defaults to {@link #OBJECT_ID}. Since it changes the binary and string representation of
+ * all ids, every JVM of a deployment (client and workers) has to use the same strategy, and data
+ * written using one strategy cannot be read using the other.
+ */
+public enum GradoopIdStrategy {
+  /**
+   * Globally unique 12 byte ids, generated from timestamp, machine, process and counter like a
+   * BSON ObjectId.
+   */
+  OBJECT_ID(12),
+  /**
+   * Compact 8 byte ids, consisting of a 2 byte node identifier followed by a 6 byte sequence
+   * number. Ids generated by one JVM are dense and ascending. Every JVM has to be assigned a
+   * distinct node identifier using the system property {@value #NODE_PROPERTY}. The sequence is
+   * seeded from the clock, a high-water mark can additionally be persisted in the directory
+   * given by {@value #SEQUENCE_DIR_PROPERTY}. This strategy is intended for single-cluster
+   * deployments.
+   */
+  SEQUENCE(Long.BYTES);
+
+  /**
+   * System property used to select the strategy.
+   */
+  public static final String STRATEGY_PROPERTY = "gradoop.id.strategy";
+
+  /**
+   * System property used to set the node identifier of the {@link #SEQUENCE} strategy.
+   */
+  public static final String NODE_PROPERTY = "gradoop.id.node";
+
+  /**
+   * System property used to set the directory the {@link #SEQUENCE} strategy persists its
+   * high-water marks in.
+   */
+  public static final String SEQUENCE_DIR_PROPERTY = "gradoop.id.sequence.dir";
+
+  /**
+   * Number of bytes of an id.
+   */
+  private final int idSize;
+
+  /**
+   * Creates a new strategy.
+   *
+   * @param idSize number of bytes of an id
+   */
+  GradoopIdStrategy(int idSize) {
+    this.idSize = idSize;
+  }
+
+  /**
+   * Returns the number of bytes of an id.
+   *
+   * @return id size in bytes
+   */
+  public int getIdSize() {
+    return idSize;
+  }
+
+  /**
+   * Returns the strategy configured by the system property {@value #STRATEGY_PROPERTY}.
+   *
+   * @return configured strategy or {@link #OBJECT_ID}, if the property is not set
+   */
+  public static GradoopIdStrategy fromSystemProperties() {
+    String strategy = System.getProperty(STRATEGY_PROPERTY);
+    return strategy == null || strategy.isEmpty() ? OBJECT_ID : valueOf(strategy.toUpperCase());
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Generates the long values of {@link GradoopIdStrategy#SEQUENCE} ids.
+ *
+ * A value consists of a 2 byte node identifier followed by a 6 byte sequence number. The node
+ * identifier has to be unique among all processes creating ids and is never derived
+ * implicitly. The sequence does not restart at zero but is seeded with the time elapsed since
+ * {@link #EPOCH_MILLIS}, so a restarted process continues above the ids of earlier runs unless
+ * these created more than {@link #SEQUENCES_PER_MILLI} ids per millisecond on average.
+ *
+ * If a directory is configured, the generator additionally persists a high-water mark per node
+ * identifier there. Sequence numbers are reserved in blocks of {@link #BLOCK_SIZE} and the end
+ * of the current block is written to disk before any of its numbers is handed out, so a
+ * restarted process never reuses a sequence number. The file is locked while the generator is
+ * in use, a second process using the same node identifier and directory fails immediately.
+ */
+final class SequenceIdGenerator implements Closeable {
+
+  /**
+   * Number of bits of the node identifier.
+   */
+  static final int NODE_BITS = 16;
+
+  /**
+   * Number of bits of the sequence number.
+   */
+  static final int SEQUENCE_BITS = Long.SIZE - NODE_BITS;
+
+  /**
+   * Largest valid node identifier.
+   */
+  static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+  /**
+   * Largest valid sequence number.
+   */
+  static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+  /**
+   * Start of the time based seed, 2018-01-01T00:00:00Z.
+   */
+  static final long EPOCH_MILLIS =
+    LocalDate.of(2018, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+
+  /**
+   * Sequence numbers the seed advances per millisecond, enough for more than 70 years.
+   */
+  static final long SEQUENCES_PER_MILLI = 128;
+
+  /**
+   * Number of sequence numbers reserved at once if a high-water mark is persisted.
+   */
+  static final long BLOCK_SIZE = 1 << 20;
+
+  /**
+   * Node identifier shifted to the highest bits of a long.
+   */
+  private final long node;
+
+  /**
+   * Channel of the high-water mark file or {@code null}, if no directory is configured.
+   */
+  private final FileChannel channel;
+
+  /**
+   * Lock held on the high-water mark file or {@code null}, if no directory is configured.
+   */
+  private final FileLock lock;
+
+  /**
+   * Next sequence number to hand out.
+   */
+  private long next;
+
+  /**
+   * First sequence number that is not reserved yet.
+   */
+  private long reserved;
+
+  /**
+   * Creates a new generator.
+   *
+   * @param node node identifier, between 0 and {@link #MAX_NODE}
+   * @param seed first sequence number
+   * @param directory directory to persist the high-water mark in or {@code null}
+   * @throws IllegalArgumentException if the node identifier or seed is out of range
+   * @throws IllegalStateException if the node identifier is already used by another generator
+   */
+  SequenceIdGenerator(int node, long seed, File directory) {
+    if (node < 0 || node > MAX_NODE) {
+      throw new IllegalArgumentException(
+        "The node identifier must be between 0 and " + MAX_NODE + ", got " + node);
+    }
+    if (seed < 0 || seed > MAX_SEQUENCE) {
+      throw new IllegalArgumentException(
+        "The seed must be between 0 and " + MAX_SEQUENCE + ", got " + seed);
+    }
+    this.node = (long) node << SEQUENCE_BITS;
+
+    if (directory == null) {
+      this.channel = null;
+      this.lock = null;
+      this.next = seed;
+      this.reserved = MAX_SEQUENCE + 1;
+    } else {
+      File file = new File(directory, "gradoop-id-node-" + node);
+      try {
+        this.channel = new RandomAccessFile(file, "rw").getChannel();
+        this.lock = tryLock(channel, node);
+        this.next = Math.max(seed, readHighWaterMark(channel));
+        this.reserved = next;
+      } catch (IOException e) {
+        throw new UncheckedIOException("Cannot open high-water mark " + file, e);
+      }
+    }
+  }
+
+  /**
+   * Returns the generator configured by the system properties
+   * {@value GradoopIdStrategy#NODE_PROPERTY} and {@value GradoopIdStrategy#SEQUENCE_DIR_PROPERTY}.
+   *
+   * @return generator shared by all ids of this process
+   * @throws IllegalStateException if no node identifier is configured
+   */
+  static SequenceIdGenerator getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Returns the long value of the next id.
+   *
+   * @return node identifier and sequence number of the next id
+   * @throws IllegalStateException if all sequence numbers have been used
+   */
+  synchronized long next() {
+    if (next > MAX_SEQUENCE) {
+      throw new IllegalStateException("All sequence numbers of the node identifier " +
+        (node >>> SEQUENCE_BITS) + " have been used");
+    }
+    if (next == reserved) {
+      reserve();
+    }
+    return node | next++;
+  }
+
+  /**
+   * Returns the seed derived from the current time.
+   *
+   * @return sequence number that is not used by earlier runs in the usual case
+   */
+  static long clockSeed() {
+    return Math.max(0L, System.currentTimeMillis() - EPOCH_MILLIS) * SEQUENCES_PER_MILLI;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (channel != null) {
+      lock.release();
+      channel.close();
+    }
+  }
+
+  /**
+   * Reserves the next block of sequence numbers by persisting its end.
+   */
+  private void reserve() {
+    reserved = Math.min(next + BLOCK_SIZE, MAX_SEQUENCE + 1);
+    ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(0, reserved);
+    try {
+      channel.write(buffer, 0);
+      channel.force(true);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot persist the high-water mark", e);
+    }
+  }
+
+  /**
+   * Locks the high-water mark file of a node identifier.
+   *
+   * @param channel channel of the file
+   * @param node node identifier
+   * @return acquired lock
+   * @throws IOException if the file cannot be locked
+   * @throws IllegalStateException if the file is locked by another generator
+   */
+  private static FileLock tryLock(FileChannel channel, int node) throws IOException {
+    FileLock lock;
+    try {
+      lock = channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      lock = null;
+    }
+    if (lock == null) {
+      channel.close();
+      throw new IllegalStateException(
+        "The node identifier " + node + " is already used by another process");
+    }
+    return lock;
+  }
+
+  /**
+   * Reads the persisted high-water mark.
+   *
+   * @param channel channel of the high-water mark file
+   * @return first sequence number not used by earlier runs or 0, if nothing was persisted
+   * @throws IOException if the file cannot be read
+   */
+  private static long readHighWaterMark(FileChannel channel) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+    int read;
+    do {
+      read = channel.read(buffer, buffer.position());
+    } while (read > 0 && buffer.hasRemaining());
+    return buffer.hasRemaining() ? 0L : buffer.getLong(0);
+  }
+
+  /**
+   * Lazily creates the generator configured by the system properties.
+   */
+  private static final class Holder {
+    /**
+     * Generator shared by all ids of this process.
+     */
+    private static final SequenceIdGenerator INSTANCE = create();
+
+    /**
+     * Hidden constructor.
+     */
+    private Holder() {
+    }
+
+    /**
+     * Creates the generator configured by the system properties.
+     *
+     * @return new generator
+     */
+    private static SequenceIdGenerator create() {
+      Integer node = Integer.getInteger(GradoopIdStrategy.NODE_PROPERTY);
+      if (node == null) {
+        throw new IllegalStateException("The id strategy " + GradoopIdStrategy.SEQUENCE +
+          " requires a unique node identifier, set it using the system property " +
+          GradoopIdStrategy.NODE_PROPERTY);
+      }
+      String directory = System.getProperty(GradoopIdStrategy.SEQUENCE_DIR_PROPERTY);
+      return new SequenceIdGenerator(node, clockSeed(),
+        directory == null || directory.isEmpty() ? null : new File(directory));
+    }
+  }
+}
@@ -15,12 +15,16 @@
  */
 package org.gradoop.common.model.impl.properties;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.types.Value;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -30,7 +34,12 @@ import java.util.stream.Collectors;
 
 /**
  * Represents the properties of an {@link org.gradoop.common.model.impl.pojo.Element}.
+ *
+ * Properties are stored in two parallel arrays in insertion order. For the small number of
+ * properties an element usually has, this is more compact and creates less garbage than a hash
+ * map.
  */
+@TypeInfo(PropertiesTypeInfoFactory.class)
 public class Properties implements Iterable<Property>, Value, Serializable {
 
   /**
@@ -39,15 +48,36 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   private static final int DEFAULT_CAPACITY = 10;
 
   /**
-   * Internal representation
+   * Number of properties above which keys are looked up using a hash index.
+   */
+  private static final int INDEX_THRESHOLD = 16;
+
+  /**
+   * Property keys in insertion order.
+   */
+  private String[] keys;
+
+  /**
+   * Property values, aligned with {@link #keys}.
+   */
+  private PropertyValue[] values;
+
+  /**
+   * Number of stored properties.
+   */
+  private int size;
+
+  /**
+   * Positions of the keys, only used if there are more than {@link #INDEX_THRESHOLD}
+   * properties. Created lazily and dropped whenever positions change.
    */
-  private Map<String, PropertyValue> properties;
+  private transient Map<String, Integer> positions;
 
   /**
    * Default constructor
    */
   public Properties() {
-    properties = new HashMap<>(DEFAULT_CAPACITY);
+    this(DEFAULT_CAPACITY);
   }
 
   /**
@@ -56,7 +86,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @param capacity initial capacity
    */
   private Properties(int capacity) {
-    properties = new HashMap<>(capacity);
+    keys = new String[capacity];
+    values = new PropertyValue[capacity];
   }
 
   /**
@@ -108,7 +139,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return property keys
    */
   public Iterable<String> getKeys() {
-    return properties.keySet();
+    return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(keys, size)));
   }
 
   /**
@@ -130,7 +161,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue get(String key) {
     Objects.requireNonNull(key);
-    return properties.get(key);
+    int index = indexOf(key);
+    return index >= 0 ? values[index] : null;
   }
 
   /**
@@ -153,7 +185,12 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   public void set(String key, PropertyValue value) {
     Objects.requireNonNull(key);
     Objects.requireNonNull(value);
-    properties.put(key, value);
+    int index = indexOf(key);
+    if (index >= 0) {
+      values[index] = value;
+    } else {
+      append(key, value);
+    }
   }
 
   /**
@@ -184,7 +221,19 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue remove(String key) {
     Objects.requireNonNull(key);
-    return properties.remove(key);
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    PropertyValue previous = values[index];
+    int moved = size - index - 1;
+    System.arraycopy(keys, index + 1, keys, index, moved);
+    System.arraycopy(values, index + 1, values, index, moved);
+    size--;
+    keys[size] = null;
+    values[size] = null;
+    positions = null;
+    return previous;
   }
 
   /**
@@ -203,7 +252,10 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * Removes all elements from these properties.
    */
   public void clear() {
-    this.properties.clear();
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(values, 0, size, null);
+    size = 0;
+    positions = null;
   }
 
   /**
@@ -212,7 +264,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return number of properties
    */
   public int size() {
-    return properties.size();
+    return size;
   }
 
   /**
@@ -226,11 +278,10 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
   /**
    * Two properties collections are considered equal, if they contain the
-   * same properties in the same order.
+   * same properties. The order of the properties is not considered.
    *
    * @param o other properties collection
    * @return  true, iff the two property collections contain the same elements
-   *          in the same order
    */
   @Override
   public boolean equals(Object o) {
@@ -243,19 +294,31 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
     Properties that = (Properties) o;
 
-    return !(properties != null ? !properties.equals(that.properties) :
-      that.properties != null);
+    if (size != that.size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (!values[i].equals(that.get(keys[i]))) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
    * Two properties collections have identical hash codes, if they contain the
-   * same properties in the same order.
+   * same properties. The hash code is computed like the one of a {@link Map} containing
+   * the same key value pairs.
    *
    * @return hash code
    */
   @Override
   public int hashCode() {
-    return properties != null ? properties.hashCode() : 0;
+    int hashCode = 0;
+    for (int i = 0; i < size; i++) {
+      hashCode += keys[i].hashCode() ^ values[i].hashCode();
+    }
+    return hashCode;
   }
 
   /**
@@ -272,9 +335,11 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return List of properties
    */
   public List<Property> toList() {
-    return  properties.entrySet().stream()
-            .map(e -> Property.create(e.getKey(), e.getValue()))
-            .collect(Collectors.toList());
+    List<Property> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(Property.create(keys[i], values[i]));
+    }
+    return list;
   }
 
   /**
@@ -282,14 +347,36 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   @Override
   public void write(DataOutputView outputView) throws IOException {
-    outputView.writeInt(properties.size());
+    outputView.writeInt(size);
 
-    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
-      outputView.writeUTF(entry.getKey());
-      entry.getValue().write(outputView);
+    for (int i = 0; i < size; i++) {
+      outputView.writeUTF(keys[i]);
+      values[i].write(outputView);
     }
   }
 
+  /**
+   * Writes the properties using the given key dictionary. Keys contained in the dictionary are
+   * written as their {@code short} id, all other keys are written as
+   * {@link PropertyKeyDictionary#UNKNOWN_KEY} followed by the key string.
+   *
+   * @param outputView data output to write data to
+   * @param dictionary property key dictionary
+   * @throws IOException on failure
+   */
+  public void write(DataOutputView outputView, PropertyKeyDictionary dictionary)
+    throws IOException {
+    outputView.writeInt(size);
+
+    for (int i = 0; i < size; i++) {
+      short id = dictionary.getId(keys[i]);
+      outputView.writeShort(id);
+      if (id == PropertyKeyDictionary.UNKNOWN_KEY) {
+        outputView.writeUTF(keys[i]);
+      }
+      values[i].write(outputView);
+    }
+  }
 
   /**
    * {@inheritDoc}
@@ -297,17 +384,98 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   @Override
   public void read(DataInputView inputView) throws IOException {
     int propertyCount = inputView.readInt();
-    this.properties = new HashMap<>(propertyCount);
+    reset(propertyCount);
+
+    for (int i = 0; i < propertyCount; i++) {
+      keys[i] = inputView.readUTF();
+      values[i] = new PropertyValue();
+      values[i].read(inputView);
+    }
+    size = propertyCount;
+  }
 
-    String key;
-    PropertyValue value;
+  /**
+   * Reads properties written by {@link #write(DataOutputView, PropertyKeyDictionary)} using the
+   * same key dictionary.
+   *
+   * @param inputView data input to read data from
+   * @param dictionary property key dictionary
+   * @throws IOException on failure
+   */
+  public void read(DataInputView inputView, PropertyKeyDictionary dictionary)
+    throws IOException {
+    int propertyCount = inputView.readInt();
+    reset(propertyCount);
 
     for (int i = 0; i < propertyCount; i++) {
-      key = inputView.readUTF();
-      value = new PropertyValue();
-      value.read(inputView);
-      properties.put(key, value);
+      short id = inputView.readShort();
+      keys[i] = id == PropertyKeyDictionary.UNKNOWN_KEY ?
+        inputView.readUTF() : dictionary.getKey(id);
+      values[i] = new PropertyValue();
+      values[i].read(inputView);
+    }
+    size = propertyCount;
+  }
+
+  /**
+   * Clears the properties and makes sure that the given number of properties fits into the
+   * internal arrays.
+   *
+   * @param capacity required capacity
+   */
+  private void reset(int capacity) {
+    if (keys.length < capacity) {
+      keys = new String[capacity];
+      values = new PropertyValue[capacity];
+    } else {
+      clear();
+    }
+    size = 0;
+    positions = null;
+  }
+
+  /**
+   * Returns the position of the given key or -1 if the key is not contained.
+   *
+   * @param key property key
+   * @return position of the key or -1
+   */
+  private int indexOf(String key) {
+    if (size > INDEX_THRESHOLD) {
+      if (positions == null) {
+        positions = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+          positions.put(keys[i], i);
+        }
+      }
+      return positions.getOrDefault(key, -1);
+    }
+    for (int i = 0; i < size; i++) {
+      if (keys[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Appends a new property to the internal arrays.
+   *
+   * @param key property key
+   * @param value property value
+   */
+  private void append(String key, PropertyValue value) {
+    if (size == keys.length) {
+      int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+      keys = Arrays.copyOf(keys, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+    keys[size] = key;
+    values[size] = value;
+    if (positions != null) {
+      positions.put(key, size);
     }
+    size++;
   }
 
   /**
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Kryo serializer for {@link Properties} using a {@link PropertyKeyDictionary}.
+ *
+ * An instance is registered for {@link Properties} at the execution config by
+ * {@link PropertiesTypeInfo#registerDictionary}. This way the dictionary is part of the execution
+ * config shipped with the job, and properties nested in generic types use the dictionary, too.
+ */
+public class PropertiesKryoSerializer extends Serializer<Properties> implements Serializable {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Property key dictionary.
+   */
+  private final PropertyKeyDictionary dictionary;
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param dictionary property key dictionary
+   */
+  public PropertiesKryoSerializer(PropertyKeyDictionary dictionary) {
+    this.dictionary = Objects.requireNonNull(dictionary);
+  }
+
+  /**
+   * Returns the property key dictionary.
+   *
+   * @return property key dictionary
+   */
+  public PropertyKeyDictionary getDictionary() {
+    return dictionary;
+  }
+
+  @Override
+  public void write(Kryo kryo, Output output, Properties properties) {
+    try {
+      properties.write(new DataOutputViewStreamWrapper(output), dictionary);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public Properties read(Kryo kryo, Input input, Class<Properties> type) {
+    Properties properties = Properties.create();
+    try {
+      properties.read(new DataInputViewStreamWrapper(input), dictionary);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return properties;
+  }
+
+  @Override
+  public Properties copy(Kryo kryo, Properties original) {
+    return new PropertiesSerializer(dictionary).copy(original);
+  }
+}
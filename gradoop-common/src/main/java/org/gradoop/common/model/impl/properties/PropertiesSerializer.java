@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.typeutils.CompatibilityResult;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerConfigSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Flink serializer for {@link Properties}.
+ *
+ * If a {@link PropertyKeyDictionary} is given, property keys are written as their id in that
+ * dictionary. As the serializer (including the dictionary) is shipped with the job, the
+ * dictionary is transferred once per job instead of once per element. The dictionary is part of
+ * the configuration snapshot, since it defines the serialization format.
+ */
+public class PropertiesSerializer extends TypeSerializer<Properties> {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Property key dictionary or {@code null} if keys are written as strings.
+   */
+  private final PropertyKeyDictionary dictionary;
+
+  /**
+   * Creates a serializer which writes all keys as strings.
+   */
+  public PropertiesSerializer() {
+    this(null);
+  }
+
+  /**
+   * Creates a serializer using the given key dictionary.
+   *
+   * @param dictionary property key dictionary or {@code null}
+   */
+  public PropertiesSerializer(PropertyKeyDictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public TypeSerializer<Properties> duplicate() {
+    return this;
+  }
+
+  @Override
+  public Properties createInstance() {
+    return Properties.create();
+  }
+
+  @Override
+  public Properties copy(Properties from) {
+    return copy(from, Properties.createWithCapacity(from.size()));
+  }
+
+  @Override
+  public Properties copy(Properties from, Properties reuse) {
+    reuse.clear();
+    for (Property property : from) {
+      byte[] rawBytes = property.getValue().getRawBytes();
+      reuse.set(property.getKey(), PropertyValue.fromRawBytes(
+        Arrays.copyOf(rawBytes, rawBytes.length)));
+    }
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(Properties record, DataOutputView target) throws IOException {
+    if (dictionary == null) {
+      record.write(target);
+    } else {
+      record.write(target, dictionary);
+    }
+  }
+
+  @Override
+  public Properties deserialize(DataInputView source) throws IOException {
+    return deserialize(createInstance(), source);
+  }
+
+  @Override
+  public Properties deserialize(Properties reuse, DataInputView source) throws IOException {
+    if (dictionary == null) {
+      reuse.read(source);
+    } else {
+      reuse.read(source, dictionary);
+    }
+    return reuse;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    serialize(deserialize(source), target);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Objects.equals(dictionary, ((PropertiesSerializer) o).dictionary);
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof PropertiesSerializer;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(dictionary);
+  }
+
+  @Override
+  public TypeSerializerConfigSnapshot snapshotConfiguration() {
+    return new PropertiesSerializerConfigSnapshot(dictionary);
+  }
+
+  @Override
+  public CompatibilityResult<Properties> ensureCompatibility(
+    TypeSerializerConfigSnapshot configSnapshot) {
+    if (configSnapshot instanceof PropertiesSerializerConfigSnapshot && Objects.equals(dictionary,
+      ((PropertiesSerializerConfigSnapshot) configSnapshot).getDictionary())) {
+      return CompatibilityResult.compatible();
+    }
+    return CompatibilityResult.requiresMigration();
+  }
+}
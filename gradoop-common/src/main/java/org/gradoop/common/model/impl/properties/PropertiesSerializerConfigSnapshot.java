@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.typeutils.TypeSerializerConfigSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Configuration snapshot of a {@link PropertiesSerializer}. The snapshot contains the keys of the
+ * property key dictionary, as the dictionary defines the serialization format.
+ */
+public class PropertiesSerializerConfigSnapshot extends TypeSerializerConfigSnapshot {
+  /**
+   * Version of the snapshot format.
+   */
+  private static final int VERSION = 1;
+  /**
+   * Property key dictionary or {@code null} if keys are written as strings.
+   */
+  private PropertyKeyDictionary dictionary;
+
+  /**
+   * Constructor required to read snapshots.
+   */
+  public PropertiesSerializerConfigSnapshot() {
+  }
+
+  /**
+   * Creates a snapshot of the given serializer configuration.
+   *
+   * @param dictionary property key dictionary or {@code null}
+   */
+  public PropertiesSerializerConfigSnapshot(PropertyKeyDictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  /**
+   * Returns the property key dictionary of the snapshot.
+   *
+   * @return property key dictionary or {@code null} if keys are written as strings
+   */
+  public PropertyKeyDictionary getDictionary() {
+    return dictionary;
+  }
+
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    super.write(out);
+    out.writeBoolean(dictionary != null);
+    if (dictionary != null) {
+      out.writeInt(dictionary.size());
+      for (short id = 0; id < dictionary.size(); id++) {
+        out.writeUTF(dictionary.getKey(id));
+      }
+    }
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    super.read(in);
+    if (in.readBoolean()) {
+      int size = in.readInt();
+      List<String> keys = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        keys.add(in.readUTF());
+      }
+      dictionary = PropertyKeyDictionary.fromKeys(keys);
+    } else {
+      dictionary = null;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Objects.equals(dictionary, ((PropertiesSerializerConfigSnapshot) o).dictionary);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(dictionary);
+  }
+}
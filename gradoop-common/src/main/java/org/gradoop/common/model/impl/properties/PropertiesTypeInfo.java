@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+
+import java.util.Objects;
+
+/**
+ * Type information for {@link Properties}.
+ *
+ * The created serializer uses the {@link PropertyKeyDictionary} registered for the execution
+ * config via {@link #registerDictionary(ExecutionConfig, PropertyKeyDictionary)}. The dictionary
+ * is stored in the execution config itself, so serializers created from a copy of the config,
+ * e.g. on a task manager, use the same dictionary.
+ */
+public class PropertiesTypeInfo extends TypeInformation<Properties> {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Registers a property key dictionary for all serializers created for the given execution
+   * config. The dictionary is registered as {@link PropertiesKryoSerializer} for
+   * {@link Properties}, which makes Kryo use it for properties in generic types as well.
+   *
+   * @param config execution config
+   * @param dictionary property key dictionary or {@code null} to remove a registered dictionary
+   */
+  public static void registerDictionary(ExecutionConfig config, PropertyKeyDictionary dictionary) {
+    Objects.requireNonNull(config);
+    if (dictionary == null) {
+      config.getRegisteredTypesWithKryoSerializers().remove(Properties.class);
+    } else {
+      config.registerTypeWithKryoSerializer(Properties.class,
+        new PropertiesKryoSerializer(dictionary));
+    }
+  }
+
+  /**
+   * Returns the property key dictionary registered for the given execution config.
+   *
+   * @param config execution config
+   * @return property key dictionary or {@code null} if none is registered
+   */
+  public static PropertyKeyDictionary getDictionary(ExecutionConfig config) {
+    if (config == null) {
+      return null;
+    }
+    ExecutionConfig.SerializableSerializer<?> serializer =
+      config.getRegisteredTypesWithKryoSerializers().get(Properties.class);
+    return serializer != null && serializer.getSerializer() instanceof PropertiesKryoSerializer ?
+      ((PropertiesKryoSerializer) serializer.getSerializer()).getDictionary() : null;
+  }
+
+  @Override
+  public boolean isBasicType() {
+    return false;
+  }
+
+  @Override
+  public boolean isTupleType() {
+    return false;
+  }
+
+  @Override
+  public int getArity() {
+    return 1;
+  }
+
+  @Override
+  public int getTotalFields() {
+    return 1;
+  }
+
+  @Override
+  public Class<Properties> getTypeClass() {
+    return Properties.class;
+  }
+
+  @Override
+  public boolean isKeyType() {
+    return false;
+  }
+
+  @Override
+  public TypeSerializer<Properties> createSerializer(ExecutionConfig config) {
+    return new PropertiesSerializer(getDictionary(config));
+  }
+
+  @Override
+  public String toString() {
+    return "PropertiesType";
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof PropertiesTypeInfo && ((PropertiesTypeInfo) obj).canEqual(this);
+  }
+
+  @Override
+  public int hashCode() {
+    return Properties.class.hashCode();
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof PropertiesTypeInfo;
+  }
+}
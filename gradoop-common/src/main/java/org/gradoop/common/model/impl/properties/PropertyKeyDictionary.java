@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable dictionary mapping property keys to short numeric ids.
+ *
+ * The dictionary is used to serialize {@link Properties} without writing the full key string of
+ * every property (see {@link Properties#write(org.apache.flink.core.memory.DataOutputView,
+ * PropertyKeyDictionary)}). Keys which are not contained in the dictionary are still supported
+ * and will be written as strings.
+ */
+public class PropertyKeyDictionary implements Serializable {
+  /**
+   * Id returned for keys which are not contained in the dictionary.
+   */
+  public static final short UNKNOWN_KEY = -1;
+  /**
+   * Maximum number of keys in a dictionary.
+   */
+  public static final int MAX_SIZE = Short.MAX_VALUE;
+  /**
+   * An empty dictionary, i.e. all keys are written as strings.
+   */
+  public static final PropertyKeyDictionary EMPTY = new PropertyKeyDictionary(new String[0]);
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Property keys indexed by their id.
+   */
+  private final String[] keys;
+  /**
+   * Mapping from property key to id.
+   */
+  private final transient Map<String, Short> ids;
+
+  /**
+   * Creates a new dictionary.
+   *
+   * @param keys property keys indexed by their id
+   */
+  private PropertyKeyDictionary(String[] keys) {
+    this.keys = keys;
+    this.ids = new HashMap<>(keys.length * 2);
+    for (short i = 0; i < keys.length; i++) {
+      ids.put(keys[i], i);
+    }
+  }
+
+  /**
+   * Creates a new dictionary containing the given keys. Duplicates are ignored, the ids are
+   * assigned in iteration order.
+   *
+   * @param keys property keys
+   * @return dictionary
+   */
+  public static PropertyKeyDictionary fromKeys(Collection<String> keys) {
+    Objects.requireNonNull(keys);
+    LinkedHashSet<String> distinctKeys = new LinkedHashSet<>(keys);
+    if (distinctKeys.size() > MAX_SIZE) {
+      throw new IllegalArgumentException(String.format(
+        "Dictionary contains %d keys, at most %d keys are supported",
+        distinctKeys.size(), MAX_SIZE));
+    }
+    for (String key : distinctKeys) {
+      Objects.requireNonNull(key);
+    }
+    return new PropertyKeyDictionary(distinctKeys.toArray(new String[0]));
+  }
+
+  /**
+   * Creates a new dictionary containing the given keys.
+   *
+   * @param keys property keys
+   * @return dictionary
+   */
+  public static PropertyKeyDictionary fromKeys(String... keys) {
+    return fromKeys(Arrays.asList(keys));
+  }
+
+  /**
+   * Returns the id of the given key or {@link #UNKNOWN_KEY} if the key is not contained.
+   *
+   * @param key property key
+   * @return key id or {@link #UNKNOWN_KEY}
+   */
+  public short getId(String key) {
+    return ids.getOrDefault(key, UNKNOWN_KEY);
+  }
+
+  /**
+   * Returns the key of the given id.
+   *
+   * @param id key id
+   * @return property key
+   * @throws IllegalArgumentException if the id is not contained in the dictionary
+   */
+  public String getKey(short id) {
+    if (id < 0 || id >= keys.length) {
+      throw new IllegalArgumentException("Unknown property key id: " + id);
+    }
+    return keys[id];
+  }
+
+  /**
+   * Returns the number of keys in the dictionary.
+   *
+   * @return number of keys
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(keys, ((PropertyKeyDictionary) o).keys);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(keys);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(keys);
+  }
+
+  /**
+   * Recreates the key to id mapping after deserialization.
+   *
+   * @return dictionary with the deserialized keys
+   */
+  private Object readResolve() {
+    return new PropertyKeyDictionary(keys);
+  }
+}
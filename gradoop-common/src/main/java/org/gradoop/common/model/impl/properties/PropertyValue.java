@@ -20,7 +20,8 @@ import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
-import org.apache.flink.types.Value;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.NormalizableKey;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
@@ -49,8 +50,11 @@ import java.util.Set;
  * Represents a single property value in the EPGM.
  *
  * A property value wraps a value that implements a supported data type.
+ *
+ * Property values are comparable and provide a normalized key, which allows Flink to sort and
+ * group them on their binary representation without deserializing the wrapped values.
  */
-public class PropertyValue implements Value, Serializable, Comparable<PropertyValue> {
+public class PropertyValue implements NormalizableKey<PropertyValue>, Serializable {
 
   /**
    * Represents a property value that is {@code null}.
@@ -347,7 +351,19 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code Number} value
    */
   public boolean isNumber() {
-    return !isNull() && Number.class.isAssignableFrom(getType());
+    return isNumber(rawBytes[0]);
+  }
+
+  /**
+   * True, if the given type byte represents a numerical type.
+   *
+   * @param type type byte
+   * @return true, if the type is {@code short}, {@code int}, {@code long}, {@code float},
+   *         {@code double} or {@code BigDecimal}
+   */
+  private static boolean isNumber(byte type) {
+    return type == TYPE_SHORT || type == TYPE_INTEGER || type == TYPE_LONG ||
+      type == TYPE_FLOAT || type == TYPE_DOUBLE || type == TYPE_BIG_DECIMAL;
   }
 
   //----------------------------------------------------------------------------
@@ -932,26 +948,31 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     return Arrays.hashCode(rawBytes);
   }
 
+  /**
+   * Compares this value to the given one. Numerical values are compared by their numerical value,
+   * all other supported types are compared directly on their internal byte representation.
+   * Strings are compared in Unicode code point order.
+   *
+   * @param o value to compare to
+   * @return a negative integer, zero, or a positive integer as this value is less than, equal
+   *         to, or greater than the given value
+   */
   @Override
   public int compareTo(PropertyValue o) {
+    byte type = rawBytes[0];
+    byte otherType = o.rawBytes[0];
     int result;
 
-    if (this.isNull() && o.isNull()) {
+    if (type == TYPE_NULL && otherType == TYPE_NULL) {
       result = 0;
-    } else if (this.isNumber() && o.isNumber()) {
+    } else if (isNumber(type) && isNumber(otherType)) {
       result = PropertyValueUtils.Numeric.compare(this, o);
-    } else if (this.isBoolean() && o.isBoolean()) {
-      result = Boolean.compare(this.getBoolean(), o.getBoolean());
-    } else if (this.isString() && o.isString()) {
-      result = this.getString().compareTo(o.getString());
-    } else if (this.isGradoopId() && o.isGradoopId()) {
-      result = this.getGradoopId().compareTo(o.getGradoopId());
-    } else if (this.isDate() && o.isDate()) {
-      result = this.getDate().compareTo(o.getDate());
-    } else if (this.isTime() && o.isTime()) {
-      result = this.getTime().compareTo(o.getTime());
-    } else if (this.isDateTime() && o.isDateTime()) {
-      result = this.getDateTime().compareTo(o.getDateTime());
+    } else if (type == otherType &&
+      (type == TYPE_BOOLEAN || type == TYPE_STRING || type == TYPE_GRADOOP_ID)) {
+      result = compareUnsigned(rawBytes, o.rawBytes);
+    } else if (type == otherType &&
+      (type == TYPE_DATE || type == TYPE_TIME || type == TYPE_DATETIME)) {
+      result = compareInts(rawBytes, o.rawBytes);
     } else if (this.isMap() || o.isMap() ||
         this.isList() || o.isList() ||
         this.isSet() || o.isSet()) {
@@ -965,6 +986,132 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     return result;
   }
 
+  /**
+   * Lexicographically compares the value bytes of two internal representations, treating each
+   * byte as unsigned. A shorter representation is smaller than a longer one it is a prefix of.
+   *
+   * @param a first internal representation
+   * @param b second internal representation
+   * @return comparison result
+   */
+  private static int compareUnsigned(byte[] a, byte[] b) {
+    int length = Math.min(a.length, b.length);
+    for (int i = OFFSET; i < length; i++) {
+      if (a[i] != b[i]) {
+        return (a[i] & 0xff) - (b[i] & 0xff);
+      }
+    }
+    return a.length - b.length;
+  }
+
+  /**
+   * Compares two internal representations consisting of a sequence of signed {@code int} fields
+   * of equal length, e.g. the date and time types written by {@link DateTimeSerializer}.
+   *
+   * @param a first internal representation
+   * @param b second internal representation
+   * @return comparison result
+   */
+  private static int compareInts(byte[] a, byte[] b) {
+    for (int i = OFFSET; i < a.length; i += Bytes.SIZEOF_INT) {
+      int result = Integer.compare(Bytes.toInt(a, i), Bytes.toInt(b, i));
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Returns a numerical value as {@code double}. The conversion is monotonic for all numerical
+   * types, which makes it suitable for building a normalized key.
+   *
+   * @return numerical value as double
+   */
+  private double getNumberAsDouble() {
+    switch (rawBytes[0]) {
+    case TYPE_SHORT:
+      return getShort();
+    case TYPE_INTEGER:
+      return getInt();
+    case TYPE_LONG:
+      return getLong();
+    case TYPE_FLOAT:
+      return getFloat();
+    case TYPE_DOUBLE:
+      return getDouble();
+    default:
+      return getBigDecimal().doubleValue();
+    }
+  }
+
+  //----------------------------------------------------------------------------
+  // methods inherited from NormalizableKey
+  //----------------------------------------------------------------------------
+
+  /**
+   * Property values have a variable length, the normalized key is therefore always a prefix and
+   * ties are resolved using {@link #compareTo(PropertyValue)}.
+   *
+   * @return maximum normalized key length
+   */
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Normalized key layout:
+   *
+   * byte 1       : type info (all numerical types share {@link #TYPE_DOUBLE})
+   *
+   * for numerical types
+   * byte 2 - 9   : value as {@code double} in sortable bit representation
+   *
+   * for date and time types
+   * byte 2 - end : value bytes with the sign bit of each {@code int} field flipped
+   *
+   * for all other types
+   * byte 2 - end : value bytes
+   *
+   * The key is padded with zeros if it is shorter than the requested length.
+   *
+   * @param target memory segment to write the key to
+   * @param offset offset in the memory segment
+   * @param len number of bytes to write
+   */
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    if (len <= 0) {
+      return;
+    }
+    byte type = rawBytes[0];
+    int i = OFFSET;
+
+    if (isNumber(type)) {
+      target.put(offset, TYPE_DOUBLE);
+      long bits = Double.doubleToLongBits(getNumberAsDouble());
+      // flip all bits of negative values and the sign bit of positive values
+      bits ^= (bits >> (Long.SIZE - 1)) | Long.MIN_VALUE;
+      for (; i < len && i <= Bytes.SIZEOF_LONG; i++) {
+        target.put(offset + i, (byte) (bits >>> ((Bytes.SIZEOF_LONG - i) * Byte.SIZE)));
+      }
+    } else if (type == TYPE_DATE || type == TYPE_TIME || type == TYPE_DATETIME) {
+      target.put(offset, type);
+      for (; i < len && i < rawBytes.length; i++) {
+        target.put(offset + i, (i - OFFSET) % Bytes.SIZEOF_INT == 0 ?
+          (byte) (rawBytes[i] ^ Byte.MIN_VALUE) : rawBytes[i]);
+      }
+    } else {
+      i = Math.min(len, rawBytes.length);
+      target.put(offset, rawBytes, 0, i);
+    }
+
+    for (; i < len; i++) {
+      target.put(offset + i, (byte) 0);
+    }
+  }
+
   /**
    * Returns the byte size of the properties internal representation
    * @return byte size
@@ -15,6 +15,7 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import org.junit.Assume;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
@@ -73,6 +74,7 @@ public class GradoopIdTest {
 
   @Test
   public void testFromBytes() {
+    Assume.assumeTrue(GradoopId.STRATEGY == GradoopIdStrategy.OBJECT_ID);
     int randomTime = ThreadLocalRandom.current().nextInt();
     int randomMachineId = ThreadLocalRandom.current().nextInt(0, 16777215);
     short randomProcessId = (short) ThreadLocalRandom.current().nextInt(0, Short.MAX_VALUE);
@@ -122,4 +124,35 @@ public class GradoopIdTest {
     assertTrue("Second ID is smaller then the minimum.", second.compareTo(min) >= 0);
     assertTrue(first == min || second == min);
   }
+
+  @Test
+  public void testDefaultStrategy() {
+    Assume.assumeTrue(System.getProperty(GradoopIdStrategy.STRATEGY_PROPERTY) == null);
+    assertEquals(GradoopIdStrategy.OBJECT_ID, GradoopId.STRATEGY);
+    assertEquals(GradoopId.STRATEGY.getIdSize(), GradoopId.ID_SIZE);
+    assertEquals(GradoopId.ID_SIZE, GradoopId.NULL_VALUE.toByteArray().length);
+    assertEquals(GradoopId.NULL_VALUE, new GradoopId(0, 0, (short) 0, 0));
+  }
+
+  @Test
+  public void testStrategyFromSystemProperties() {
+    String previous = System.getProperty(GradoopIdStrategy.STRATEGY_PROPERTY);
+    try {
+      System.setProperty(GradoopIdStrategy.STRATEGY_PROPERTY, "sequence");
+      assertEquals(GradoopIdStrategy.SEQUENCE, GradoopIdStrategy.fromSystemProperties());
+      assertEquals(Long.BYTES, GradoopIdStrategy.fromSystemProperties().getIdSize());
+      System.clearProperty(GradoopIdStrategy.STRATEGY_PROPERTY);
+      assertEquals(GradoopIdStrategy.OBJECT_ID, GradoopIdStrategy.fromSystemProperties());
+    } finally {
+      if (previous != null) {
+        System.setProperty(GradoopIdStrategy.STRATEGY_PROPERTY, previous);
+      }
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testLongRepresentationRequiresSequenceStrategy() {
+    Assume.assumeTrue(GradoopId.STRATEGY == GradoopIdStrategy.OBJECT_ID);
+    GradoopId.get().toLong();
+  }
 }
@@ -24,9 +24,14 @@ import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
@@ -304,4 +309,70 @@ public class GradoopIdsTest {
     assertEquals("equals failed for two empty lists", empty2, empty);
     assertEquals("hashCode failed two one empty lists", empty2.hashCode(), empty.hashCode());
   }
+
+  @Test
+  public void testSetOperationsOnLargeSets() {
+    List<GradoopId> all = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      all.add(GradoopId.get());
+    }
+    Collections.shuffle(all);
+
+    GradoopIdSet large = GradoopIdSet.fromExisting(all);
+    GradoopIdSet small = GradoopIdSet.fromExisting(all.get(17), all.get(512), all.get(999));
+    GradoopIdSet disjoint = GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get());
+
+    assertTrue(large.containsAll(small));
+    assertFalse(small.containsAll(large));
+    assertTrue(large.containsAny(small));
+    assertTrue(small.containsAny(large));
+    assertFalse(large.containsAny(disjoint));
+    assertFalse(disjoint.containsAny(large));
+
+    small.addAll(disjoint);
+    assertThat(small.size(), is(5));
+    assertFalse(large.containsAll(small));
+    assertTrue(large.containsAny(small));
+
+    large.retainAll(small);
+    assertEquals(GradoopIdSet.fromExisting(all.get(17), all.get(512), all.get(999)), large);
+    small.removeAll(large);
+    assertEquals(disjoint, small);
+
+    Set<GradoopId> expected = new HashSet<>(all);
+    GradoopIdSet copy = GradoopIdSet.fromExisting(all);
+    assertTrue(copy.remove(all.get(0)));
+    assertFalse(copy.remove(all.get(0)));
+    expected.remove(all.get(0));
+    assertEquals(expected, copy);
+  }
+
+  @Test
+  public void testIteratorIsSorted() {
+    List<GradoopId> ids = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      ids.add(GradoopId.get());
+    }
+    Collections.shuffle(ids);
+
+    GradoopIdSet idSet = GradoopIdSet.fromExisting(ids);
+    Collections.sort(ids);
+    assertEquals(ids, new ArrayList<>(idSet));
+  }
+
+  @Test
+  public void testFromUnsortedByteArray() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+
+    byte[] bytes = new byte[3 * GradoopId.ID_SIZE];
+    System.arraycopy(b.toByteArray(), 0, bytes, 0, GradoopId.ID_SIZE);
+    System.arraycopy(a.toByteArray(), 0, bytes, GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    System.arraycopy(b.toByteArray(), 0, bytes, 2 * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+
+    GradoopIdSet ids = GradoopIdSet.fromByteArray(bytes);
+    assertThat(ids.size(), is(2));
+    assertEquals(GradoopIdSet.fromExisting(a, b), ids);
+    assertEquals(Sets.newHashSet(a, b).hashCode(), ids.hashCode());
+  }
 }
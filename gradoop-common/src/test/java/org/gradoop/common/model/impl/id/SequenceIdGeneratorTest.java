@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SequenceIdGeneratorTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testDenseAndAscending() throws IOException {
+    try (SequenceIdGenerator generator = new SequenceIdGenerator(5, 42L, null)) {
+      long first = generator.next();
+      long second = generator.next();
+
+      assertEquals(5L, first >>> SequenceIdGenerator.SEQUENCE_BITS);
+      assertEquals(42L, first & SequenceIdGenerator.MAX_SEQUENCE);
+      assertEquals(first + 1, second);
+    }
+  }
+
+  @Test
+  public void testClockSeed() throws IOException, InterruptedException {
+    long before = SequenceIdGenerator.clockSeed();
+    assertTrue(before > 0L);
+    assertTrue(before <= SequenceIdGenerator.MAX_SEQUENCE);
+
+    long last;
+    try (SequenceIdGenerator generator = new SequenceIdGenerator(1, before, null)) {
+      last = generator.next() & SequenceIdGenerator.MAX_SEQUENCE;
+    }
+    Thread.sleep(1L);
+    // a restarted generator continues above the ids of an earlier run
+    assertTrue(SequenceIdGenerator.clockSeed() > last);
+  }
+
+  @Test
+  public void testHighWaterMark() throws IOException {
+    File directory = folder.getRoot();
+    long last;
+    try (SequenceIdGenerator generator = new SequenceIdGenerator(7, 0L, directory)) {
+      assertEquals(0L, generator.next() & SequenceIdGenerator.MAX_SEQUENCE);
+      last = generator.next();
+    }
+    // the restarted generator has the same seed but must not reuse sequence numbers
+    try (SequenceIdGenerator generator = new SequenceIdGenerator(7, 0L, directory)) {
+      long first = generator.next();
+      assertTrue(first > last);
+      assertEquals(SequenceIdGenerator.BLOCK_SIZE, first & SequenceIdGenerator.MAX_SEQUENCE);
+    }
+    // a larger seed takes precedence over the high-water mark
+    long seed = 4 * SequenceIdGenerator.BLOCK_SIZE;
+    try (SequenceIdGenerator generator = new SequenceIdGenerator(7, seed, directory)) {
+      assertEquals(seed, generator.next() & SequenceIdGenerator.MAX_SEQUENCE);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testNodeCollision() throws IOException {
+    File directory = folder.getRoot();
+    try (SequenceIdGenerator generator = new SequenceIdGenerator(3, 0L, directory)) {
+      generator.next();
+      new SequenceIdGenerator(3, 0L, directory);
+    }
+  }
+
+  @Test
+  public void testDistinctNodes() throws IOException {
+    File directory = folder.getRoot();
+    try (SequenceIdGenerator first = new SequenceIdGenerator(1, 0L, directory);
+      SequenceIdGenerator second = new SequenceIdGenerator(2, 0L, directory)) {
+      assertTrue(first.next() != second.next());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeNode() {
+    new SequenceIdGenerator(-1, 0L, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNodeOutOfRange() {
+    new SequenceIdGenerator(SequenceIdGenerator.MAX_NODE + 1, 0L, null);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testExhaustedSequence() throws IOException {
+    try (SequenceIdGenerator generator =
+      new SequenceIdGenerator(SequenceIdGenerator.MAX_NODE, SequenceIdGenerator.MAX_SEQUENCE,
+        null)) {
+      assertEquals(-1L, generator.next());
+      generator.next();
+    }
+  }
+}
@@ -16,6 +16,15 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.runtime.kryo.KryoSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.util.InstantiationUtil;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.junit.Test;
 
 import java.util.List;
@@ -212,4 +221,140 @@ public class PropertiesTest {
 
     assertEquals(propertiesIn, propertiesOut);
   }
+
+  @Test
+  public void testEqualsIgnoresOrder() throws Exception {
+    Properties properties1 = Properties.create();
+    properties1.set(KEY_1, BOOL_VAL_1);
+    properties1.set(KEY_2, INT_VAL_2);
+
+    Properties properties2 = Properties.create();
+    properties2.set(KEY_2, INT_VAL_2);
+    properties2.set(KEY_1, BOOL_VAL_1);
+
+    assertEquals("properties were not equal", properties1, properties2);
+    assertEquals("different hash code", properties1.hashCode(), properties2.hashCode());
+    assertEquals("wrong key order", Lists.newArrayList(KEY_2, KEY_1),
+      Lists.newArrayList(properties2.getKeys()));
+  }
+
+  @Test
+  public void testWriteAndReadFieldsWithDictionary() throws Exception {
+    Properties propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    // one key is left out of the dictionary and has to be written as a string
+    List<String> keys = Lists.newArrayList(SUPPORTED_PROPERTIES.keySet());
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.fromKeys(keys.subList(1, keys.size()));
+
+    DataOutputSerializer withDictionary = new DataOutputSerializer(64);
+    propertiesIn.write(withDictionary, dictionary);
+    DataOutputSerializer withoutDictionary = new DataOutputSerializer(64);
+    propertiesIn.write(withoutDictionary);
+
+    assertTrue("dictionary encoding was not smaller",
+      withDictionary.length() < withoutDictionary.length());
+
+    Properties propertiesOut = Properties.create();
+    propertiesOut.read(new DataInputDeserializer(withDictionary.getCopyOfBuffer()), dictionary);
+
+    assertEquals(propertiesIn, propertiesOut);
+  }
+
+  @Test
+  public void testSerializerWithRegisteredDictionary() throws Exception {
+    ExecutionConfig config = new ExecutionConfig();
+    PropertiesTypeInfo.registerDictionary(config, PropertyKeyDictionary.fromKeys(
+      SUPPORTED_PROPERTIES.keySet()));
+
+    TypeSerializer<Vertex> serializer = TypeInformation.of(Vertex.class).createSerializer(config);
+
+    Vertex vertexIn = new Vertex(GradoopId.get(), "A",
+      Properties.createFromMap(SUPPORTED_PROPERTIES), null);
+
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.serialize(vertexIn, out);
+    Vertex vertexOut = serializer.deserialize(new DataInputDeserializer(out.getCopyOfBuffer()));
+
+    assertEquals(vertexIn.getProperties(), vertexOut.getProperties());
+    assertEquals(vertexIn.getProperties(), serializer.copy(vertexIn).getProperties());
+  }
+
+  @Test
+  public void testRegisteredDictionaryIsShippedWithConfig() throws Exception {
+    ExecutionConfig config = new ExecutionConfig();
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.fromKeys(
+      SUPPORTED_PROPERTIES.keySet());
+    PropertiesTypeInfo.registerDictionary(config, dictionary);
+
+    // task managers create serializers from a deserialized copy of the config
+    ExecutionConfig copy = InstantiationUtil.clone(config);
+    assertEquals(dictionary, PropertiesTypeInfo.getDictionary(copy));
+    assertEquals(new PropertiesTypeInfo().createSerializer(config),
+      new PropertiesTypeInfo().createSerializer(copy));
+
+    PropertiesTypeInfo.registerDictionary(config, null);
+    assertNull(PropertiesTypeInfo.getDictionary(config));
+  }
+
+  @Test
+  public void testKryoSerializerWithRegisteredDictionary() throws Exception {
+    ExecutionConfig config = new ExecutionConfig();
+    PropertiesTypeInfo.registerDictionary(config, PropertyKeyDictionary.fromKeys(
+      SUPPORTED_PROPERTIES.keySet()));
+    KryoSerializer<Properties> serializer = new KryoSerializer<>(Properties.class, config);
+
+    Properties propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    propertiesIn.set("unknown", 42);
+
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.serialize(propertiesIn, out);
+    Properties propertiesOut =
+      serializer.deserialize(new DataInputDeserializer(out.getCopyOfBuffer()));
+
+    assertEquals(propertiesIn, propertiesOut);
+    assertEquals(propertiesIn, serializer.copy(propertiesIn));
+  }
+
+  @Test
+  public void testSerializerConfigSnapshot() throws Exception {
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.fromKeys("a", "b", "c");
+    PropertiesSerializer serializer = new PropertiesSerializer(dictionary);
+
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.snapshotConfiguration().write(out);
+    PropertiesSerializerConfigSnapshot snapshot = new PropertiesSerializerConfigSnapshot();
+    snapshot.read(new DataInputDeserializer(out.getCopyOfBuffer()));
+
+    assertEquals(dictionary, snapshot.getDictionary());
+    assertFalse(serializer.ensureCompatibility(snapshot).isRequiresMigration());
+    assertFalse(new PropertiesSerializer(PropertyKeyDictionary.fromKeys("a", "b", "c"))
+      .ensureCompatibility(snapshot).isRequiresMigration());
+    assertTrue(new PropertiesSerializer(PropertyKeyDictionary.fromKeys("a", "c", "b"))
+      .ensureCompatibility(snapshot).isRequiresMigration());
+    assertTrue(new PropertiesSerializer().ensureCompatibility(snapshot).isRequiresMigration());
+    assertFalse(new PropertiesSerializer()
+      .ensureCompatibility(new PropertiesSerializer().snapshotConfiguration())
+      .isRequiresMigration());
+  }
+
+  @Test
+  public void testManyProperties() throws Exception {
+    Properties properties = Properties.create();
+    for (int i = 0; i < 100; i++) {
+      properties.set("key" + i, i);
+    }
+    assertEquals(100, properties.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(PropertyValue.create(i), properties.get("key" + i));
+    }
+
+    assertEquals(PropertyValue.create(10), properties.remove("key10"));
+    assertNull(properties.get("key10"));
+    assertEquals(PropertyValue.create(11), properties.get("key11"));
+    properties.set("key11", 42);
+    properties.set("key100", 100);
+    assertEquals(100, properties.size());
+    assertEquals(PropertyValue.create(42), properties.get("key11"));
+    assertEquals(PropertyValue.create(100), properties.get("key100"));
+    assertFalse(properties.containsKey("key101"));
+  }
 }
@@ -16,6 +16,8 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.junit.Rule;
@@ -1039,6 +1041,41 @@ public class PropertyValueTest {
     create(SET_VAL_f).compareTo(create(SET_VAL_f));
   }
 
+  @Test
+  public void testNormalizedKey() {
+    List<List<PropertyValue>> sortedGroups = Lists.newArrayList(
+      Lists.newArrayList(create(false), create(true)),
+      Lists.newArrayList(create(-1e30), create(Long.MIN_VALUE), create(-10), create(-1.5F),
+        create((short) -1), create(-0.5D), create(0L), create(BigDecimal.valueOf(0.25)),
+        create((short) 1), create(1.5F), create(10), create(12L),
+        create(BigDecimal.valueOf(1e20)), create(Double.MAX_VALUE)),
+      Lists.newArrayList(create(""), create("A"), create("Aa"), create("B"), create("a"),
+        create("\u00e4"), create("\uffff"), create("\ud83d\ude00")),
+      Lists.newArrayList(create(LocalDate.of(-5, 1, 1)), create(LocalDate.of(2017, 1, 31)),
+        create(LocalDate.of(2017, 2, 1))),
+      Lists.newArrayList(create(LocalTime.of(1, 59)), create(LocalTime.of(2, 0)),
+        create(LocalTime.of(2, 0, 0, 1))),
+      Lists.newArrayList(create(LocalDateTime.of(2017, 1, 1, 23, 0)),
+        create(LocalDateTime.of(2017, 1, 2, 1, 0))));
+
+    for (List<PropertyValue> group : sortedGroups) {
+      for (int i = 0; i < group.size(); i++) {
+        for (int j = 0; j < group.size(); j++) {
+          PropertyValue a = group.get(i);
+          PropertyValue b = group.get(j);
+          assertEquals(Integer.signum(Integer.compare(i, j)), Integer.signum(a.compareTo(b)));
+          // the normalized key must never contradict compareTo
+          int keyResult = compareNormalizedKeys(a, b, 16);
+          assertTrue(keyResult == 0 || keyResult == Integer.signum(a.compareTo(b)));
+        }
+      }
+    }
+
+    // the normalized key of equal numerical values is equal across types
+    assertEquals(0, compareNormalizedKeys(create(10), create(10D), 9));
+    assertEquals(Integer.MAX_VALUE, create(10).getMaxNormalizedKeyLen());
+  }
+
   @Test
   public void testArrayValueMaxSize() {
     PropertyValue property = new PropertyValue();
@@ -1255,4 +1292,15 @@ public class PropertyValueTest {
     assertTrue(p3.compareTo(p1) > 0);
     assertTrue(p3.compareTo(p2) > 0);
   }
+
+  /**
+   * Compares the normalized keys of two values with the given length.
+   */
+  private int compareNormalizedKeys(PropertyValue p1, PropertyValue p2, int len) {
+    MemorySegment segment1 = MemorySegmentFactory.wrap(new byte[len + 2]);
+    MemorySegment segment2 = MemorySegmentFactory.wrap(new byte[len + 2]);
+    p1.copyNormalizedKey(segment1, 1, len);
+    p2.copyNormalizedKey(segment2, 1, len);
+    return Integer.signum(segment1.compare(segment2, 1, 1, len));
+  }
 }
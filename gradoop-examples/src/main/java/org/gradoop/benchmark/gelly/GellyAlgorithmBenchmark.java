@@ -0,0 +1,280 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.gelly;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.io.FileUtils;
+import org.apache.flink.api.common.ProgramDescription;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.examples.AbstractRunner;
+import org.gradoop.flink.algorithms.gelly.TranslatingGradoopGellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.clusteringcoefficient.GellyLocalClusteringCoefficientDirected;
+import org.gradoop.flink.algorithms.gelly.connectedcomponents.AnnotateWeaklyConnectedComponents;
+import org.gradoop.flink.algorithms.gelly.hits.HITS;
+import org.gradoop.flink.algorithms.gelly.labelpropagation.GellyLabelPropagation;
+import org.gradoop.flink.algorithms.gelly.pagerank.PageRank;
+import org.gradoop.flink.algorithms.gelly.shortestpaths.SingleSourceShortestPaths;
+import org.gradoop.flink.algorithms.gelly.vertexdegrees.DistinctVertexDegrees;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.csv.CSVDataSink;
+import org.gradoop.flink.io.impl.csv.indexed.IndexedCSVDataSource;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A dedicated program for benchmarking Gelly algorithm wrappers, either executed on
+ * {@link GradoopId} keys or on translated long identifiers.
+ */
+public class GellyAlgorithmBenchmark extends AbstractRunner implements ProgramDescription {
+  /**
+   * Option to declare path to indexed input graph
+   */
+  private static final String OPTION_INPUT_PATH = "i";
+  /**
+   * Option to declare path to output graph
+   */
+  private static final String OPTION_OUTPUT_PATH = "o";
+  /**
+   * Option to declare output path to statistics csv file
+   */
+  private static final String OPTION_CSV_PATH = "c";
+  /**
+   * Option to declare the benchmarked algorithm
+   */
+  private static final String OPTION_ALGORITHM = "a";
+  /**
+   * Option to declare the number of iterations
+   */
+  private static final String OPTION_ITERATIONS = "n";
+  /**
+   * Option to declare the property key used by label propagation or shortest paths
+   */
+  private static final String OPTION_PROPERTY_KEY = "p";
+  /**
+   * Option to declare the source vertex of shortest paths
+   */
+  private static final String OPTION_SOURCE_VERTEX = "s";
+  /**
+   * Option to disable the translation of vertex ids
+   */
+  private static final String OPTION_GRADOOP_IDS = "g";
+  /**
+   * Default number of iterations
+   */
+  private static final int DEFAULT_ITERATIONS = 10;
+  /**
+   * Property key used to store results
+   */
+  private static final String RESULT_KEY = "result";
+  /**
+   * Used input path
+   */
+  private static String INPUT_PATH;
+  /**
+   * Used output path
+   */
+  private static String OUTPUT_PATH;
+  /**
+   * Used csv path
+   */
+  private static String CSV_PATH;
+  /**
+   * Used algorithm
+   */
+  private static String ALGORITHM;
+  /**
+   * Used number of iterations
+   */
+  private static int ITERATIONS;
+  /**
+   * Used property key
+   */
+  private static String PROPERTY_KEY;
+  /**
+   * Used source vertex
+   */
+  private static String SOURCE_VERTEX;
+  /**
+   * Whether vertex ids are translated to long ids
+   */
+  private static boolean TRANSLATE_IDS;
+
+  static {
+    OPTIONS.addOption(OPTION_INPUT_PATH, "input", true,
+      "Path to indexed source files.");
+    OPTIONS.addOption(OPTION_OUTPUT_PATH, "output", true,
+      "Path to output file");
+    OPTIONS.addOption(OPTION_CSV_PATH, "csv", true,
+      "Path to csv statistics");
+    OPTIONS.addOption(OPTION_ALGORITHM, "algorithm", true,
+      "Benchmarked algorithm (pagerank, hits, labelpropagation, wcc, degrees, lcc, sssp)");
+    OPTIONS.addOption(OPTION_ITERATIONS, "iterations", true,
+      "Number of iterations (default: " + DEFAULT_ITERATIONS + ")");
+    OPTIONS.addOption(OPTION_PROPERTY_KEY, "property-key", true,
+      "Vertex property key for labelpropagation, edge property key for sssp");
+    OPTIONS.addOption(OPTION_SOURCE_VERTEX, "source-vertex", true,
+      "Id of the source vertex for sssp");
+    OPTIONS.addOption(OPTION_GRADOOP_IDS, "gradoop-ids", false,
+      "Execute the algorithm on GradoopIds instead of translated long ids.");
+  }
+
+  /**
+   * Main program to run the benchmark. Arguments are the available options.
+   *
+   * @param args program arguments
+   * @throws Exception in case of Error
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLine cmd = parseArguments(args, GellyAlgorithmBenchmark.class.getName());
+
+    if (cmd == null) {
+      System.exit(1);
+    }
+
+    // test if minimum arguments are set
+    performSanityCheck(cmd);
+
+    // read cmd arguments
+    readCMDArguments(cmd);
+
+    // create gradoop config
+    ExecutionEnvironment env = ExecutionEnvironment.getExecutionEnvironment();
+    GradoopFlinkConfig conf = GradoopFlinkConfig.createConfig(env);
+
+    // read graph
+    DataSource source = new IndexedCSVDataSource(INPUT_PATH, conf);
+    LogicalGraph graph = source.getLogicalGraph();
+
+    // run the algorithm on gradoop ids or long ids
+    TranslatingGradoopGellyAlgorithm<?, ?> algorithm = getAlgorithm()
+      .setTranslateIds(TRANSLATE_IDS);
+    graph = graph.callForGraph(algorithm);
+
+    // write graph
+    DataSink sink = new CSVDataSink(OUTPUT_PATH, conf);
+    sink.write(graph);
+
+    // execute and write job statistics
+    env.execute();
+    writeCSV(env);
+  }
+
+  /**
+   * Creates the benchmarked algorithm.
+   *
+   * @return algorithm wrapper
+   */
+  private static TranslatingGradoopGellyAlgorithm<?, ?> getAlgorithm() {
+    switch (ALGORITHM) {
+    case "pagerank":
+      return new PageRank(RESULT_KEY, 0.85, ITERATIONS);
+    case "hits":
+      return new HITS(RESULT_KEY + "_authority", RESULT_KEY + "_hub", ITERATIONS);
+    case "labelpropagation":
+      return new GellyLabelPropagation(ITERATIONS, PROPERTY_KEY);
+    case "wcc":
+      return new AnnotateWeaklyConnectedComponents(RESULT_KEY, ITERATIONS);
+    case "degrees":
+      return new DistinctVertexDegrees(RESULT_KEY, RESULT_KEY + "_in", RESULT_KEY + "_out");
+    case "lcc":
+      return new GellyLocalClusteringCoefficientDirected();
+    case "sssp":
+      return new SingleSourceShortestPaths(GradoopId.fromString(SOURCE_VERTEX), PROPERTY_KEY,
+        ITERATIONS, RESULT_KEY);
+    default:
+      throw new IllegalArgumentException("Unsupported algorithm: " + ALGORITHM);
+    }
+  }
+
+  /**
+   * Reads the given arguments from command line
+   *
+   * @param cmd command line
+   */
+  private static void readCMDArguments(CommandLine cmd) {
+    INPUT_PATH    = cmd.getOptionValue(OPTION_INPUT_PATH);
+    OUTPUT_PATH   = cmd.getOptionValue(OPTION_OUTPUT_PATH);
+    CSV_PATH      = cmd.getOptionValue(OPTION_CSV_PATH);
+    ALGORITHM     = cmd.getOptionValue(OPTION_ALGORITHM);
+    ITERATIONS    = Integer.parseInt(
+      cmd.getOptionValue(OPTION_ITERATIONS, String.valueOf(DEFAULT_ITERATIONS)));
+    PROPERTY_KEY  = cmd.getOptionValue(OPTION_PROPERTY_KEY);
+    SOURCE_VERTEX = cmd.getOptionValue(OPTION_SOURCE_VERTEX);
+    TRANSLATE_IDS = !cmd.hasOption(OPTION_GRADOOP_IDS);
+  }
+
+  /**
+   * Checks if the minimum of arguments is provided
+   *
+   * @param cmd command line
+   */
+  private static void performSanityCheck(CommandLine cmd) {
+    if (!cmd.hasOption(OPTION_INPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph input directory.");
+    }
+    if (!cmd.hasOption(OPTION_CSV_PATH)) {
+      throw new IllegalArgumentException("Path to CSV-File need to be set.");
+    }
+    if (!cmd.hasOption(OPTION_OUTPUT_PATH)) {
+      throw new IllegalArgumentException("Define a graph output directory.");
+    }
+    if (!cmd.hasOption(OPTION_ALGORITHM)) {
+      throw new IllegalArgumentException("Define an algorithm.");
+    }
+  }
+
+  /**
+   * Method to create and add lines to a csv-file
+   *
+   * @param env given ExecutionEnvironment
+   * @throws IOException exeption during file writing
+   */
+  private static void writeCSV(ExecutionEnvironment env) throws IOException {
+
+    String head = String
+      .format("%s|%s|%s|%s|%s|%s%n", "Parallelism", "dataset", "algorithm", "iterations",
+        "translated-ids", "Runtime(s)");
+
+    String tail = String
+      .format("%s|%s|%s|%s|%s|%s%n", env.getParallelism(), INPUT_PATH, ALGORITHM, ITERATIONS,
+        TRANSLATE_IDS, env.getLastJobExecutionResult().getNetRuntime(TimeUnit.SECONDS));
+
+    File f = new File(CSV_PATH);
+    if (f.exists() && !f.isDirectory()) {
+      FileUtils.writeStringToFile(f, tail, true);
+    } else {
+      PrintWriter writer = new PrintWriter(CSV_PATH, "UTF-8");
+      writer.print(head);
+      writer.print(tail);
+      writer.close();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getDescription() {
+    return GellyAlgorithmBenchmark.class.getName();
+  }
+}
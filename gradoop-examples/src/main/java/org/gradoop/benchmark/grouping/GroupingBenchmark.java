@@ -176,7 +176,7 @@ public class GroupingBenchmark extends AbstractRunner
     OPTIONS.addOption(OPTION_OUTPUT_PATH, "output-path", true,
       "Path to write output files to");
     OPTIONS.addOption(OPTION_GROUPING_STRATEGY, "strategy", true,
-      "Grouping strategy (GR, GC)");
+      "Grouping strategy (GR, GC, HC)");
     OPTIONS.addOption(OPTION_USE_VERTEX_LABELS, "use-vertex-labels", false,
       "Group on vertex labels");
     OPTIONS.addOption(OPTION_USE_EDGE_LABELS, "use-edge-labels", false,
@@ -312,6 +312,8 @@ public class GroupingBenchmark extends AbstractRunner
       String value = cmd.getOptionValue(OPTION_GROUPING_STRATEGY);
       if (value.toUpperCase().equals("GC")) {
         STRATEGY = GroupingStrategy.GROUP_COMBINE;
+      } else if (value.toUpperCase().equals("HC")) {
+        STRATEGY = GroupingStrategy.HASH_COMBINE;
       }
     }
 
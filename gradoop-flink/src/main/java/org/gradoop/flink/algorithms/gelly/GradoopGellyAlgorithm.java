@@ -43,12 +43,12 @@ public abstract class GradoopGellyAlgorithm<VV, EV>
   /**
    * Function mapping edge to gelly edge.
    */
-  private final EdgeToGellyEdge<EV> toGellyEdge;
+  protected final EdgeToGellyEdge<EV> toGellyEdge;
 
   /**
    * Function mapping vertex to gelly vertex.
    */
-  private final VertexToGellyVertex<VV> toGellyVertex;
+  protected final VertexToGellyVertex<VV> toGellyVertex;
 
   /**
    * Base constructor, only setting the mapper functions.
@@ -69,12 +69,23 @@ public abstract class GradoopGellyAlgorithm<VV, EV>
   public LogicalGraph execute(LogicalGraph graph) {
     this.currentGraph = graph;
     try {
-      return executeInGelly(transformToGelly(graph));
+      return transformAndExecute(graph);
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Transforms the graph to a Gelly graph and executes the algorithm on it.
+   *
+   * @param graph Gradoop Graph.
+   * @return The Gradoop graph.
+   * @throws Exception if the execution in Gelly fails
+   */
+  protected LogicalGraph transformAndExecute(LogicalGraph graph) throws Exception {
+    return executeInGelly(transformToGelly(graph));
+  }
+
   /**
    * Default transformation from a Gradoop Graph to a Gelly Graph.
    *
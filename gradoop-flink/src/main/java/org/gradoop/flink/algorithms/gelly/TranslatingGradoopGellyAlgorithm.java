@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.apache.flink.graph.Edge;
+import org.apache.flink.graph.Graph;
+import org.apache.flink.graph.Vertex;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdge;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexToGellyVertex;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexToIdPair;
+import org.gradoop.flink.algorithms.gelly.functions.LongIndexToLongValue;
+import org.gradoop.flink.algorithms.gelly.functions.TranslateGellyEdgeSource;
+import org.gradoop.flink.algorithms.gelly.functions.TranslateGellyEdgeTarget;
+import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertex;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+
+/**
+ * Base class for Algorithms executed in Flink Gelly that can run on translated vertex
+ * identifiers.
+ *
+ * By default, each vertex of the input graph is assigned a unique {@link LongValue} identifier
+ * before the algorithm is executed. Those are cheaper to serialize, compare and hash during
+ * Gelly's iterations than {@link GradoopId}s. Results are joined back to the vertices they were
+ * assigned to, see {@link #indexedVertices}. The translation can be disabled with
+ * {@link #setTranslateIds(boolean)}, the algorithm is then executed on {@link GradoopId} keys.
+ *
+ * @param <VV> Value type for gelly vertices.
+ * @param <EV> Value type for gelly edges.
+ */
+public abstract class TranslatingGradoopGellyAlgorithm<VV, EV>
+  extends GradoopGellyAlgorithm<VV, EV> {
+
+  /**
+   * The vertices of {@link #currentGraph}, each paired with the long identifier that represents
+   * it in Gelly. Only set if identifier translation is enabled.
+   */
+  protected DataSet<Tuple2<LongValue, org.gradoop.common.model.impl.pojo.Vertex>> indexedVertices;
+
+  /**
+   * Whether the algorithm is executed on translated long identifiers.
+   */
+  private boolean translateIds = true;
+
+  /**
+   * Base constructor, only setting the mapper functions.
+   *
+   * @param vertexValue Function mapping vertices from Gradoop to Gelly.
+   * @param edgeValue   function mapping edges from Gradoop to Gelly.
+   */
+  protected TranslatingGradoopGellyAlgorithm(
+    VertexToGellyVertex<VV> vertexValue, EdgeToGellyEdge<EV> edgeValue) {
+    super(vertexValue, edgeValue);
+  }
+
+  /**
+   * Enables or disables the translation of vertex identifiers to long identifiers.
+   *
+   * @param translateIds true, to execute the algorithm on long identifiers
+   * @return this algorithm
+   */
+  public TranslatingGradoopGellyAlgorithm<VV, EV> setTranslateIds(boolean translateIds) {
+    this.translateIds = translateIds;
+    return this;
+  }
+
+  /**
+   * Returns true, if the algorithm is executed on translated long identifiers.
+   *
+   * @return true, if identifiers are translated
+   */
+  public boolean isTranslateIds() {
+    return translateIds;
+  }
+
+  @Override
+  protected LogicalGraph transformAndExecute(LogicalGraph graph) throws Exception {
+    if (translateIds) {
+      return executeInGellyWithLongIds(transformToGellyWithLongIds(graph));
+    }
+    return super.transformAndExecute(graph);
+  }
+
+  /**
+   * Transformation from a Gradoop Graph to a Gelly Graph keyed by long identifiers. Each vertex
+   * is assigned a unique identifier, edges are translated by joining their source and target
+   * identifiers with the assigned ones. Edges pointing to vertices outside of the graph are
+   * dropped. The assignment is stored in {@link #indexedVertices}.
+   *
+   * @param graph Gradoop Graph.
+   * @return Gelly Graph.
+   */
+  public Graph<LongValue, VV, EV> transformToGellyWithLongIds(LogicalGraph graph) {
+    indexedVertices = assignLongIds(graph.getVertices());
+
+    DataSet<Tuple2<LongValue, GradoopId>> idPairs = indexedVertices
+      .map(new IndexedVertexToIdPair());
+
+    DataSet<Vertex<LongValue, VV>> gellyVertices = indexedVertices
+      .map(new IndexedVertexToGellyVertex<>(toGellyVertex));
+
+    DataSet<Edge<LongValue, EV>> gellyEdges = graph.getEdges()
+      .map(toGellyEdge)
+      .join(idPairs)
+      .where(0).equalTo(1)
+      .with(new TranslateGellyEdgeSource<>())
+      .join(idPairs)
+      .where(1).equalTo(1)
+      .with(new TranslateGellyEdgeTarget<>());
+
+    return Graph.fromDataSet(gellyVertices, gellyEdges,
+      graph.getConfig().getExecutionEnvironment());
+  }
+
+  /**
+   * Assigns a unique long identifier to each vertex.
+   *
+   * @param vertices vertices of the input graph
+   * @return pairs of long identifier and vertex
+   */
+  protected DataSet<Tuple2<LongValue, org.gradoop.common.model.impl.pojo.Vertex>> assignLongIds(
+    DataSet<org.gradoop.common.model.impl.pojo.Vertex> vertices) {
+    return DataSetUtils.zipWithUniqueId(vertices).map(new LongIndexToLongValue());
+  }
+
+  /**
+   * Perform some operation in Gelly on long identifiers and transform the Gelly graph back to a
+   * Gradoop {@link LogicalGraph} using {@link #indexedVertices}.
+   *
+   * @param graph The Gelly graph.
+   * @return The Gradoop graph.
+   */
+  public abstract LogicalGraph executeInGellyWithLongIds(Graph<LongValue, VV, EV> graph)
+    throws Exception;
+}
@@ -18,7 +18,7 @@ package org.gradoop.flink.algorithms.gelly.clusteringcoefficient;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.TranslatingGradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
@@ -35,7 +35,7 @@ import org.gradoop.flink.model.impl.epgm.LogicalGraph;
  * </pre>
  */
 public abstract class ClusteringCoefficientBase extends
-  GradoopGellyAlgorithm<NullValue, NullValue> {
+  TranslatingGradoopGellyAlgorithm<NullValue, NullValue> {
 
   /**
    * Property key to access the local clustering coefficient value stored in the vertices
@@ -49,7 +49,7 @@ public abstract class ClusteringCoefficientBase extends
 
   /**
    * Creates an instance of the ClusteringCoefficientBase wrapper class.
-   * Calls constructor of super class {@link GradoopGellyAlgorithm}
+   * Calls constructor of super class {@link TranslatingGradoopGellyAlgorithm}
    */
   public ClusteringCoefficientBase() {
     super(new VertexToGellyVertexWithNullValue(),
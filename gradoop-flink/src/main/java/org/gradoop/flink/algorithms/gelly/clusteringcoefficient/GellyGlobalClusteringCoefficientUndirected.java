@@ -18,6 +18,8 @@ package org.gradoop.flink.algorithms.gelly.clusteringcoefficient;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.graph.library.clustering.undirected.GlobalClusteringCoefficient;
+import org.apache.flink.types.CopyableValue;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.GraphHead;
@@ -50,9 +52,28 @@ public class GellyGlobalClusteringCoefficientUndirected extends ClusteringCoeffi
   @Override
   protected LogicalGraph executeInternal(Graph<GradoopId, NullValue, NullValue> gellyGraph)
     throws Exception {
+    return computeGlobal(gellyGraph);
+  }
+
+  @Override
+  public LogicalGraph executeInGellyWithLongIds(Graph<LongValue, NullValue, NullValue> graph)
+    throws Exception {
+    return computeGlobal(graph);
+  }
+
+  /**
+   * Computes the global clustering coefficient and writes it to the graph head.
+   *
+   * @param gellyGraph Gelly graph with initialized vertices
+   * @param <K> vertex id type
+   * @return {@link LogicalGraph} with the global value written to the graph head
+   * @throws Exception Thrown if the gelly algorithm fails
+   */
+  private <K extends Comparable<K> & CopyableValue<K>> LogicalGraph computeGlobal(
+    Graph<K, NullValue, NullValue> gellyGraph) throws Exception {
 
     GlobalClusteringCoefficient global = new org.apache.flink.graph.library.clustering.undirected
-      .GlobalClusteringCoefficient<GradoopId, NullValue, NullValue>().run(gellyGraph);
+      .GlobalClusteringCoefficient<K, NullValue, NullValue>().run(gellyGraph);
 
     currentGraph.getConfig().getExecutionEnvironment().execute();
 
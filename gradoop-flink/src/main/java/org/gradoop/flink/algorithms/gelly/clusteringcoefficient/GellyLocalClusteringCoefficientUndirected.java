@@ -17,11 +17,15 @@ package org.gradoop.flink.algorithms.gelly.clusteringcoefficient;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.CopyableValue;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.algorithms.gelly.clusteringcoefficient.functions.LocalCCResultTupleToVertexJoin;
 import org.gradoop.flink.algorithms.gelly.clusteringcoefficient.functions.LocalUndirectedCCResultToTupleMap;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexJoin;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 
@@ -51,17 +55,43 @@ public class GellyLocalClusteringCoefficientUndirected extends ClusteringCoeffic
   protected LogicalGraph executeInternal(Graph<GradoopId, NullValue, NullValue> gellyGraph)
     throws Exception {
 
-    DataSet<Vertex> resultVertices = new org.apache.flink.graph.library.clustering.undirected
-      .LocalClusteringCoefficient<GradoopId, NullValue, NullValue>().run(gellyGraph)
-      .map(new LocalUndirectedCCResultToTupleMap())
+    DataSet<Vertex> resultVertices = computeLocal(gellyGraph)
       .join(currentGraph.getVertices())
       .where(0).equalTo(new Id<>())
-      .with(new LocalCCResultTupleToVertexJoin());
+      .with(new LocalCCResultTupleToVertexJoin<>());
 
     return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(
       currentGraph.getGraphHead(), resultVertices, currentGraph.getEdges());
   }
 
+  @Override
+  public LogicalGraph executeInGellyWithLongIds(Graph<LongValue, NullValue, NullValue> graph)
+    throws Exception {
+
+    DataSet<Vertex> resultVertices = computeLocal(graph)
+      .join(indexedVertices)
+      .where(0).equalTo(0)
+      .with(new IndexedVertexJoin<>(new LocalCCResultTupleToVertexJoin<>()));
+
+    return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(
+      currentGraph.getGraphHead(), resultVertices, currentGraph.getEdges());
+  }
+
+  /**
+   * Computes the local clustering coefficient of each vertex.
+   *
+   * @param gellyGraph Gelly graph with initialized vertices
+   * @param <K> vertex id type
+   * @return pairs of vertex id and local clustering coefficient
+   * @throws Exception Thrown if the gelly algorithm fails
+   */
+  private <K extends Comparable<K> & CopyableValue<K>> DataSet<Tuple2<K, Double>> computeLocal(
+    Graph<K, NullValue, NullValue> gellyGraph) throws Exception {
+    return new org.apache.flink.graph.library.clustering.undirected
+      .LocalClusteringCoefficient<K, NullValue, NullValue>().run(gellyGraph)
+      .map(new LocalUndirectedCCResultToTupleMap<>());
+  }
+
   @Override
   public String getName() {
     return GellyLocalClusteringCoefficientUndirected.class.getName();
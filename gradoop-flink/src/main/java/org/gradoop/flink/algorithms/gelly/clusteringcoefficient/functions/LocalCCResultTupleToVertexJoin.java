@@ -17,19 +17,20 @@ package org.gradoop.flink.algorithms.gelly.clusteringcoefficient.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.algorithms.gelly.clusteringcoefficient.ClusteringCoefficientBase;
 
 /**
- * Writes the local clustering coefficient from {@code Tuple2<GradoopId, Double>} to the
+ * Writes the local clustering coefficient from {@code Tuple2<K, Double>} to the
  * corresponding epgm vertex as property.
+ *
+ * @param <K> vertex id type
  */
-public class LocalCCResultTupleToVertexJoin implements
-  JoinFunction<Tuple2<GradoopId, Double>, Vertex, Vertex> {
+public class LocalCCResultTupleToVertexJoin<K> implements
+  JoinFunction<Tuple2<K, Double>, Vertex, Vertex> {
 
   @Override
-  public Vertex join(Tuple2<GradoopId, Double> resultTuple, Vertex vertex) throws Exception {
+  public Vertex join(Tuple2<K, Double> resultTuple, Vertex vertex) throws Exception {
     vertex.setProperty(ClusteringCoefficientBase.PROPERTY_KEY_LOCAL, resultTuple.f1);
     return vertex;
   }
@@ -18,20 +18,21 @@ package org.gradoop.flink.algorithms.gelly.clusteringcoefficient.functions;
 import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.graph.library.clustering.undirected.LocalClusteringCoefficient;
-import org.gradoop.common.model.impl.id.GradoopId;
 
 /**
  * Maps the {@link LocalClusteringCoefficient.Result} for an undirected graph to a
- * {@code Tuple2<GradoopId, Double>} for further processing.
+ * {@code Tuple2<K, Double>} for further processing.
  * Checks for and catches the return of {@code Double.NaN} from
  * {@link LocalClusteringCoefficient.Result#getLocalClusteringCoefficientScore()}
+ *
+ * @param <K> vertex id type
  */
-public class LocalUndirectedCCResultToTupleMap implements
-  MapFunction<LocalClusteringCoefficient.Result<GradoopId>, Tuple2<GradoopId, Double>> {
+public class LocalUndirectedCCResultToTupleMap<K> implements
+  MapFunction<LocalClusteringCoefficient.Result<K>, Tuple2<K, Double>> {
 
   @Override
-  public Tuple2<GradoopId, Double> map(
-    LocalClusteringCoefficient.Result<GradoopId> result) throws Exception {
+  public Tuple2<K, Double> map(
+    LocalClusteringCoefficient.Result<K> result) throws Exception {
     double value = result.getLocalClusteringCoefficientScore();
     if (Double.isNaN(value)) {
       value = 0.0;
@@ -17,14 +17,16 @@ package org.gradoop.flink.algorithms.gelly.connectedcomponents;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.TranslatingGradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.connectedcomponents.functions.GellyVertexValueToVertexPropertyJoin;
 import org.gradoop.flink.algorithms.gelly.connectedcomponents.functions.VertexPropertyToEdgePropertyJoin;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexJoin;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithGradoopId;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
@@ -38,7 +40,7 @@ import org.gradoop.flink.model.impl.functions.epgm.TargetId;
  * as a property. If {@link #annotateEdges} is set to {@code true}, the component id is assigned to
  * each edge as a property, too.
  */
-public class AnnotateWeaklyConnectedComponents extends GradoopGellyAlgorithm<GradoopId, NullValue> {
+public class AnnotateWeaklyConnectedComponents extends TranslatingGradoopGellyAlgorithm<GradoopId, NullValue> {
 
   /**
    * Property key to store the component id in.
@@ -91,8 +93,31 @@ public class AnnotateWeaklyConnectedComponents extends GradoopGellyAlgorithm<Gra
       GradoopId, GradoopId, NullValue>(maxIterations).run(graph)
       .join(currentGraph.getVertices())
       .where(0).equalTo(new Id<>())
-      .with(new GellyVertexValueToVertexPropertyJoin(propertyKey));
+      .with(new GellyVertexValueToVertexPropertyJoin<>(propertyKey));
 
+    return createResultGraph(annotatedVertices);
+  }
+
+  @Override
+  public LogicalGraph executeInGellyWithLongIds(Graph<LongValue, GradoopId, NullValue> graph)
+    throws Exception {
+    DataSet<Vertex> annotatedVertices = new org.apache.flink.graph.library.ConnectedComponents<
+      LongValue, GradoopId, NullValue>(maxIterations).run(graph)
+      .join(indexedVertices)
+      .where(0).equalTo(0)
+      .with(new IndexedVertexJoin<>(new GellyVertexValueToVertexPropertyJoin<>(propertyKey)));
+
+    return createResultGraph(annotatedVertices);
+  }
+
+  /**
+   * Annotates the edges with the component id of their incident vertices, if enabled, and
+   * creates the result graph.
+   *
+   * @param annotatedVertices vertices annotated with their component id
+   * @return annotated graph
+   */
+  private LogicalGraph createResultGraph(DataSet<Vertex> annotatedVertices) {
     DataSet<Edge> edges = currentGraph.getEdges();
 
     if (annotateEdges) {
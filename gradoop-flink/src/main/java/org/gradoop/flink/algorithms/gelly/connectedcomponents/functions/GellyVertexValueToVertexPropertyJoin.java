@@ -22,9 +22,11 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 /**
  * Stores the gelly vertex value (a {@link GradoopId}) as property with the given property key in
  * the gradoop vertex.
+ *
+ * @param <K> vertex id type
  */
-public class GellyVertexValueToVertexPropertyJoin
-  implements JoinFunction<org.apache.flink.graph.Vertex<GradoopId, GradoopId>, Vertex, Vertex> {
+public class GellyVertexValueToVertexPropertyJoin<K>
+  implements JoinFunction<org.apache.flink.graph.Vertex<K, GradoopId>, Vertex, Vertex> {
 
   /**
    * Property key to store the gelly vertex value.
@@ -41,7 +43,7 @@ public class GellyVertexValueToVertexPropertyJoin
   }
 
   @Override
-  public Vertex join(org.apache.flink.graph.Vertex<GradoopId, GradoopId> gellyVertex,
+  public Vertex join(org.apache.flink.graph.Vertex<K, GradoopId> gellyVertex,
     Vertex gradoopVertex) {
     gradoopVertex.setProperty(propertyKey, gellyVertex.getValue());
     return gradoopVertex;
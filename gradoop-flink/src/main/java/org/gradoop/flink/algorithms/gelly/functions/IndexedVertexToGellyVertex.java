@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.api.java.typeutils.ValueTypeInfo;
+import org.apache.flink.graph.Vertex;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Maps an indexed EPGM vertex to a Gelly vertex with the long index as its id. The vertex value
+ * is created by the given {@link VertexToGellyVertex} function.
+ *
+ * @param <VV> Value type of the output gelly vertex.
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class IndexedVertexToGellyVertex<VV> implements
+  MapFunction<Tuple2<LongValue, org.gradoop.common.model.impl.pojo.Vertex>, Vertex<LongValue, VV>>,
+  ResultTypeQueryable<Vertex<LongValue, VV>> {
+
+  /**
+   * Function creating the vertex value.
+   */
+  private final VertexToGellyVertex<VV> toGellyVertex;
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Vertex<LongValue, VV> reuseVertex;
+
+  /**
+   * Constructor.
+   *
+   * @param toGellyVertex function creating the vertex value
+   */
+  public IndexedVertexToGellyVertex(VertexToGellyVertex<VV> toGellyVertex) {
+    this.toGellyVertex = toGellyVertex;
+    this.reuseVertex = new Vertex<>();
+  }
+
+  @Override
+  public Vertex<LongValue, VV> map(
+    Tuple2<LongValue, org.gradoop.common.model.impl.pojo.Vertex> indexedVertex) throws Exception {
+    reuseVertex.setId(indexedVertex.f0);
+    reuseVertex.setValue(toGellyVertex.map(indexedVertex.f1).getValue());
+    return reuseVertex;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public TypeInformation<Vertex<LongValue, VV>> getProducedType() {
+    TupleTypeInfo<Vertex<GradoopId, VV>> gellyVertexType =
+      (TupleTypeInfo<Vertex<GradoopId, VV>>) TypeExtractor.getMapReturnTypes(toGellyVertex,
+        TypeExtractor.getForClass(org.gradoop.common.model.impl.pojo.Vertex.class));
+    return new TupleTypeInfo<>((Class<Vertex<LongValue, VV>>) (Class<?>) Vertex.class,
+      ValueTypeInfo.LONG_VALUE_TYPE_INFO, gellyVertexType.getTypeAt(1));
+  }
+}
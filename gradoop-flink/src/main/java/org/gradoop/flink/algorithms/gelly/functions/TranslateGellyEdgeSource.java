@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.graph.Edge;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Replaces the source id of a Gelly edge by the long identifier of the source vertex.
+ * The result is a tuple of the long source id, the target {@link GradoopId} and the edge value.
+ *
+ * @param <EV> Value type of the gelly edge.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f1;f2")
+@FunctionAnnotation.ForwardedFieldsSecond("f0")
+public class TranslateGellyEdgeSource<EV> implements JoinFunction
+  <Edge<GradoopId, EV>, Tuple2<LongValue, GradoopId>, Tuple3<LongValue, GradoopId, EV>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple3<LongValue, GradoopId, EV> reuseTuple;
+
+  /**
+   * Constructor.
+   */
+  public TranslateGellyEdgeSource() {
+    reuseTuple = new Tuple3<>();
+  }
+
+  @Override
+  public Tuple3<LongValue, GradoopId, EV> join(Edge<GradoopId, EV> edge,
+    Tuple2<LongValue, GradoopId> sourceIds) {
+    reuseTuple.f0 = sourceIds.f0;
+    reuseTuple.f1 = edge.getTarget();
+    reuseTuple.f2 = edge.getValue();
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.graph.Edge;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Creates a Gelly edge from a partially translated edge by replacing the target
+ * {@link GradoopId} by the long identifier of the target vertex.
+ *
+ * @param <EV> Value type of the gelly edge.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f2")
+@FunctionAnnotation.ForwardedFieldsSecond("f0->f1")
+public class TranslateGellyEdgeTarget<EV> implements JoinFunction
+  <Tuple3<LongValue, GradoopId, EV>, Tuple2<LongValue, GradoopId>, Edge<LongValue, EV>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Edge<LongValue, EV> reuseEdge;
+
+  /**
+   * Constructor.
+   */
+  public TranslateGellyEdgeTarget() {
+    reuseEdge = new Edge<>();
+  }
+
+  @Override
+  public Edge<LongValue, EV> join(Tuple3<LongValue, GradoopId, EV> edge,
+    Tuple2<LongValue, GradoopId> targetIds) {
+    reuseEdge.setSource(edge.f0);
+    reuseEdge.setTarget(targetIds.f0);
+    reuseEdge.setValue(edge.f2);
+    return reuseEdge;
+  }
+}
@@ -17,11 +17,13 @@ package org.gradoop.flink.algorithms.gelly.hits;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.TranslatingGradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexJoin;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
 import org.gradoop.flink.algorithms.gelly.hits.functions.HITSToAttributes;
 import org.gradoop.flink.algorithms.gelly.hits.functions.HitsResultKeySelector;
@@ -36,7 +38,7 @@ import org.gradoop.flink.model.impl.functions.epgm.Id;
  * <p>
  * The Results are stored as properties of the vertices (with given keys).
  */
-public class HITS extends GradoopGellyAlgorithm<NullValue, NullValue> {
+public class HITS extends TranslatingGradoopGellyAlgorithm<NullValue, NullValue> {
 
   /**
    * Property key to store the authority score.
@@ -49,9 +51,14 @@ public class HITS extends GradoopGellyAlgorithm<NullValue, NullValue> {
   private String hubPropertyKey;
 
   /**
-   * Gelly HITS implementation
+   * Maximum number of iterations.
    */
-  private org.apache.flink.graph.library.linkanalysis.HITS<GradoopId, NullValue, NullValue> hits;
+  private final int maxIterations;
+
+  /**
+   * Convergence threshold for sum of scores.
+   */
+  private final double convergenceThreshold;
 
   /**
    * HITS with fixed number of iterations
@@ -64,7 +71,8 @@ public class HITS extends GradoopGellyAlgorithm<NullValue, NullValue> {
     super(new VertexToGellyVertexWithNullValue(), new EdgeToGellyEdgeWithNullValue());
     this.authorityPropertyKey = authorityPropertyKey;
     this.hubPropertyKey = hubPropertyKey;
-    hits = new org.apache.flink.graph.library.linkanalysis.HITS<>(iterations, Double.MAX_VALUE);
+    this.maxIterations = iterations;
+    this.convergenceThreshold = Double.MAX_VALUE;
   }
 
 
@@ -79,8 +87,8 @@ public class HITS extends GradoopGellyAlgorithm<NullValue, NullValue> {
     super(new VertexToGellyVertexWithNullValue(), new EdgeToGellyEdgeWithNullValue());
     this.authorityPropertyKey = authorityPropertyKey;
     this.hubPropertyKey = hubPropertyKey;
-    hits = new org.apache.flink.graph.library.linkanalysis.HITS<>(Integer.MAX_VALUE,
-      convergenceThreshold);
+    this.maxIterations = Integer.MAX_VALUE;
+    this.convergenceThreshold = convergenceThreshold;
   }
 
   /**
@@ -96,8 +104,8 @@ public class HITS extends GradoopGellyAlgorithm<NullValue, NullValue> {
     super(new VertexToGellyVertexWithNullValue(), new EdgeToGellyEdgeWithNullValue());
     this.authorityPropertyKey = authorityPropertyKey;
     this.hubPropertyKey = hubPropertyKey;
-    hits =
-      new org.apache.flink.graph.library.linkanalysis.HITS<>(maxIterations, convergenceThreshold);
+    this.maxIterations = maxIterations;
+    this.convergenceThreshold = convergenceThreshold;
   }
 
 
@@ -105,15 +113,42 @@ public class HITS extends GradoopGellyAlgorithm<NullValue, NullValue> {
   public LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
     throws Exception {
 
-    DataSet<Vertex> newVertices = hits.runInternal(graph)
+    DataSet<Vertex> newVertices = runHITS(graph)
       .join(currentGraph.getVertices())
-      .where(new HitsResultKeySelector()).equalTo(new Id<>())
-      .with(new HITSToAttributes(authorityPropertyKey, hubPropertyKey));
+      .where(new HitsResultKeySelector<>()).equalTo(new Id<>())
+      .with(new HITSToAttributes<>(authorityPropertyKey, hubPropertyKey));
+
+    return currentGraph.getConfig().getLogicalGraphFactory()
+      .fromDataSets(newVertices, currentGraph.getEdges());
+  }
+
+  @Override
+  public LogicalGraph executeInGellyWithLongIds(Graph<LongValue, NullValue, NullValue> graph)
+    throws Exception {
+
+    DataSet<Vertex> newVertices = runHITS(graph)
+      .join(indexedVertices)
+      .where(new HitsResultKeySelector<>()).equalTo(0)
+      .with(new IndexedVertexJoin<>(new HITSToAttributes<>(authorityPropertyKey, hubPropertyKey)));
 
     return currentGraph.getConfig().getLogicalGraphFactory()
       .fromDataSets(newVertices, currentGraph.getEdges());
   }
 
+  /**
+   * Runs the Gelly HITS implementation on the given graph.
+   *
+   * @param graph The Gelly graph.
+   * @param <K> vertex id type
+   * @return hub and authority scores per vertex
+   * @throws Exception in case of failure
+   */
+  private <K> DataSet<org.apache.flink.graph.library.linkanalysis.HITS.Result<K>> runHITS(
+    Graph<K, NullValue, NullValue> graph) throws Exception {
+    return new org.apache.flink.graph.library.linkanalysis.HITS<K, NullValue, NullValue>(
+      maxIterations, convergenceThreshold).runInternal(graph);
+  }
+
   @Override
   public String getName() {
     return HITS.class.getName();
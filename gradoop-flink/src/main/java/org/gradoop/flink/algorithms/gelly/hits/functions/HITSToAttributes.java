@@ -17,14 +17,15 @@ package org.gradoop.flink.algorithms.gelly.hits.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.graph.library.linkanalysis.HITS;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 /**
  * Stores HITS Results as Properties of a Vertex
+ *
+ * @param <K> vertex id type
  */
-public class HITSToAttributes implements JoinFunction<HITS.Result<GradoopId>, Vertex, Vertex> {
+public class HITSToAttributes<K> implements JoinFunction<HITS.Result<K>, Vertex, Vertex> {
 
   /**
    * Property Key to store the authority score
@@ -45,7 +46,7 @@ public class HITSToAttributes implements JoinFunction<HITS.Result<GradoopId>, Ve
   }
 
   @Override
-  public Vertex join(HITS.Result<GradoopId> result, Vertex vertex) throws Exception {
+  public Vertex join(HITS.Result<K> result, Vertex vertex) throws Exception {
     vertex.setProperty(authorityPropertyKey,
       PropertyValue.create(result.getAuthorityScore().getValue()));
     vertex.setProperty(hubPropertyKey, PropertyValue.create(result.getHubScore().getValue()));
@@ -17,24 +17,23 @@ package org.gradoop.flink.algorithms.gelly.hits.functions;
 
 import org.apache.flink.api.java.functions.KeySelector;
 import org.apache.flink.graph.library.linkanalysis.HITS;
-import org.gradoop.common.model.impl.id.GradoopId;
 
 /**
  * Key selector for HITS.Result
+ *
+ * @param <K> vertex id type
  */
-public class HitsResultKeySelector
-  implements KeySelector<org.apache.flink.graph.library.linkanalysis.HITS.Result<GradoopId>,
-  GradoopId> {
+public class HitsResultKeySelector<K> implements KeySelector<HITS.Result<K>, K> {
 
   /**
-   * Selects GradoopId as key
+   * Selects the vertex id as key
    *
-   * @param gradoopIdResult HITS Algorithm result
-   * @return selects gradoop id
+   * @param result HITS Algorithm result
+   * @return selects vertex id
    * @throws Exception
    */
   @Override
-  public GradoopId getKey(HITS.Result<GradoopId> gradoopIdResult) throws Exception {
-    return gradoopIdResult.getVertexId0();
+  public K getKey(HITS.Result<K> result) throws Exception {
+    return result.getVertexId0();
   }
 }
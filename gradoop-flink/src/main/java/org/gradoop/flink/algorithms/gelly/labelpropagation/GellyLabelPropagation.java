@@ -18,7 +18,6 @@ package org.gradoop.flink.algorithms.gelly.labelpropagation;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 /**
@@ -37,10 +36,10 @@ public class GellyLabelPropagation extends LabelPropagation {
   }
 
   @Override
-  protected DataSet<org.apache.flink.graph.Vertex<GradoopId, PropertyValue>>
+  protected <K> DataSet<org.apache.flink.graph.Vertex<K, PropertyValue>>
   executeInternal(
-    Graph<GradoopId, PropertyValue, NullValue> gellyGraph) {
+    Graph<K, PropertyValue, NullValue> gellyGraph) {
     return new org.apache.flink.graph.library.LabelPropagation
-      <GradoopId, PropertyValue, NullValue>(getMaxIterations()).run(gellyGraph);
+      <K, PropertyValue, NullValue>(getMaxIterations()).run(gellyGraph);
   }
 }
@@ -17,12 +17,14 @@ package org.gradoop.flink.algorithms.gelly.labelpropagation;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
-import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.TranslatingGradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexJoin;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithPropertyValue;
 import org.gradoop.flink.algorithms.gelly.labelpropagation.functions.LPVertexJoin;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
@@ -43,7 +45,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  *
  * The computation will terminate if no new values are assigned.
  */
-public abstract class LabelPropagation extends GradoopGellyAlgorithm<PropertyValue, NullValue> {
+public abstract class LabelPropagation extends TranslatingGradoopGellyAlgorithm<PropertyValue, NullValue> {
 
   /**
    * Counter to define maximum number of iterations for the algorithm
@@ -76,7 +78,22 @@ public abstract class LabelPropagation extends GradoopGellyAlgorithm<PropertyVal
     DataSet<Vertex> labeledVertices = executeInternal(graph)
       .join(currentGraph.getVertices())
       .where(0).equalTo(new Id<>())
-      .with(new LPVertexJoin(propertyKey));
+      .with(new LPVertexJoin<>(propertyKey));
+
+    // return labeled graph
+    return currentGraph.getConfig().getLogicalGraphFactory()
+      .fromDataSets(labeledVertices, currentGraph.getEdges());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph executeInGellyWithLongIds(Graph<LongValue, PropertyValue, NullValue> graph) {
+    DataSet<Vertex> labeledVertices = executeInternal(graph)
+      .join(indexedVertices)
+      .where(0).equalTo(0)
+      .with(new IndexedVertexJoin<>(new LPVertexJoin<>(propertyKey)));
 
     // return labeled graph
     return currentGraph.getConfig().getLogicalGraphFactory()
@@ -87,10 +104,11 @@ public abstract class LabelPropagation extends GradoopGellyAlgorithm<PropertyVal
    * Executes the label propagation and returns the updated vertex dataset.
    *
    * @param gellyGraph gelly graph with initialized vertices
+   * @param <K> vertex id type
    * @return updated vertex set
    */
-  protected abstract DataSet<org.apache.flink.graph.Vertex<GradoopId, PropertyValue>>
-  executeInternal(Graph<GradoopId, PropertyValue, NullValue> gellyGraph);
+  protected abstract <K> DataSet<org.apache.flink.graph.Vertex<K, PropertyValue>>
+  executeInternal(Graph<K, PropertyValue, NullValue> gellyGraph);
 
   /**
    * Returns the maximum number of iterations the algorithm is executed.
@@ -17,11 +17,13 @@ package org.gradoop.flink.algorithms.gelly.pagerank;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.TranslatingGradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexJoin;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
 import org.gradoop.flink.algorithms.gelly.pagerank.functions.PageRankToAttribute;
 import org.gradoop.flink.algorithms.gelly.pagerank.functions.PageRankResultKey;
@@ -31,7 +33,7 @@ import org.gradoop.flink.model.impl.functions.epgm.Id;
 /**
  * A gradoop operator wrapping {@link org.apache.flink.graph.library.linkanalysis.PageRank}.
  */
-public class PageRank extends GradoopGellyAlgorithm<NullValue, NullValue> {
+public class PageRank extends TranslatingGradoopGellyAlgorithm<NullValue, NullValue> {
 
   /**
    * Property key to store the page rank in.
@@ -90,16 +92,39 @@ public class PageRank extends GradoopGellyAlgorithm<NullValue, NullValue> {
   @Override
   public LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
     throws Exception {
-    DataSet<Vertex> newVertices =
-      new org.apache.flink.graph.library.linkanalysis.PageRank<GradoopId, NullValue, NullValue>(
-        dampingFactor, iterations).setIncludeZeroDegreeVertices(includeZeroDegrees).run(graph)
+    DataSet<Vertex> newVertices = runPageRank(graph)
       .join(currentGraph.getVertices())
-      .where(new PageRankResultKey()).equalTo(new Id<>())
-      .with(new PageRankToAttribute(propertyKey));
+      .where(new PageRankResultKey<>()).equalTo(new Id<>())
+      .with(new PageRankToAttribute<>(propertyKey));
     return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(
       currentGraph.getGraphHead(), newVertices, currentGraph.getEdges());
   }
 
+  @Override
+  public LogicalGraph executeInGellyWithLongIds(Graph<LongValue, NullValue, NullValue> graph)
+    throws Exception {
+    DataSet<Vertex> newVertices = runPageRank(graph)
+      .join(indexedVertices)
+      .where(new PageRankResultKey<>()).equalTo(0)
+      .with(new IndexedVertexJoin<>(new PageRankToAttribute<>(propertyKey)));
+    return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(
+      currentGraph.getGraphHead(), newVertices, currentGraph.getEdges());
+  }
+
+  /**
+   * Runs the Gelly Page Rank on the given graph.
+   *
+   * @param graph The Gelly graph.
+   * @param <K> vertex id type
+   * @return Page Rank result per vertex
+   * @throws Exception in case of failure
+   */
+  private <K> DataSet<org.apache.flink.graph.library.linkanalysis.PageRank.Result<K>> runPageRank(
+    Graph<K, NullValue, NullValue> graph) throws Exception {
+    return new org.apache.flink.graph.library.linkanalysis.PageRank<K, NullValue, NullValue>(
+      dampingFactor, iterations).setIncludeZeroDegreeVertices(includeZeroDegrees).run(graph);
+  }
+
   /**
    * {@inheritDoc}
    */
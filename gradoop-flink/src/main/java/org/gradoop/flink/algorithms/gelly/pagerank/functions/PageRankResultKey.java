@@ -17,15 +17,16 @@ package org.gradoop.flink.algorithms.gelly.pagerank.functions;
 
 import org.apache.flink.api.java.functions.KeySelector;
 import org.apache.flink.graph.library.linkanalysis.PageRank;
-import org.gradoop.common.model.impl.id.GradoopId;
 
 /**
  * Select the vertex id of an Page Rank result.
+ *
+ * @param <K> vertex id type
  */
-public class PageRankResultKey implements KeySelector<PageRank.Result<GradoopId>, GradoopId> {
+public class PageRankResultKey<K> implements KeySelector<PageRank.Result<K>, K> {
 
   @Override
-  public GradoopId getKey(PageRank.Result<GradoopId> result) throws Exception {
+  public K getKey(PageRank.Result<K> result) throws Exception {
     return result.getVertexId0();
   }
 }
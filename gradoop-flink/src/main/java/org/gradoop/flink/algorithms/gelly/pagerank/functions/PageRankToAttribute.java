@@ -18,15 +18,16 @@ package org.gradoop.flink.algorithms.gelly.pagerank.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.graph.library.linkanalysis.PageRank;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 /**
  * Stores the page rank result from the left as a Property in in the right.
+ *
+ * @param <K> vertex id type
  */
-public class PageRankToAttribute
-  implements JoinFunction<PageRank.Result<GradoopId>, Vertex, Vertex> {
+public class PageRankToAttribute<K>
+  implements JoinFunction<PageRank.Result<K>, Vertex, Vertex> {
 
   /**
    * Property to store the page rank in.
@@ -43,7 +44,7 @@ public class PageRankToAttribute
   }
 
   @Override
-  public Vertex join(PageRank.Result result, Vertex vertex) {
+  public Vertex join(PageRank.Result<K> result, Vertex vertex) {
     vertex.setProperty(pageRankPropery, PropertyValue.create(result.getPageRankScore().getValue()));
     return vertex;
   }
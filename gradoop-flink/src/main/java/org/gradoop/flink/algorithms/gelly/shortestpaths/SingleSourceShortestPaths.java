@@ -16,13 +16,19 @@
 package org.gradoop.flink.algorithms.gelly.shortestpaths;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.TranslatingGradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithDouble;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexJoin;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
+import org.gradoop.flink.algorithms.gelly.shortestpaths.functions.IsSourceVertex;
+import org.gradoop.flink.algorithms.gelly.shortestpaths.functions.RequireSourceVertex;
+import org.gradoop.flink.algorithms.gelly.shortestpaths.functions.ReserveSourceVertexId;
 import org.gradoop.flink.algorithms.gelly.shortestpaths.functions.SingleSourceShortestPathsAttribute;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
@@ -31,7 +37,7 @@ import org.gradoop.flink.model.impl.functions.epgm.Id;
  * A gradoop operator wrapping {@link org.apache.flink.graph.library.SingleSourceShortestPaths}.
  *
  */
-public class SingleSourceShortestPaths extends GradoopGellyAlgorithm<NullValue, Double> {
+public class SingleSourceShortestPaths extends TranslatingGradoopGellyAlgorithm<NullValue, Double> {
 
   /**
    * ID of the source vertex
@@ -82,9 +88,50 @@ public class SingleSourceShortestPaths extends GradoopGellyAlgorithm<NullValue,
       .join(currentGraph.getVertices())
       .where(0)
       .equalTo(new Id<>())
-      .with(new SingleSourceShortestPathsAttribute(propertyKeyVertex));
-    return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
-      currentGraph.getEdges());
+      .with(new SingleSourceShortestPathsAttribute<>(propertyKeyVertex));
+    return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(
+      requireSourceVertex(newVertices), currentGraph.getEdges());
+  }
+
+  @Override
+  public LogicalGraph executeInGellyWithLongIds(Graph<LongValue, NullValue, Double> graph)
+    throws Exception {
+
+    DataSet<Vertex> newVertices = new org.apache.flink.graph.library.SingleSourceShortestPaths
+      <LongValue, NullValue>(new LongValue(ReserveSourceVertexId.RESERVED_ID), iterations)
+      .run(graph)
+      .join(indexedVertices)
+      .where(0)
+      .equalTo(0)
+      .with(new IndexedVertexJoin<>(new SingleSourceShortestPathsAttribute<>(propertyKeyVertex)));
+    return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(
+      requireSourceVertex(newVertices), currentGraph.getEdges());
+  }
+
+  /**
+   * Lets the execution fail if the source vertex is not contained in the current graph. Without
+   * it, no vertex would be reachable and the result would silently contain no distances.
+   *
+   * @param vertices result vertices
+   * @return the same vertices, checked for the presence of the source vertex
+   */
+  private DataSet<Vertex> requireSourceVertex(DataSet<Vertex> vertices) {
+    return vertices
+      .map(new RequireSourceVertex<>(srcVertexId))
+      .withBroadcastSet(currentGraph.getVertices().filter(new IsSourceVertex(srcVertexId)),
+        RequireSourceVertex.SOURCE_VERTEX);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The source vertex is assigned a fixed identifier, as Gelly needs to know it in advance. If
+   * the source vertex is missing, the execution fails.
+   */
+  @Override
+  protected DataSet<Tuple2<LongValue, Vertex>> assignLongIds(DataSet<Vertex> vertices) {
+    return super.assignLongIds(vertices)
+      .map(new ReserveSourceVertexId(srcVertexId));
   }
 
   @Override
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.shortestpaths.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * Filters the source vertex of a single source shortest paths computation.
+ */
+public class IsSourceVertex implements FilterFunction<Vertex> {
+
+  /**
+   * Id of the source vertex.
+   */
+  private final GradoopId srcVertexId;
+
+  /**
+   * Constructor.
+   *
+   * @param srcVertexId id of the source vertex
+   */
+  public IsSourceVertex(GradoopId srcVertexId) {
+    this.srcVertexId = srcVertexId;
+  }
+
+  @Override
+  public boolean filter(Vertex vertex) {
+    return vertex.getId().equals(srcVertexId);
+  }
+}
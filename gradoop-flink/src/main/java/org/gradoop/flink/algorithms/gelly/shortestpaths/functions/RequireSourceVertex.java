@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.shortestpaths.functions;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Forwards all elements, but fails if the source vertex of a single source shortest paths
+ * computation is not part of the input graph. The source vertex is expected as broadcast set
+ * {@link #SOURCE_VERTEX}, which is empty if the vertex is missing.
+ *
+ * @param <T> element type
+ */
+public class RequireSourceVertex<T> extends RichMapFunction<T, T> {
+
+  /**
+   * Broadcast set name of the source vertex.
+   */
+  public static final String SOURCE_VERTEX = "sourceVertex";
+
+  /**
+   * Id of the source vertex.
+   */
+  private final GradoopId srcVertexId;
+
+  /**
+   * Constructor.
+   *
+   * @param srcVertexId id of the source vertex
+   */
+  public RequireSourceVertex(GradoopId srcVertexId) {
+    this.srcVertexId = srcVertexId;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    if (getRuntimeContext().getBroadcastVariable(SOURCE_VERTEX).isEmpty()) {
+      throw new IllegalArgumentException(
+        "Source vertex " + srcVertexId + " is not contained in the graph.");
+    }
+  }
+
+  @Override
+  public T map(T element) {
+    return element;
+  }
+}
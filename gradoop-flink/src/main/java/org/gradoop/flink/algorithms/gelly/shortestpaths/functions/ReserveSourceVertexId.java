@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.shortestpaths.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * Assigns the reserved long identifier {@link #RESERVED_ID} to the source vertex. All other
+ * (non-negative) identifiers are shifted by one to stay unique. If the source vertex is missing,
+ * no vertex is assigned {@link #RESERVED_ID}, which is why the result has to be checked with
+ * {@link RequireSourceVertex}.
+ */
+@FunctionAnnotation.ForwardedFields("f1")
+public class ReserveSourceVertexId
+  implements MapFunction<Tuple2<LongValue, Vertex>, Tuple2<LongValue, Vertex>> {
+
+  /**
+   * Long identifier reserved for the source vertex.
+   */
+  public static final long RESERVED_ID = 0L;
+
+  /**
+   * Id of the source vertex.
+   */
+  private final GradoopId srcVertexId;
+
+  /**
+   * Constructor.
+   *
+   * @param srcVertexId id of the source vertex
+   */
+  public ReserveSourceVertexId(GradoopId srcVertexId) {
+    this.srcVertexId = srcVertexId;
+  }
+
+  @Override
+  public Tuple2<LongValue, Vertex> map(Tuple2<LongValue, Vertex> indexedVertex) {
+    if (indexedVertex.f1.getId().equals(srcVertexId)) {
+      indexedVertex.f0.setValue(RESERVED_ID);
+    } else {
+      indexedVertex.f0.setValue(indexedVertex.f0.getValue() + 1);
+    }
+    return indexedVertex;
+  }
+}
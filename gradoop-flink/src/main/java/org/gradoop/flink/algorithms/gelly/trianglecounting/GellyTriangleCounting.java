@@ -18,11 +18,12 @@ package org.gradoop.flink.algorithms.gelly.trianglecounting;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.properties.PropertyValue;
-import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.TranslatingGradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.WritePropertyToGraphHeadMap;
@@ -35,7 +36,7 @@ import org.gradoop.flink.model.impl.epgm.LogicalGraph;
  * Returns the initial {@code LogicalGraph} with the number of triangles written as property to the
  * {@code GraphHead}. The value is accessed via the property key in {@link #PROPERTY_KEY_TRIANGLES}.
  */
-public class GellyTriangleCounting extends GradoopGellyAlgorithm<NullValue, NullValue> {
+public class GellyTriangleCounting extends TranslatingGradoopGellyAlgorithm<NullValue, NullValue> {
 
   /**
    * Property key to access the value for counted triangles in the graph head
@@ -44,7 +45,7 @@ public class GellyTriangleCounting extends GradoopGellyAlgorithm<NullValue, Null
 
   /**
    * Creates an instance of GellyTriangleCounting.
-   * Calls constructor of super class {@link GradoopGellyAlgorithm}.
+   * Calls constructor of super class {@link TranslatingGradoopGellyAlgorithm}.
    */
   public GellyTriangleCounting() {
     super(new VertexToGellyVertexWithNullValue(),
@@ -54,8 +55,27 @@ public class GellyTriangleCounting extends GradoopGellyAlgorithm<NullValue, Null
   @Override
   public LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
     throws Exception {
-    DataSet<Tuple3<GradoopId, GradoopId, GradoopId>> triangles =
-      new org.apache.flink.graph.library.TriangleEnumerator<GradoopId, NullValue, NullValue>()
+    return writeTriangleCount(graph);
+  }
+
+  @Override
+  public LogicalGraph executeInGellyWithLongIds(Graph<LongValue, NullValue, NullValue> graph)
+    throws Exception {
+    return writeTriangleCount(graph);
+  }
+
+  /**
+   * Enumerates the triangles of the given graph and writes their number to the graph head.
+   *
+   * @param graph The Gelly graph.
+   * @param <K> vertex id type
+   * @return The Gradoop graph with the triangle count written to the graph head.
+   * @throws Exception in case of failure
+   */
+  private <K extends Comparable<K>> LogicalGraph writeTriangleCount(
+    Graph<K, NullValue, NullValue> graph) throws Exception {
+    DataSet<Tuple3<K, K, K>> triangles =
+      new org.apache.flink.graph.library.TriangleEnumerator<K, NullValue, NullValue>()
       .run(graph);
 
     DataSet<GraphHead> resultHead = currentGraph.getGraphHead()
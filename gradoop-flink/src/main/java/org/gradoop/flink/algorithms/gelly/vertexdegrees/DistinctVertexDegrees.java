@@ -17,11 +17,14 @@ package org.gradoop.flink.algorithms.gelly.vertexdegrees;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.TranslatingGradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexJoin;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
 import org.gradoop.flink.algorithms.gelly.vertexdegrees.functions.DistinctVertexDegreesToAttribute;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
@@ -34,7 +37,7 @@ import org.gradoop.flink.model.impl.functions.epgm.Id;
  * Note: This Gelly implementation count loops between edges like (v1) -> (v2),
  * (v2) -> (v1) as one.
  */
-public class DistinctVertexDegrees extends GradoopGellyAlgorithm<NullValue, NullValue> {
+public class DistinctVertexDegrees extends TranslatingGradoopGellyAlgorithm<NullValue, NullValue> {
 
   /**
    * Property key to store the sum vertex degree in.
@@ -87,19 +90,43 @@ public class DistinctVertexDegrees extends GradoopGellyAlgorithm<NullValue, Null
   @Override
   public LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
     throws Exception {
-    DataSet<Vertex> newVertices =
-      new org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees<GradoopId, NullValue,
-      NullValue>()
-      .setIncludeZeroDegreeVertices(includeZeroDegreeVertices)
-      .run(graph)
+    DataSet<Vertex> newVertices = computeDegrees(graph)
       .join(currentGraph.getVertices())
       .where(0).equalTo(new Id<>())
-      .with(new DistinctVertexDegreesToAttribute(propertyKey, propertyKeyIn, propertyKeyOut));
+      .with(new DistinctVertexDegreesToAttribute<>(propertyKey, propertyKeyIn, propertyKeyOut));
+
+    return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
+      currentGraph.getEdges());
+  }
+
+  @Override
+  public LogicalGraph executeInGellyWithLongIds(Graph<LongValue, NullValue, NullValue> graph)
+    throws Exception {
+    DataSet<Vertex> newVertices = computeDegrees(graph)
+      .join(indexedVertices)
+      .where(0).equalTo(0)
+      .with(new IndexedVertexJoin<>(
+        new DistinctVertexDegreesToAttribute<>(propertyKey, propertyKeyIn, propertyKeyOut)));
 
     return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
       currentGraph.getEdges());
   }
 
+  /**
+   * Computes the in-, out- and overall degree of each vertex.
+   *
+   * @param graph The Gelly graph.
+   * @param <K> vertex id type
+   * @return vertices with their degrees as value
+   * @throws Exception in case of failure
+   */
+  private <K> DataSet<org.apache.flink.graph.Vertex<K, VertexDegrees.Degrees>> computeDegrees(
+    Graph<K, NullValue, NullValue> graph) throws Exception {
+    return new VertexDegrees<K, NullValue, NullValue>()
+      .setIncludeZeroDegreeVertices(includeZeroDegreeVertices)
+      .run(graph);
+  }
+
   @Override
   public String getName() {
     return DistinctVertexDegrees.class.getName();
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.io.TypeSerializerOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.core.fs.FileSystem.WriteMode;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.csv.CSVBase;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.columnar.functions.EdgesToColumnBlocks;
+import org.gradoop.flink.io.impl.csv.columnar.functions.ElementsToColumnBlocks;
+import org.gradoop.flink.io.impl.csv.columnar.functions.GraphHeadsToColumnBlocks;
+import org.gradoop.flink.io.impl.csv.columnar.functions.VerticesToColumnBlocks;
+import org.gradoop.flink.io.impl.csv.columnar.tuples.ColumnBlock;
+import org.gradoop.flink.io.impl.csv.metadata.MetaData;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+
+/**
+ * A graph data sink for a columnar binary format. The meta data is written as in the CSV format.
+ * Elements are grouped by label into blocks in which property values are stored column-wise
+ * according to the meta data, without property keys and per-value type information.
+ */
+public class ColumnarCSVDataSink extends CSVBase implements DataSink {
+  /**
+   * Path to meta data file that is used to write the output.
+   */
+  private final String metaDataPath;
+  /**
+   * Maximum number of elements in a single column block.
+   */
+  private final int blockSize;
+
+  /**
+   * Creates a new columnar data sink. Computes the meta data based on the given graph.
+   *
+   * @param path directory to write to
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarCSVDataSink(String path, GradoopFlinkConfig config) {
+    this(path, null, config);
+  }
+
+  /**
+   * Creates a new columnar data sink. Uses the specified meta data to write the output.
+   *
+   * @param path directory to write to
+   * @param metaDataPath path to meta data CSV file
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarCSVDataSink(String path, String metaDataPath, GradoopFlinkConfig config) {
+    this(path, metaDataPath, ElementsToColumnBlocks.DEFAULT_BLOCK_SIZE, config);
+  }
+
+  /**
+   * Creates a new columnar data sink. Uses the specified meta data to write the output.
+   *
+   * @param path directory to write to
+   * @param metaDataPath path to meta data CSV file
+   * @param blockSize maximum number of elements in a single column block
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarCSVDataSink(String path, String metaDataPath, int blockSize,
+    GradoopFlinkConfig config) {
+    super(path, config);
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+    }
+    this.metaDataPath = metaDataPath;
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(logicalGraph.getConfig().getGraphCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    WriteMode writeMode = overwrite ? WriteMode.OVERWRITE : WriteMode.NO_OVERWRITE;
+
+    DataSet<Tuple3<String, String, String>> metaData;
+    if (!reuseMetadata()) {
+      metaData = createMetaData(graphCollection);
+    } else {
+      metaData = MetaData.fromFile(metaDataPath, getConfig());
+    }
+
+    DataSet<ColumnBlock> graphHeadBlocks = graphCollection.getGraphHeads()
+      .mapPartition(new GraphHeadsToColumnBlocks(blockSize))
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    DataSet<ColumnBlock> vertexBlocks = graphCollection.getVertices()
+      .mapPartition(new VerticesToColumnBlocks(blockSize))
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    DataSet<ColumnBlock> edgeBlocks = graphCollection.getEdges()
+      .mapPartition(new EdgesToColumnBlocks(blockSize))
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    if (!getMetaDataPath().equals(metaDataPath) || !reuseMetadata()) {
+      metaData.writeAsCsv(getMetaDataPath(), CSVConstants.ROW_DELIMITER,
+        CSVConstants.TOKEN_DELIMITER, writeMode).setParallelism(1);
+    }
+
+    graphHeadBlocks.write(createOutputFormat(), getGraphHeadPath(), writeMode);
+    vertexBlocks.write(createOutputFormat(), getVertexPath(), writeMode);
+    edgeBlocks.write(createOutputFormat(), getEdgePath(), writeMode);
+  }
+
+  /**
+   * Creates the binary output format for column blocks.
+   *
+   * @return output format
+   */
+  private FileOutputFormat<ColumnBlock> createOutputFormat() {
+    return new TypeSerializerOutputFormat<>();
+  }
+
+  /**
+   * Returns true, if the meta data shall be reused.
+   *
+   * @return true, iff reuse is possible
+   */
+  private boolean reuseMetadata() {
+    return this.metaDataPath != null && !this.metaDataPath.isEmpty();
+  }
+}
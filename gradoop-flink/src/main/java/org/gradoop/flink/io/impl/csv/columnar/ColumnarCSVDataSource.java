@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.io.TypeSerializerInputFormat;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.csv.CSVBase;
+import org.gradoop.flink.io.impl.csv.columnar.functions.ColumnBlockToEdges;
+import org.gradoop.flink.io.impl.csv.columnar.functions.ColumnBlockToGraphHeads;
+import org.gradoop.flink.io.impl.csv.columnar.functions.ColumnBlockToVertices;
+import org.gradoop.flink.io.impl.csv.columnar.tuples.ColumnBlock;
+import org.gradoop.flink.io.impl.csv.metadata.MetaData;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * A graph data source for the columnar binary format written by {@link ColumnarCSVDataSink}.
+ */
+public class ColumnarCSVDataSource extends CSVBase implements DataSource {
+
+  /**
+   * Creates a new columnar data source.
+   *
+   * @param path path to the directory containing the columnar files
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarCSVDataSource(String path, GradoopFlinkConfig config) {
+    super(path, config);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * Graph heads will be disposed at the moment. The following issue attempts to provide
+   * alternatives to keep graph heads: https://github.com/dbs-leipzig/gradoop/issues/974
+   */
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    DataSet<Tuple3<String, String, String>> metaData =
+      MetaData.fromFile(getMetaDataPath(), getConfig());
+
+    DataSet<GraphHead> graphHeads = readBlocks(getGraphHeadPath())
+      .flatMap(new ColumnBlockToGraphHeads(getConfig().getGraphHeadFactory()))
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    DataSet<Vertex> vertices = readBlocks(getVertexPath())
+      .flatMap(new ColumnBlockToVertices(getConfig().getVertexFactory()))
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    DataSet<Edge> edges = readBlocks(getEdgePath())
+      .flatMap(new ColumnBlockToEdges(getConfig().getEdgeFactory()))
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    return getConfig().getGraphCollectionFactory().fromDataSets(graphHeads, vertices, edges);
+  }
+
+  /**
+   * Reads the column blocks stored at the given path.
+   *
+   * @param path file or directory containing column blocks
+   * @return column blocks
+   */
+  private DataSet<ColumnBlock> readBlocks(String path) {
+    TypeSerializerInputFormat<ColumnBlock> inputFormat =
+      new TypeSerializerInputFormat<>(TypeInformation.of(ColumnBlock.class));
+    inputFormat.setFilePath(new Path(path));
+    return getConfig().getExecutionEnvironment().createInput(inputFormat);
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar.functions;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.csv.metadata.PropertyMetaData;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Decodes a block of typed columns created by {@link ColumnBlockEncoder} row by row.
+ */
+public class ColumnBlockDecoder {
+  /**
+   * Property meta data of the label, defines the property keys of the columns.
+   */
+  private final List<PropertyMetaData> schema;
+  /**
+   * Number of rows in the block.
+   */
+  private final int rowCount;
+  /**
+   * Cursors of the structure columns.
+   */
+  private final DataInputDeserializer[] structureColumns;
+  /**
+   * Cursors of the property value columns.
+   */
+  private final DataInputDeserializer[] valueColumns;
+  /**
+   * Rows that have a value in the respective property column.
+   */
+  private final BitSet[] presence;
+  /**
+   * Property type of each property column.
+   */
+  private final byte[] valueTypes;
+  /**
+   * Value size of each property column.
+   */
+  private final int[] valueSizes;
+  /**
+   * Index of the next row.
+   */
+  private int row;
+
+  /**
+   * Constructor.
+   *
+   * @param block encoded block
+   * @param schema property meta data of the label
+   * @throws IOException if the block does not match the schema
+   */
+  public ColumnBlockDecoder(byte[] block, List<PropertyMetaData> schema) throws IOException {
+    this.schema = schema;
+    DataInputDeserializer in = new DataInputDeserializer(block);
+    this.rowCount = in.readInt();
+
+    int structureColumnCount = in.readInt();
+    this.structureColumns = new DataInputDeserializer[structureColumnCount];
+    int offset = 2 * Integer.BYTES;
+    for (int i = 0; i < structureColumnCount; i++) {
+      int length = in.readInt();
+      offset += Integer.BYTES;
+      structureColumns[i] = new DataInputDeserializer(block, offset, length);
+      in.skipBytesToRead(length);
+      offset += length;
+    }
+
+    int valueColumnCount = in.readInt();
+    offset += Integer.BYTES;
+    if (valueColumnCount != schema.size()) {
+      throw new IOException(String.format(
+        "Block contains %d property columns but meta data defines %d properties",
+        valueColumnCount, schema.size()));
+    }
+    this.valueColumns = new DataInputDeserializer[valueColumnCount];
+    this.presence = new BitSet[valueColumnCount];
+    this.valueTypes = new byte[valueColumnCount];
+    this.valueSizes = new int[valueColumnCount];
+    for (int i = 0; i < valueColumnCount; i++) {
+      int length = in.readInt();
+      offset += Integer.BYTES;
+      valueTypes[i] = in.readByte();
+      valueSizes[i] = in.readInt();
+      byte[] bitmap = new byte[in.readInt()];
+      in.readFully(bitmap);
+      presence[i] = BitSet.valueOf(bitmap);
+      int header = Byte.BYTES + 2 * Integer.BYTES + bitmap.length;
+      valueColumns[i] = new DataInputDeserializer(block, offset + header, length - header);
+      in.skipBytesToRead(length - header);
+      offset += length;
+    }
+  }
+
+  /**
+   * Returns the number of rows in the block.
+   *
+   * @return number of rows
+   */
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Returns the structure column with the given index. Element specific values of the current
+   * row have to be read from these columns before calling {@link #readProperties()}.
+   *
+   * @param index column index
+   * @return column input
+   */
+  public DataInputView getStructureColumn(int index) {
+    return structureColumns[index];
+  }
+
+  /**
+   * Reads the properties of the current row and moves to the next row.
+   *
+   * @return properties of the current row
+   * @throws IOException on failure
+   */
+  public Properties readProperties() throws IOException {
+    Properties properties = Properties.createWithCapacity(schema.size());
+    for (int i = 0; i < valueColumns.length; i++) {
+      if (presence[i].get(row)) {
+        int length = valueSizes[i] == ColumnBlockEncoder.VARIABLE_SIZE ?
+          valueColumns[i].readInt() : valueSizes[i];
+        byte[] rawBytes = new byte[PropertyValue.OFFSET + length];
+        rawBytes[0] = valueTypes[i];
+        valueColumns[i].readFully(rawBytes, PropertyValue.OFFSET, length);
+        properties.set(schema.get(i).getKey(), PropertyValue.fromRawBytes(rawBytes));
+      }
+    }
+    row++;
+    return properties;
+  }
+}
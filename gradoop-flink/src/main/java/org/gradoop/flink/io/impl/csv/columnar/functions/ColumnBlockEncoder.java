@@ -0,0 +1,234 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar.functions;
+
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
+import org.gradoop.flink.io.impl.csv.metadata.PropertyMetaData;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Encodes elements sharing the same label into a block of typed columns.
+ *
+ * The property columns follow the order of the {@link PropertyMetaData} of the label. Property
+ * keys are therefore encoded by their position in the schema and the property type is stored once
+ * per column instead of once per value.
+ *
+ * Block layout:
+ *
+ * <pre>
+ * int                  : number of rows
+ * int                  : number of structure columns (id, graph ids, source id, ...)
+ * per structure column : int length, column bytes
+ * int                  : number of property columns
+ * per property column  : int length, byte type, int value size (-1 if variable),
+ *                        int bitmap length, presence bitmap, values of present rows
+ * </pre>
+ *
+ * Values of variable size (e.g. strings) are prefixed by their length as {@code int}.
+ */
+public class ColumnBlockEncoder {
+  /**
+   * Value size used for types with a variable length.
+   */
+  static final int VARIABLE_SIZE = -1;
+  /**
+   * Initial buffer size of a single column.
+   */
+  private static final int INITIAL_COLUMN_SIZE = 1024;
+  /**
+   * Property meta data of the label, defines the property columns.
+   */
+  private final List<PropertyMetaData> schema;
+  /**
+   * Buffers for the structure columns.
+   */
+  private final DataOutputSerializer[] structureColumns;
+  /**
+   * Buffers for the property value columns.
+   */
+  private final DataOutputSerializer[] valueColumns;
+  /**
+   * Rows that have a value in the respective property column.
+   */
+  private final BitSet[] presence;
+  /**
+   * Property type of each property column.
+   */
+  private final byte[] valueTypes;
+  /**
+   * Value size of each property column.
+   */
+  private final int[] valueSizes;
+  /**
+   * Buffer to assemble the block.
+   */
+  private final DataOutputSerializer blockBuffer;
+  /**
+   * Number of rows in the current block.
+   */
+  private int rowCount;
+
+  /**
+   * Constructor.
+   *
+   * @param structureColumnCount number of element specific structure columns
+   * @param schema property meta data of the label
+   */
+  public ColumnBlockEncoder(int structureColumnCount, List<PropertyMetaData> schema) {
+    this.schema = schema;
+    this.structureColumns = new DataOutputSerializer[structureColumnCount];
+    for (int i = 0; i < structureColumnCount; i++) {
+      structureColumns[i] = new DataOutputSerializer(INITIAL_COLUMN_SIZE);
+    }
+    this.valueColumns = new DataOutputSerializer[schema.size()];
+    this.presence = new BitSet[schema.size()];
+    for (int i = 0; i < schema.size(); i++) {
+      valueColumns[i] = new DataOutputSerializer(INITIAL_COLUMN_SIZE);
+      presence[i] = new BitSet();
+    }
+    this.valueTypes = new byte[schema.size()];
+    this.valueSizes = new int[schema.size()];
+    this.blockBuffer = new DataOutputSerializer(INITIAL_COLUMN_SIZE);
+    reset();
+  }
+
+  /**
+   * Returns the structure column with the given index. Element specific values (e.g. the id)
+   * of the next row have to be written to these columns before calling {@link #addRow(Element)}.
+   *
+   * @param index column index
+   * @return column output
+   */
+  public DataOutputView getStructureColumn(int index) {
+    return structureColumns[index];
+  }
+
+  /**
+   * Adds the properties of the given element as a new row. Properties which are not part of the
+   * schema or whose type does not match the schema are skipped.
+   *
+   * @param element EPGM element
+   * @throws IOException on failure
+   */
+  public void addRow(Element element) throws IOException {
+    for (int i = 0; i < schema.size(); i++) {
+      PropertyMetaData propertyMetaData = schema.get(i);
+      PropertyValue value = element.getPropertyValue(propertyMetaData.getKey());
+      if (value != null &&
+        MetaDataParser.getTypeString(value).equals(propertyMetaData.getTypeString())) {
+        writeValue(i, value);
+      }
+    }
+    rowCount++;
+  }
+
+  /**
+   * Writes the value of the current row to the specified property column.
+   *
+   * @param column property column index
+   * @param value property value
+   * @throws IOException on failure
+   */
+  private void writeValue(int column, PropertyValue value) throws IOException {
+    byte[] rawBytes = value.getRawBytes();
+    int length = rawBytes.length - PropertyValue.OFFSET;
+    if (presence[column].isEmpty()) {
+      valueTypes[column] = rawBytes[0];
+      valueSizes[column] = hasVariableSize(value) ? VARIABLE_SIZE : length;
+    }
+    if (valueSizes[column] == VARIABLE_SIZE) {
+      valueColumns[column].writeInt(length);
+    }
+    valueColumns[column].write(rawBytes, PropertyValue.OFFSET, length);
+    presence[column].set(rowCount);
+  }
+
+  /**
+   * Returns the number of rows in the current block.
+   *
+   * @return number of rows
+   */
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Assembles the current block and resets the encoder.
+   *
+   * @return encoded block
+   * @throws IOException on failure
+   */
+  public byte[] encode() throws IOException {
+    blockBuffer.clear();
+    blockBuffer.writeInt(rowCount);
+
+    blockBuffer.writeInt(structureColumns.length);
+    for (DataOutputSerializer column : structureColumns) {
+      blockBuffer.writeInt(column.length());
+      blockBuffer.write(column.getSharedBuffer(), 0, column.length());
+    }
+
+    blockBuffer.writeInt(valueColumns.length);
+    for (int i = 0; i < valueColumns.length; i++) {
+      byte[] bitmap = presence[i].toByteArray();
+      int length = Byte.BYTES + 2 * Integer.BYTES + bitmap.length + valueColumns[i].length();
+      blockBuffer.writeInt(length);
+      blockBuffer.writeByte(valueTypes[i]);
+      blockBuffer.writeInt(valueSizes[i]);
+      blockBuffer.writeInt(bitmap.length);
+      blockBuffer.write(bitmap);
+      blockBuffer.write(valueColumns[i].getSharedBuffer(), 0, valueColumns[i].length());
+    }
+
+    byte[] block = blockBuffer.getCopyOfBuffer();
+    reset();
+    return block;
+  }
+
+  /**
+   * Clears all columns.
+   */
+  private void reset() {
+    rowCount = 0;
+    for (DataOutputSerializer column : structureColumns) {
+      column.clear();
+    }
+    for (int i = 0; i < valueColumns.length; i++) {
+      valueColumns[i].clear();
+      presence[i].clear();
+      valueTypes[i] = PropertyValue.TYPE_NULL;
+      valueSizes[i] = 0;
+    }
+  }
+
+  /**
+   * Checks if the byte representation of the given value has a variable length.
+   *
+   * @param value property value
+   * @return true, iff the length of values of that type may differ
+   */
+  private static boolean hasVariableSize(PropertyValue value) {
+    return value.isString() || value.isBigDecimal() || value.isMap() || value.isList() ||
+      value.isSet();
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar.functions;
+
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+
+import java.io.IOException;
+
+/**
+ * Creates {@link Edge} instances from a column block.
+ */
+public class ColumnBlockToEdges extends ColumnBlockToElements<Edge> {
+  /**
+   * Used to instantiate the edge.
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
+  /**
+   * Constructor.
+   *
+   * @param epgmEdgeFactory EPGM edge factory
+   */
+  public ColumnBlockToEdges(EPGMEdgeFactory<Edge> epgmEdgeFactory) {
+    super(CSVConstants.EDGE_TYPE);
+    this.edgeFactory = epgmEdgeFactory;
+  }
+
+  @Override
+  Edge readElement(String label, ColumnBlockDecoder decoder) throws IOException {
+    return edgeFactory.initEdge(
+      readId(decoder.getStructureColumn(0)),
+      label,
+      readId(decoder.getStructureColumn(2)),
+      readId(decoder.getStructureColumn(3)),
+      decoder.readProperties(),
+      readGraphIds(decoder.getStructureColumn(1)));
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.io.impl.csv.CSVDataSource;
+import org.gradoop.flink.io.impl.csv.columnar.tuples.ColumnBlock;
+import org.gradoop.flink.io.impl.csv.metadata.MetaData;
+import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
+
+import java.io.IOException;
+
+/**
+ * Base class for reading {@link Element}s from a {@link ColumnBlock}. Handles the
+ * {@link MetaData} which is required to map the property columns to their keys.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class ColumnBlockToElements<E extends Element>
+  extends RichFlatMapFunction<ColumnBlock, E> {
+  /**
+   * Element type used to look up the meta data.
+   */
+  private final String type;
+  /**
+   * Meta data that defines the property columns of each label.
+   */
+  private MetaData metaData;
+
+  /**
+   * Constructor.
+   *
+   * @param type element type (see {@link org.gradoop.flink.io.impl.csv.CSVConstants})
+   */
+  ColumnBlockToElements(String type) {
+    this.type = type;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    this.metaData = MetaDataParser.create(getRuntimeContext()
+      .getBroadcastVariable(CSVDataSource.BC_METADATA));
+  }
+
+  @Override
+  public void flatMap(ColumnBlock block, Collector<E> out) throws Exception {
+    ColumnBlockDecoder decoder = new ColumnBlockDecoder(block.getColumns(),
+      metaData.getPropertyMetaData(type, block.getLabel()));
+
+    for (int i = 0; i < decoder.getRowCount(); i++) {
+      out.collect(readElement(block.getLabel(), decoder));
+    }
+  }
+
+  /**
+   * Reads the next element from the structure columns and the properties of the decoder.
+   *
+   * @param label element label
+   * @param decoder column block decoder
+   * @return EPGM element
+   * @throws IOException on failure
+   */
+  abstract E readElement(String label, ColumnBlockDecoder decoder) throws IOException;
+
+  /**
+   * Reads a single id from the given column.
+   *
+   * @param column column input
+   * @return gradoop id
+   * @throws IOException on failure
+   */
+  static GradoopId readId(DataInputView column) throws IOException {
+    GradoopId id = new GradoopId();
+    id.read(column);
+    return id;
+  }
+
+  /**
+   * Reads a set of graph ids from the given column.
+   *
+   * @param column column input
+   * @return gradoop id set
+   * @throws IOException on failure
+   */
+  static GradoopIdSet readGraphIds(DataInputView column) throws IOException {
+    GradoopIdSet graphIds = new GradoopIdSet();
+    graphIds.read(column);
+    return graphIds;
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar.functions;
+
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+
+import java.io.IOException;
+
+/**
+ * Creates {@link Vertex} instances from a column block.
+ */
+public class ColumnBlockToVertices extends ColumnBlockToElements<Vertex> {
+  /**
+   * Used to instantiate the vertex.
+   */
+  private final EPGMVertexFactory<Vertex> vertexFactory;
+
+  /**
+   * Constructor.
+   *
+   * @param epgmVertexFactory EPGM vertex factory
+   */
+  public ColumnBlockToVertices(EPGMVertexFactory<Vertex> epgmVertexFactory) {
+    super(CSVConstants.VERTEX_TYPE);
+    this.vertexFactory = epgmVertexFactory;
+  }
+
+  @Override
+  Vertex readElement(String label, ColumnBlockDecoder decoder) throws IOException {
+    return vertexFactory.initVertex(
+      readId(decoder.getStructureColumn(0)),
+      label,
+      decoder.readProperties(),
+      readGraphIds(decoder.getStructureColumn(1)));
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar.functions;
+
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.flink.io.impl.csv.CSVDataSource;
+import org.gradoop.flink.io.impl.csv.columnar.tuples.ColumnBlock;
+import org.gradoop.flink.io.impl.csv.metadata.MetaData;
+import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base class to convert EPGM elements into {@link ColumnBlock}s. Elements of a partition are
+ * buffered per label and emitted as a block whenever the block size is reached.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class ElementsToColumnBlocks<E extends Element>
+  extends RichMapPartitionFunction<E, ColumnBlock> {
+  /**
+   * Default number of rows in a single block.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 4096;
+  /**
+   * Maximum number of rows in a single block.
+   */
+  private final int blockSize;
+  /**
+   * Element type used to look up the meta data.
+   */
+  private final String type;
+  /**
+   * Meta data that defines the property columns of each label.
+   */
+  private MetaData metaData;
+  /**
+   * Open encoders per label.
+   */
+  private Map<String, ColumnBlockEncoder> encoders;
+
+  /**
+   * Constructor.
+   *
+   * @param type element type (see {@link org.gradoop.flink.io.impl.csv.CSVConstants})
+   * @param blockSize maximum number of rows in a single block
+   */
+  ElementsToColumnBlocks(String type, int blockSize) {
+    this.type = type;
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    this.metaData = MetaDataParser.create(getRuntimeContext()
+      .getBroadcastVariable(CSVDataSource.BC_METADATA));
+    this.encoders = new HashMap<>();
+  }
+
+  @Override
+  public void mapPartition(Iterable<E> elements, Collector<ColumnBlock> out) throws Exception {
+    for (E element : elements) {
+      ColumnBlockEncoder encoder = encoders.computeIfAbsent(element.getLabel(),
+        label -> new ColumnBlockEncoder(getStructureColumnCount(),
+          metaData.getPropertyMetaData(type, label)));
+
+      writeStructure(element, encoder);
+      encoder.addRow(element);
+
+      if (encoder.getRowCount() == blockSize) {
+        out.collect(new ColumnBlock(element.getLabel(), encoder.encode()));
+      }
+    }
+    for (Map.Entry<String, ColumnBlockEncoder> entry : encoders.entrySet()) {
+      if (entry.getValue().getRowCount() > 0) {
+        out.collect(new ColumnBlock(entry.getKey(), entry.getValue().encode()));
+      }
+    }
+    encoders.clear();
+  }
+
+  /**
+   * Returns the number of element specific structure columns.
+   *
+   * @return number of structure columns
+   */
+  abstract int getStructureColumnCount();
+
+  /**
+   * Writes the element specific values (e.g. id) to the structure columns of the encoder.
+   *
+   * @param element EPGM element
+   * @param encoder column block encoder
+   * @throws IOException on failure
+   */
+  abstract void writeStructure(E element, ColumnBlockEncoder encoder) throws IOException;
+}
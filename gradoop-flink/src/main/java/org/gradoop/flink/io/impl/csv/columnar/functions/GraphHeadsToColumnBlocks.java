@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar.functions;
+
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+
+import java.io.IOException;
+
+/**
+ * Converts {@link GraphHead} instances into column blocks.
+ *
+ * Structure columns: graph id
+ */
+public class GraphHeadsToColumnBlocks extends ElementsToColumnBlocks<GraphHead> {
+
+  /**
+   * Constructor.
+   *
+   * @param blockSize maximum number of rows in a single block
+   */
+  public GraphHeadsToColumnBlocks(int blockSize) {
+    super(CSVConstants.GRAPH_TYPE, blockSize);
+  }
+
+  @Override
+  int getStructureColumnCount() {
+    return 1;
+  }
+
+  @Override
+  void writeStructure(GraphHead graphHead, ColumnBlockEncoder encoder) throws IOException {
+    graphHead.getId().write(encoder.getStructureColumn(0));
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar.functions;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+
+import java.io.IOException;
+
+/**
+ * Converts {@link Vertex} instances into column blocks.
+ *
+ * Structure columns: vertex id, graph ids
+ */
+public class VerticesToColumnBlocks extends ElementsToColumnBlocks<Vertex> {
+
+  /**
+   * Constructor.
+   *
+   * @param blockSize maximum number of rows in a single block
+   */
+  public VerticesToColumnBlocks(int blockSize) {
+    super(CSVConstants.VERTEX_TYPE, blockSize);
+  }
+
+  @Override
+  int getStructureColumnCount() {
+    return 2;
+  }
+
+  @Override
+  void writeStructure(Vertex vertex, ColumnBlockEncoder encoder) throws IOException {
+    vertex.getId().write(encoder.getStructureColumn(0));
+    vertex.getGraphIds().write(encoder.getStructureColumn(1));
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+
+/**
+ * Tuple representing a block of elements sharing the same label in the columnar format.
+ *
+ * f0: element label
+ * f1: encoded columns, see {@link org.gradoop.flink.io.impl.csv.columnar.functions.ColumnBlockEncoder}
+ */
+public class ColumnBlock extends Tuple2<String, byte[]> {
+
+  /**
+   * Default constructor.
+   */
+  public ColumnBlock() {
+  }
+
+  /**
+   * Creates a new column block.
+   *
+   * @param label element label
+   * @param columns encoded columns
+   */
+  public ColumnBlock(String label, byte[] columns) {
+    super(label, columns);
+  }
+
+  /**
+   * Returns the label of all elements in the block.
+   *
+   * @return element label
+   */
+  public String getLabel() {
+    return f0;
+  }
+
+  /**
+   * Sets the label of all elements in the block.
+   *
+   * @param label element label
+   */
+  public void setLabel(String label) {
+    f0 = label;
+  }
+
+  /**
+   * Returns the encoded columns.
+   *
+   * @return encoded columns
+   */
+  public byte[] getColumns() {
+    return f1;
+  }
+
+  /**
+   * Sets the encoded columns.
+   *
+   * @param columns encoded columns
+   */
+  public void setColumns(byte[] columns) {
+    f1 = columns;
+  }
+}
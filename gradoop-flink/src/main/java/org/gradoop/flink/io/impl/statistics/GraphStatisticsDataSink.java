@@ -26,15 +26,19 @@ import org.gradoop.flink.model.impl.operators.statistics.DistinctSourceIdsByEdge
 import org.gradoop.flink.model.impl.operators.statistics.DistinctTargetIdsByEdgeLabel;
 import org.gradoop.flink.model.impl.operators.statistics.DistinctVertexProperties;
 import org.gradoop.flink.model.impl.operators.statistics.EdgeLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.EdgePropertyHistogramsByLabel;
 import org.gradoop.flink.model.impl.operators.statistics.IncomingVertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.OutgoingVertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.VertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.VertexLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.VertexPropertyHistogramsByLabel;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctEdgePropertiesByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctSourceVertexCountPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctTargetVertexCountPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctVertexPropertiesByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.EdgeCountPreparer;
+import org.gradoop.flink.model.impl.operators.statistics.writer.MostCommonPropertyValuesByLabelPreparer;
+import org.gradoop.flink.model.impl.operators.statistics.writer.PropertyHistogramsByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.SourceAndEdgeLabelDistributionPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.StatisticWriter;
 import org.gradoop.flink.model.impl.operators.statistics.writer.TargetAndEdgeLabelDistributionPreparer;
@@ -134,6 +138,26 @@ public class GraphStatisticsDataSink implements DataSink {
         .execute(logicalGraph),
         appendSeparator(this.path) +
         GraphStatisticsReader.OUTGOING_VERTEX_DEGREE_DISTRIBUTION);
+    StatisticWriter.writeCSV(new MostCommonPropertyValuesByLabelPreparer(
+        new VertexPropertyHistogramsByLabel())
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_VERTEX_PROPERTY_MOST_COMMON_VALUES_BY_LABEL);
+    StatisticWriter.writeCSV(new PropertyHistogramsByLabelPreparer(
+        new VertexPropertyHistogramsByLabel())
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL);
+    StatisticWriter.writeCSV(new MostCommonPropertyValuesByLabelPreparer(
+        new EdgePropertyHistogramsByLabel())
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_EDGE_PROPERTY_MOST_COMMON_VALUES_BY_LABEL);
+    StatisticWriter.writeCSV(new PropertyHistogramsByLabelPreparer(
+        new EdgePropertyHistogramsByLabel())
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL);
   }
 
   @Override
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary;
+
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * Base class for binary TLF data source and sink.
+ *
+ * A binary TLF dataset is a directory containing the encoded graph transactions
+ * ({@link BinaryTLFConstants#TRANSACTIONS_FILE}) and the label dictionary
+ * ({@link BinaryTLFConstants#DICTIONARY_FILE}).
+ */
+abstract class BinaryTLFBase {
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+  /**
+   * Directory to read/write binary TLF content to
+   */
+  private final String path;
+
+  /**
+   * Creates a new data source/sink. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param path binary tlf directory
+   * @param config Gradoop Flink configuration
+   */
+  BinaryTLFBase(String path, GradoopFlinkConfig config) {
+    if (config == null) {
+      throw new IllegalArgumentException("config must not be null");
+    }
+    if (path == null) {
+      throw new IllegalArgumentException("path must not be null");
+    }
+    this.path = path;
+    this.config = config;
+  }
+
+  public GradoopFlinkConfig getConfig() {
+    return config;
+  }
+
+  /**
+   * Returns the path of the encoded graph transactions.
+   *
+   * @return transactions path
+   */
+  String getTransactionsPath() {
+    return new Path(path, BinaryTLFConstants.TRANSACTIONS_FILE).toString();
+  }
+
+  /**
+   * Returns the path of the label dictionary.
+   *
+   * @return dictionary path
+   */
+  String getDictionaryPath() {
+    return new Path(path, BinaryTLFConstants.DICTIONARY_FILE).toString();
+  }
+}
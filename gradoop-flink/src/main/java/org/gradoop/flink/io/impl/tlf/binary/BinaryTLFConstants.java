@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary;
+
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+
+/**
+ * Constants needed for binary TLF input and output.
+ */
+public class BinaryTLFConstants {
+
+  /**
+   * String used to identify the label dictionary on broadcast.
+   */
+  public static final String LABEL_DICTIONARY = "labelDictionary";
+
+  /**
+   * File (or directory) containing the encoded graph transactions.
+   */
+  public static final String TRANSACTIONS_FILE = "transactions";
+
+  /**
+   * File (or directory) containing the label dictionary.
+   */
+  public static final String DICTIONARY_FILE = "dictionary";
+
+  /**
+   * Type of a dictionary entry (label id, label) as written to the dictionary file.
+   */
+  public static final TupleTypeInfo<Tuple2<Integer, String>> DICTIONARY_ENTRY_TYPE =
+    new TupleTypeInfo<>(BasicTypeInfo.INT_TYPE_INFO, BasicTypeInfo.STRING_TYPE_INFO);
+
+  /**
+   * Position of the graph label in an encoded transaction.
+   */
+  public static final int GRAPH_LABEL = 0;
+
+  /**
+   * Position of the vertex count in an encoded transaction.
+   */
+  public static final int VERTEX_COUNT = 1;
+}
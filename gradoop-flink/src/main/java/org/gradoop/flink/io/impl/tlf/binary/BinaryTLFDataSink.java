@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.io.TypeSerializerOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.FileSystem;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.tlf.binary.formats.BinaryTLFOutputFormat;
+import org.gradoop.flink.io.impl.tlf.binary.functions.DictionaryEntries;
+import org.gradoop.flink.io.impl.tlf.binary.functions.FrequencyDictionary;
+import org.gradoop.flink.io.impl.tlf.binary.functions.GraphTransactionEncoder;
+import org.gradoop.flink.io.impl.tlf.binary.functions.TransactionLabels;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Writes an EPGM representation into a binary TLF directory.
+ *
+ * Like TLF, the format stores the graph structure and labels only. All labels are replaced by
+ * ids of a frequency-ordered dictionary, each graph transaction is written as a sequence of
+ * variable-length integers (see {@link GraphTransactionEncoder}) which can optionally be compressed
+ * using Simple16. The transaction files are block-based and can be split by
+ * {@link BinaryTLFDataSource}.
+ */
+public class BinaryTLFDataSink extends BinaryTLFBase implements DataSink {
+
+  /**
+   * True, if transactions are Simple16 compressed.
+   */
+  private final boolean compress;
+
+  /**
+   * Creates a new data sink writing uncompressed transactions. Paths can be local (file://) or
+   * HDFS (hdfs://).
+   *
+   * @param path binary tlf directory
+   * @param config Gradoop Flink configuration
+   */
+  public BinaryTLFDataSink(String path, GradoopFlinkConfig config) {
+    this(path, false, config);
+  }
+
+  /**
+   * Creates a new data sink. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param path binary tlf directory
+   * @param compress true, if transactions are Simple16 compressed
+   * @param config Gradoop Flink configuration
+   */
+  public BinaryTLFDataSink(String path, boolean compress, GradoopFlinkConfig config) {
+    super(path, config);
+    this.compress = compress;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(logicalGraph.getConfig().getGraphCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    FileSystem.WriteMode writeMode =
+      overwrite ? FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE;
+
+    DataSet<GraphTransaction> transactions = graphCollection.getGraphTransactions();
+
+    DataSet<Map<String, Integer>> dictionary = transactions
+      .flatMap(new TransactionLabels())
+      .groupBy(0).sum(1)
+      .reduceGroup(new FrequencyDictionary());
+
+    dictionary
+      .flatMap(new DictionaryEntries())
+      .returns(BinaryTLFConstants.DICTIONARY_ENTRY_TYPE)
+      .write(new TypeSerializerOutputFormat<Tuple2<Integer, String>>(), getDictionaryPath(),
+        writeMode);
+
+    transactions
+      .map(new GraphTransactionEncoder())
+      .withBroadcastSet(dictionary, BinaryTLFConstants.LABEL_DICTIONARY)
+      .write(new BinaryTLFOutputFormat(compress), getTransactionsPath(), writeMode);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.io.TypeSerializerInputFormat;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.tlf.binary.formats.BinaryTLFInputFormat;
+import org.gradoop.flink.io.impl.tlf.binary.functions.GraphTransactionDecoder;
+import org.gradoop.flink.io.impl.tlf.functions.Dictionary;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.Map;
+
+/**
+ * Creates an EPGM instance from a binary TLF directory written by {@link BinaryTLFDataSink}.
+ * Transaction files are split at block boundaries and decoded in parallel.
+ */
+public class BinaryTLFDataSource extends BinaryTLFBase implements DataSource {
+
+  /**
+   * Creates a new data source. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param path binary tlf directory
+   * @param config Gradoop Flink configuration
+   */
+  public BinaryTLFDataSource(String path, GradoopFlinkConfig config) {
+    super(path, config);
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    return getConfig().getGraphCollectionFactory().fromTransactions(getGraphTransactions());
+  }
+
+  /**
+   * Reads the graph transactions without creating a graph collection.
+   *
+   * @return graph transactions
+   */
+  public DataSet<GraphTransaction> getGraphTransactions() {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    DataSet<Map<Integer, String>> dictionary = env
+      .readFile(new TypeSerializerInputFormat<>(BinaryTLFConstants.DICTIONARY_ENTRY_TYPE),
+        getDictionaryPath())
+      .reduceGroup(new Dictionary());
+
+    return env
+      .readFile(new BinaryTLFInputFormat(), getTransactionsPath())
+      .map(new GraphTransactionDecoder(getConfig()))
+      .withBroadcastSet(dictionary, BinaryTLFConstants.LABEL_DICTIONARY);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.formats;
+
+import org.apache.flink.api.common.io.BinaryInputFormat;
+import org.apache.flink.api.common.typeinfo.PrimitiveArrayTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.core.memory.DataInputView;
+import org.gradoop.flink.algorithms.fsm.dimspan.model.Simple16Compressor;
+
+import java.io.IOException;
+
+/**
+ * Reads encoded graph transactions written by {@link BinaryTLFOutputFormat}. Input files are split
+ * at block boundaries, i.e., large files are read in parallel.
+ */
+public class BinaryTLFInputFormat extends BinaryInputFormat<int[]>
+  implements ResultTypeQueryable<int[]> {
+
+  @Override
+  protected int[] deserialize(int[] reuse, DataInputView in) throws IOException {
+    int header = readVarInt(in);
+    int[] values = new int[header >>> 1];
+
+    if ((header & BinaryTLFOutputFormat.COMPRESSED) != 0) {
+      for (int i = 0; i < values.length; i++) {
+        values[i] = in.readInt();
+      }
+      values = Simple16Compressor.uncompress(values);
+    } else {
+      for (int i = 0; i < values.length; i++) {
+        values[i] = readVarInt(in);
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public TypeInformation<int[]> getProducedType() {
+    return PrimitiveArrayTypeInfo.INT_PRIMITIVE_ARRAY_TYPE_INFO;
+  }
+
+  /**
+   * Reads a non-negative integer written by
+   * {@link BinaryTLFOutputFormat#writeVarInt(org.apache.flink.core.memory.DataOutputView, int)}.
+   *
+   * @param in input view
+   * @return non-negative integer
+   * @throws IOException on failure
+   */
+  static int readVarInt(DataInputView in) throws IOException {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = in.readByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+}
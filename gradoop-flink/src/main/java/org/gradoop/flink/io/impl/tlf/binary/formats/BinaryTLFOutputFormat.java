@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.formats;
+
+import org.apache.flink.api.common.io.BinaryOutputFormat;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.flink.algorithms.fsm.dimspan.model.Simple16Compressor;
+
+import java.io.IOException;
+
+/**
+ * Writes encoded graph transactions to block-based binary files which can be split at block
+ * boundaries by {@link BinaryTLFInputFormat}.
+ *
+ * Each record starts with a variable-length header {@code length << 1 | compressed}. An
+ * uncompressed record is followed by {@code length} variable-length integers, a compressed one by
+ * {@code length} Simple16 words.
+ */
+public class BinaryTLFOutputFormat extends BinaryOutputFormat<int[]> {
+
+  /**
+   * Flag indicating a Simple16 compressed record.
+   */
+  static final int COMPRESSED = 1;
+
+  /**
+   * True, if records are Simple16 compressed.
+   */
+  private final boolean compress;
+
+  /**
+   * Constructor
+   *
+   * @param compress true, if records are Simple16 compressed
+   */
+  public BinaryTLFOutputFormat(boolean compress) {
+    this.compress = compress;
+  }
+
+  @Override
+  protected void serialize(int[] mux, DataOutputView out) throws IOException {
+    if (compress) {
+      int[] words = Simple16Compressor.compress(mux);
+      writeVarInt(out, words.length << 1 | COMPRESSED);
+      for (int word : words) {
+        out.writeInt(word);
+      }
+    } else {
+      writeVarInt(out, mux.length << 1);
+      for (int value : mux) {
+        writeVarInt(out, value);
+      }
+    }
+  }
+
+  /**
+   * Writes a non-negative integer using seven bits per byte.
+   *
+   * @param out output view
+   * @param value non-negative integer
+   * @throws IOException on failure
+   */
+  static void writeVarInt(DataOutputView out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+
+import java.util.Map;
+
+/**
+ * {label:id,..} => (id,label),..
+ */
+public class DictionaryEntries
+  implements FlatMapFunction<Map<String, Integer>, Tuple2<Integer, String>> {
+
+  @Override
+  public void flatMap(Map<String, Integer> dictionary, Collector<Tuple2<Integer, String>> out)
+    throws Exception {
+    for (Map.Entry<String, Integer> entry : dictionary.entrySet()) {
+      out.collect(Tuple2.of(entry.getValue(), entry.getKey()));
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.functions;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (label,frequency),.. => {label:id,..}
+ *
+ * Assigns ascending ids by descending label frequency. Frequent labels are thus encoded by small
+ * integers which need fewer bytes when written as variable-length integers.
+ */
+public class FrequencyDictionary
+  implements GroupReduceFunction<Tuple2<String, Long>, Map<String, Integer>> {
+
+  @Override
+  public void reduce(Iterable<Tuple2<String, Long>> iterable,
+    Collector<Map<String, Integer>> collector) throws Exception {
+    List<Tuple2<String, Long>> frequencies = Lists.newArrayList();
+    for (Tuple2<String, Long> frequency : iterable) {
+      frequencies.add(frequency.copy());
+    }
+    frequencies.sort(Comparator.<Tuple2<String, Long>, Long>comparing(t -> t.f1).reversed()
+      .thenComparing(t -> t.f0));
+
+    Map<String, Integer> dictionary = Maps.newHashMapWithExpectedSize(frequencies.size());
+    for (Tuple2<String, Long> frequency : frequencies) {
+      dictionary.put(frequency.f0, dictionary.size());
+    }
+    collector.collect(dictionary);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.functions;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.flink.io.impl.tlf.binary.BinaryTLFConstants;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decodes an integer multiplex created by {@link GraphTransactionEncoder} into a graph transaction
+ * with new identifiers.
+ */
+public class GraphTransactionDecoder extends RichMapFunction<int[], GraphTransaction> {
+
+  /**
+   * Graph head factory.
+   */
+  private final GraphHeadFactory graphHeadFactory;
+  /**
+   * Vertex factory.
+   */
+  private final VertexFactory vertexFactory;
+  /**
+   * Edge factory.
+   */
+  private final EdgeFactory edgeFactory;
+  /**
+   * Label dictionary.
+   */
+  private Map<Integer, String> dictionary;
+
+  /**
+   * Valued constructor.
+   *
+   * @param config gradoop flink config
+   */
+  public GraphTransactionDecoder(GradoopFlinkConfig config) {
+    this.graphHeadFactory = config.getGraphHeadFactory();
+    this.vertexFactory = config.getVertexFactory();
+    this.edgeFactory = config.getEdgeFactory();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<Map<Integer, String>> broadcast = getRuntimeContext()
+      .getBroadcastVariable(BinaryTLFConstants.LABEL_DICTIONARY);
+    dictionary = broadcast.isEmpty() ? new HashMap<>() : broadcast.get(0);
+  }
+
+  @Override
+  public GraphTransaction map(int[] mux) throws Exception {
+    GraphHead graphHead =
+      graphHeadFactory.createGraphHead(decode(mux[BinaryTLFConstants.GRAPH_LABEL]));
+    GradoopId graphId = graphHead.getId();
+
+    int vertexCount = mux[BinaryTLFConstants.VERTEX_COUNT];
+    GradoopId[] vertexIds = new GradoopId[vertexCount];
+    Set<Vertex> vertices = new HashSet<>(vertexCount);
+    int offset = BinaryTLFConstants.VERTEX_COUNT + 1;
+    for (int i = 0; i < vertexCount; i++) {
+      Vertex vertex = vertexFactory.createVertex(decode(mux[offset++]));
+      vertex.addGraphId(graphId);
+      vertexIds[i] = vertex.getId();
+      vertices.add(vertex);
+    }
+
+    int edgeCount = mux[offset++];
+    Set<Edge> edges = new HashSet<>(edgeCount);
+    int source = 0;
+    for (int i = 0; i < edgeCount; i++) {
+      source += mux[offset++];
+      int target = mux[offset++];
+      Edge edge = edgeFactory
+        .createEdge(decode(mux[offset++]), vertexIds[source], vertexIds[target]);
+      edge.addGraphId(graphId);
+      edges.add(edge);
+    }
+
+    return new GraphTransaction(graphHead, vertices, edges);
+  }
+
+  /**
+   * Returns the label of a dictionary id.
+   *
+   * @param id label id
+   * @return label
+   */
+  private String decode(int id) {
+    String label = dictionary.get(id);
+    if (label == null) {
+      throw new IllegalStateException("Label id not in dictionary: " + id);
+    }
+    return label;
+  }
+}
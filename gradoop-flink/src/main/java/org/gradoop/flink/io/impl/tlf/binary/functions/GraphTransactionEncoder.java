@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.functions;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.tlf.binary.BinaryTLFConstants;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Encodes a graph transaction into an integer multiplex using the label dictionary:
+ *
+ * [graphLabel, vertexCount, vertexLabel_0, .., edgeCount,
+ *   sourceDelta_0, target_0, edgeLabel_0, ..]
+ *
+ * Vertices are referenced by their position. Edges are sorted by source and target position, and
+ * each source is stored as the difference to the previous edge's source, which keeps all values
+ * small and non-negative.
+ */
+public class GraphTransactionEncoder extends RichMapFunction<GraphTransaction, int[]> {
+
+  /**
+   * Label dictionary.
+   */
+  private Map<String, Integer> dictionary;
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<Map<String, Integer>> broadcast = getRuntimeContext()
+      .getBroadcastVariable(BinaryTLFConstants.LABEL_DICTIONARY);
+    dictionary = broadcast.isEmpty() ? new HashMap<>() : broadcast.get(0);
+  }
+
+  @Override
+  public int[] map(GraphTransaction transaction) throws Exception {
+    int vertexCount = transaction.getVertices().size();
+    int edgeCount = transaction.getEdges().size();
+    int[] mux = new int[BinaryTLFConstants.VERTEX_COUNT + vertexCount + 2 + edgeCount * 3];
+
+    mux[BinaryTLFConstants.GRAPH_LABEL] = encode(transaction.getGraphHead().getLabel());
+    mux[BinaryTLFConstants.VERTEX_COUNT] = vertexCount;
+
+    Map<GradoopId, Integer> positions = new HashMap<>(vertexCount);
+    int offset = BinaryTLFConstants.VERTEX_COUNT + 1;
+    for (Vertex vertex : transaction.getVertices()) {
+      positions.put(vertex.getId(), positions.size());
+      mux[offset++] = encode(vertex.getLabel());
+    }
+
+    int[][] edges = new int[edgeCount][];
+    int edgeIndex = 0;
+    for (Edge edge : transaction.getEdges()) {
+      edges[edgeIndex++] = new int[] {
+        position(positions, edge.getSourceId()),
+        position(positions, edge.getTargetId()),
+        encode(edge.getLabel())
+      };
+    }
+    Arrays.sort(edges, Comparator.<int[]>comparingInt(e -> e[0]).thenComparingInt(e -> e[1]));
+
+    mux[offset++] = edgeCount;
+    int previousSource = 0;
+    for (int[] edge : edges) {
+      mux[offset++] = edge[0] - previousSource;
+      mux[offset++] = edge[1];
+      mux[offset++] = edge[2];
+      previousSource = edge[0];
+    }
+    return mux;
+  }
+
+  /**
+   * Returns the dictionary id of a label.
+   *
+   * @param label label
+   * @return label id
+   */
+  private int encode(String label) {
+    return Objects.requireNonNull(dictionary.get(label), "Label not in dictionary: " + label);
+  }
+
+  /**
+   * Returns the position of a vertex within the transaction.
+   *
+   * @param positions vertex positions
+   * @param vertexId vertex id
+   * @return vertex position
+   */
+  private int position(Map<GradoopId, Integer> positions, GradoopId vertexId) {
+    Integer position = positions.get(vertexId);
+    if (position == null) {
+      throw new IllegalArgumentException(
+        "Edge references a vertex outside of its graph transaction: " + vertexId);
+    }
+    return position;
+  }
+}
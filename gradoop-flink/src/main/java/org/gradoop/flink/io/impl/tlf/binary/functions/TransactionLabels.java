@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+
+/**
+ * graphTransaction => (label,1),..
+ *
+ * Emits the labels of the graph head, all vertices and all edges of a transaction.
+ */
+public class TransactionLabels implements FlatMapFunction<GraphTransaction, Tuple2<String, Long>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<String, Long> reuseTuple = new Tuple2<>(null, 1L);
+
+  @Override
+  public void flatMap(GraphTransaction transaction, Collector<Tuple2<String, Long>> out) throws
+    Exception {
+    collect(transaction.getGraphHead().getLabel(), out);
+    for (Vertex vertex : transaction.getVertices()) {
+      collect(vertex.getLabel(), out);
+    }
+    for (Edge edge : transaction.getEdges()) {
+      collect(edge.getLabel(), out);
+    }
+  }
+
+  /**
+   * Emits a single label.
+   *
+   * @param label label
+   * @param out collector
+   */
+  private void collect(String label, Collector<Tuple2<String, Long>> out) {
+    reuseTuple.f0 = label;
+    out.collect(reuseTuple);
+  }
+}
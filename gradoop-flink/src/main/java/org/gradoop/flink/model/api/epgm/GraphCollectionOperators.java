@@ -34,6 +34,7 @@ import org.gradoop.flink.model.impl.operators.combination.Combination;
 import org.gradoop.flink.model.impl.operators.exclusion.Exclusion;
 import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.PatternMatchingAlgorithm;
 import org.gradoop.flink.model.impl.operators.overlap.Overlap;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalLabelingStrategy;
 
 /**
  * Defines the operators that are available on a {@link GraphCollection}.
@@ -293,6 +294,16 @@ public interface GraphCollectionOperators extends GraphBaseOperators {
    */
   GraphCollection distinctByIsomorphism();
 
+  /**
+   * Groups a graph collection by isomorphism.
+   * Graph equality is based on isomorphism including labels and properties.
+   *
+   * @param strategy strategy used to canonically label the graphs
+   *
+   * @return distinct graph collection
+   */
+  GraphCollection distinctByIsomorphism(CanonicalLabelingStrategy strategy);
+
   /**
    * Groups a graph collection by isomorphism including labels and values.
    *
@@ -302,4 +313,16 @@ public interface GraphCollectionOperators extends GraphBaseOperators {
    * @return grouped graph collection
    */
   GraphCollection groupByIsomorphism(GraphHeadReduceFunction func);
+
+  /**
+   * Groups a graph collection by isomorphism including labels and values.
+   *
+   * @param func function to reduce all graph heads of a group into a single representative one,
+   *             e.g., to count the number of group members
+   * @param strategy strategy used to canonically label the graphs
+   *
+   * @return grouped graph collection
+   */
+  GraphCollection groupByIsomorphism(GraphHeadReduceFunction func,
+    CanonicalLabelingStrategy strategy);
 }
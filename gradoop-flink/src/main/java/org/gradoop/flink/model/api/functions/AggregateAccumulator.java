@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.api.functions;
+
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Mutable aggregation state of an {@link AggregateFunction}.
+ *
+ * An accumulator is created once per aggregation (e.g., per partition or group), incremented by
+ * elements or merged with partial aggregates, and finalized into a single property value. Unlike
+ * {@link AggregateFunction#aggregate(PropertyValue, PropertyValue)}, an accumulator can keep its
+ * state in primitive fields and therefore avoids creating a property value per element.
+ */
+public interface AggregateAccumulator {
+
+  /**
+   * Adds the increment of the given element.
+   *
+   * @param element element used to get the increment
+   */
+  void accumulate(Element element);
+
+  /**
+   * Merges a partial aggregate, e.g., the aggregate of another partition or group member.
+   *
+   * @param partialAggregate partial aggregate
+   */
+  void merge(PropertyValue partialAggregate);
+
+  /**
+   * Returns the final aggregate.
+   *
+   * @return aggregate value or {@code null}, if nothing has been accumulated
+   */
+  PropertyValue getResult();
+}
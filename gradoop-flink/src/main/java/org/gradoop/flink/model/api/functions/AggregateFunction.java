@@ -18,6 +18,7 @@ package org.gradoop.flink.model.api.functions;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.aggregation.Aggregation;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulators.PropertyValueAccumulator;
 
 import java.io.Serializable;
 
@@ -51,6 +52,29 @@ public interface AggregateFunction extends Serializable {
    */
   PropertyValue getIncrement(Element element);
 
+  /**
+   * Creates a new, empty accumulator for this function. The default implementation is based on
+   * {@link #getIncrement(Element)} and {@link #aggregate(PropertyValue, PropertyValue)}, functions
+   * may return specialized accumulators keeping their state in primitive fields.
+   *
+   * @return new accumulator
+   */
+  default AggregateAccumulator createAccumulator() {
+    return new PropertyValueAccumulator(this);
+  }
+
+  /**
+   * Converts the final aggregate into the value stored as property. Functions aggregating
+   * intermediate summaries, e.g., sketches, replace them by the result here. The default
+   * implementation returns the aggregate unchanged.
+   *
+   * @param aggregate final aggregate value
+   * @return property value to store
+   */
+  default PropertyValue postAggregate(PropertyValue aggregate) {
+    return aggregate;
+  }
+
   /**
    * Returns whether this function aggregates vertices.
    *
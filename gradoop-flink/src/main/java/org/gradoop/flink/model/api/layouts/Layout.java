@@ -42,6 +42,14 @@ public interface Layout<V extends EPGMVertex, E extends EPGMEdge> {
    */
   DataSet<V> getVerticesByLabel(String label);
 
+  /**
+   * Returns all vertices having one of the specified labels.
+   *
+   * @param labels vertex labels
+   * @return filtered vertices
+   */
+  DataSet<V> getVerticesByLabels(String... labels);
+
   /**
    * Returns all edges.
    *
@@ -56,4 +64,26 @@ public interface Layout<V extends EPGMVertex, E extends EPGMEdge> {
    * @return filtered edges
    */
   DataSet<E> getEdgesByLabel(String label);
+
+  /**
+   * Returns all edges having one of the specified labels.
+   *
+   * @param labels edge labels
+   * @return filtered edges
+   */
+  DataSet<E> getEdgesByLabels(String... labels);
+
+  /**
+   * Returns the distinct vertex labels stored in this layout.
+   *
+   * @return vertex labels
+   */
+  DataSet<String> getVertexLabels();
+
+  /**
+   * Returns the distinct edge labels stored in this layout.
+   *
+   * @return edge labels
+   */
+  DataSet<String> getEdgeLabels();
 }
@@ -56,6 +56,7 @@ import org.gradoop.flink.model.impl.operators.limit.Limit;
 import org.gradoop.flink.model.impl.operators.matching.transactional.TransactionalPatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.PatternMatchingAlgorithm;
 import org.gradoop.flink.model.impl.operators.selection.Selection;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalLabelingStrategy;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToIdString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToDataString;
@@ -136,6 +137,11 @@ public class GraphCollection implements
     return layout.getVerticesByLabel(label);
   }
 
+  @Override
+  public DataSet<Vertex> getVerticesByLabels(String... labels) {
+    return layout.getVerticesByLabels(labels);
+  }
+
   @Override
   public DataSet<Edge> getEdges() {
     return layout.getEdges();
@@ -146,6 +152,21 @@ public class GraphCollection implements
     return layout.getEdgesByLabel(label);
   }
 
+  @Override
+  public DataSet<Edge> getEdgesByLabels(String... labels) {
+    return layout.getEdgesByLabels(labels);
+  }
+
+  @Override
+  public DataSet<String> getVertexLabels() {
+    return layout.getVertexLabels();
+  }
+
+  @Override
+  public DataSet<String> getEdgeLabels() {
+    return layout.getEdgeLabels();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -447,11 +468,25 @@ public class GraphCollection implements
     return callForCollection(new DistinctByIsomorphism());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public GraphCollection distinctByIsomorphism(CanonicalLabelingStrategy strategy) {
+    return callForCollection(new DistinctByIsomorphism(strategy));
+  }
+
   @Override
   public GraphCollection groupByIsomorphism(GraphHeadReduceFunction func) {
     return callForCollection(new GroupByIsomorphism(func));
   }
 
+  @Override
+  public GraphCollection groupByIsomorphism(GraphHeadReduceFunction func,
+    CanonicalLabelingStrategy strategy) {
+    return callForCollection(new GroupByIsomorphism(func, strategy));
+  }
+
   @Override
   public void writeTo(DataSink dataSink) throws IOException {
     dataSink.write(this);
@@ -149,6 +149,11 @@ public class LogicalGraph implements BaseGraph<GraphHead, Vertex, Edge, LogicalG
     return layout.getVerticesByLabel(label);
   }
 
+  @Override
+  public DataSet<Vertex> getVerticesByLabels(String... labels) {
+    return layout.getVerticesByLabels(labels);
+  }
+
   @Override
   public DataSet<Edge> getEdges() {
     return layout.getEdges();
@@ -159,6 +164,21 @@ public class LogicalGraph implements BaseGraph<GraphHead, Vertex, Edge, LogicalG
     return layout.getEdgesByLabel(label);
   }
 
+  @Override
+  public DataSet<Edge> getEdgesByLabels(String... labels) {
+    return layout.getEdgesByLabels(labels);
+  }
+
+  @Override
+  public DataSet<String> getVertexLabels() {
+    return layout.getVertexLabels();
+  }
+
+  @Override
+  public DataSet<String> getEdgeLabels() {
+    return layout.getEdgeLabels();
+  }
+
   //----------------------------------------------------------------------------
   // Unary Operators
   //----------------------------------------------------------------------------
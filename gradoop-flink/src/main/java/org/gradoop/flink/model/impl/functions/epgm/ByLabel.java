@@ -38,6 +38,15 @@ public class ByLabel<L extends EPGMLabeled> implements CombinableFilter<L> {
     this.label = label;
   }
 
+  /**
+   * Returns the label to be filtered on.
+   *
+   * @return label
+   */
+  public String getLabel() {
+    return label;
+  }
+
   @Override
   public boolean filter(L l) throws Exception {
     return l.getLabel().equals(label);
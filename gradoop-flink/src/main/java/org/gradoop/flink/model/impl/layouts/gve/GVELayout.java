@@ -30,9 +30,11 @@ import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
 import org.gradoop.flink.model.impl.functions.epgm.GraphElementExpander;
 import org.gradoop.flink.model.impl.functions.epgm.GraphVerticesEdges;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.Label;
 import org.gradoop.flink.model.impl.functions.epgm.TransactionFromSets;
 import org.gradoop.flink.model.impl.functions.utils.Cast;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.model.impl.operators.subgraph.functions.LabelIsIn;
 
 import java.util.Set;
 
@@ -136,6 +138,11 @@ public class GVELayout implements LogicalGraphLayout<GraphHead, Vertex, Edge>,
     return vertices.filter(new ByLabel<>(label));
   }
 
+  @Override
+  public DataSet<Vertex> getVerticesByLabels(String... labels) {
+    return vertices.filter(new LabelIsIn<>(labels));
+  }
+
   @Override
   public DataSet<Edge> getEdges() {
     return edges;
@@ -145,4 +152,19 @@ public class GVELayout implements LogicalGraphLayout<GraphHead, Vertex, Edge>,
   public DataSet<Edge> getEdgesByLabel(String label) {
     return edges.filter(new ByLabel<>(label));
   }
+
+  @Override
+  public DataSet<Edge> getEdgesByLabels(String... labels) {
+    return edges.filter(new LabelIsIn<>(labels));
+  }
+
+  @Override
+  public DataSet<String> getVertexLabels() {
+    return vertices.map(new Label<>()).distinct();
+  }
+
+  @Override
+  public DataSet<String> getEdgeLabels() {
+    return edges.map(new Label<>()).distinct();
+  }
 }
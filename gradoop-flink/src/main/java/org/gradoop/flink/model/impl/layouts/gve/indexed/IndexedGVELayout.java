@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.layouts.gve.indexed;
 
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
@@ -23,12 +24,20 @@ import org.gradoop.flink.model.api.layouts.GraphCollectionLayout;
 import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
 import org.gradoop.flink.model.impl.layouts.gve.GVELayout;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Like {@link GVELayout}, this layout separated between graph head, vertex and edge layouts. In
  * addition, the datasets are separated by labels and accesses by known labels are much more
  * efficient as they avoid duplicating rows during program execution.
+ *
+ * Label-aware operators only touch the datasets of the labels they need, so the remaining
+ * partitions (e.g. the per-label files of an indexed CSV source) are never read.
  */
 public class IndexedGVELayout extends GVELayout implements
   LogicalGraphLayout<GraphHead, Vertex, Edge>, GraphCollectionLayout<GraphHead, Vertex, Edge> {
@@ -80,11 +89,75 @@ public class IndexedGVELayout extends GVELayout implements
 
   @Override
   public DataSet<Vertex> getVerticesByLabel(String label) {
-    return vertices.get(label);
+    return getVerticesByLabels(label);
+  }
+
+  @Override
+  public DataSet<Vertex> getVerticesByLabels(String... labels) {
+    return unionByLabels(vertices, super.getVertices(), labels);
   }
 
   @Override
   public DataSet<Edge> getEdgesByLabel(String label) {
-    return edges.get(label);
+    return getEdgesByLabels(label);
+  }
+
+  @Override
+  public DataSet<Edge> getEdgesByLabels(String... labels) {
+    return unionByLabels(edges, super.getEdges(), labels);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The labels are taken from the index, the vertex datasets are not read.
+   */
+  @Override
+  public DataSet<String> getVertexLabels() {
+    return fromLabels(vertices.keySet());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The labels are taken from the index, the edge datasets are not read.
+   */
+  @Override
+  public DataSet<String> getEdgeLabels() {
+    return fromLabels(edges.keySet());
+  }
+
+  /**
+   * Creates a dataset containing the given labels.
+   *
+   * @param labels labels known to the index
+   * @return dataset of labels
+   */
+  private DataSet<String> fromLabels(Set<String> labels) {
+    return getGraphHeads().getExecutionEnvironment()
+      .fromCollection(new ArrayList<>(labels), BasicTypeInfo.STRING_TYPE_INFO);
+  }
+
+  /**
+   * Unions the datasets stored for the given labels. Labels unknown to the layout contribute
+   * nothing; if none of the labels is known, an empty dataset is returned.
+   *
+   * @param byLabel mapping from label to elements with that label
+   * @param all union of all elements, used to derive environment and type of an empty result
+   * @param labels requested labels
+   * @param <T> element type
+   * @return union of the matching datasets
+   */
+  private static <T> DataSet<T> unionByLabels(Map<String, DataSet<T>> byLabel, DataSet<T> all,
+    String... labels) {
+    List<DataSet<T>> matching = Arrays.stream(labels)
+      .distinct()
+      .map(byLabel::get)
+      .filter(dataSet -> dataSet != null)
+      .collect(Collectors.toList());
+    if (matching.isEmpty()) {
+      return all.getExecutionEnvironment().fromCollection(new ArrayList<>(), all.getType());
+    }
+    return matching.stream().reduce(DataSet::union).get();
   }
 }
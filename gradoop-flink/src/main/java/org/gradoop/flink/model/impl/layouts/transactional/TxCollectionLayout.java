@@ -27,10 +27,12 @@ import org.gradoop.flink.model.impl.functions.epgm.ByDifferentGraphId;
 import org.gradoop.flink.model.impl.functions.epgm.ByDifferentId;
 import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.Label;
 import org.gradoop.flink.model.impl.functions.epgm.TransactionEdges;
 import org.gradoop.flink.model.impl.functions.epgm.TransactionGraphHead;
 import org.gradoop.flink.model.impl.functions.epgm.TransactionVertices;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.model.impl.operators.subgraph.functions.LabelIsIn;
 
 /**
  * Represents a {@link GraphCollection} with a single dataset.
@@ -96,6 +98,11 @@ public class TxCollectionLayout implements GraphCollectionLayout<GraphHead, Vert
     return getVertices().filter(new ByLabel<>(label));
   }
 
+  @Override
+  public DataSet<Vertex> getVerticesByLabels(String... labels) {
+    return getVertices().filter(new LabelIsIn<>(labels));
+  }
+
   @Override
   public DataSet<Edge> getEdges() {
     return transactions
@@ -107,4 +114,19 @@ public class TxCollectionLayout implements GraphCollectionLayout<GraphHead, Vert
   public DataSet<Edge> getEdgesByLabel(String label) {
     return getEdges().filter(new ByLabel<>(label));
   }
+
+  @Override
+  public DataSet<Edge> getEdgesByLabels(String... labels) {
+    return getEdges().filter(new LabelIsIn<>(labels));
+  }
+
+  @Override
+  public DataSet<String> getVertexLabels() {
+    return getVertices().map(new Label<>()).distinct();
+  }
+
+  @Override
+  public DataSet<String> getEdgeLabels() {
+    return getEdges().map(new Label<>()).distinct();
+  }
 }
@@ -19,9 +19,10 @@ import org.apache.flink.api.common.functions.GroupCombineFunction;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -49,12 +50,16 @@ public class AggregateElements<T extends Element>
 
   @Override
   public void combine(Iterable<T> elements, Collector<Map<String, PropertyValue>> out) {
-    Map<String, PropertyValue> aggregate = new HashMap<>();
+    Map<String, AggregateAccumulator> accumulators =
+      AggregateUtil.createAccumulators(aggregateFunctions);
+    Collection<AggregateAccumulator> accumulatorValues = accumulators.values();
 
     for (T element : elements) {
-      aggregate = AggregateUtil.increment(aggregate, element, aggregateFunctions);
+      AggregateUtil.accumulate(accumulatorValues, element);
     }
 
+    Map<String, PropertyValue> aggregate = AggregateUtil.getResults(accumulators);
+
     if (!aggregate.isEmpty()) {
       out.collect(aggregate);
     }
@@ -16,13 +16,15 @@
 package org.gradoop.flink.model.impl.operators.aggregation.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
-import org.gradoop.common.model.impl.pojo.Edge;
-import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -33,13 +35,17 @@ import java.util.stream.Collectors;
 public class AggregateTransactions implements MapFunction<GraphTransaction, GraphTransaction> {
 
   /**
-   * Set of aggregate vertex functions.
+   * Set of aggregate functions.
    */
-  private final Set<AggregateFunction> vertexAggregateFunctions;
+  private final Set<AggregateFunction> aggregateFunctions;
   /**
-   * Set of aggregate edge functions.
+   * Aggregate property keys of vertex functions.
    */
-  private final Set<AggregateFunction> edgeAggregateFunctions;
+  private final List<String> vertexAggregateKeys;
+  /**
+   * Aggregate property keys of edge functions.
+   */
+  private final List<String> edgeAggregateKeys;
   /**
    * Set of aggregate default values.
    */
@@ -52,14 +58,17 @@ public class AggregateTransactions implements MapFunction<GraphTransaction, Grap
    */
   public AggregateTransactions(Set<AggregateFunction> aggregateFunctions) {
     // initialization logic to avoid instanceOf checking during execution
+    this.aggregateFunctions = aggregateFunctions;
 
-    vertexAggregateFunctions = aggregateFunctions.stream()
+    vertexAggregateKeys = aggregateFunctions.stream()
       .filter(AggregateFunction::isVertexAggregation)
-      .collect(Collectors.toSet());
+      .map(AggregateFunction::getAggregatePropertyKey)
+      .collect(Collectors.toList());
 
-    edgeAggregateFunctions = aggregateFunctions.stream()
+    edgeAggregateKeys = aggregateFunctions.stream()
       .filter(AggregateFunction::isEdgeAggregation)
-      .collect(Collectors.toSet());
+      .map(AggregateFunction::getAggregatePropertyKey)
+      .collect(Collectors.toList());
 
     aggregateDefaultValues = new HashMap<>();
     for (AggregateFunction func : aggregateFunctions) {
@@ -70,10 +79,14 @@ public class AggregateTransactions implements MapFunction<GraphTransaction, Grap
 
   @Override
   public GraphTransaction map(GraphTransaction graphTransaction) throws Exception {
-    Map<String, PropertyValue> aggregate = new HashMap<>();
-    aggregate = aggregateVertices(aggregate, graphTransaction);
-    aggregate = aggregateEdges(aggregate, graphTransaction);
+    Map<String, AggregateAccumulator> accumulators =
+      AggregateUtil.createAccumulators(aggregateFunctions);
+
+    aggregate(accumulators, vertexAggregateKeys, graphTransaction.getVertices());
+    aggregate(accumulators, edgeAggregateKeys, graphTransaction.getEdges());
 
+    Map<String, PropertyValue> aggregate = AggregateUtil.postAggregate(
+      AggregateUtil.getResults(accumulators), aggregateFunctions);
     aggregateDefaultValues.forEach(aggregate::putIfAbsent);
 
     aggregate.forEach(graphTransaction.getGraphHead()::setProperty);
@@ -81,32 +94,23 @@ public class AggregateTransactions implements MapFunction<GraphTransaction, Grap
   }
 
   /**
-   * Applies the aggregate functions on the vertices of the given graph transaction.
+   * Applies the aggregate functions with the given keys on the given vertices or edges.
    *
-   * @param aggregate map to hold the aggregate values
-   * @param graphTransaction graph transaction
-   * @return final vertex aggregate value
+   * @param accumulators accumulators by aggregate property key
+   * @param aggregateKeys keys of the aggregate functions to apply
+   * @param elements vertices or edges of a graph transaction
    */
-  private Map<String, PropertyValue> aggregateVertices(Map<String, PropertyValue> aggregate,
-                                                       GraphTransaction graphTransaction) {
-    for (Vertex vertex : graphTransaction.getVertices()) {
-      aggregate = AggregateUtil.increment(aggregate, vertex, vertexAggregateFunctions);
+  private void aggregate(Map<String, AggregateAccumulator> accumulators,
+    List<String> aggregateKeys, Set<? extends Element> elements) {
+    if (aggregateKeys.isEmpty()) {
+      return;
     }
-    return aggregate;
-  }
-
-  /**
-   * Applies the aggregate functions on the edges of the given graph transaction.
-   *
-   * @param aggregate map to hold the aggregate values
-   * @param graphTransaction graph transaction
-   * @return final edge aggregate value
-   */
-  private Map<String, PropertyValue> aggregateEdges(Map<String, PropertyValue> aggregate,
-                                                    GraphTransaction graphTransaction) {
-    for (Edge edge : graphTransaction.getEdges()) {
-      aggregate = AggregateUtil.increment(aggregate, edge, edgeAggregateFunctions);
+    List<AggregateAccumulator> selected = new ArrayList<>(aggregateKeys.size());
+    for (String key : aggregateKeys) {
+      selected.add(accumulators.get(key));
+    }
+    for (Element element : elements) {
+      AggregateUtil.accumulate(selected, element);
     }
-    return aggregate;
   }
 }
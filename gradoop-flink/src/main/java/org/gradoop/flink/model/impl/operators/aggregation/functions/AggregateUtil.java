@@ -17,9 +17,13 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions;
 
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,21 +33,77 @@ import java.util.Set;
 public class AggregateUtil {
 
   /**
-   * Increments the aggregate map by the increment of the aggregate functions on the element
+   * Creates a new accumulator for each aggregate function.
    *
-   * @param aggregate aggregate map to be incremented
-   * @param element element to increment with
    * @param aggregateFunctions aggregate functions
-   * @return incremented aggregate map
+   * @return accumulators by aggregate property key
    */
-  static Map<String, PropertyValue> increment(Map<String, PropertyValue> aggregate, Element element,
-                                              Set<AggregateFunction> aggregateFunctions) {
+  static Map<String, AggregateAccumulator> createAccumulators(
+    Set<AggregateFunction> aggregateFunctions) {
+    Map<String, AggregateAccumulator> accumulators = new LinkedHashMap<>();
     for (AggregateFunction aggFunc : aggregateFunctions) {
-      PropertyValue increment = aggFunc.getIncrement(element);
-      if (increment != null) {
-        aggregate.compute(aggFunc.getAggregatePropertyKey(), (key, agg) -> agg == null ?
-          increment.copy() : aggFunc.aggregate(agg, increment));
+      accumulators.put(aggFunc.getAggregatePropertyKey(), aggFunc.createAccumulator());
+    }
+    return accumulators;
+  }
+
+  /**
+   * Increments the accumulators by the increment of their aggregate functions on the element.
+   *
+   * @param accumulators accumulators to be incremented
+   * @param element element to increment with
+   */
+  static void accumulate(Collection<AggregateAccumulator> accumulators, Element element) {
+    for (AggregateAccumulator accumulator : accumulators) {
+      accumulator.accumulate(element);
+    }
+  }
+
+  /**
+   * Merges partial aggregates into the accumulators with the same aggregate property key.
+   *
+   * @param accumulators accumulators by aggregate property key
+   * @param partialAggregates partial aggregates by aggregate property key
+   */
+  static void merge(Map<String, AggregateAccumulator> accumulators,
+    Map<String, PropertyValue> partialAggregates) {
+    partialAggregates.forEach((key, partialAggregate) -> {
+      AggregateAccumulator accumulator = accumulators.get(key);
+      if (accumulator != null) {
+        accumulator.merge(partialAggregate);
       }
+    });
+  }
+
+  /**
+   * Returns the results of all accumulators that accumulated at least one value.
+   *
+   * @param accumulators accumulators by aggregate property key
+   * @return aggregate map
+   */
+  static Map<String, PropertyValue> getResults(Map<String, AggregateAccumulator> accumulators) {
+    Map<String, PropertyValue> aggregate = new HashMap<>();
+    accumulators.forEach((key, accumulator) -> {
+      PropertyValue result = accumulator.getResult();
+      if (result != null) {
+        aggregate.put(key, result);
+      }
+    });
+    return aggregate;
+  }
+
+  /**
+   * Replaces the final aggregates by their post-aggregated values.
+   *
+   * @param aggregate final aggregate map
+   * @param aggregateFunctions aggregate functions
+   * @return post-aggregated map
+   */
+  static Map<String, PropertyValue> postAggregate(Map<String, PropertyValue> aggregate,
+    Set<AggregateFunction> aggregateFunctions) {
+    for (AggregateFunction aggFunc : aggregateFunctions) {
+      aggregate.computeIfPresent(aggFunc.getAggregatePropertyKey(),
+        (key, value) -> aggFunc.postAggregate(value));
     }
     return aggregate;
   }
@@ -24,9 +24,10 @@ import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -65,14 +66,17 @@ public class ApplyAggregateElements<T extends Element> implements GroupCombineFu
     Iterator<Tuple2<GradoopId, T>> iterator = elements.iterator();
     Tuple2<GradoopId, T> graphIdElement = iterator.next();
 
-    Map<String, PropertyValue> aggregate = AggregateUtil.increment(new HashMap<>(),
-      graphIdElement.f1, aggregateFunctions);
+    Map<String, AggregateAccumulator> accumulators =
+      AggregateUtil.createAccumulators(aggregateFunctions);
+    Collection<AggregateAccumulator> accumulatorValues = accumulators.values();
+    AggregateUtil.accumulate(accumulatorValues, graphIdElement.f1);
 
     while (iterator.hasNext()) {
-      T element = iterator.next().f1;
-      aggregate = AggregateUtil.increment(aggregate, element, aggregateFunctions);
+      AggregateUtil.accumulate(accumulatorValues, iterator.next().f1);
     }
 
+    Map<String, PropertyValue> aggregate = AggregateUtil.getResults(accumulators);
+
     if (!aggregate.isEmpty()) {
       reusePair.f0 = graphIdElement.f0;
       reusePair.f1 = aggregate;
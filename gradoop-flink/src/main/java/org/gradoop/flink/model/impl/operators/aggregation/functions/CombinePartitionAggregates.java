@@ -18,9 +18,9 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions;
 import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -48,22 +48,14 @@ public class CombinePartitionAggregates
   public void reduce(Iterable<Map<String, PropertyValue>> partitionAggregates,
     Collector<Map<String, PropertyValue>> out) throws Exception {
 
-    Iterator<Map<String, PropertyValue>> iterator = partitionAggregates.iterator();
-    Map<String, PropertyValue> aggregate = iterator.next();
+    Map<String, AggregateAccumulator> accumulators =
+      AggregateUtil.createAccumulators(aggregateFunctions);
 
-    while (iterator.hasNext()) {
-      Map<String, PropertyValue> next = iterator.next();
-
-      for (AggregateFunction aggFunc : aggregateFunctions) {
-        String propertyKey = aggFunc.getAggregatePropertyKey();
-        PropertyValue nextAgg = next.get(propertyKey);
-        if (nextAgg != null) {
-          aggregate.compute(propertyKey, (key, agg) -> agg == null ?
-            nextAgg : aggFunc.aggregate(agg, nextAgg));
-        }
-      }
+    for (Map<String, PropertyValue> partitionAggregate : partitionAggregates) {
+      AggregateUtil.merge(accumulators, partitionAggregate);
     }
 
-    out.collect(aggregate);
+    out.collect(
+      AggregateUtil.postAggregate(AggregateUtil.getResults(accumulators), aggregateFunctions));
   }
 }
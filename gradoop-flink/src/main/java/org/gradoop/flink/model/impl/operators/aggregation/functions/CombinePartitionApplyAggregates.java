@@ -20,6 +20,7 @@ import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
 import java.util.Iterator;
@@ -54,19 +55,16 @@ public class CombinePartitionApplyAggregates implements GroupReduceFunction
 
     Tuple2<GradoopId, Map<String, PropertyValue>> aggregate = iterator.next();
 
-    while (iterator.hasNext()) {
-      Tuple2<GradoopId, Map<String, PropertyValue>> next = iterator.next();
+    Map<String, AggregateAccumulator> accumulators =
+      AggregateUtil.createAccumulators(aggregateFunctions);
+    AggregateUtil.merge(accumulators, aggregate.f1);
 
-      for (AggregateFunction aggFunc : aggregateFunctions) {
-        String propertyKey = aggFunc.getAggregatePropertyKey();
-        PropertyValue nextAgg = next.f1.get(propertyKey);
-        if (nextAgg != null) {
-          aggregate.f1.compute(propertyKey, (key, agg) -> agg == null ?
-            nextAgg : aggFunc.aggregate(agg, nextAgg));
-        }
-      }
+    while (iterator.hasNext()) {
+      AggregateUtil.merge(accumulators, iterator.next().f1);
     }
 
+    aggregate.f1 = AggregateUtil.postAggregate(
+      AggregateUtil.getResults(accumulators), aggregateFunctions);
     out.collect(aggregate);
   }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulators;
+
+import org.gradoop.common.exceptions.UnsupportedTypeException;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
+
+/**
+ * Accumulator of counts keeping its state in a long field. Each accumulated element increments
+ * the count by one, without creating an increment property value.
+ */
+public class CountAccumulator implements AggregateAccumulator {
+  /**
+   * True, if an element or a partial count has been accumulated.
+   */
+  private boolean accumulated;
+  /**
+   * Current count.
+   */
+  private long count;
+
+  @Override
+  public void accumulate(Element element) {
+    count++;
+    accumulated = true;
+  }
+
+  @Override
+  public void merge(PropertyValue partialAggregate) {
+    if (!partialAggregate.isLong()) {
+      throw new UnsupportedTypeException(partialAggregate.getObject().getClass());
+    }
+    count += partialAggregate.getLong();
+    accumulated = true;
+  }
+
+  @Override
+  public PropertyValue getResult() {
+    return accumulated ? PropertyValue.create(count) : null;
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulators;
+
+import org.gradoop.common.exceptions.UnsupportedTypeException;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+/**
+ * Accumulator of boolean disjunctions.
+ */
+public class OrAccumulator implements AggregateAccumulator {
+  /**
+   * Accumulated function.
+   */
+  private final AggregateFunction function;
+  /**
+   * True, if a value has been accumulated.
+   */
+  private boolean accumulated;
+  /**
+   * Current disjunction.
+   */
+  private boolean value;
+
+  /**
+   * Creates a new accumulator.
+   *
+   * @param function accumulated function
+   */
+  public OrAccumulator(AggregateFunction function) {
+    this.function = function;
+  }
+
+  @Override
+  public void accumulate(Element element) {
+    PropertyValue increment = function.getIncrement(element);
+    if (increment != null) {
+      merge(increment);
+    }
+  }
+
+  @Override
+  public void merge(PropertyValue partialAggregate) {
+    if (!partialAggregate.isBoolean()) {
+      throw new UnsupportedTypeException(partialAggregate.getObject().getClass());
+    }
+    value |= partialAggregate.getBoolean();
+    accumulated = true;
+  }
+
+  @Override
+  public PropertyValue getResult() {
+    return accumulated ? PropertyValue.create(value) : null;
+  }
+}
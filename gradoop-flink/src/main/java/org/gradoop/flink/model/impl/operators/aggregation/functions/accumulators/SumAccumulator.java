@@ -0,0 +1,268 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulators;
+
+import org.gradoop.common.exceptions.UnsupportedTypeException;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+import java.math.BigDecimal;
+
+/**
+ * Accumulator of numeric sums keeping its state in a long, float, double or decimal field.
+ *
+ * The result type and value equal those of successive
+ * {@link org.gradoop.common.model.impl.properties.PropertyValueUtils.Numeric#add} calls: the sum
+ * has the widest type of all summands (at least int), and the current sum is widened as soon as a
+ * wider summand is added.
+ */
+public class SumAccumulator implements AggregateAccumulator {
+  /**
+   * Nothing accumulated yet.
+   */
+  private static final int NONE = -1;
+  /**
+   * Short type.
+   */
+  private static final int SHORT = 0;
+  /**
+   * Integer type.
+   */
+  private static final int INT = 1;
+  /**
+   * Long type.
+   */
+  private static final int LONG = 2;
+  /**
+   * Float type.
+   */
+  private static final int FLOAT = 3;
+  /**
+   * Double type.
+   */
+  private static final int DOUBLE = 4;
+  /**
+   * Big decimal type.
+   */
+  private static final int BIG_DECIMAL = 5;
+
+  /**
+   * Accumulated function.
+   */
+  private final AggregateFunction function;
+  /**
+   * Type of the current sum.
+   */
+  private int type = NONE;
+  /**
+   * Current sum, if the type is short, int or long.
+   */
+  private long longSum;
+  /**
+   * Current sum, if the type is float.
+   */
+  private float floatSum;
+  /**
+   * Current sum, if the type is double.
+   */
+  private double doubleSum;
+  /**
+   * Current sum, if the type is big decimal.
+   */
+  private BigDecimal decimalSum;
+
+  /**
+   * Creates a new accumulator.
+   *
+   * @param function accumulated function
+   */
+  public SumAccumulator(AggregateFunction function) {
+    this.function = function;
+  }
+
+  @Override
+  public void accumulate(Element element) {
+    PropertyValue increment = function.getIncrement(element);
+    if (increment != null) {
+      merge(increment);
+    }
+  }
+
+  @Override
+  public void merge(PropertyValue partialAggregate) {
+    int valueType = getType(partialAggregate);
+
+    if (type == NONE) {
+      type = valueType;
+      switch (valueType) {
+      case FLOAT:
+        floatSum = partialAggregate.getFloat();
+        break;
+      case DOUBLE:
+        doubleSum = partialAggregate.getDouble();
+        break;
+      case BIG_DECIMAL:
+        decimalSum = partialAggregate.getBigDecimal();
+        break;
+      default:
+        longSum = longValue(partialAggregate, valueType);
+      }
+      return;
+    }
+
+    widen(Math.max(Math.max(type, valueType), INT));
+
+    switch (type) {
+    case INT:
+      longSum = (int) longSum + (int) longValue(partialAggregate, valueType);
+      break;
+    case LONG:
+      longSum += longValue(partialAggregate, valueType);
+      break;
+    case FLOAT:
+      floatSum += valueType == FLOAT ?
+        partialAggregate.getFloat() : (float) longValue(partialAggregate, valueType);
+      break;
+    case DOUBLE:
+      doubleSum += doubleValue(partialAggregate, valueType);
+      break;
+    default:
+      decimalSum = decimalSum.add(decimalValue(partialAggregate, valueType));
+    }
+  }
+
+  @Override
+  public PropertyValue getResult() {
+    switch (type) {
+    case NONE:
+      return null;
+    case SHORT:
+      return PropertyValue.create((short) longSum);
+    case INT:
+      return PropertyValue.create((int) longSum);
+    case LONG:
+      return PropertyValue.create(longSum);
+    case FLOAT:
+      return PropertyValue.create(floatSum);
+    case DOUBLE:
+      return PropertyValue.create(doubleSum);
+    default:
+      return PropertyValue.create(decimalSum);
+    }
+  }
+
+  /**
+   * Converts the current sum to a wider type.
+   *
+   * @param targetType target type
+   */
+  private void widen(int targetType) {
+    if (targetType == type) {
+      return;
+    }
+    if (targetType == FLOAT) {
+      floatSum = (float) longSum;
+    } else if (targetType == DOUBLE) {
+      doubleSum = type == FLOAT ? floatSum : (double) longSum;
+    } else if (targetType == BIG_DECIMAL) {
+      decimalSum = type == FLOAT ? BigDecimal.valueOf(floatSum) :
+        type == DOUBLE ? BigDecimal.valueOf(doubleSum) : BigDecimal.valueOf(longSum);
+    }
+    // short, int and long sums share the long field
+    type = targetType;
+  }
+
+  /**
+   * Returns the numeric type of a value.
+   *
+   * @param value property value
+   * @return numeric type
+   */
+  private static int getType(PropertyValue value) {
+    if (value.isShort()) {
+      return SHORT;
+    } else if (value.isInt()) {
+      return INT;
+    } else if (value.isLong()) {
+      return LONG;
+    } else if (value.isFloat()) {
+      return FLOAT;
+    } else if (value.isDouble()) {
+      return DOUBLE;
+    } else if (value.isBigDecimal()) {
+      return BIG_DECIMAL;
+    }
+    throw new UnsupportedTypeException(value.getObject().getClass());
+  }
+
+  /**
+   * Returns a short, int or long value as long.
+   *
+   * @param value property value
+   * @param valueType numeric type of the value
+   * @return long value
+   */
+  private static long longValue(PropertyValue value, int valueType) {
+    switch (valueType) {
+    case SHORT:
+      return value.getShort();
+    case INT:
+      return value.getInt();
+    default:
+      return value.getLong();
+    }
+  }
+
+  /**
+   * Returns a value of type double or narrower as double.
+   *
+   * @param value property value
+   * @param valueType numeric type of the value
+   * @return double value
+   */
+  private static double doubleValue(PropertyValue value, int valueType) {
+    switch (valueType) {
+    case FLOAT:
+      return value.getFloat();
+    case DOUBLE:
+      return value.getDouble();
+    default:
+      return longValue(value, valueType);
+    }
+  }
+
+  /**
+   * Returns a value as big decimal.
+   *
+   * @param value property value
+   * @param valueType numeric type of the value
+   * @return big decimal value
+   */
+  private static BigDecimal decimalValue(PropertyValue value, int valueType) {
+    switch (valueType) {
+    case FLOAT:
+      return BigDecimal.valueOf(value.getFloat());
+    case DOUBLE:
+      return BigDecimal.valueOf(value.getDouble());
+    case BIG_DECIMAL:
+      return value.getBigDecimal();
+    default:
+      return BigDecimal.valueOf(longValue(value, valueType));
+    }
+  }
+}
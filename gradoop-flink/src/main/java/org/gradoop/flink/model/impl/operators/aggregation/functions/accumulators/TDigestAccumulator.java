@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulators;
+
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.TDigest;
+
+/**
+ * Accumulator of a {@link TDigest}. Increments are single numeric values, partial aggregates are
+ * either such values or digests.
+ */
+public class TDigestAccumulator implements AggregateAccumulator {
+  /**
+   * Accumulated function.
+   */
+  private final AggregateFunction function;
+  /**
+   * Current digest.
+   */
+  private final TDigest digest;
+  /**
+   * True, iff nothing has been accumulated.
+   */
+  private boolean empty = true;
+
+  /**
+   * Creates a new accumulator.
+   *
+   * @param function accumulated function
+   * @param compression digest compression
+   */
+  public TDigestAccumulator(AggregateFunction function, double compression) {
+    this.function = function;
+    this.digest = new TDigest(compression);
+  }
+
+  @Override
+  public void accumulate(Element element) {
+    PropertyValue increment = function.getIncrement(element);
+    if (increment != null) {
+      merge(increment);
+    }
+  }
+
+  @Override
+  public void merge(PropertyValue partialAggregate) {
+    if (partialAggregate.isNumber()) {
+      digest.add(((Number) partialAggregate.getObject()).doubleValue());
+    } else {
+      digest.merge(partialAggregate);
+    }
+    empty = false;
+  }
+
+  @Override
+  public PropertyValue getResult() {
+    return empty ? null : digest.toPropertyValue();
+  }
+}
@@ -17,7 +17,9 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions.bool;
 
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulators.OrAccumulator;
 
 /**
  * Interface of aggregate functions determining a predicate support.
@@ -29,4 +31,9 @@ public interface Or extends AggregateFunction {
   default PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
     return PropertyValueUtils.Boolean.or(aggregate, increment);
   }
+
+  @Override
+  default AggregateAccumulator createAccumulator() {
+    return new OrAccumulator(this);
+  }
 }
@@ -17,8 +17,10 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions.count;
 
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulators.CountAccumulator;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.Sum;
 
 /**
@@ -47,6 +49,11 @@ public class Count extends BaseAggregateFunction implements Sum, AggregateDefaul
     return PropertyValue.create(1L);
   }
 
+  @Override
+  public AggregateAccumulator createAccumulator() {
+    return new CountAccumulator();
+  }
+
   @Override
   public PropertyValue getDefaultValue() {
     return PropertyValue.create(0L);
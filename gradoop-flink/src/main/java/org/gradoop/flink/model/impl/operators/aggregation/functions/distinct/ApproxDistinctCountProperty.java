@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.distinct;
+
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulators.HyperLogLogAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.HyperLogLog;
+
+import java.util.Objects;
+
+/**
+ * Aggregate function estimating the number of distinct values of a specified property using a
+ * {@link HyperLogLog} sketch.
+ *
+ * Partitions and groups exchange sketches of fixed size instead of value sets. The stored
+ * aggregate is the estimated count as long value, elements without the property are ignored.
+ */
+public class ApproxDistinctCountProperty extends BaseAggregateFunction {
+
+  /**
+   * Property key whose distinct values should be counted.
+   */
+  private final String propertyKey;
+  /**
+   * Sketch precision.
+   */
+  private final int precision;
+
+  /**
+   * Creates a new instance of a ApproxDistinctCountProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   */
+  public ApproxDistinctCountProperty(String propertyKey) {
+    this(propertyKey, "approxDistinct_" + propertyKey);
+  }
+
+  /**
+   * Creates a new instance of a ApproxDistinctCountProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public ApproxDistinctCountProperty(String propertyKey, String aggregatePropertyKey) {
+    this(propertyKey, aggregatePropertyKey, HyperLogLog.DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a new instance of a ApproxDistinctCountProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param aggregatePropertyKey aggregate property key
+   * @param precision sketch precision, see {@link HyperLogLog}
+   */
+  public ApproxDistinctCountProperty(String propertyKey, String aggregatePropertyKey,
+    int precision) {
+    super(aggregatePropertyKey);
+    Objects.requireNonNull(propertyKey);
+    this.propertyKey = propertyKey;
+    this.precision = precision;
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    PropertyValue value = element.getPropertyValue(propertyKey);
+    return value == null ? null : PropertyValue.create(HyperLogLog.hash(value));
+  }
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    AggregateAccumulator accumulator = createAccumulator();
+    accumulator.merge(aggregate);
+    accumulator.merge(increment);
+    return accumulator.getResult();
+  }
+
+  @Override
+  public AggregateAccumulator createAccumulator() {
+    return new HyperLogLogAccumulator(this, precision);
+  }
+
+  @Override
+  public PropertyValue postAggregate(PropertyValue aggregate) {
+    if (aggregate.isLong()) {
+      // a single hash
+      return PropertyValue.create(1L);
+    } else if (aggregate.isList()) {
+      return PropertyValue.create(HyperLogLog.fromPropertyValue(aggregate).estimate());
+    }
+    return aggregate;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.quantile;
+
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulators.TDigestAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.TDigest;
+
+import java.util.Objects;
+
+/**
+ * Aggregate function estimating a quantile of a specified numeric property using a
+ * {@link TDigest}.
+ *
+ * Partitions and groups exchange digests of bounded size instead of all values. The stored
+ * aggregate is the estimated quantile as double value, elements without the property are
+ * ignored.
+ */
+public class ApproxQuantileProperty extends BaseAggregateFunction {
+
+  /**
+   * Property key whose values should be aggregated.
+   */
+  private final String propertyKey;
+  /**
+   * Quantile to estimate.
+   */
+  private final double quantile;
+  /**
+   * Digest compression.
+   */
+  private final double compression;
+
+  /**
+   * Creates a new instance of a ApproxQuantileProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile in [0, 1], e.g., 0.5 for the median
+   */
+  public ApproxQuantileProperty(String propertyKey, double quantile) {
+    this(propertyKey, quantile, "quantile_" + quantile + "_" + propertyKey);
+  }
+
+  /**
+   * Creates a new instance of a ApproxQuantileProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile in [0, 1], e.g., 0.5 for the median
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public ApproxQuantileProperty(String propertyKey, double quantile,
+    String aggregatePropertyKey) {
+    this(propertyKey, quantile, aggregatePropertyKey, TDigest.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Creates a new instance of a ApproxQuantileProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile in [0, 1], e.g., 0.5 for the median
+   * @param aggregatePropertyKey aggregate property key
+   * @param compression digest compression, see {@link TDigest}
+   */
+  public ApproxQuantileProperty(String propertyKey, double quantile,
+    String aggregatePropertyKey, double compression) {
+    super(aggregatePropertyKey);
+    Objects.requireNonNull(propertyKey);
+    if (quantile < 0d || quantile > 1d) {
+      throw new IllegalArgumentException("Quantile must be in [0, 1], was " + quantile);
+    }
+    this.propertyKey = propertyKey;
+    this.quantile = quantile;
+    this.compression = compression;
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    return element.getPropertyValue(propertyKey);
+  }
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    AggregateAccumulator accumulator = createAccumulator();
+    accumulator.merge(aggregate);
+    accumulator.merge(increment);
+    return accumulator.getResult();
+  }
+
+  @Override
+  public AggregateAccumulator createAccumulator() {
+    return new TDigestAccumulator(this, compression);
+  }
+
+  @Override
+  public PropertyValue postAggregate(PropertyValue aggregate) {
+    if (aggregate.isNumber()) {
+      // a single value
+      return PropertyValue.create(((Number) aggregate.getObject()).doubleValue());
+    } else if (aggregate.isList()) {
+      return PropertyValue.create(TDigest.fromPropertyValue(aggregate).quantile(quantile));
+    }
+    return aggregate;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.quantile;
+
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+
+/**
+ * Aggregate function estimating a quantile of a specified property over all vertices.
+ */
+public class ApproxQuantileVertexProperty extends ApproxQuantileProperty
+  implements VertexAggregateFunction {
+
+  /**
+   * Creates a new instance of a ApproxQuantileVertexProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile in [0, 1]
+   */
+  public ApproxQuantileVertexProperty(String propertyKey, double quantile) {
+    super(propertyKey, quantile);
+  }
+
+  /**
+   * Creates a new instance of a ApproxQuantileVertexProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile in [0, 1]
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public ApproxQuantileVertexProperty(String propertyKey, double quantile,
+    String aggregatePropertyKey) {
+    super(propertyKey, quantile, aggregatePropertyKey);
+  }
+
+  /**
+   * Creates a new instance of a ApproxQuantileVertexProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile in [0, 1]
+   * @param aggregatePropertyKey aggregate property key
+   * @param compression digest compression
+   */
+  public ApproxQuantileVertexProperty(String propertyKey, double quantile,
+    String aggregatePropertyKey, double compression) {
+    super(propertyKey, quantile, aggregatePropertyKey, compression);
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketches;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * HyperLogLog sketch estimating the number of distinct values of a multiset.
+ *
+ * The sketch consists of {@code 2^precision} registers, each storing the maximum rank of the
+ * 64 bit hashes routed to it. Two sketches of the same precision are merged by taking the
+ * register-wise maximum, hence the union of any number of partitions has the same size as a
+ * single sketch. The relative standard error is about {@code 1.04 / sqrt(2^precision)}, i.e.,
+ * 1.6% for the default precision of 12.
+ *
+ * A sketch is represented as a property value list containing the precision followed by the
+ * registers, packed eight per long value. The list is read and written directly in its byte
+ * representation, see {@link SketchEncoding}.
+ */
+public class HyperLogLog {
+  /**
+   * Default number of index bits.
+   */
+  public static final int DEFAULT_PRECISION = 12;
+  /**
+   * Minimum number of index bits.
+   */
+  public static final int MIN_PRECISION = 4;
+  /**
+   * Maximum number of index bits.
+   */
+  public static final int MAX_PRECISION = 16;
+  /**
+   * Hash function applied to the values.
+   */
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  /**
+   * Number of index bits.
+   */
+  private final int precision;
+  /**
+   * Maximum rank per register.
+   */
+  private final byte[] registers;
+
+  /**
+   * Creates an empty sketch.
+   *
+   * @param precision number of index bits
+   */
+  public HyperLogLog(int precision) {
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException("Precision must be in [" + MIN_PRECISION + ", " +
+        MAX_PRECISION + "], was " + precision);
+    }
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  /**
+   * Returns the 64 bit hash of a property value, which is independent of its Java object.
+   *
+   * @param value property value
+   * @return hash
+   */
+  public static long hash(PropertyValue value) {
+    return hash(value.getRawBytes());
+  }
+
+  /**
+   * Returns the 64 bit hash of a byte array.
+   *
+   * @param bytes byte array
+   * @return hash
+   */
+  public static long hash(byte[] bytes) {
+    return HASH_FUNCTION.hashBytes(bytes).asLong();
+  }
+
+  /**
+   * Returns the number of index bits.
+   *
+   * @return precision
+   */
+  public int getPrecision() {
+    return precision;
+  }
+
+  /**
+   * Adds a hashed value to the sketch.
+   *
+   * @param hash 64 bit hash of the value
+   */
+  public void addHash(long hash) {
+    int index = (int) (hash >>> (Long.SIZE - precision));
+    // the sentinel bit bounds the rank by 64 - precision + 1
+    long remaining = (hash << precision) | (1L << (precision - 1));
+    byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+    if (rank > registers[index]) {
+      registers[index] = rank;
+    }
+  }
+
+  /**
+   * Merges another sketch of the same precision into this sketch.
+   *
+   * @param other sketch to merge
+   */
+  public void merge(HyperLogLog other) {
+    checkPrecision(other.precision);
+    for (int i = 0; i < registers.length; i++) {
+      if (other.registers[i] > registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+  }
+
+  /**
+   * Merges a sketch represented as property value into this sketch.
+   *
+   * @param sketch sketch created by {@link #toPropertyValue()}
+   */
+  public void merge(PropertyValue sketch) {
+    byte[] bytes = SketchEncoding.getList(sketch);
+    checkPrecision(SketchEncoding.getInt(bytes, PropertyValue.OFFSET));
+    int position = PropertyValue.OFFSET + SketchEncoding.INT_ENTRY_SIZE;
+    for (int offset = 0; offset < registers.length; offset += Long.BYTES) {
+      long packed = SketchEncoding.getLong(bytes, position);
+      for (int j = 0; j < Long.BYTES; j++) {
+        byte rank = (byte) (packed >>> (j * Byte.SIZE));
+        if (rank > registers[offset + j]) {
+          registers[offset + j] = rank;
+        }
+      }
+      position += SketchEncoding.LONG_ENTRY_SIZE;
+    }
+  }
+
+  /**
+   * Returns the estimated number of distinct values added to this sketch.
+   *
+   * @return estimated cardinality
+   */
+  public long estimate() {
+    int m = registers.length;
+    double sum = 0d;
+    int zeros = 0;
+    for (byte rank : registers) {
+      sum += 1d / (1L << rank);
+      if (rank == 0) {
+        zeros++;
+      }
+    }
+    double estimate = alpha(m) * m * m / sum;
+    if (estimate <= 2.5 * m && zeros > 0) {
+      // linear counting is more accurate for small cardinalities
+      estimate = m * Math.log((double) m / zeros);
+    }
+    return Math.round(estimate);
+  }
+
+  /**
+   * Returns the sketch as property value.
+   *
+   * @return list of the precision and the packed registers
+   */
+  public PropertyValue toPropertyValue() {
+    byte[] bytes = SketchEncoding.createList(SketchEncoding.INT_ENTRY_SIZE +
+      registers.length / Long.BYTES * SketchEncoding.LONG_ENTRY_SIZE);
+    int position = SketchEncoding.putInt(bytes, PropertyValue.OFFSET, precision);
+    for (int offset = 0; offset < registers.length; offset += Long.BYTES) {
+      long packed = 0L;
+      for (int j = 0; j < Long.BYTES; j++) {
+        packed |= (registers[offset + j] & 0xFFL) << (j * Byte.SIZE);
+      }
+      position = SketchEncoding.putLong(bytes, position, packed);
+    }
+    return PropertyValue.fromRawBytes(bytes);
+  }
+
+  /**
+   * Creates a sketch from its property value representation.
+   *
+   * @param sketch sketch created by {@link #toPropertyValue()}
+   * @return sketch
+   */
+  public static HyperLogLog fromPropertyValue(PropertyValue sketch) {
+    HyperLogLog hyperLogLog = new HyperLogLog(
+      SketchEncoding.getInt(SketchEncoding.getList(sketch), PropertyValue.OFFSET));
+    hyperLogLog.merge(sketch);
+    return hyperLogLog;
+  }
+
+  /**
+   * Checks that a sketch to merge has the same precision.
+   *
+   * @param otherPrecision precision of the other sketch
+   */
+  private void checkPrecision(int otherPrecision) {
+    if (otherPrecision != precision) {
+      throw new IllegalArgumentException("Cannot merge sketches of precision " + precision +
+        " and " + otherPrecision);
+    }
+  }
+
+  /**
+   * Returns the bias correction constant for the given number of registers.
+   *
+   * @param m number of registers
+   * @return correction constant
+   */
+  private static double alpha(int m) {
+    switch (m) {
+    case 16:
+      return 0.673;
+    case 32:
+      return 0.697;
+    case 64:
+      return 0.709;
+    default:
+      return 0.7213 / (1 + 1.079 / m);
+    }
+  }
+}
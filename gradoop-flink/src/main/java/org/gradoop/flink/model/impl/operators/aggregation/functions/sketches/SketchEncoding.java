@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketches;
+
+import org.gradoop.common.exceptions.UnsupportedTypeException;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Reads and writes sketches represented as property value lists of fixed length numbers.
+ *
+ * The entries are accessed directly in the internal byte representation of the list, i.e., a
+ * list type byte followed by a type byte and the big endian value bytes per entry. This avoids
+ * creating a property value per entry when a sketch is merged or stored.
+ */
+final class SketchEncoding {
+  /**
+   * Size of an int entry in bytes.
+   */
+  static final int INT_ENTRY_SIZE = 1 + Integer.BYTES;
+  /**
+   * Size of a long or double entry in bytes.
+   */
+  static final int LONG_ENTRY_SIZE = 1 + Long.BYTES;
+
+  /**
+   * No instances.
+   */
+  private SketchEncoding() {
+  }
+
+  /**
+   * Creates the byte representation of an empty list with space for the given number of bytes.
+   *
+   * @param entryBytes total size of all entries
+   * @return byte representation, the first entry starts at {@link PropertyValue#OFFSET}
+   */
+  static byte[] createList(int entryBytes) {
+    byte[] bytes = new byte[PropertyValue.OFFSET + entryBytes];
+    bytes[0] = PropertyValue.TYPE_LIST;
+    return bytes;
+  }
+
+  /**
+   * Returns the byte representation of a sketch.
+   *
+   * @param sketch sketch
+   * @return byte representation, the first entry starts at {@link PropertyValue#OFFSET}
+   */
+  static byte[] getList(PropertyValue sketch) {
+    if (!sketch.isList()) {
+      throw new UnsupportedTypeException(sketch.getObject().getClass());
+    }
+    return sketch.getRawBytes();
+  }
+
+  /**
+   * Writes an int entry.
+   *
+   * @param bytes byte representation
+   * @param position position of the entry
+   * @param value value
+   * @return position of the next entry
+   */
+  static int putInt(byte[] bytes, int position, int value) {
+    return put(bytes, position, PropertyValue.TYPE_INTEGER, value, Integer.BYTES);
+  }
+
+  /**
+   * Writes a long entry.
+   *
+   * @param bytes byte representation
+   * @param position position of the entry
+   * @param value value
+   * @return position of the next entry
+   */
+  static int putLong(byte[] bytes, int position, long value) {
+    return put(bytes, position, PropertyValue.TYPE_LONG, value, Long.BYTES);
+  }
+
+  /**
+   * Writes a double entry.
+   *
+   * @param bytes byte representation
+   * @param position position of the entry
+   * @param value value
+   * @return position of the next entry
+   */
+  static int putDouble(byte[] bytes, int position, double value) {
+    return put(bytes, position, PropertyValue.TYPE_DOUBLE, Double.doubleToLongBits(value),
+      Long.BYTES);
+  }
+
+  /**
+   * Reads an int entry.
+   *
+   * @param bytes byte representation
+   * @param position position of the entry
+   * @return value
+   */
+  static int getInt(byte[] bytes, int position) {
+    return (int) get(bytes, position, PropertyValue.TYPE_INTEGER, Integer.BYTES);
+  }
+
+  /**
+   * Reads a long entry.
+   *
+   * @param bytes byte representation
+   * @param position position of the entry
+   * @return value
+   */
+  static long getLong(byte[] bytes, int position) {
+    return get(bytes, position, PropertyValue.TYPE_LONG, Long.BYTES);
+  }
+
+  /**
+   * Reads a double entry.
+   *
+   * @param bytes byte representation
+   * @param position position of the entry
+   * @return value
+   */
+  static double getDouble(byte[] bytes, int position) {
+    return Double.longBitsToDouble(get(bytes, position, PropertyValue.TYPE_DOUBLE, Long.BYTES));
+  }
+
+  /**
+   * Writes the type and the big endian value bytes of an entry.
+   *
+   * @param bytes byte representation
+   * @param position position of the entry
+   * @param type type byte
+   * @param value value bits
+   * @param size number of value bytes
+   * @return position of the next entry
+   */
+  private static int put(byte[] bytes, int position, byte type, long value, int size) {
+    bytes[position] = type;
+    for (int i = 1; i <= size; i++) {
+      bytes[position + i] = (byte) (value >>> ((size - i) * Byte.SIZE));
+    }
+    return position + 1 + size;
+  }
+
+  /**
+   * Reads the big endian value bytes of an entry of the given type.
+   *
+   * @param bytes byte representation
+   * @param position position of the entry
+   * @param type expected type byte
+   * @param size number of value bytes
+   * @return value bits
+   */
+  private static long get(byte[] bytes, int position, byte type, int size) {
+    if (bytes[position] != type) {
+      throw new IllegalArgumentException("Malformed sketch entry at position " + position);
+    }
+    long value = 0L;
+    for (int i = 1; i <= size; i++) {
+      value = (value << Byte.SIZE) | (bytes[position + i] & 0xFFL);
+    }
+    return value;
+  }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketches;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.util.Arrays;
+
+/**
+ * Merging t-digest estimating quantiles of a stream of numbers.
+ *
+ * The digest summarizes the values by weighted centroids. Centroids near the tails cover fewer
+ * values than centroids near the median, which keeps extreme quantiles accurate while the number
+ * of centroids is bounded by the compression parameter. Digests are merged by adding all
+ * centroids of one digest to the other and compressing the result, so partial digests of
+ * different partitions can be combined in any order.
+ *
+ * A digest is represented as a property value list of doubles containing the compression, the
+ * minimum, the maximum and the mean and weight of each centroid. The list is read and written
+ * directly in its byte representation, see {@link SketchEncoding}.
+ */
+public class TDigest {
+  /**
+   * Default compression, bounding the number of centroids by about 100.
+   */
+  public static final double DEFAULT_COMPRESSION = 100d;
+  /**
+   * Number of leading values of the property value representation before the centroids.
+   */
+  private static final int HEADER_SIZE = 3;
+
+  /**
+   * Compression parameter.
+   */
+  private final double compression;
+  /**
+   * Means of the centroids, sorted after compression.
+   */
+  private double[] means;
+  /**
+   * Weights of the centroids.
+   */
+  private double[] weights;
+  /**
+   * Number of centroids, including uncompressed ones.
+   */
+  private int size;
+  /**
+   * Number of compressed centroids at the beginning of the arrays.
+   */
+  private int compressedSize;
+  /**
+   * Minimum value.
+   */
+  private double min = Double.POSITIVE_INFINITY;
+  /**
+   * Maximum value.
+   */
+  private double max = Double.NEGATIVE_INFINITY;
+
+  /**
+   * Creates an empty digest.
+   *
+   * @param compression compression parameter
+   */
+  public TDigest(double compression) {
+    if (compression < 10d) {
+      throw new IllegalArgumentException("Compression must be at least 10, was " + compression);
+    }
+    this.compression = compression;
+    int capacity = 6 * (int) compression;
+    this.means = new double[capacity];
+    this.weights = new double[capacity];
+  }
+
+  /**
+   * Returns the compression parameter.
+   *
+   * @return compression
+   */
+  public double getCompression() {
+    return compression;
+  }
+
+  /**
+   * Adds a single value.
+   *
+   * @param value value
+   */
+  public void add(double value) {
+    add(value, 1d);
+  }
+
+  /**
+   * Adds a value with the given weight.
+   *
+   * @param mean value or centroid mean
+   * @param weight weight
+   */
+  public void add(double mean, double weight) {
+    if (size == means.length) {
+      compress();
+      if (size == means.length) {
+        means = Arrays.copyOf(means, size * 2);
+        weights = Arrays.copyOf(weights, size * 2);
+      }
+    }
+    means[size] = mean;
+    weights[size] = weight;
+    size++;
+    min = Math.min(min, mean);
+    max = Math.max(max, mean);
+  }
+
+  /**
+   * Adds all centroids of another digest.
+   *
+   * @param other digest to merge
+   */
+  public void merge(TDigest other) {
+    for (int i = 0; i < other.size; i++) {
+      add(other.means[i], other.weights[i]);
+    }
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+  }
+
+  /**
+   * Adds all centroids of a digest represented as property value.
+   *
+   * @param digest digest created by {@link #toPropertyValue()}
+   */
+  public void merge(PropertyValue digest) {
+    byte[] bytes = SketchEncoding.getList(digest);
+    int position = PropertyValue.OFFSET + SketchEncoding.LONG_ENTRY_SIZE;
+    double otherMin = SketchEncoding.getDouble(bytes, position);
+    position += SketchEncoding.LONG_ENTRY_SIZE;
+    double otherMax = SketchEncoding.getDouble(bytes, position);
+    position += SketchEncoding.LONG_ENTRY_SIZE;
+    while (position < bytes.length) {
+      double mean = SketchEncoding.getDouble(bytes, position);
+      position += SketchEncoding.LONG_ENTRY_SIZE;
+      add(mean, SketchEncoding.getDouble(bytes, position));
+      position += SketchEncoding.LONG_ENTRY_SIZE;
+    }
+    min = Math.min(min, otherMin);
+    max = Math.max(max, otherMax);
+  }
+
+  /**
+   * Returns the total weight, i.e., the number of added values.
+   *
+   * @return total weight
+   */
+  public double getWeight() {
+    double weight = 0d;
+    for (int i = 0; i < size; i++) {
+      weight += weights[i];
+    }
+    return weight;
+  }
+
+  /**
+   * Returns the estimated value at the given quantile.
+   *
+   * @param quantile quantile in [0, 1]
+   * @return estimated value or {@link Double#NaN}, if the digest is empty
+   */
+  public double quantile(double quantile) {
+    if (quantile < 0d || quantile > 1d) {
+      throw new IllegalArgumentException("Quantile must be in [0, 1], was " + quantile);
+    }
+    compress();
+    if (size == 0) {
+      return Double.NaN;
+    }
+    if (size == 1) {
+      return means[0];
+    }
+
+    double target = quantile * getWeight();
+    if (target <= weights[0] / 2d) {
+      return interpolate(min, means[0], target / (weights[0] / 2d));
+    }
+    double cumulative = 0d;
+    for (int i = 0; i < size - 1; i++) {
+      double left = cumulative + weights[i] / 2d;
+      double right = cumulative + weights[i] + weights[i + 1] / 2d;
+      if (target <= right) {
+        return interpolate(means[i], means[i + 1], (target - left) / (right - left));
+      }
+      cumulative += weights[i];
+    }
+    double left = cumulative + weights[size - 1] / 2d;
+    double total = cumulative + weights[size - 1];
+    return interpolate(means[size - 1], max, (target - left) / (total - left));
+  }
+
+  /**
+   * Returns the compressed digest as property value.
+   *
+   * @return list of compression, minimum, maximum and centroids
+   */
+  public PropertyValue toPropertyValue() {
+    compress();
+    byte[] bytes =
+      SketchEncoding.createList((HEADER_SIZE + 2 * size) * SketchEncoding.LONG_ENTRY_SIZE);
+    int position = SketchEncoding.putDouble(bytes, PropertyValue.OFFSET, compression);
+    position = SketchEncoding.putDouble(bytes, position, min);
+    position = SketchEncoding.putDouble(bytes, position, max);
+    for (int i = 0; i < size; i++) {
+      position = SketchEncoding.putDouble(bytes, position, means[i]);
+      position = SketchEncoding.putDouble(bytes, position, weights[i]);
+    }
+    return PropertyValue.fromRawBytes(bytes);
+  }
+
+  /**
+   * Creates a digest from its property value representation.
+   *
+   * @param digest digest created by {@link #toPropertyValue()}
+   * @return digest
+   */
+  public static TDigest fromPropertyValue(PropertyValue digest) {
+    TDigest tDigest = new TDigest(
+      SketchEncoding.getDouble(SketchEncoding.getList(digest), PropertyValue.OFFSET));
+    tDigest.merge(digest);
+    return tDigest;
+  }
+
+  /**
+   * Sorts all centroids by mean and merges neighbours as long as the merged centroid does not
+   * exceed the size limit of its position, given by the arcsine scale function.
+   */
+  private void compress() {
+    if (compressedSize == size) {
+      return;
+    }
+    sortByMean();
+
+    double total = getWeight();
+    double soFar = 0d;
+    int last = 0;
+    for (int i = 1; i < size; i++) {
+      double proposed = weights[last] + weights[i];
+      double qLeft = soFar / total;
+      double qRight = (soFar + proposed) / total;
+      if (scale(qRight) - scale(qLeft) <= 1d) {
+        means[last] += (means[i] - means[last]) * weights[i] / proposed;
+        weights[last] = proposed;
+      } else {
+        soFar += weights[last];
+        last++;
+        means[last] = means[i];
+        weights[last] = weights[i];
+      }
+    }
+    size = last + 1;
+    compressedSize = size;
+  }
+
+  /**
+   * Sorts the centroids by their means, keeping the weights aligned.
+   */
+  private void sortByMean() {
+    Integer[] order = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Double.compare(means[a], means[b]));
+    double[] sortedMeans = new double[means.length];
+    double[] sortedWeights = new double[weights.length];
+    for (int i = 0; i < size; i++) {
+      sortedMeans[i] = means[order[i]];
+      sortedWeights[i] = weights[order[i]];
+    }
+    means = sortedMeans;
+    weights = sortedWeights;
+  }
+
+  /**
+   * Arcsine scale function mapping a quantile to the centroid index space.
+   *
+   * @param quantile quantile
+   * @return scaled index
+   */
+  private double scale(double quantile) {
+    return compression / (2d * Math.PI) * Math.asin(2d * Math.min(1d, quantile) - 1d);
+  }
+
+  /**
+   * Interpolates linearly between two values.
+   *
+   * @param from value at fraction 0
+   * @param to value at fraction 1
+   * @param fraction fraction
+   * @return interpolated value
+   */
+  private static double interpolate(double from, double to, double fraction) {
+    return from + (to - from) * Math.max(0d, Math.min(1d, fraction));
+  }
+}
@@ -17,7 +17,9 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions.sum;
 
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulators.SumAccumulator;
 
 /**
  * Interface of summing aggregate functions
@@ -28,4 +30,9 @@ public interface Sum extends AggregateFunction {
   default PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
     return PropertyValueUtils.Numeric.add(aggregate, increment);
   }
+
+  @Override
+  default AggregateAccumulator createAccumulator() {
+    return new SumAccumulator(this);
+  }
 }
@@ -22,6 +22,7 @@ import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.functions.epgm.IdInBroadcast;
 import org.gradoop.flink.model.impl.operators.distinction.functions.FirstGraphHead;
 import org.gradoop.flink.model.impl.operators.distinction.functions.IdFromGraphHeadString;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalLabelingStrategy;
 
 /**
  * Returns a distinct collection of logical graphs.
@@ -36,6 +37,15 @@ public class DistinctByIsomorphism extends GroupByIsomorphism {
     super(new FirstGraphHead());
   }
 
+  /**
+   * Constructor.
+   *
+   * @param strategy strategy used to canonically label the graphs
+   */
+  public DistinctByIsomorphism(CanonicalLabelingStrategy strategy) {
+    super(new FirstGraphHead(), strategy);
+  }
+
   @Override
   public GraphCollection execute(GraphCollection collection) {
     // create canonical labels for all graph heads and choose representative for all distinct ones
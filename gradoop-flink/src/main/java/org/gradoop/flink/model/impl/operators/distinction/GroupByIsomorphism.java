@@ -22,7 +22,8 @@ import org.gradoop.flink.model.api.functions.GraphHeadReduceFunction;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.operators.distinction.functions.GraphHeadGroup;
 import org.gradoop.flink.model.impl.operators.selection.SelectionBase;
-import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalLabelingStrategy;
+import org.gradoop.flink.model.impl.operators.tostring.api.CanonicalLabelBuilder;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToEmptyString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.VertexToDataString;
@@ -39,13 +40,30 @@ public class GroupByIsomorphism extends SelectionBase {
    */
   private final GraphHeadReduceFunction function;
 
+  /**
+   * Strategy used to canonically label the graphs.
+   */
+  private final CanonicalLabelingStrategy strategy;
+
   /**
    * Constructor.
    *
    * @param function reduce function to merge multiple heads of isomorphic graphs
    */
   public GroupByIsomorphism(GraphHeadReduceFunction function) {
+    this(function, CanonicalLabelingStrategy.ADJACENCY_MATRIX);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param function reduce function to merge multiple heads of isomorphic graphs
+   * @param strategy strategy used to canonically label the graphs
+   */
+  public GroupByIsomorphism(GraphHeadReduceFunction function,
+    CanonicalLabelingStrategy strategy) {
     this.function = function;
+    this.strategy = strategy;
   }
 
   @Override
@@ -68,11 +86,11 @@ public class GroupByIsomorphism extends SelectionBase {
    */
   protected DataSet<GraphHeadString> getCanonicalLabels(GraphCollection collection) {
     // Init builder for canonical labels
-    CanonicalAdjacencyMatrixBuilder camBuilder = new CanonicalAdjacencyMatrixBuilder(
+    CanonicalLabelBuilder labelBuilder = strategy.createBuilder(
       new GraphHeadToEmptyString(),  new VertexToDataString(), new EdgeToDataString(), true);
 
     // create canonical labels for all graph heads and choose representative for all distinct ones
-    return camBuilder
+    return labelBuilder
       .getGraphHeadStrings(collection);
   }
 
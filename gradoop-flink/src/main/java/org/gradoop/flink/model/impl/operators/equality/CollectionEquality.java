@@ -22,7 +22,8 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.api.operators.BinaryCollectionToValueOperator;
 import org.gradoop.flink.model.impl.functions.bool.Equals;
-import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalLabelingStrategy;
+import org.gradoop.flink.model.impl.operators.tostring.api.CanonicalLabelBuilder;
 import org.gradoop.flink.model.impl.operators.tostring.api.EdgeToString;
 import org.gradoop.flink.model.impl.operators.tostring.api.GraphHeadToString;
 import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
@@ -38,7 +39,7 @@ public class CollectionEquality
    * builder to create the string representations of graph collections used for
    * comparison.
    */
-  private final CanonicalAdjacencyMatrixBuilder canonicalAdjacencyMatrixBuilder;
+  private final CanonicalLabelBuilder canonicalLabelBuilder;
 
   /**
    * constructor to set string representations
@@ -50,19 +51,31 @@ public class CollectionEquality
   public CollectionEquality(GraphHeadToString<GraphHead> graphHeadToString,
     VertexToString<Vertex> vertexToString, EdgeToString<Edge> edgeToString,
     boolean directed) {
-    /*
-    sets mode for directed or undirected graphs
+    this(graphHeadToString, vertexToString, edgeToString, directed,
+      CanonicalLabelingStrategy.ADJACENCY_MATRIX);
+  }
+
+  /**
+   * constructor to set string representations and the canonical labeling strategy
+   * @param graphHeadToString string representation of graph heads
+   * @param vertexToString string representation of vertices
+   * @param edgeToString string representation of edges
+   * @param directed sets mode for directed or undirected graphs
+   * @param strategy strategy used to canonically label the graphs
    */
-    this.canonicalAdjacencyMatrixBuilder = new CanonicalAdjacencyMatrixBuilder(
-        graphHeadToString, vertexToString, edgeToString, directed);
+  public CollectionEquality(GraphHeadToString<GraphHead> graphHeadToString,
+    VertexToString<Vertex> vertexToString, EdgeToString<Edge> edgeToString,
+    boolean directed, CanonicalLabelingStrategy strategy) {
+    this.canonicalLabelBuilder = strategy.createBuilder(
+      graphHeadToString, vertexToString, edgeToString, directed);
   }
 
   @Override
   public DataSet<Boolean> execute(GraphCollection firstCollection,
     GraphCollection secondCollection) {
     return Equals.cross(
-      canonicalAdjacencyMatrixBuilder.execute(firstCollection),
-      canonicalAdjacencyMatrixBuilder.execute(secondCollection)
+      canonicalLabelBuilder.execute(firstCollection),
+      canonicalLabelBuilder.execute(secondCollection)
     );
   }
 
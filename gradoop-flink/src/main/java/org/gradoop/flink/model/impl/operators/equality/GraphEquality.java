@@ -22,6 +22,7 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.BinaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalLabelingStrategy;
 import org.gradoop.flink.model.impl.operators.tostring.api.EdgeToString;
 import org.gradoop.flink.model.impl.operators.tostring.api.GraphHeadToString;
 import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
@@ -51,10 +52,25 @@ public class GraphEquality implements BinaryGraphToValueOperator<Boolean> {
    */
   public GraphEquality(GraphHeadToString<GraphHead> graphHeadToString,
     VertexToString<Vertex> vertexToString, EdgeToString<Edge> edgeToString, boolean directed) {
+    this(graphHeadToString, vertexToString, edgeToString, directed,
+      CanonicalLabelingStrategy.ADJACENCY_MATRIX);
+  }
+
+  /**
+   * constructor to set string representations and the canonical labeling strategy
+   * @param graphHeadToString string representation of graph heads
+   * @param vertexToString string representation of vertices
+   * @param edgeToString string representation of edges
+   * @param directed sets mode for directed or undirected graphs
+   * @param strategy strategy used to canonically label the graphs
+   */
+  public GraphEquality(GraphHeadToString<GraphHead> graphHeadToString,
+    VertexToString<Vertex> vertexToString, EdgeToString<Edge> edgeToString, boolean directed,
+    CanonicalLabelingStrategy strategy) {
     this.directed = directed;
 
-    this.collectionEquality =
-      new CollectionEquality(graphHeadToString, vertexToString, edgeToString, this.directed);
+    this.collectionEquality = new CollectionEquality(
+      graphHeadToString, vertexToString, edgeToString, this.directed, strategy);
   }
 
   @Override
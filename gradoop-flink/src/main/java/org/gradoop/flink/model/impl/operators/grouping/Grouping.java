@@ -18,13 +18,25 @@ package org.gradoop.flink.model.impl.operators.grouping;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.operators.UnsortedGrouping;
 import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.util.GradoopConstants;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.functions.graphcontainment.AddToGraph;
 import org.gradoop.flink.model.impl.operators.grouping.functions.BuildEdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperEdgeFromGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithSuperVertex;
 import org.gradoop.flink.model.impl.operators.grouping.functions.CombineEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterGroupingSet;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterRegularVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterSuperVertices;
 import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceEdgeGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceVertexGroupItems;
 import org.gradoop.flink.model.impl.operators.grouping.functions.UpdateEdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
@@ -214,11 +226,11 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     DataSet<VertexGroupItem> groupVertices) {
     UnsortedGrouping<VertexGroupItem> vertexGrouping;
     if (useVertexLabels() && useVertexProperties()) {
-      vertexGrouping = groupVertices.groupBy(2, 3);
+      vertexGrouping = groupVertices.groupBy(7, 2, 3);
     } else if (useVertexLabels()) {
-      vertexGrouping = groupVertices.groupBy(2);
+      vertexGrouping = groupVertices.groupBy(7, 2);
     } else {
-      vertexGrouping = groupVertices.groupBy(3);
+      vertexGrouping = groupVertices.groupBy(7, 3);
     }
     return vertexGrouping;
   }
@@ -232,13 +244,13 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
   protected UnsortedGrouping<EdgeGroupItem> groupEdges(DataSet<EdgeGroupItem> edges) {
     UnsortedGrouping<EdgeGroupItem> groupedEdges;
     if (useEdgeProperties() && useEdgeLabels()) {
-      groupedEdges = edges.groupBy(0, 1, 2, 3);
+      groupedEdges = edges.groupBy(6, 0, 1, 2, 3);
     } else if (useEdgeLabels()) {
-      groupedEdges = edges.groupBy(0, 1, 2);
+      groupedEdges = edges.groupBy(6, 0, 1, 2);
     } else if (useEdgeProperties()) {
-      groupedEdges = edges.groupBy(0, 1, 3);
+      groupedEdges = edges.groupBy(6, 0, 1, 3);
     } else {
-      groupedEdges = edges.groupBy(0, 1);
+      groupedEdges = edges.groupBy(6, 0, 1);
     }
     return groupedEdges;
   }
@@ -254,31 +266,147 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     LogicalGraph graph,
     DataSet<VertexWithSuperVertex> vertexToRepresentativeMap) {
 
-    DataSet<EdgeGroupItem> edges = graph.getEdges()
+    DataSet<EdgeGroupItem> edges = updateEdgeGroupItems(graph, vertexToRepresentativeMap);
+
+    // group + combine
+    DataSet<EdgeGroupItem> combinedEdges = groupEdges(edges)
+      .combineGroup(new CombineEdgeGroupItems(useEdgeLabels()));
+
+    // group + reduce + build final edges
+    return groupEdges(combinedEdges)
+      .reduceGroup(new ReduceEdgeGroupItems(
+        useEdgeLabels(),
+        config.getEdgeFactory()));
+  }
+
+  /**
+   * Maps edges to {@link EdgeGroupItem}s and replaces their source and target id with the id of
+   * the corresponding super vertex.
+   *
+   * @param graph input graph
+   * @param vertexToRepresentativeMap dataset containing tuples of vertex id and super vertex id
+   * @return edge group items pointing to super vertices
+   */
+  protected DataSet<EdgeGroupItem> updateEdgeGroupItems(
+    LogicalGraph graph,
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap) {
+
+    return updateEdgeGroupItems(
       // build edge group items
-      .flatMap(new BuildEdgeGroupItem(useEdgeLabels(), getEdgeLabelGroups()))
+      graph.getEdges().flatMap(new BuildEdgeGroupItem(useEdgeLabels(), getEdgeLabelGroups())),
+      vertexToRepresentativeMap);
+  }
+
+  /**
+   * Replaces the source and target id of the given {@link EdgeGroupItem}s with the id of the
+   * corresponding super vertex of the same grouping set.
+   *
+   * @param edges edge group items
+   * @param vertexToRepresentativeMap dataset containing tuples of vertex id and super vertex id
+   * @return edge group items pointing to super vertices
+   */
+  private static DataSet<EdgeGroupItem> updateEdgeGroupItems(
+    DataSet<EdgeGroupItem> edges,
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap) {
+
+    return edges
       // join edges with vertex-group-map on source-id == vertex-id
       .join(vertexToRepresentativeMap)
-      .where(0).equalTo(0)
+      .where(0, 6).equalTo(0, 2)
       .with(new UpdateEdgeGroupItem(0))
-      .withForwardedFieldsFirst("f1;f2;f3;f4")
+      .withForwardedFieldsFirst("f1;f2;f3;f4;f6")
       .withForwardedFieldsSecond("f1->f0")
       // join result with vertex-group-map on target-id == vertex-id
       .join(vertexToRepresentativeMap)
-      .where(1).equalTo(0)
+      .where(1, 6).equalTo(0, 2)
       .with(new UpdateEdgeGroupItem(1))
-      .withForwardedFieldsFirst("f0;f2;f3;f4")
+      .withForwardedFieldsFirst("f0;f2;f3;f4;f6")
       .withForwardedFieldsSecond("f1->f1");
+  }
 
-    // group + combine
-    DataSet<EdgeGroupItem> combinedEdges = groupEdges(edges)
-      .combineGroup(new CombineEdgeGroupItems(useEdgeLabels()));
+  /**
+   * Groups the graph by multiple grouping sets within a single dataflow, similar to GROUPING SETS
+   * in SQL. Each of the given groupings defines one grouping set.
+   *
+   * The group items of all sets carry the index of their set, which is part of every grouping
+   * key. Thus, the vertices and edges of all sets are grouped by the same operators and the input
+   * graph is read only once. The sets are evaluated like {@link GroupingGroupReduce}, independent
+   * of the strategy the groupings were built with.
+   *
+   * @param graph input graph
+   * @param groupingSets groupings defining the grouping sets
+   * @param graphHeads graph head of the grouped graph of each grouping set, in the same order
+   * @return collection containing the grouped graph of each grouping set
+   */
+  public static GraphCollection groupBySets(LogicalGraph graph, List<Grouping> groupingSets,
+    List<GraphHead> graphHeads) {
+    GradoopFlinkConfig config = graph.getConfig();
+
+    DataSet<VertexGroupItem> verticesForGrouping = null;
+    DataSet<EdgeGroupItem> edgesForGrouping = null;
+
+    for (int groupingSet = 0; groupingSet < groupingSets.size(); groupingSet++) {
+      Grouping grouping = groupingSets.get(groupingSet);
+
+      // map vertices and edges to group items of the current grouping set
+      DataSet<VertexGroupItem> vertexItems = graph.getVertices()
+        .flatMap(new BuildVertexGroupItem(
+          grouping.useVertexLabels(), grouping.getVertexLabelGroups(), groupingSet));
+      DataSet<EdgeGroupItem> edgeItems = graph.getEdges()
+        .flatMap(new BuildEdgeGroupItem(
+          grouping.useEdgeLabels(), grouping.getEdgeLabelGroups(), groupingSet));
+
+      verticesForGrouping = verticesForGrouping == null ?
+        vertexItems : verticesForGrouping.union(vertexItems);
+      edgesForGrouping = edgesForGrouping == null ?
+        edgeItems : edgesForGrouping.union(edgeItems);
+    }
 
-    // group + reduce + build final edges
-    return groupEdges(combinedEdges)
-      .reduceGroup(new ReduceEdgeGroupItems(
-        useEdgeLabels(),
-        config.getEdgeFactory()));
+    // group vertices by grouping set, label and properties, the label of each item has already
+    // been set according to its grouping set
+    DataSet<VertexGroupItem> vertexGroupItems = verticesForGrouping
+      .groupBy(7, 2, 3)
+      .reduceGroup(new ReduceVertexGroupItems(false));
+
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap = vertexGroupItems
+      .filter(new FilterRegularVertices())
+      .map(new BuildVertexWithSuperVertex());
+
+    // group edges by grouping set, super vertices, label and properties
+    DataSet<EdgeGroupItem> edgeGroupItems =
+      updateEdgeGroupItems(edgesForGrouping, vertexToRepresentativeMap)
+        .groupBy(6, 0, 1, 2, 3)
+        .combineGroup(new CombineEdgeGroupItems(false))
+        .groupBy(6, 0, 1, 2, 3)
+        .reduceGroup(new CombineEdgeGroupItems(false));
+
+    DataSet<VertexGroupItem> superVertexItems = vertexGroupItems
+      .filter(new FilterSuperVertices());
+
+    DataSet<Vertex> superVertices = null;
+    DataSet<Edge> superEdges = null;
+
+    for (int groupingSet = 0; groupingSet < groupingSets.size(); groupingSet++) {
+      GraphHead graphHead = graphHeads.get(groupingSet);
+
+      // build the super elements of the current grouping set and add them to its graph
+      DataSet<Vertex> vertices = superVertexItems
+        .filter(new FilterGroupingSet<>(groupingSet))
+        .map(new BuildSuperVertex(false, config.getVertexFactory()))
+        .map(new AddToGraph<>(graphHead))
+        .withForwardedFields("id;label;properties");
+      DataSet<Edge> edges = edgeGroupItems
+        .filter(new FilterGroupingSet<>(groupingSet))
+        .map(new BuildSuperEdgeFromGroupItem(false, config.getEdgeFactory()))
+        .map(new AddToGraph<>(graphHead))
+        .withForwardedFields("id;sourceId;targetId;label;properties");
+
+      superVertices = superVertices == null ? vertices : superVertices.union(vertices);
+      superEdges = superEdges == null ? edges : superEdges.union(edges);
+    }
+
+    return config.getGraphCollectionFactory().fromDataSets(
+      config.getExecutionEnvironment().fromCollection(graphHeads), superVertices, superEdges);
   }
 
   /**
@@ -673,6 +801,10 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
         groupingOperator = new GroupingGroupCombine(
           useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups);
         break;
+      case HASH_COMBINE:
+        groupingOperator = new GroupingHashCombine(
+          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups);
+        break;
       default:
         throw new IllegalArgumentException("Unsupported strategy: " + strategy);
       }
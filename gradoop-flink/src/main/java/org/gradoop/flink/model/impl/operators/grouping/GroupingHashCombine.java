@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.apache.flink.api.common.operators.base.ReduceOperatorBase.CombineHint;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.functions.AggregateGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperEdgeFromGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SetSuperVertexIdByHash;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+
+import java.util.List;
+
+/**
+ * Grouping implementation that derives super vertex ids from a hash of the grouping key and
+ * aggregates vertices and edges using combinable reduce functions.
+ *
+ * Algorithmic idea:
+ *
+ * 1) Map vertices to a minimal representation, i.e. {@link VertexGroupItem}.
+ * 2) Set the super vertex id of each item to a deterministic hash of its group label and/or
+ *    grouping values. All vertices of a group are assigned the same super vertex id without
+ *    shuffling them.
+ * 3) Map the output of 2) to {@link VertexWithSuperVertex}.
+ * 4) Group the output of 2) on the super vertex id and reduce it pairwise. The reduce is
+ *    pre-aggregated on each worker by a hash-based combiner in managed memory.
+ * 5) Build final super vertices from the output of 4).
+ * 6) Map edges to a minimal representation, i.e. {@link EdgeGroupItem}
+ * 7) Join edges with output of 3) and replace source/target id with super
+ *    vertex id.
+ * 8) Updated edges are grouped by source and target id and optionally by label
+ *    and/or edge property.
+ * 9) Reduce the groups pairwise with a hash-based combiner and create final super edges.
+ *
+ * In contrast to {@link GroupingGroupReduce} and {@link GroupingGroupCombine}, the
+ * vertex-to-super-vertex mapping does not depend on the vertex aggregation. Only one tuple per
+ * group and worker is shuffled when building super vertices and super edges.
+ */
+public class GroupingHashCombine extends Grouping {
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param useVertexLabels   group on vertex label true/false
+   * @param useEdgeLabels     group on edge label true/false
+   * @param vertexLabelGroups stores grouping properties for vertex labels
+   * @param edgeLabelGroups   stores grouping properties for edge labels
+   */
+  GroupingHashCombine(
+    boolean useVertexLabels,
+    boolean useEdgeLabels,
+    List<LabelGroup> vertexLabelGroups,
+    List<LabelGroup> edgeLabelGroups) {
+    super(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups);
+  }
+
+  @Override
+  protected LogicalGraph groupInternal(LogicalGraph graph) {
+
+    DataSet<VertexGroupItem> verticesForGrouping = graph.getVertices()
+      // map vertex to vertex group item
+      .flatMap(new BuildVertexGroupItem(useVertexLabels(), getVertexLabelGroups()))
+      // assign super vertex id derived from the grouping key
+      .map(new SetSuperVertexIdByHash(
+        GradoopId.get(), useVertexLabels(), useVertexProperties()));
+
+    // build vertex to group representative tuple
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap = verticesForGrouping
+      .map(new BuildVertexWithSuperVertex());
+
+    DataSet<Vertex> superVertices = verticesForGrouping
+      // group vertices by super vertex id and apply aggregate function
+      .groupBy(1)
+      .reduce(new AggregateGroupItems<>())
+      .setCombineHint(CombineHint.HASH)
+      // build super vertices
+      .map(new BuildSuperVertex(useVertexLabels(), config.getVertexFactory()));
+
+    // group + combine + reduce edges
+    DataSet<Edge> superEdges = groupEdges(updateEdgeGroupItems(graph, vertexToRepresentativeMap))
+      .reduce(new AggregateGroupItems<>())
+      .setCombineHint(CombineHint.HASH)
+      // build final edges
+      .map(new BuildSuperEdgeFromGroupItem(useEdgeLabels(), config.getEdgeFactory()));
+
+    return config.getLogicalGraphFactory().fromDataSets(superVertices, superEdges);
+  }
+
+  @Override
+  public String getName() {
+    return GroupingHashCombine.class.getName();
+  }
+}
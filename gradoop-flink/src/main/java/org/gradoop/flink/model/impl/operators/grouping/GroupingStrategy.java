@@ -26,5 +26,9 @@ public enum GroupingStrategy {
   /**
    * {@see GroupingGroupCombine}
    */
-  GROUP_COMBINE
+  GROUP_COMBINE,
+  /**
+   * {@see GroupingHashCombine}
+   */
+  HASH_COMBINE
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.GroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
+
+import java.util.List;
+
+/**
+ * Merges the aggregate values of two group items of the same group. As the function is
+ * associative, it can be used with a hash-based combiner.
+ *
+ * The values are folded with the accumulators of the aggregate functions rather than their
+ * pairwise aggregate methods, hence summaries like sketches are decoded and encoded once per
+ * call.
+ *
+ * @param <T> vertex or edge group item
+ */
+public class AggregateGroupItems<T extends GroupItem> implements ReduceFunction<T> {
+
+  @Override
+  public T reduce(T first, T second) throws Exception {
+    LabelGroup labelGroup = first.getLabelGroup();
+    List<AggregateAccumulator> accumulators = labelGroup.createAccumulators();
+    LabelGroup.accumulate(accumulators, first.getAggregateValues());
+    LabelGroup.accumulate(accumulators, second.getAggregateValues());
+    labelGroup.setAccumulatedValues(accumulators);
+    first.setAggregateValues(labelGroup.getAggregateValueList());
+    labelGroup.resetAggregateValues();
+    return first;
+  }
+}
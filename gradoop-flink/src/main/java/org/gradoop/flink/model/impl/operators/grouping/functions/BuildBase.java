@@ -99,7 +99,8 @@ abstract class BuildBase implements Serializable {
     if (!valueAggregators.isEmpty()) {
       Iterator<PropertyValue> valueIt = values.iterator();
       for (AggregateFunction valueAggregator : valueAggregators) {
-        element.setProperty(valueAggregator.getAggregatePropertyKey(), valueIt.next());
+        element.setProperty(valueAggregator.getAggregatePropertyKey(),
+          valueAggregator.postAggregate(valueIt.next()));
       }
     }
   }
@@ -46,8 +46,21 @@ public class BuildEdgeGroupItem
    * @param edgeLabelGroups stores grouping properties for edge labels
    */
   public BuildEdgeGroupItem(boolean useLabel, List<LabelGroup> edgeLabelGroups) {
+    this(useLabel, edgeLabelGroups, 0);
+  }
+
+  /**
+   * Creates map function which assigns the created items to the given grouping set.
+   *
+   * @param useLabel true, if vertex label shall be used
+   * @param edgeLabelGroups stores grouping properties for edge labels
+   * @param groupingSet index of the grouping set
+   */
+  public BuildEdgeGroupItem(boolean useLabel, List<LabelGroup> edgeLabelGroups,
+    int groupingSet) {
     super(useLabel, edgeLabelGroups);
     this.reuseEdgeGroupItem = new EdgeGroupItem();
+    this.reuseEdgeGroupItem.setGroupingSet(groupingSet);
   }
 
   /**
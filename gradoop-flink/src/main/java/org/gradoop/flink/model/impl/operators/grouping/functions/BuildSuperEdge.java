@@ -15,9 +15,12 @@
  */
 package org.gradoop.flink.model.impl.operators.grouping.functions;
 
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Creates a single {@link EdgeGroupItem} from a set of group items.
@@ -47,6 +50,7 @@ abstract class BuildSuperEdge extends BuildBase {
 
     EdgeGroupItem edgeGroupItem = new EdgeGroupItem();
     boolean firstElement        = true;
+    List<AggregateAccumulator> accumulators = null;
 
     for (EdgeGroupItem edge : edgeGroupItems) {
       if (firstElement) {
@@ -55,11 +59,14 @@ abstract class BuildSuperEdge extends BuildBase {
         edgeGroupItem.setGroupLabel(edge.getGroupLabel());
         edgeGroupItem.setGroupingValues(edge.getGroupingValues());
         edgeGroupItem.setLabelGroup(edge.getLabelGroup());
+        edgeGroupItem.setGroupingSet(edge.getGroupingSet());
+        accumulators = edge.getLabelGroup().createAccumulators();
         firstElement = false;
       }
 
-      edgeGroupItem.getLabelGroup().aggregate(edge.getAggregateValues());
+      LabelGroup.accumulate(accumulators, edge.getAggregateValues());
     }
+    edgeGroupItem.getLabelGroup().setAccumulatedValues(accumulators);
 
     edgeGroupItem.setAggregateValues(edgeGroupItem.getLabelGroup().getAggregateValueList());
     return edgeGroupItem;
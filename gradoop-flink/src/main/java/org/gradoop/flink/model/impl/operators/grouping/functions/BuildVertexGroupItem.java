@@ -49,11 +49,24 @@ public class BuildVertexGroupItem
    * @param vertexLabelGroups stores grouping properties for vertex labels
    */
   public BuildVertexGroupItem(boolean useLabel, List<LabelGroup> vertexLabelGroups) {
+    this(useLabel, vertexLabelGroups, 0);
+  }
+
+  /**
+   * Creates map function which assigns the created items to the given grouping set.
+   *
+   * @param useLabel true, if label shall be considered
+   * @param vertexLabelGroups stores grouping properties for vertex labels
+   * @param groupingSet index of the grouping set
+   */
+  public BuildVertexGroupItem(boolean useLabel, List<LabelGroup> vertexLabelGroups,
+    int groupingSet) {
     super(useLabel, vertexLabelGroups);
 
     this.reuseVertexGroupItem = new VertexGroupItem();
     this.reuseVertexGroupItem.setSuperVertexId(GradoopId.NULL_VALUE);
     this.reuseVertexGroupItem.setSuperVertex(false);
+    this.reuseVertexGroupItem.setGroupingSet(groupingSet);
   }
 
   @Override
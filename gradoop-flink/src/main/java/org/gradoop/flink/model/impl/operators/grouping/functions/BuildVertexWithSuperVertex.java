@@ -24,8 +24,9 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
  * Maps a {@link VertexGroupItem} to a {@link VertexWithSuperVertex}.
  */
 @FunctionAnnotation.ForwardedFields(
-  "f0;" + // vertex id
-  "f1"    // super vertex id
+  "f0;" +    // vertex id
+  "f1;" +    // super vertex id
+  "f7->f2"   // grouping set
 )
 public class BuildVertexWithSuperVertex
   implements MapFunction<VertexGroupItem, VertexWithSuperVertex> {
@@ -47,6 +48,7 @@ public class BuildVertexWithSuperVertex
     Exception {
     reuseTuple.setVertexId(vertexGroupItem.getVertexId());
     reuseTuple.setSuperVertexId(vertexGroupItem.getSuperVertexId());
+    reuseTuple.setGroupingSet(vertexGroupItem.getGroupingSet());
     return reuseTuple;
   }
 }
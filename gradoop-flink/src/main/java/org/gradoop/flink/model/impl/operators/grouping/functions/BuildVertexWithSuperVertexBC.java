@@ -72,6 +72,7 @@ public class BuildVertexWithSuperVertexBC
   public VertexWithSuperVertex map(VertexGroupItem item) throws Exception {
     reuseTuple.setVertexId(item.getVertexId());
     reuseTuple.setSuperVertexId(getFinalGroupRepresentative(item.getSuperVertexId()));
+    reuseTuple.setGroupingSet(item.getGroupingSet());
     return reuseTuple;
   }
 
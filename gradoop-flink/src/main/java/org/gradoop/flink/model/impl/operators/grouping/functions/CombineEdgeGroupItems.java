@@ -16,12 +16,16 @@
 package org.gradoop.flink.model.impl.operators.grouping.functions;
 
 import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.util.Collector;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
 
 /**
  * Combines a group of {@link EdgeGroupItem} to a single {@link EdgeGroupItem}.
+ *
+ * The function can also be used as a combinable group reducer whenever the aggregated
+ * {@link EdgeGroupItem} is processed further instead of being turned into a super edge.
  */
 @FunctionAnnotation.ForwardedFields(
     "f0;" + // sourceId
@@ -29,11 +33,13 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
     "f2;" + // group label
     "f3;" + // properties
     "f4;" + // aggregates
-    "f5"    // label group
+    "f5;" + // label group
+    "f6"    // grouping set
 )
 public class CombineEdgeGroupItems
   extends BuildSuperEdge
-  implements GroupCombineFunction<EdgeGroupItem, EdgeGroupItem> {
+  implements GroupCombineFunction<EdgeGroupItem, EdgeGroupItem>,
+  GroupReduceFunction<EdgeGroupItem, EdgeGroupItem> {
 
   /**
    * Avoid object instantiation.
@@ -63,4 +69,17 @@ public class CombineEdgeGroupItems
     reuseEdgeGroupItem.getLabelGroup().resetAggregateValues();
     collector.collect(reuseEdgeGroupItem);
   }
+
+  /**
+   * Reduces edge group items to a single edge group item and collects it.
+   *
+   * @param edgeGroupItems edge group items
+   * @param collector output collector
+   * @throws Exception on failure
+   */
+  @Override
+  public void reduce(Iterable<EdgeGroupItem> edgeGroupItems,
+    Collector<EdgeGroupItem> collector) throws Exception {
+    combine(edgeGroupItems, collector);
+  }
 }
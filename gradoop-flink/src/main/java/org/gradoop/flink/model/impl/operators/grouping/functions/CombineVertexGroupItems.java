@@ -33,7 +33,8 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
     "f0;" + // vertexId
     "f3;" + // label
     "f4;" + // properties
-    "f6"    // label group
+    "f6;" + // label group
+    "f7"    // grouping set
 )
 public class CombineVertexGroupItems
   extends ReduceVertexGroupItems
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.GroupItem;
+
+/**
+ * Filter those group items which belong to the given grouping set.
+ *
+ * @param <T> vertex or edge group item
+ */
+public class FilterGroupingSet<T extends GroupItem> implements FilterFunction<T> {
+
+  /**
+   * Index of the grouping set to keep.
+   */
+  private final int groupingSet;
+
+  /**
+   * Creates filter function.
+   *
+   * @param groupingSet index of the grouping set to keep
+   */
+  public FilterGroupingSet(int groupingSet) {
+    this.groupingSet = groupingSet;
+  }
+
+  @Override
+  public boolean filter(T groupItem) throws Exception {
+    return groupItem.getGroupingSet() == groupingSet;
+  }
+}
@@ -19,9 +19,13 @@ import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
 
+import java.util.List;
+
 /**
  * Reduces a group of {@link VertexGroupItem} instances.
  */
@@ -30,7 +34,8 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
     "f2;" + // label
     "f3;" + // properties
     "f4;" + // aggregates
-    "f6"    // label group
+    "f6;" + // label group
+    "f7"    // grouping set
 )
 public class ReduceVertexGroupItems
   extends ReduceVertexGroupItemBase
@@ -54,6 +59,7 @@ public class ReduceVertexGroupItems
     PropertyValueList groupPropertyValues           = null;
 
     VertexGroupItem reuseTuple = getReuseVertexGroupItem();
+    List<AggregateAccumulator> accumulators       = null;
 
     boolean isFirst = true;
 
@@ -66,9 +72,11 @@ public class ReduceVertexGroupItems
         reuseTuple.setGroupLabel(groupLabel);
         reuseTuple.setGroupingValues(groupPropertyValues);
         reuseTuple.setSuperVertexId(superVertexId);
+        reuseTuple.setGroupingSet(groupItem.getGroupingSet());
         reuseTuple.setAggregateValues(groupItem.getAggregateValues());
         reuseTuple.setSuperVertex(groupItem.isSuperVertex());
         reuseTuple.setLabelGroup(groupItem.getLabelGroup());
+        accumulators = groupItem.getLabelGroup().createAccumulators();
 
         isFirst = false;
       }
@@ -77,8 +85,9 @@ public class ReduceVertexGroupItems
       // collect updated vertex item
       collector.collect(reuseTuple);
 
-      reuseTuple.getLabelGroup().aggregate(groupItem.getAggregateValues());
+      LabelGroup.accumulate(accumulators, groupItem.getAggregateValues());
     }
+    reuseTuple.getLabelGroup().setAccumulatedValues(accumulators);
 
     VertexGroupItem superVertex = createSuperVertexTuple(
       superVertexId,
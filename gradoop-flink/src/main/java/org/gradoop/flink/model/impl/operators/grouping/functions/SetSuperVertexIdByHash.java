@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Sets the super vertex id of a {@link VertexGroupItem} to a hash of its grouping key, i.e.
+ * the grouping set and the group label and/or the grouping values. All items of the same group
+ * are assigned the same super vertex id without being shuffled.
+ *
+ * The hash is seeded with an id that is created once per operator instance, so that super
+ * vertex ids differ between multiple executions of the same grouping.
+ */
+@FunctionAnnotation.ForwardedFields("f0;f2;f3;f4;f5;f6;f7")
+@FunctionAnnotation.ReadFields("f2;f3;f7")
+public class SetSuperVertexIdByHash implements MapFunction<VertexGroupItem, VertexGroupItem> {
+
+  /**
+   * Seed that is hashed in front of every grouping key.
+   */
+  private final byte[] seed;
+
+  /**
+   * True, iff the group label is part of the grouping key.
+   */
+  private final boolean useLabel;
+
+  /**
+   * True, iff the grouping values are part of the grouping key.
+   */
+  private final boolean useProperties;
+
+  /**
+   * Creates map function.
+   *
+   * @param seed seed that is hashed in front of every grouping key
+   * @param useLabel true, iff the group label is part of the grouping key
+   * @param useProperties true, iff the grouping values are part of the grouping key
+   */
+  public SetSuperVertexIdByHash(GradoopId seed, boolean useLabel, boolean useProperties) {
+    this.seed = seed.toByteArray();
+    this.useLabel = useLabel;
+    this.useProperties = useProperties;
+  }
+
+  @Override
+  public VertexGroupItem map(VertexGroupItem vertexGroupItem) throws Exception {
+    Hasher hasher = Hashing.murmur3_128().newHasher().putBytes(seed)
+      .putInt(vertexGroupItem.getGroupingSet());
+
+    if (useLabel) {
+      byte[] label = vertexGroupItem.getGroupLabel().getBytes(StandardCharsets.UTF_8);
+      hasher.putInt(label.length).putBytes(label);
+    }
+    if (useProperties) {
+      for (PropertyValue groupingValue : vertexGroupItem.getGroupingValues()) {
+        byte[] value = groupingValue.getRawBytes();
+        hasher.putInt(value.length).putBytes(value);
+      }
+    }
+
+    vertexGroupItem.setSuperVertexId(GradoopId.fromByteArray(
+      Arrays.copyOf(hasher.hash().asBytes(), GradoopId.ID_SIZE)));
+    return vertexGroupItem;
+  }
+}
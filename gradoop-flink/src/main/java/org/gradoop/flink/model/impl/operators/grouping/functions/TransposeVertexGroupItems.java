@@ -21,12 +21,14 @@ import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
 import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -49,7 +51,8 @@ import java.util.Set;
     "f0->f0.f0;" +  // vertexId
     "f2->f0.f2;" +  // label
     "f3->f0.f3;" +  // properties
-    "f6->f0.f6"     // label group
+    "f6->f0.f6;" +  // label group
+    "f7->f0.f7"     // grouping set
 )
 @FunctionAnnotation.ReadFields("f4")
 public class TransposeVertexGroupItems
@@ -83,6 +86,8 @@ public class TransposeVertexGroupItems
     String groupLabel                     = null;
     PropertyValueList groupPropertyValues = null;
     LabelGroup vertexLabelGroup           = null;
+    Integer groupingSet                   = null;
+    List<AggregateAccumulator> accumulators = null;
 
     boolean isFirst = true;
 
@@ -94,14 +99,17 @@ public class TransposeVertexGroupItems
         groupLabel            = groupItem.getGroupLabel();
         groupPropertyValues   = groupItem.getGroupingValues();
         vertexLabelGroup      = groupItem.getLabelGroup();
+        groupingSet           = groupItem.getGroupingSet();
+        accumulators          = vertexLabelGroup.createAccumulators();
 
         isFirst = false;
       }
       // store the super vertex id created in the previous combiner
       superVertexIds.add(groupItem.getSuperVertexId());
 
-      vertexLabelGroup.aggregate(groupItem.getAggregateValues());
+      LabelGroup.accumulate(accumulators, groupItem.getAggregateValues());
     }
+    vertexLabelGroup.setAccumulatedValues(accumulators);
 
     reuseInnerTuple.setId(superVertexId);
     reuseInnerTuple.setIdSet(GradoopIdSet.fromExisting(superVertexIds));
@@ -110,6 +118,7 @@ public class TransposeVertexGroupItems
       groupPropertyValues, vertexLabelGroup.getAggregateValueList());
     reuseOuterTuple.f0.setSuperVertexId(superVertexId);
     reuseOuterTuple.f0.setLabelGroup(vertexLabelGroup);
+    reuseOuterTuple.f0.setGroupingSet(groupingSet);
     reuseOuterTuple.f1 = reuseInnerTuple;
 
     // collect single item representing the whole group
@@ -15,7 +15,7 @@
  */
 package org.gradoop.flink.model.impl.operators.grouping.tuples;
 
-import org.apache.flink.api.java.tuple.Tuple6;
+import org.apache.flink.api.java.tuple.Tuple7;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
 
@@ -29,12 +29,21 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
  * f3: edge group property values
  * f4: edge group aggregate values
  * f5: edge label group
+ * f6: grouping set
  * </pre>
  */
 public class EdgeGroupItem
-  extends Tuple6<GradoopId, GradoopId, String, PropertyValueList, PropertyValueList, LabelGroup>
+  extends Tuple7<GradoopId, GradoopId, String, PropertyValueList, PropertyValueList, LabelGroup,
+  Integer>
   implements GroupItem {
 
+  /**
+   * Creates a new edge group item belonging to the first grouping set.
+   */
+  public EdgeGroupItem() {
+    f6 = 0;
+  }
+
   public GradoopId getSourceId() {
     return f0;
   }
@@ -82,4 +91,12 @@ public class EdgeGroupItem
   public void setLabelGroup(LabelGroup edgeLabelGroup) {
     f5 = edgeLabelGroup;
   }
+
+  public Integer getGroupingSet() {
+    return f6;
+  }
+
+  public void setGroupingSet(Integer groupingSet) {
+    f6 = groupingSet;
+  }
 }
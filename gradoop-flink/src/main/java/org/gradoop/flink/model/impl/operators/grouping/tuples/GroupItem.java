@@ -79,5 +79,19 @@ public interface GroupItem {
    */
   void setGroupingValues(PropertyValueList groupPropertyValues);
 
+  /**
+   * Returns the index of the grouping set the group item belongs to.
+   *
+   * @return grouping set
+   */
+  Integer getGroupingSet();
+
+  /**
+   * Sets the index of the grouping set the group item belongs to.
+   *
+   * @param groupingSet grouping set
+   */
+  void setGroupingSet(Integer groupingSet);
+
 
 }
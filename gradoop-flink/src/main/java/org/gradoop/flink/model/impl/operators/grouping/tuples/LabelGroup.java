@@ -22,6 +22,7 @@ import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregateUtil;
 
@@ -245,6 +246,54 @@ public class LabelGroup
     }
   }
 
+  /**
+   * Creates a new accumulator for each aggregate function, in the order of the functions.
+   *
+   * @return accumulators
+   */
+  public List<AggregateAccumulator> createAccumulators() {
+    List<AggregateAccumulator> accumulators = new ArrayList<>(f3.size());
+    for (AggregateFunction aggregateFunction : getAggregateFunctions()) {
+      accumulators.add(aggregateFunction.createAccumulator());
+    }
+    return accumulators;
+  }
+
+  /**
+   * Merges the given aggregate values into the accumulators at the same position. Null values
+   * are skipped.
+   *
+   * @param accumulators accumulators created by {@link #createAccumulators()}
+   * @param values values to aggregate with
+   */
+  public static void accumulate(List<AggregateAccumulator> accumulators,
+    PropertyValueList values) {
+    Iterator<AggregateAccumulator> accumulatorIt = accumulators.iterator();
+    for (PropertyValue value : values) {
+      AggregateAccumulator accumulator = accumulatorIt.next();
+      if (!PropertyValue.NULL_VALUE.equals(value)) {
+        accumulator.merge(value);
+      }
+    }
+  }
+
+  /**
+   * Sets the aggregate values to the results of the given accumulators. If an accumulator
+   * did not accumulate any value, the default value of its function is used.
+   *
+   * @param accumulators accumulators created by {@link #createAccumulators()}
+   */
+  public void setAccumulatedValues(List<AggregateAccumulator> accumulators) {
+    List<PropertyValue> aggregate = new ArrayList<>(accumulators.size());
+    Iterator<AggregateFunction> functionIt = getAggregateFunctions().iterator();
+    for (AggregateAccumulator accumulator : accumulators) {
+      AggregateFunction aggregateFunction = functionIt.next();
+      PropertyValue result = accumulator.getResult();
+      aggregate.add(result != null ? result : AggregateUtil.getDefaultAggregate(aggregateFunction));
+    }
+    setAggregateValues(aggregate);
+  }
+
   /**
    * Returns the property values of the given element which are used for
    * aggregation. If the EPGM element does not have a property, it uses the
@@ -15,7 +15,7 @@
  */
 package org.gradoop.flink.model.impl.operators.grouping.tuples;
 
-import org.apache.flink.api.java.tuple.Tuple7;
+import org.apache.flink.api.java.tuple.Tuple8;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
 
@@ -30,13 +30,21 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
  * f4: vertex group aggregate values
  * f5: super vertex tuple true/false
  * f6: vertex label group
+ * f7: grouping set
  * </pre>
  */
 public class VertexGroupItem
-  extends Tuple7
-  <GradoopId, GradoopId, String, PropertyValueList, PropertyValueList, Boolean, LabelGroup>
+  extends Tuple8<GradoopId, GradoopId, String, PropertyValueList, PropertyValueList, Boolean,
+  LabelGroup, Integer>
   implements GroupItem {
 
+  /**
+   * Creates a new vertex group item belonging to the first grouping set.
+   */
+  public VertexGroupItem() {
+    f7 = 0;
+  }
+
   public GradoopId getVertexId() {
     return f0;
   }
@@ -92,4 +100,12 @@ public class VertexGroupItem
   public void setLabelGroup(LabelGroup vertexLabelGroup) {
     f6 = vertexLabelGroup;
   }
+
+  public Integer getGroupingSet() {
+    return f7;
+  }
+
+  public void setGroupingSet(Integer groupingSet) {
+    f7 = groupingSet;
+  }
 }
@@ -15,7 +15,7 @@
  */
 package org.gradoop.flink.model.impl.operators.grouping.tuples;
 
-import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.common.model.impl.id.GradoopId;
 
 /**
@@ -24,9 +24,17 @@ import org.gradoop.common.model.impl.id.GradoopId;
  * <pre>
  * f0: vertex id
  * f1: group representative vertex id
+ * f2: grouping set
  * </pre>
  */
-public class VertexWithSuperVertex extends Tuple2<GradoopId, GradoopId> {
+public class VertexWithSuperVertex extends Tuple3<GradoopId, GradoopId, Integer> {
+
+  /**
+   * Creates a new tuple belonging to the first grouping set.
+   */
+  public VertexWithSuperVertex() {
+    f2 = 0;
+  }
 
   public void setVertexId(GradoopId vertexId) {
     f0 = vertexId;
@@ -39,4 +47,8 @@ public class VertexWithSuperVertex extends Tuple2<GradoopId, GradoopId> {
   public void setSuperVertexId(GradoopId superVertexId) {
     f1 = superVertexId;
   }
+
+  public void setGroupingSet(Integer groupingSet) {
+    f2 = groupingSet;
+  }
 }
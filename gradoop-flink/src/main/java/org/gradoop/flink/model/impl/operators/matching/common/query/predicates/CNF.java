@@ -16,8 +16,12 @@
 package org.gradoop.flink.model.impl.operators.matching.common.query.predicates;
 
 import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.s1ck.gdl.utils.Comparator;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -193,6 +197,72 @@ public class CNF extends PredicateCollection<CNFElement> {
     return new CNF(filtered.get(true));
   }
 
+  /**
+   * Returns the labels the given variable is restricted to by this CNF, or {@code null} if the
+   * CNF does not restrict its label.
+   *
+   * A disjunction restricts the label if each of its comparisons has the form
+   * {@code variable.__label__ = 'literal'}. The labels of all restricting disjunctions are
+   * intersected.
+   *
+   * Example:
+   * Given myFilter = CNF((a.__label__ = 'A' OR a.__label__ = 'B') AND (a.age > 10))
+   * myFilter.getLabels(a) => {A, B}
+   *
+   * @param variable query variable
+   * @return labels the variable may have or {@code null} if unrestricted
+   */
+  public Set<String> getLabels(String variable) {
+    Set<String> labels = null;
+    for (CNFElement cnfElement : predicates) {
+      Set<String> disjunctionLabels = new HashSet<>();
+      for (ComparisonExpression comparison : cnfElement.getPredicates()) {
+        String label = getLabel(comparison, variable);
+        if (label == null) {
+          disjunctionLabels = null;
+          break;
+        }
+        disjunctionLabels.add(label);
+      }
+      if (disjunctionLabels != null) {
+        if (labels == null) {
+          labels = disjunctionLabels;
+        } else {
+          labels.retainAll(disjunctionLabels);
+        }
+      }
+    }
+    return labels;
+  }
+
+  /**
+   * Returns the label literal of a comparison {@code variable.__label__ = 'literal'} (in either
+   * orientation) or {@code null} if the comparison has a different form.
+   *
+   * @param comparison comparison expression
+   * @param variable query variable
+   * @return compared label or {@code null}
+   */
+  private static String getLabel(ComparisonExpression comparison, String variable) {
+    if (comparison.getComparator() != Comparator.EQ) {
+      return null;
+    }
+    QueryComparable lhs = comparison.getLhs();
+    QueryComparable rhs = comparison.getRhs();
+    if (rhs instanceof PropertySelectorComparable) {
+      lhs = comparison.getRhs();
+      rhs = comparison.getLhs();
+    }
+    if (!(lhs instanceof PropertySelectorComparable) || !(rhs instanceof LiteralComparable)) {
+      return null;
+    }
+    PropertySelectorComparable selector = (PropertySelectorComparable) lhs;
+    Object value = ((LiteralComparable) rhs).getValue();
+    return selector.getVariable().equals(variable) &&
+      selector.getPropertyKey().equals("__label__") && value instanceof String ?
+      (String) value : null;
+  }
+
   @Override
   public Set<String> getVariables() {
     Set<String> variables = new HashSet<>();
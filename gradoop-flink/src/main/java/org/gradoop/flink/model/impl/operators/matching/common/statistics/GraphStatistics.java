@@ -18,7 +18,9 @@ package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Represents several statistics related to a {@link LogicalGraph}.
@@ -84,6 +86,14 @@ public class GraphStatistics {
    * Number of distinct vertex property values for property names
    */
   private Map<String, Long> distinctVertexProperties;
+  /**
+   * Value distribution of edge properties of a given label - property name pair
+   */
+  private Map<String, Map<String, PropertyValueHistogram>> edgePropertyHistogramsByLabel;
+  /**
+   * Value distribution of vertex properties of a given label - property name pair
+   */
+  private Map<String, Map<String, PropertyValueHistogram>> vertexPropertyHistogramsByLabel;
 
   /**
    * Constructor using basic statistics.
@@ -108,6 +118,8 @@ public class GraphStatistics {
       Collections.emptyMap(),
       Collections.emptyMap(),
       Collections.emptyMap(),
+      Collections.emptyMap(),
+      Collections.emptyMap(),
       Collections.emptyMap());
   }
 
@@ -128,6 +140,8 @@ public class GraphStatistics {
    * @param distinctVertexPropertiesByLabel (label,property) -> distinct values
    * @param distinctEdgeProperties (edge property) -> distinct values
    * @param distinctVertexProperties (vertex property) -> distinct values
+   * @param edgePropertyHistogramsByLabel (label,property) -> value distribution
+   * @param vertexPropertyHistogramsByLabel (label,property) -> value distribution
    */
   GraphStatistics(long vertexCount, long edgeCount, Map<String, Long> vertexCountByLabel,
     Map<String, Long> edgeCountByLabel,
@@ -139,7 +153,9 @@ public class GraphStatistics {
     Map<String, Map<String, Long>> distinctEdgePropertiesByLabel,
     Map<String, Map<String, Long>> distinctVertexPropertiesByLabel,
     Map<String, Long> distinctEdgeProperties,
-    Map<String, Long> distinctVertexProperties) {
+    Map<String, Long> distinctVertexProperties,
+    Map<String, Map<String, PropertyValueHistogram>> edgePropertyHistogramsByLabel,
+    Map<String, Map<String, PropertyValueHistogram>> vertexPropertyHistogramsByLabel) {
     this.vertexCount = vertexCount;
     this.edgeCount = edgeCount;
     this.vertexCountByLabel = vertexCountByLabel;
@@ -154,6 +170,8 @@ public class GraphStatistics {
     this.distinctVertexPropertiesByLabel = distinctVertexPropertiesByLabel;
     this.distinctEdgeProperties = distinctEdgeProperties;
     this.distinctVertexProperties = distinctVertexProperties;
+    this.edgePropertyHistogramsByLabel = edgePropertyHistogramsByLabel;
+    this.vertexPropertyHistogramsByLabel = vertexPropertyHistogramsByLabel;
   }
 
   /**
@@ -306,6 +324,68 @@ public class GraphStatistics {
       distinctEdgePropertiesByLabel.get(edgeLabel).getOrDefault(propertyName, 0L) : 0;
   }
 
+  /**
+   * Returns the value distribution of the given vertex label property name pair or {@code null}
+   * if no distribution is available for that pair.
+   *
+   * @param vertexLabel vertex label
+   * @param propertyName property name
+   * @return value distribution or {@code null}
+   */
+  public PropertyValueHistogram getVertexPropertyHistogram(String vertexLabel,
+    String propertyName) {
+    return vertexPropertyHistogramsByLabel.containsKey(vertexLabel) ?
+      vertexPropertyHistogramsByLabel.get(vertexLabel).get(propertyName) : null;
+  }
+
+  /**
+   * Returns the value distributions of the given vertex property name for all vertex labels.
+   *
+   * @param propertyName property name
+   * @return value distributions of the property, one per vertex label containing the property
+   */
+  public List<PropertyValueHistogram> getVertexPropertyHistograms(String propertyName) {
+    return getHistograms(vertexPropertyHistogramsByLabel, propertyName);
+  }
+
+  /**
+   * Returns the value distribution of the given edge label property name pair or {@code null}
+   * if no distribution is available for that pair.
+   *
+   * @param edgeLabel edge label
+   * @param propertyName property name
+   * @return value distribution or {@code null}
+   */
+  public PropertyValueHistogram getEdgePropertyHistogram(String edgeLabel, String propertyName) {
+    return edgePropertyHistogramsByLabel.containsKey(edgeLabel) ?
+      edgePropertyHistogramsByLabel.get(edgeLabel).get(propertyName) : null;
+  }
+
+  /**
+   * Returns the value distributions of the given edge property name for all edge labels.
+   *
+   * @param propertyName property name
+   * @return value distributions of the property, one per edge label containing the property
+   */
+  public List<PropertyValueHistogram> getEdgePropertyHistograms(String propertyName) {
+    return getHistograms(edgePropertyHistogramsByLabel, propertyName);
+  }
+
+  /**
+   * Collects the histograms of the given property name over all labels.
+   *
+   * @param histogramsByLabel (label,property) -> value distribution
+   * @param propertyName property name
+   * @return value distributions of the property
+   */
+  private List<PropertyValueHistogram> getHistograms(
+    Map<String, Map<String, PropertyValueHistogram>> histogramsByLabel, String propertyName) {
+    return histogramsByLabel.values().stream()
+      .filter(histograms -> histograms.containsKey(propertyName))
+      .map(histograms -> histograms.get(propertyName))
+      .collect(Collectors.toList());
+  }
+
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("GraphStatistics{");
@@ -337,6 +417,10 @@ public class GraphStatistics {
       .append(distinctVertexPropertiesByLabel);
     sb.append(String.format(",%n distinctEdgePropertiesByLabel="))
       .append(distinctEdgePropertiesByLabel);
+    sb.append(String.format(",%n vertexPropertyHistogramsByLabel="))
+      .append(vertexPropertyHistogramsByLabel);
+    sb.append(String.format(",%n edgePropertyHistogramsByLabel="))
+      .append(edgePropertyHistogramsByLabel);
 
     sb.append(String.format("%n}"));
     return sb.toString();
@@ -22,6 +22,7 @@ import org.apache.hadoop.fs.Path;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.util.Map;
 
@@ -33,7 +34,8 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Only the
+   * files describing property value distributions are optional.
    *
    * @param inputPath path to directory containing statistics files
    * @param configuration Hadoop configuration
@@ -60,6 +62,8 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
     Map<String, Map<String, Long>> distinctPropertyValuesByVertexLabelAndPropertyName;
     Map<String, Long> distinctEdgePropertyValuesByPropertyName;
     Map<String, Long> distinctVertexPropertyValuesByPropertyName;
+    Map<String, Map<String, PropertyValueHistogram>> edgePropertyHistogramsByLabel;
+    Map<String, Map<String, PropertyValueHistogram>> vertexPropertyHistogramsByLabel;
 
     Path p = new Path(root, GraphStatisticsReader.FILE_VERTEX_COUNT);
     try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
@@ -135,11 +139,57 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
       distinctVertexPropertyValuesByPropertyName = readKeyValueMap(br.lines());
     }
 
+    edgePropertyHistogramsByLabel = readPropertyHistograms(fs, charset,
+      new Path(root, GraphStatisticsReader.FILE_EDGE_PROPERTY_MOST_COMMON_VALUES_BY_LABEL),
+      new Path(root, GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL));
+
+    vertexPropertyHistogramsByLabel = readPropertyHistograms(fs, charset,
+      new Path(root, GraphStatisticsReader.FILE_VERTEX_PROPERTY_MOST_COMMON_VALUES_BY_LABEL),
+      new Path(root, GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL));
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount, distinctSourceVertexCountByEdgeLabel,
       distinctTargetVertexCountByEdgeLabel, distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
-      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName);
+      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel, vertexPropertyHistogramsByLabel);
+  }
+
+  /**
+   * Reads property value distributions from the specified files. Missing files are treated as
+   * empty files.
+   *
+   * @param fs file system
+   * @param charset file charset
+   * @param mostCommonValuesPath path to most common values file
+   * @param bucketsPath path to histogram file
+   * @return (label,property) -> value distribution
+   * @throws IOException if an I/O error occurs opening the files
+   */
+  private static Map<String, Map<String, PropertyValueHistogram>> readPropertyHistograms(
+    FileSystem fs, Charset charset, Path mostCommonValuesPath, Path bucketsPath)
+      throws IOException {
+    try (
+      BufferedReader mostCommonValues = openOptional(fs, charset, mostCommonValuesPath);
+      BufferedReader buckets = openOptional(fs, charset, bucketsPath)) {
+      return readPropertyHistograms(mostCommonValues.lines(), buckets.lines());
+    }
+  }
+
+  /**
+   * Opens the specified file or returns a reader without any content if the file does not exist.
+   *
+   * @param fs file system
+   * @param charset file charset
+   * @param p path to file
+   * @return reader for the file
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  private static BufferedReader openOptional(FileSystem fs, Charset charset, Path p)
+      throws IOException {
+    return fs.exists(p) ?
+      new BufferedReader(new InputStreamReader(fs.open(p), charset)) :
+      new BufferedReader(new StringReader(""));
   }
 }
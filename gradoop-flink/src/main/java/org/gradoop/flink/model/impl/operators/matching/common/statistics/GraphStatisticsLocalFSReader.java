@@ -22,6 +22,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Reads {@link GraphStatistics} from dedicated files in the local file system.
@@ -31,7 +32,8 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Only the
+   * files describing property value distributions are optional.
    *
    * @param inputPath path to directory containing statistics files
    * @return graph statistics
@@ -98,6 +100,20 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
     Map<String, Long> distinctVertexPropertyValuesByPropertyName =
       readKeyValueMap(Files.lines(p, charset));
 
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_EDGE_PROPERTY_MOST_COMMON_VALUES_BY_LABEL));
+    Path q = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL));
+    Map<String, Map<String, PropertyValueHistogram>> edgePropertyHistogramsByLabel =
+      readPropertyHistograms(readOptionalLines(p, charset), readOptionalLines(q, charset));
+
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_VERTEX_PROPERTY_MOST_COMMON_VALUES_BY_LABEL));
+    q = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL));
+    Map<String, Map<String, PropertyValueHistogram>> vertexPropertyHistogramsByLabel =
+      readPropertyHistograms(readOptionalLines(p, charset), readOptionalLines(q, charset));
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount,
@@ -105,7 +121,21 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
       distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
       distinctEdgePropertyValuesByPropertyName,
-      distinctVertexPropertyValuesByPropertyName);
+      distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel,
+      vertexPropertyHistogramsByLabel);
+  }
+
+  /**
+   * Reads all lines from the specified file or returns an empty stream if the file does not exist.
+   *
+   * @param p path to file
+   * @param charset file charset
+   * @return stream of lines in the file
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  private static Stream<String> readOptionalLines(Path p, Charset charset) throws IOException {
+    return Files.exists(p) ? Files.lines(p, charset) : Stream.empty();
   }
 
 }
@@ -15,9 +15,16 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -195,6 +202,78 @@ public abstract class GraphStatisticsReader {
    */
   public static final String FILE_DISTINCT_VERTEX_PROPERTIES = "distinct_vertex_properties";
 
+  /**
+   * Each line contains the edge label, a property name, an encoded property value and the number
+   * of occurrences of that value, e.g.
+   *
+   * BOF
+   * knows,since,AgAAB90=,4
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_EDGE_PROPERTY_MOST_COMMON_VALUES_BY_LABEL =
+    "edge_property_most_common_values_by_label";
+
+  /**
+   * Each line contains the edge label, a property name, the encoded lower and upper bound of a
+   * histogram bucket, the number of values and the number of distinct values in the bucket, e.g.
+   *
+   * BOF
+   * knows,since,AgAAB90=,AgAAB98=,6,3
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "edge_property_histograms_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, an encoded property value and the
+   * number of occurrences of that value, e.g.
+   *
+   * BOF
+   * Person,age,AgAAAB4=,2
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_VERTEX_PROPERTY_MOST_COMMON_VALUES_BY_LABEL =
+    "vertex_property_most_common_values_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, the encoded lower and upper bound of a
+   * histogram bucket, the number of values and the number of distinct values in the bucket, e.g.
+   *
+   * BOF
+   * Person,age,AgAAABQ=,AgAAACg=,6,4
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "vertex_property_histograms_by_label";
+
+  /**
+   * Encodes a property value as a token that does not contain the token separator.
+   *
+   * @param value property value
+   * @return encoded property value
+   */
+  public static String encodePropertyValue(PropertyValue value) {
+    return Base64.getEncoder().encodeToString(value.getRawBytes());
+  }
+
+  /**
+   * Decodes a property value encoded by {@link #encodePropertyValue(PropertyValue)}.
+   *
+   * @param token encoded property value
+   * @return property value
+   */
+  static PropertyValue decodePropertyValue(String token) {
+    return PropertyValue.fromRawBytes(Base64.getDecoder().decode(token));
+  }
+
   /**
    * Reads a single {@link Long} value from the specified file.
    *
@@ -251,4 +330,58 @@ public abstract class GraphStatisticsReader {
 
     return mapping;
   }
+
+  /**
+   * Reads the property value distributions from the given files grouped by label and property
+   * name.
+   *
+   * @param mostCommonValueLines stream of lines in the most common values file
+   * @param bucketLines stream of lines in the histogram file
+   * @return (label,property) -> value distribution
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  static Map<String, Map<String, PropertyValueHistogram>> readPropertyHistograms(
+    Stream<String> mostCommonValueLines, Stream<String> bucketLines) throws IOException {
+
+    final Map<String, Map<String, Map<PropertyValue, Long>>> mostCommonValues = new HashMap<>();
+    final Map<String, Map<String, List<PropertyValueHistogram.Bucket>>> buckets = new HashMap<>();
+
+    mostCommonValueLines
+      .map(line -> line.split(TOKEN_SEPARATOR))
+      .forEach(tokens -> mostCommonValues
+        .computeIfAbsent(tokens[0], label -> new HashMap<>())
+        .computeIfAbsent(tokens[1], property -> new HashMap<>())
+        .put(decodePropertyValue(tokens[2]), Long.parseLong(tokens[3])));
+
+    bucketLines
+      .map(line -> line.split(TOKEN_SEPARATOR))
+      .forEach(tokens -> buckets
+        .computeIfAbsent(tokens[0], label -> new HashMap<>())
+        .computeIfAbsent(tokens[1], property -> new ArrayList<>())
+        .add(new PropertyValueHistogram.Bucket(
+          decodePropertyValue(tokens[2]), decodePropertyValue(tokens[3]),
+          Long.parseLong(tokens[4]), Long.parseLong(tokens[5]))));
+
+    final Map<String, Map<String, PropertyValueHistogram>> mapping = new HashMap<>();
+
+    Set<String> labels = new HashSet<>(mostCommonValues.keySet());
+    labels.addAll(buckets.keySet());
+    for (String label : labels) {
+      Map<String, Map<PropertyValue, Long>> labelValues =
+        mostCommonValues.getOrDefault(label, new HashMap<>());
+      Map<String, List<PropertyValueHistogram.Bucket>> labelBuckets =
+        buckets.getOrDefault(label, new HashMap<>());
+
+      Set<String> properties = new HashSet<>(labelValues.keySet());
+      properties.addAll(labelBuckets.keySet());
+      for (String property : properties) {
+        mapping.computeIfAbsent(label, l -> new HashMap<>()).put(property,
+          new PropertyValueHistogram(
+            labelValues.getOrDefault(property, new HashMap<>()),
+            labelBuckets.getOrDefault(property, new ArrayList<>())));
+      }
+    }
+
+    return mapping;
+  }
 }
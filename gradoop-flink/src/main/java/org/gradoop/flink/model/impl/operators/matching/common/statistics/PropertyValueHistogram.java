@@ -0,0 +1,558 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Describes the distribution of the values of a single property key within a set of graph
+ * elements, e.g. the values of {@code age} for all vertices labeled {@code Person}.
+ *
+ * The distribution consists of a list of most common values together with their exact frequency
+ * and an equi-depth histogram over all remaining values. Each bucket of the histogram covers a
+ * value range that contains approximately the same number of values.
+ *
+ * Only values of types that support an ordering are considered (numbers, booleans, strings,
+ * GradoopIds and temporal types). Values of different types are never placed in the same bucket.
+ */
+public class PropertyValueHistogram implements Serializable {
+  /**
+   * Default maximum number of most common values
+   */
+  public static final int DEFAULT_MOST_COMMON_VALUES = 10;
+  /**
+   * Default maximum number of histogram buckets
+   */
+  public static final int DEFAULT_BUCKETS = 20;
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Most common values and their frequency
+   */
+  private final Map<PropertyValue, Long> mostCommonValues;
+  /**
+   * Histogram buckets over the remaining values ordered by their range
+   */
+  private final List<Bucket> buckets;
+
+  /**
+   * Creates a new histogram.
+   *
+   * @param mostCommonValues most common values and their frequency
+   * @param buckets equi-depth histogram buckets ordered by their range
+   */
+  public PropertyValueHistogram(Map<PropertyValue, Long> mostCommonValues, List<Bucket> buckets) {
+    this.mostCommonValues = mostCommonValues;
+    this.buckets = buckets;
+  }
+
+  /**
+   * Creates a histogram from the given value frequencies. If the number of distinct values does
+   * not exceed the number of most common values, all values are stored exactly. Otherwise, the
+   * most frequent values that occur more than once are stored exactly and all remaining values are
+   * distributed over at most {@code maxBuckets} buckets.
+   *
+   * @param frequencies property values and their number of occurrences
+   * @param maxMostCommonValues maximum number of most common values
+   * @param maxBuckets maximum number of histogram buckets
+   * @return histogram describing the value distribution
+   */
+  public static PropertyValueHistogram create(Map<PropertyValue, Long> frequencies,
+    int maxMostCommonValues, int maxBuckets) {
+
+    List<Map.Entry<PropertyValue, Long>> entries = frequencies.entrySet().stream()
+      .filter(entry -> isSupported(entry.getKey()))
+      .sorted((lhs, rhs) -> compareValues(lhs.getKey(), rhs.getKey()))
+      .collect(Collectors.toList());
+
+    MostCommonValues mostCommonValues = new MostCommonValues(maxMostCommonValues);
+    entries.forEach(entry -> mostCommonValues.add(entry.getKey(), entry.getValue()));
+
+    BucketBuilder builder = new BucketBuilder(mostCommonValues.getMostCommonValues(),
+      mostCommonValues.getCount(), maxBuckets);
+    entries.forEach(entry -> builder.add(entry.getKey(), entry.getValue()));
+
+    return builder.build();
+  }
+
+  /**
+   * Returns the most common values and their exact frequency.
+   *
+   * @return most common values
+   */
+  public Map<PropertyValue, Long> getMostCommonValues() {
+    return mostCommonValues;
+  }
+
+  /**
+   * Returns the histogram buckets ordered by their range.
+   *
+   * @return histogram buckets
+   */
+  public List<Bucket> getBuckets() {
+    return buckets;
+  }
+
+  /**
+   * Returns the total number of values described by the histogram.
+   *
+   * @return number of values
+   */
+  public long getCount() {
+    return mostCommonValues.values().stream().mapToLong(Long::longValue).sum() +
+      buckets.stream().mapToLong(Bucket::getCount).sum();
+  }
+
+  /**
+   * Estimates the number of values {@code x} for which {@code x <comparator> value} holds.
+   *
+   * Values of incomparable types are only considered to match {@link Comparator#NEQ}. Note that
+   * elements without the property need to be added by the caller in that case.
+   *
+   * @param comparator comparison operator
+   * @param value value to compare with
+   * @return estimated number of matching values
+   */
+  public double estimateCount(Comparator comparator, PropertyValue value) {
+    double result = 0d;
+    boolean isMostCommonValue = false;
+
+    for (Map.Entry<PropertyValue, Long> entry : mostCommonValues.entrySet()) {
+      boolean comparable = isComparable(entry.getKey(), value);
+      int comparison = comparable ? entry.getKey().compareTo(value) : 1;
+      isMostCommonValue |= comparable && comparison == 0;
+      if (comparable ? satisfies(comparator, comparison) : comparator == Comparator.NEQ) {
+        result += entry.getValue();
+      }
+    }
+
+    double less = 0d;
+    double equal = 0d;
+    long comparableCount = 0L;
+    long count = 0L;
+    for (Bucket bucket : buckets) {
+      count += bucket.getCount();
+      if (isComparable(bucket.getLower(), value)) {
+        less += bucket.estimateLessThan(value);
+        // most common values are not contained in any bucket
+        equal += isMostCommonValue ? 0d : bucket.estimateEqualTo(value);
+        comparableCount += bucket.getCount();
+      }
+    }
+
+    switch (comparator) {
+    case EQ:
+      return result + equal;
+    case NEQ:
+      return result + count - equal;
+    case LT:
+      return result + less;
+    case LTE:
+      return result + less + equal;
+    case GT:
+      return result + comparableCount - less - equal;
+    case GTE:
+      return result + comparableCount - less;
+    default:
+      return result;
+    }
+  }
+
+  /**
+   * Checks if the given value is considered by histograms, i.e. if its type supports an ordering.
+   *
+   * @param value property value
+   * @return true, iff the value can be described by a histogram
+   */
+  public static boolean isSupported(PropertyValue value) {
+    return value.isNumber() || value.isBoolean() || value.isString() || value.isGradoopId() ||
+      value.isDate() || value.isTime() || value.isDateTime();
+  }
+
+  /**
+   * Returns a key that orders supported values by their type. Two supported values are
+   * comparable iff they share the same key, i.e. values that are ordered by this key first and
+   * by their natural order second are in the order expected by {@link BucketBuilder#add}.
+   *
+   * @param value supported property value
+   * @return type key of the value
+   */
+  public static String getTypeOrder(PropertyValue value) {
+    return value.isNumber() ? Number.class.getName() : value.getType().getName();
+  }
+
+  /**
+   * Checks if two supported values can be compared with each other.
+   *
+   * @param first first value
+   * @param second second value
+   * @return true, iff both values are numbers or share the same type
+   */
+  private static boolean isComparable(PropertyValue first, PropertyValue second) {
+    return first.isNumber() && second.isNumber() || first.getType().equals(second.getType());
+  }
+
+  /**
+   * Orders supported values first by their type and second by their natural order.
+   *
+   * @param first first value
+   * @param second second value
+   * @return comparison result
+   */
+  private static int compareValues(PropertyValue first, PropertyValue second) {
+    return isComparable(first, second) ?
+      first.compareTo(second) : getTypeOrder(first).compareTo(getTypeOrder(second));
+  }
+
+  /**
+   * Checks if the result of a comparison satisfies the given comparator.
+   *
+   * @param comparator comparison operator
+   * @param result comparison result
+   * @return true, iff the comparison result satisfies the comparator
+   */
+  private static boolean satisfies(Comparator comparator, int result) {
+    switch (comparator) {
+    case EQ:
+      return result == 0;
+    case NEQ:
+      return result != 0;
+    case LT:
+      return result < 0;
+    case LTE:
+      return result <= 0;
+    case GT:
+      return result > 0;
+    case GTE:
+      return result >= 0;
+    default:
+      return false;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "PropertyValueHistogram{" +
+      "mostCommonValues=" + mostCommonValues +
+      ", buckets=" + buckets +
+      '}';
+  }
+
+  /**
+   * Selects the most common values from a stream of distinct values and their frequency. Only
+   * the most frequent values are kept in memory.
+   */
+  public static class MostCommonValues {
+    /**
+     * Maximum number of most common values
+     */
+    private final int maxMostCommonValues;
+    /**
+     * Most frequent values seen so far, the least frequent value first
+     */
+    private final PriorityQueue<Map.Entry<PropertyValue, Long>> candidates;
+    /**
+     * Number of distinct values seen so far
+     */
+    private long distinctCount;
+    /**
+     * Number of values seen so far
+     */
+    private long count;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxMostCommonValues maximum number of most common values
+     */
+    public MostCommonValues(int maxMostCommonValues) {
+      this.maxMostCommonValues = maxMostCommonValues;
+      this.candidates = new PriorityQueue<>(maxMostCommonValues + 1,
+        Map.Entry.comparingByValue());
+    }
+
+    /**
+     * Adds a value and its frequency. Each value must be added at most once.
+     *
+     * @param value supported property value
+     * @param frequency number of occurrences of the value
+     */
+    public void add(PropertyValue value, long frequency) {
+      distinctCount++;
+      count += frequency;
+      candidates.offer(new AbstractMap.SimpleImmutableEntry<>(value, frequency));
+      if (candidates.size() > maxMostCommonValues) {
+        candidates.poll();
+      }
+    }
+
+    /**
+     * Returns the number of values added so far.
+     *
+     * @return number of values
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * Returns the most common values. If no more distinct values than the maximum number of most
+     * common values were added, all of them are returned. Otherwise, values occurring only once
+     * are omitted.
+     *
+     * @return most common values and their frequency
+     */
+    public Map<PropertyValue, Long> getMostCommonValues() {
+      Map<PropertyValue, Long> mostCommonValues = new HashMap<>();
+      for (Map.Entry<PropertyValue, Long> candidate : candidates) {
+        if (distinctCount <= maxMostCommonValues || candidate.getValue() > 1) {
+          mostCommonValues.put(candidate.getKey(), candidate.getValue());
+        }
+      }
+      return mostCommonValues;
+    }
+  }
+
+  /**
+   * Builds the equi-depth buckets of a histogram from a stream of distinct values and their
+   * frequency. The values have to be added ordered by their {@link #getTypeOrder type} first
+   * and their natural order second. Only the current bucket is kept open, so memory is bounded
+   * by the number of most common values and buckets.
+   */
+  public static class BucketBuilder {
+    /**
+     * Most common values and their frequency, these are not added to any bucket
+     */
+    private final Map<PropertyValue, Long> mostCommonValues;
+    /**
+     * Number of values a bucket is closed at
+     */
+    private final long depth;
+    /**
+     * Buckets closed so far
+     */
+    private final List<Bucket> buckets;
+    /**
+     * Last value added
+     */
+    private PropertyValue last;
+    /**
+     * Smallest value of the open bucket or {@code null} if there is no open bucket
+     */
+    private PropertyValue lower;
+    /**
+     * Largest value of the open bucket
+     */
+    private PropertyValue upper;
+    /**
+     * Number of values in the open bucket
+     */
+    private long count;
+    /**
+     * Number of distinct values in the open bucket
+     */
+    private long distinctCount;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param mostCommonValues most common values and their frequency
+     * @param totalCount number of values including the most common values
+     * @param maxBuckets maximum number of histogram buckets
+     */
+    public BucketBuilder(Map<PropertyValue, Long> mostCommonValues, long totalCount,
+      int maxBuckets) {
+      this.mostCommonValues = mostCommonValues;
+      long remaining = totalCount -
+        mostCommonValues.values().stream().mapToLong(Long::longValue).sum();
+      this.depth = Math.max(1L, (remaining + maxBuckets - 1) / maxBuckets);
+      this.buckets = new ArrayList<>();
+    }
+
+    /**
+     * Adds a value and its frequency.
+     *
+     * @param value supported property value
+     * @param frequency number of occurrences of the value
+     * @throws IllegalArgumentException if the value is not larger than the previous one
+     */
+    public void add(PropertyValue value, long frequency) {
+      if (last != null && compareValues(last, value) >= 0) {
+        throw new IllegalArgumentException("Values have to be added in ascending order, got " +
+          value + " after " + last);
+      }
+      last = value;
+      if (mostCommonValues.containsKey(value)) {
+        return;
+      }
+      if (lower != null && !isComparable(lower, value)) {
+        closeBucket();
+      }
+      if (lower == null) {
+        lower = value;
+        count = 0L;
+        distinctCount = 0L;
+      }
+      upper = value;
+      count += frequency;
+      distinctCount++;
+
+      if (count >= depth) {
+        closeBucket();
+      }
+    }
+
+    /**
+     * Returns the histogram consisting of the most common values and all buckets.
+     *
+     * @return histogram describing the value distribution
+     */
+    public PropertyValueHistogram build() {
+      if (lower != null) {
+        closeBucket();
+      }
+      return new PropertyValueHistogram(mostCommonValues, buckets);
+    }
+
+    /**
+     * Closes the open bucket.
+     */
+    private void closeBucket() {
+      buckets.add(new Bucket(lower, upper, count, distinctCount));
+      lower = null;
+    }
+  }
+
+  /**
+   * A single bucket of an equi-depth histogram. The bucket covers all values between its lower and
+   * upper bound (both inclusive).
+   */
+  public static class Bucket implements Serializable {
+    /**
+     * serial version uid
+     */
+    private static final long serialVersionUID = 42L;
+    /**
+     * Smallest value in the bucket
+     */
+    private final PropertyValue lower;
+    /**
+     * Largest value in the bucket
+     */
+    private final PropertyValue upper;
+    /**
+     * Number of values in the bucket
+     */
+    private final long count;
+    /**
+     * Number of distinct values in the bucket
+     */
+    private final long distinctCount;
+
+    /**
+     * Creates a new bucket.
+     *
+     * @param lower smallest value in the bucket
+     * @param upper largest value in the bucket
+     * @param count number of values in the bucket
+     * @param distinctCount number of distinct values in the bucket
+     */
+    public Bucket(PropertyValue lower, PropertyValue upper, long count, long distinctCount) {
+      this.lower = lower;
+      this.upper = upper;
+      this.count = count;
+      this.distinctCount = distinctCount;
+    }
+
+    public PropertyValue getLower() {
+      return lower;
+    }
+
+    public PropertyValue getUpper() {
+      return upper;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getDistinctCount() {
+      return distinctCount;
+    }
+
+    /**
+     * Estimates the number of values in the bucket that are equal to the given value assuming
+     * that all distinct values occur equally often.
+     *
+     * @param value comparable value
+     * @return estimated number of equal values
+     */
+    double estimateEqualTo(PropertyValue value) {
+      return lower.compareTo(value) <= 0 && upper.compareTo(value) >= 0 ?
+        (double) count / distinctCount : 0d;
+    }
+
+    /**
+     * Estimates the number of values in the bucket that are smaller than the given value. For
+     * numerical values, a uniform distribution within the bucket range is assumed.
+     *
+     * @param value comparable value
+     * @return estimated number of smaller values
+     */
+    double estimateLessThan(PropertyValue value) {
+      if (upper.compareTo(value) < 0) {
+        return count;
+      }
+      if (lower.compareTo(value) >= 0) {
+        return 0d;
+      }
+      double maxLess = count - (double) count / distinctCount;
+      if (upper.compareTo(value) == 0) {
+        return maxLess;
+      }
+      double fraction = 0.5d;
+      if (lower.isNumber() && upper.isNumber() && value.isNumber()) {
+        double min = ((Number) lower.getObject()).doubleValue();
+        double max = ((Number) upper.getObject()).doubleValue();
+        double x = ((Number) value.getObject()).doubleValue();
+        fraction = max > min ? (x - min) / (max - min) : fraction;
+      }
+      return Math.min(count * fraction, maxLess);
+    }
+
+    @Override
+    public String toString() {
+      return "Bucket{" +
+        "lower=" + lower +
+        ", upper=" + upper +
+        ", count=" + count +
+        ", distinctCount=" + distinctCount +
+        '}';
+    }
+  }
+}
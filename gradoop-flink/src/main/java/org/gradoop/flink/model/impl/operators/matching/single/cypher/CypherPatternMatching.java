@@ -30,7 +30,10 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.Print
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ElementsFromEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.add.AddEmbeddingsElements;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEmbeddingsElements;
-import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp.DPPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.QueryPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
@@ -65,6 +68,18 @@ public class CypherPatternMatching extends PatternMatching {
    * Statistics about the data graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * Query planner used to create the query plan
+   */
+  private final PlannerStrategy plannerStrategy;
+  /**
+   * Planning time limit in milliseconds
+   */
+  private final long maxPlanningTime;
+  /**
+   * True, if triangles may be joined at once
+   */
+  private final boolean triangleJoins;
 
   /**
    * Instantiates a new operator.
@@ -92,11 +107,89 @@ public class CypherPatternMatching extends PatternMatching {
    */
   public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      PlannerStrategy.GREEDY);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param plannerStrategy     query planner used to create the query plan
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerStrategy plannerStrategy) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      plannerStrategy, DPPlanner.DEFAULT_MAX_PLANNING_TIME);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param plannerStrategy     query planner used to create the query plan
+   * @param maxPlanningTime     planning time limit in milliseconds, if the planner has one
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerStrategy plannerStrategy, long maxPlanningTime) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      plannerStrategy, maxPlanningTime, false);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param plannerStrategy     query planner used to create the query plan
+   * @param maxPlanningTime     planning time limit in milliseconds, if the planner has one
+   * @param triangleJoins       true, if triangles in the query may be joined at once, see
+   *                            {@link QueryPlanner#setTriangleJoins(boolean)}
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerStrategy plannerStrategy, long maxPlanningTime, boolean triangleJoins) {
     super(query, attachData, LOG);
     this.constructionPattern = constructionPattern;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
     this.graphStatistics = graphStatistics;
+    this.plannerStrategy = plannerStrategy;
+    this.maxPlanningTime = maxPlanningTime;
+    this.triangleJoins = triangleJoins;
+  }
+
+  /**
+   * Plans the query on the given graph without executing it and returns a description of the
+   * chosen plan including its estimated cardinality. The reported planner is the one that created
+   * the plan, i.e., {@link PlannerStrategy#GREEDY} if dynamic programming ran out of time.
+   *
+   * @param graph search graph
+   * @return description of the query plan
+   */
+  public String explain(LogicalGraph graph) {
+    long start = System.currentTimeMillis();
+    QueryPlanner planner = createPlanner(graph);
+    PlanTableEntry entry = planner.plan();
+    return String.format("Planner: %s | planning time: %d ms | est-card: %d%n%s",
+      planner.getAppliedStrategy(), System.currentTimeMillis() - start,
+      entry.getEstimatedCardinality(), entry.getQueryPlan());
   }
 
   @Override
@@ -108,9 +201,12 @@ public class CypherPatternMatching extends PatternMatching {
   protected GraphCollection executeForPattern(LogicalGraph graph) {
     // Query planning
     QueryHandler queryHandler = getQueryHandler();
-    QueryPlan plan =
-      new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan()
-        .getQueryPlan();
+    QueryPlanner planner = createPlanner(graph);
+    QueryPlan plan = planner.plan().getQueryPlan();
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(String.format("Query plan created by %s planner:%n%s",
+        planner.getAppliedStrategy(), plan));
+    }
 
     // Query execution
     DataSet<Embedding> embeddings = plan.execute();
@@ -136,6 +232,22 @@ public class CypherPatternMatching extends PatternMatching {
       PostProcessor.extractGraphCollection(finalElements, graph.getConfig(), true);
   }
 
+  /**
+   * Creates the configured planner for the query.
+   *
+   * @param graph search graph
+   * @return query planner
+   */
+  private QueryPlanner createPlanner(LogicalGraph graph) {
+    QueryPlanner planner = plannerStrategy.createPlanner(graph, getQueryHandler(),
+      graphStatistics, vertexStrategy, edgeStrategy, maxPlanningTime);
+    planner.setTriangleJoins(triangleJoins);
+    if (constructionPattern != null) {
+      planner.setReturnVariables(new QueryHandler(constructionPattern).getAllVariables());
+    }
+    return planner;
+  }
+
   /**
    * Method to construct final embedded elements
    *
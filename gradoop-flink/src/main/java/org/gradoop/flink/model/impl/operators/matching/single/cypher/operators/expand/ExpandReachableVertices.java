@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.DeltaIteration;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.functions.tuple.SwitchPair;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ReverseEdgeEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.AppendReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CreatePathState;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExpandPathState;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExpandReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractExpandColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractIdPair;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractKeyedCandidateEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.FilterUnvisited;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.MeetInTheMiddle;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.PathState;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+
+/**
+ * Expands a vertex along the edges and appends every vertex that is reachable within the given
+ * bounds. In contrast to {@link ExpandEmbeddings}, the operator does not materialize the paths
+ * but only tracks the set of reachable vertices for each start vertex. Each combination of input
+ * embedding and reachable end vertex is emitted exactly once.
+ *
+ * This is only valid if the path itself is not part of the result and vertices as well as edges
+ * may be repeated along a path (homomorphism). The appended path column is therefore empty.
+ *
+ * If the end vertex is already bound by the input (closing column) and the upper bound is finite,
+ * the operator runs a bidirectional search that expands both ends of the path by half of the
+ * upper bound and joins the visited vertices. Otherwise a breadth first search is performed that
+ * only keeps newly discovered vertices in the frontier.
+ */
+public class ExpandReachableVertices implements PhysicalOperator {
+  /**
+   * Input Embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Candidate edges
+   */
+  private final DataSet<Embedding> candidateEdges;
+  /**
+   * specifies the input column that will be expanded
+   */
+  private final int expandColumn;
+  /**
+   * minimum hops
+   */
+  private final int lowerBound;
+  /**
+   * maximum hops
+   */
+  private final int upperBound;
+  /**
+   * expand direction
+   */
+  private final ExpandDirection direction;
+  /**
+   * Define the column which should be equal with the paths end
+   */
+  private final int closingColumn;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * New reachability expand operator
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion {@see ExpandDirection}
+   * @param closingColumn defines the column which should be equal with the paths end
+   */
+  public ExpandReachableVertices(DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    int closingColumn) {
+
+    this.input = input;
+    this.candidateEdges = candidateEdges;
+    this.expandColumn = expandColumn;
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.direction = direction;
+    this.closingColumn = closingColumn;
+    this.setName("ExpandReachableVertices");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    DataSet<Tuple2<GradoopId, GradoopId>> edges = preProcess();
+
+    DataSet<Tuple2<GradoopId, GradoopId>> reachable =
+      closingColumn >= 0 && upperBound < Integer.MAX_VALUE ?
+        searchBidirectional(edges) : searchForward(edges);
+
+    return input.join(reachable)
+      .where(new ExtractExpandColumn(expandColumn)).equalTo(0)
+      .with(new AppendReachableVertex(closingColumn))
+      .name(getName() + " - Append reachable vertices");
+  }
+
+  /**
+   * Creates the distinct (source, target) pairs of the candidate edges in expand direction.
+   *
+   * @return source and target vertex of each candidate edge
+   */
+  private DataSet<Tuple2<GradoopId, GradoopId>> preProcess() {
+    DataSet<Embedding> edges = candidateEdges;
+    if (direction == ExpandDirection.IN) {
+      edges = edges
+        .map(new ReverseEdgeEmbedding())
+        .name(getName() + " - Reverse Edges");
+    }
+
+    return edges
+      .map(new ExtractKeyedCandidateEdges())
+      .name(getName() + " - Create candidate edge tuples")
+      .<Tuple2<GradoopId, GradoopId>>project(0, 2)
+      .distinct()
+      .name(getName() + " - Distinct edge tuples");
+  }
+
+  /**
+   * Computes all (start, end) vertex pairs that are connected by a path within the bounds. The
+   * first {@code lowerBound} hops are expanded level by level, afterwards a delta iteration
+   * expands the frontier until the upper bound is reached or no new vertex is discovered.
+   *
+   * @param edges source and target vertex of each candidate edge
+   * @return reachable (start, end) vertex pairs
+   */
+  private DataSet<Tuple2<GradoopId, GradoopId>> searchForward(
+    DataSet<Tuple2<GradoopId, GradoopId>> edges) {
+
+    DataSet<Tuple2<GradoopId, GradoopId>> reachable = input
+      .map(new ExtractIdPair(expandColumn, expandColumn))
+      .name(getName() + " - Create start vertices")
+      .distinct()
+      .name(getName() + " - Distinct start vertices");
+
+    for (int i = 0; i < lowerBound; i++) {
+      reachable = expand(reachable, edges);
+    }
+
+    if (upperBound == lowerBound) {
+      return reachable;
+    }
+
+    DeltaIteration<Tuple2<GradoopId, GradoopId>, Tuple2<GradoopId, GradoopId>> iteration =
+      reachable.iterateDelta(reachable, upperBound - lowerBound, 0, 1);
+    iteration.name(getName() + " - Frontier expansion");
+
+    DataSet<Tuple2<GradoopId, GradoopId>> discovered = iteration.getWorkset()
+      .join(edges)
+      .where(1).equalTo(0)
+      .with(new ExpandReachableVertex())
+      .name(getName() + " - Expand frontier")
+      .coGroup(iteration.getSolutionSet())
+      .where(0, 1).equalTo(0, 1)
+      .with(new FilterUnvisited<>())
+      .name(getName() + " - Filter visited vertices");
+
+    return iteration.closeWith(discovered, discovered);
+  }
+
+  /**
+   * Computes all (start, end) vertex pairs of the input that are connected by a path within the
+   * bounds. Both ends are expanded by half of the upper bound and the states that reached the same
+   * vertex are joined afterwards.
+   *
+   * @param edges source and target vertex of each candidate edge
+   * @return connected (start, end) vertex pairs
+   */
+  private DataSet<Tuple2<GradoopId, GradoopId>> searchBidirectional(
+    DataSet<Tuple2<GradoopId, GradoopId>> edges) {
+
+    DataSet<Tuple2<GradoopId, GradoopId>> endpoints = input
+      .map(new ExtractIdPair(expandColumn, closingColumn))
+      .name(getName() + " - Create endpoints")
+      .distinct()
+      .name(getName() + " - Distinct endpoints");
+
+    DataSet<PathState> forward = expandLevels(
+      endpoints.map(new CreatePathState(false)).name(getName() + " - Create forward states"),
+      edges, (upperBound + 1) / 2);
+
+    DataSet<PathState> backward = expandLevels(
+      endpoints.map(new CreatePathState(true)).name(getName() + " - Create backward states"),
+      edges.map(new SwitchPair<>()).name(getName() + " - Reverse edge tuples"),
+      upperBound / 2);
+
+    return forward.join(backward)
+      .where(0, 1, 2).equalTo(0, 1, 2)
+      .with(new MeetInTheMiddle(lowerBound, upperBound))
+      .name(getName() + " - Meet in the middle")
+      .distinct()
+      .name(getName() + " - Distinct connected endpoints");
+  }
+
+  /**
+   * Expands each reachable vertex by one hop and removes duplicates.
+   *
+   * @param reachable reachable (start, vertex) pairs
+   * @param edges source and target vertex of each candidate edge
+   * @return (start, vertex) pairs reachable with one more hop
+   */
+  private DataSet<Tuple2<GradoopId, GradoopId>> expand(
+    DataSet<Tuple2<GradoopId, GradoopId>> reachable, DataSet<Tuple2<GradoopId, GradoopId>> edges) {
+    return reachable
+      .join(edges)
+      .where(1).equalTo(0)
+      .with(new ExpandReachableVertex())
+      .name(getName() + " - Expansion")
+      .distinct()
+      .name(getName() + " - Distinct reachable vertices");
+  }
+
+  /**
+   * Expands the given states level by level and returns the distinct states of all levels.
+   *
+   * @param initialStates states at level 0
+   * @param edges edges to expand along
+   * @param levels number of levels to expand
+   * @return states of level 0 to {@code levels}
+   */
+  private DataSet<PathState> expandLevels(DataSet<PathState> initialStates,
+    DataSet<Tuple2<GradoopId, GradoopId>> edges, int levels) {
+    DataSet<PathState> states = initialStates;
+    DataSet<PathState> level = initialStates;
+
+    for (int i = 0; i < levels; i++) {
+      level = level
+        .join(edges)
+        .where(2).equalTo(0)
+        .with(new ExpandPathState())
+        .name(getName() + " - Expand level " + (i + 1))
+        .distinct()
+        .name(getName() + " - Distinct level " + (i + 1));
+      states = states.union(level);
+    }
+
+    return states;
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Appends an empty path and a reachable end vertex to an input embedding. The layout equals the
+ * one produced by {@link PostProcessExpandEmbedding}, i.e. the path column followed by the end
+ * vertex column.
+ */
+public class AppendReachableVertex
+  implements FlatJoinFunction<Embedding, Tuple2<GradoopId, GradoopId>, Embedding> {
+
+  /**
+   * The column the expanded paths should end at
+   */
+  private final int closingColumn;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param closingColumn column the expanded paths should end at
+   */
+  public AppendReachableVertex(int closingColumn) {
+    this.closingColumn = closingColumn;
+  }
+
+  @Override
+  public void join(Embedding input, Tuple2<GradoopId, GradoopId> reachable,
+    Collector<Embedding> out) throws Exception {
+    if (closingColumn >= 0 && !input.getId(closingColumn).equals(reachable.f1)) {
+      return;
+    }
+
+    Embedding result = input.copy();
+    result.add();
+    result.add(reachable.f1);
+    out.collect(result);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.PathState;
+
+/**
+ * Creates the initial state of a bidirectional search from the start and end vertex of a path.
+ * The forward search starts at the start vertex, the backward search at the end vertex.
+ */
+public class CreatePathState implements MapFunction<Tuple2<GradoopId, GradoopId>, PathState> {
+
+  /**
+   * True, if the state is created for the backward search
+   */
+  private final boolean backward;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param backward true, if the state is created for the backward search
+   */
+  public CreatePathState(boolean backward) {
+    this.backward = backward;
+  }
+
+  @Override
+  public PathState map(Tuple2<GradoopId, GradoopId> endpoints) throws Exception {
+    return new PathState(endpoints.f0, endpoints.f1, backward ? endpoints.f1 : endpoints.f0, 0);
+  }
+}
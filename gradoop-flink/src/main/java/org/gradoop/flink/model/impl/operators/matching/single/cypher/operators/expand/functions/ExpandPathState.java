@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.PathState;
+
+/**
+ * Moves a path state along an edge and increments its number of hops:
+ * (start, end, vertex, hops) x (vertex, target) -> (start, end, target, hops + 1)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f1")
+@FunctionAnnotation.ForwardedFieldsSecond("f1->f2")
+public class ExpandPathState
+  implements JoinFunction<PathState, Tuple2<GradoopId, GradoopId>, PathState> {
+
+  @Override
+  public PathState join(PathState state, Tuple2<GradoopId, GradoopId> edge) throws Exception {
+    state.f2 = edge.f1;
+    state.f3 = state.f3 + 1;
+    return state;
+  }
+}
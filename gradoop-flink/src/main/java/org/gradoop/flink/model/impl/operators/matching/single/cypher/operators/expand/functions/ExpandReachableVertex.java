@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Moves a reachable vertex along an edge: (start, vertex) x (vertex, target) -> (start, target)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+@FunctionAnnotation.ForwardedFieldsSecond("f1")
+public class ExpandReachableVertex implements JoinFunction<
+  Tuple2<GradoopId, GradoopId>, Tuple2<GradoopId, GradoopId>, Tuple2<GradoopId, GradoopId>> {
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> join(Tuple2<GradoopId, GradoopId> reachable,
+    Tuple2<GradoopId, GradoopId> edge) throws Exception {
+    reachable.f1 = edge.f1;
+    return reachable;
+  }
+}
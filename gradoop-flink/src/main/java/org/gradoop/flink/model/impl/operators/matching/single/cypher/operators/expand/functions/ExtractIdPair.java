@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Extracts the ids stored at two columns of an embedding.
+ */
+public class ExtractIdPair implements MapFunction<Embedding, Tuple2<GradoopId, GradoopId>> {
+
+  /**
+   * Column of the first id
+   */
+  private final int firstColumn;
+  /**
+   * Column of the second id
+   */
+  private final int secondColumn;
+  /**
+   * Reuse Tuple
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Creates a new UDF instance. Use the same column twice to create a pair of equal ids.
+   *
+   * @param firstColumn column of the first id
+   * @param secondColumn column of the second id
+   */
+  public ExtractIdPair(int firstColumn, int secondColumn) {
+    this.firstColumn = firstColumn;
+    this.secondColumn = secondColumn;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> map(Embedding embedding) throws Exception {
+    reuseTuple.f0 = embedding.getId(firstColumn);
+    reuseTuple.f1 = embedding.getId(secondColumn);
+    return reuseTuple;
+  }
+}
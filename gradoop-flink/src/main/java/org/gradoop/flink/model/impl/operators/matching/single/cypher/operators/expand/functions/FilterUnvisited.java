@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.util.Collector;
+
+/**
+ * Anti join of a delta iteration: forwards a single element of the first input for each key that
+ * is not contained in the solution set. Duplicate candidates are thereby removed as well.
+ *
+ * @param <T> element type
+ */
+public class FilterUnvisited<T> implements CoGroupFunction<T, T, T> {
+
+  @Override
+  public void coGroup(Iterable<T> candidates, Iterable<T> visited, Collector<T> out)
+    throws Exception {
+    if (!visited.iterator().hasNext()) {
+      out.collect(candidates.iterator().next());
+    }
+  }
+}
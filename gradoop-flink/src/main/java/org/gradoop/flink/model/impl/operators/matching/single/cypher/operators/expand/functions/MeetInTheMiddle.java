@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.PathState;
+
+/**
+ * Joins the states of the forward and the backward search that reached the same vertex.
+ * Emits the start and end vertex if the combined number of hops is within the bounds.
+ *
+ * Each path length k is only considered for the split ceil(k/2) forward and floor(k/2)
+ * backward hops, so that every path length is checked exactly once.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f1")
+@FunctionAnnotation.ReadFieldsFirst("f3")
+@FunctionAnnotation.ReadFieldsSecond("f3")
+public class MeetInTheMiddle
+  implements FlatJoinFunction<PathState, PathState, Tuple2<GradoopId, GradoopId>> {
+
+  /**
+   * Minimum number of hops
+   */
+  private final int lowerBound;
+  /**
+   * Maximum number of hops
+   */
+  private final int upperBound;
+  /**
+   * Reuse Tuple
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param lowerBound minimum number of hops
+   * @param upperBound maximum number of hops
+   */
+  public MeetInTheMiddle(int lowerBound, int upperBound) {
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void join(PathState forward, PathState backward,
+    Collector<Tuple2<GradoopId, GradoopId>> out) throws Exception {
+    int forwardHops = forward.getHops();
+    int backwardHops = backward.getHops();
+    int hops = forwardHops + backwardHops;
+
+    if (hops >= lowerBound && hops <= upperBound &&
+      (forwardHops == backwardHops || forwardHops == backwardHops + 1)) {
+      reuseTuple.f0 = forward.getStart();
+      reuseTuple.f1 = forward.getEnd();
+      out.collect(reuseTuple);
+    }
+  }
+}
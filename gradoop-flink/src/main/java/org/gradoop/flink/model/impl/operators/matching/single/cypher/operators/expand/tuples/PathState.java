@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Represents a vertex that is reachable from one end of a path whose start and end vertex are
+ * both known. Used by the bidirectional search of {@link org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandReachableVertices}.
+ *
+ * f0 -> start vertex of the path
+ * f1 -> end vertex of the path
+ * f2 -> reached vertex
+ * f3 -> number of hops from the searching end to the reached vertex
+ */
+public class PathState extends Tuple4<GradoopId, GradoopId, GradoopId, Integer> {
+
+  /**
+   * Creates an empty Object
+   */
+  public PathState() {
+  }
+
+  /**
+   * Creates a new path state
+   *
+   * @param start start vertex of the path
+   * @param end end vertex of the path
+   * @param vertex reached vertex
+   * @param hops number of hops to the reached vertex
+   */
+  public PathState(GradoopId start, GradoopId end, GradoopId vertex, Integer hops) {
+    super(start, end, vertex, hops);
+  }
+
+  /**
+   * Get start vertex of the path
+   * @return start vertex id
+   */
+  public GradoopId getStart() {
+    return f0;
+  }
+
+  /**
+   * Get end vertex of the path
+   * @return end vertex id
+   */
+  public GradoopId getEnd() {
+    return f1;
+  }
+
+  /**
+   * Get reached vertex
+   * @return reached vertex id
+   */
+  public GradoopId getVertex() {
+    return f2;
+  }
+
+  /**
+   * Get number of hops to the reached vertex
+   * @return number of hops
+   */
+  public Integer getHops() {
+    return f3;
+  }
+}
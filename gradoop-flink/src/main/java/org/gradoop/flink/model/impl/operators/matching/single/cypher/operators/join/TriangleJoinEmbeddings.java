@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.AttachAdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.AttachTriangleEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.BuildAdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractJoinColumns;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractVertexPair;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.IntersectAdjacencyLists;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeKeyedEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.List;
+
+/**
+ * Joins three sets of embeddings (a,b), (b,c) and (a,c) that form a triangle (a,b,c) and checks
+ * for vertex/edge isomorphism/homomorphism.
+ *
+ * Instead of joining the inputs pairwise, which materializes all (a,b,c) wedges of which only a
+ * fraction is closed by an (a,c) embedding, the operator first finds the closed triangles on
+ * vertex ids only using a worst-case optimal generic join:
+ *
+ * <ol>
+ * <li>the (a,c) and (b,c) vertex pairs are grouped into sorted adjacency lists of a and b</li>
+ * <li>each distinct (a,b) pair is joined with the adjacency list of a, which is partitioned by a
+ *     already, and then shipped to the partition of b</li>
+ * <li>the candidates for c are computed by intersecting both sorted adjacency lists</li>
+ * </ol>
+ *
+ * Afterwards, the embeddings are joined along the closed triangles only. The result is the same
+ * as joining (a,b) with (b,c) on b and the result with (a,c) on a and c using
+ * {@link JoinEmbeddings}, i.e. the merge constraints defined there hold.
+ */
+public class TriangleJoinEmbeddings implements PhysicalOperator {
+  /**
+   * Embeddings containing a and b
+   */
+  private final DataSet<Embedding> first;
+  /**
+   * Embeddings containing b and c
+   */
+  private final DataSet<Embedding> second;
+  /**
+   * Embeddings containing a and c
+   */
+  private final DataSet<Embedding> third;
+  /**
+   * Columns of a and b in the first embeddings
+   */
+  private final List<Integer> firstColumns;
+  /**
+   * Columns of b and c in the second embeddings
+   */
+  private final List<Integer> secondColumns;
+  /**
+   * Columns of a and c in the third embeddings
+   */
+  private final List<Integer> thirdColumns;
+  /**
+   * Columns of a and c in the result of the first merge
+   */
+  private final List<Integer> intermediateColumns;
+  /**
+   * Merges first and second embeddings
+   */
+  private final MergeEmbeddings firstMerge;
+  /**
+   * Merges the result of the first merge and third embeddings
+   */
+  private final MergeEmbeddings secondMerge;
+
+  /**
+   * Operator name
+   */
+  private String name;
+
+  /**
+   * Instantiates a new triangle join operator.
+   *
+   * @param first embeddings containing a and b
+   * @param second embeddings containing b and c
+   * @param third embeddings containing a and c
+   * @param firstColumns columns of a and b in the first embeddings
+   * @param secondColumns columns of b and c in the second embeddings
+   * @param thirdColumns columns of a and c in the third embeddings
+   * @param intermediateColumns columns of a and c in the result of the first merge
+   * @param firstMerge merges first and second embeddings joined on b
+   * @param secondMerge merges the result of the first merge and third embeddings joined on a and c
+   */
+  public TriangleJoinEmbeddings(DataSet<Embedding> first, DataSet<Embedding> second,
+    DataSet<Embedding> third,
+    List<Integer> firstColumns, List<Integer> secondColumns, List<Integer> thirdColumns,
+    List<Integer> intermediateColumns,
+    MergeEmbeddings firstMerge, MergeEmbeddings secondMerge) {
+    this.first               = first;
+    this.second              = second;
+    this.third               = third;
+    this.firstColumns        = firstColumns;
+    this.secondColumns       = secondColumns;
+    this.thirdColumns        = thirdColumns;
+    this.intermediateColumns = intermediateColumns;
+    this.firstMerge          = firstMerge;
+    this.secondMerge         = secondMerge;
+    this.setName("TriangleJoinEmbeddings");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    DataSet<Tuple2<GradoopId, GradoopId[]>> adjacencyA = third
+      .map(new ExtractVertexPair(thirdColumns.get(0), thirdColumns.get(1)))
+      .name(getName() + " - (a,c) pairs")
+      .groupBy(0)
+      .reduceGroup(new BuildAdjacencyList())
+      .name(getName() + " - adjacency of a");
+
+    DataSet<Tuple2<GradoopId, GradoopId[]>> adjacencyB = second
+      .map(new ExtractVertexPair(secondColumns.get(0), secondColumns.get(1)))
+      .name(getName() + " - (b,c) pairs")
+      .groupBy(0)
+      .reduceGroup(new BuildAdjacencyList())
+      .name(getName() + " - adjacency of b");
+
+    DataSet<Tuple3<GradoopId, GradoopId, GradoopId>> triangles = first
+      .map(new ExtractVertexPair(firstColumns.get(0), firstColumns.get(1)))
+      .name(getName() + " - (a,b) pairs")
+      .distinct()
+      .join(adjacencyA)
+      .where(0).equalTo(0)
+      .with(new AttachAdjacencyList())
+      .name(getName() + " - attach adjacency of a")
+      .join(adjacencyB)
+      .where(0).equalTo(0)
+      .with(new IntersectAdjacencyLists())
+      .name(getName() + " - intersect adjacency lists");
+
+    return triangles
+      .join(first)
+      .where(0, 1).equalTo(new ExtractVertexPair(firstColumns.get(0), firstColumns.get(1)))
+      .with(new AttachTriangleEmbedding())
+      .name(getName() + " - attach (a,b) embeddings")
+      .join(second)
+      .where(0, 1).equalTo(new ExtractVertexPair(secondColumns.get(0), secondColumns.get(1)))
+      .with(new MergeKeyedEmbeddings(firstMerge))
+      .name(getName() + " - merge (b,c) embeddings")
+      .join(third)
+      .where(new ExtractJoinColumns(intermediateColumns))
+      .equalTo(new ExtractJoinColumns(thirdColumns))
+      .with(secondMerge)
+      .name(getName());
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Attaches the adjacency list of a to a vertex pair (a,b) and uses b as key for the next join.
+ *
+ * (v0,v1),(v0,[v2,v3]) -> (v1,v0,[v2,v3])
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0->f1; f1->f0")
+@FunctionAnnotation.ForwardedFieldsSecond("f1->f2")
+public class AttachAdjacencyList implements JoinFunction<Tuple2<GradoopId, GradoopId>,
+  Tuple2<GradoopId, GradoopId[]>, Tuple3<GradoopId, GradoopId, GradoopId[]>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<GradoopId, GradoopId, GradoopId[]> reuseTuple;
+
+  /**
+   * Creates a new UDF instance.
+   */
+  public AttachAdjacencyList() {
+    this.reuseTuple = new Tuple3<>();
+  }
+
+  @Override
+  public Tuple3<GradoopId, GradoopId, GradoopId[]> join(Tuple2<GradoopId, GradoopId> pair,
+    Tuple2<GradoopId, GradoopId[]> adjacencyList) throws Exception {
+    reuseTuple.f0 = pair.f1;
+    reuseTuple.f1 = pair.f0;
+    reuseTuple.f2 = adjacencyList.f1;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Attaches an embedding (a,b) to a triangle (a,b,c) and uses the pair (b,c) as key for the next
+ * join.
+ *
+ * (v0,v1,v2),(v0,e0,v1) -> (v1,v2,(v0,e0,v1))
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f1->f0; f2->f1")
+public class AttachTriangleEmbedding implements JoinFunction<
+  Tuple3<GradoopId, GradoopId, GradoopId>, Embedding, Tuple3<GradoopId, GradoopId, Embedding>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<GradoopId, GradoopId, Embedding> reuseTuple;
+
+  /**
+   * Creates a new UDF instance.
+   */
+  public AttachTriangleEmbedding() {
+    this.reuseTuple = new Tuple3<>();
+  }
+
+  @Override
+  public Tuple3<GradoopId, GradoopId, Embedding> join(
+    Tuple3<GradoopId, GradoopId, GradoopId> triangle, Embedding embedding) throws Exception {
+    reuseTuple.f0 = triangle.f1;
+    reuseTuple.f1 = triangle.f2;
+    reuseTuple.f2 = embedding;
+    return reuseTuple;
+  }
+}
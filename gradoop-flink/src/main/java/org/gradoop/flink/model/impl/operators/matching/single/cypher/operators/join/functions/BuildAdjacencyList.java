@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the neighbors of a vertex into a single adjacency list, which is sorted and free of
+ * duplicates. The list only holds vertex ids, not the embeddings the pairs were extracted from.
+ *
+ * [(v0,v3),(v0,v1),(v0,v3)] -> (v0,[v1,v3])
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class BuildAdjacencyList implements
+  GroupReduceFunction<Tuple2<GradoopId, GradoopId>, Tuple2<GradoopId, GradoopId[]>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, GradoopId[]> reuseTuple;
+
+  /**
+   * Creates a new UDF instance.
+   */
+  public BuildAdjacencyList() {
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple2<GradoopId, GradoopId>> values,
+    Collector<Tuple2<GradoopId, GradoopId[]>> out) throws Exception {
+    List<GradoopId> neighbors = new ArrayList<>();
+    for (Tuple2<GradoopId, GradoopId> pair : values) {
+      reuseTuple.f0 = pair.f0;
+      neighbors.add(pair.f1);
+    }
+    Collections.sort(neighbors);
+
+    int size = 0;
+    for (GradoopId neighbor : neighbors) {
+      if (size == 0 || !neighbors.get(size - 1).equals(neighbor)) {
+        neighbors.set(size++, neighbor);
+      }
+    }
+
+    reuseTuple.f1 = neighbors.subList(0, size).toArray(new GradoopId[size]);
+    out.collect(reuseTuple);
+  }
+}
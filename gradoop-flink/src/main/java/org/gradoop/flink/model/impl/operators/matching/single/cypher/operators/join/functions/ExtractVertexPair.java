@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Extracts the ids at two columns of an embedding, e.g., the ids of the source and target vertex
+ * of an edge embedding. Used to map embeddings to join keys and as key selector.
+ *
+ * (v0,e0,v1),[0,2] -> (v0,v1)
+ */
+public class ExtractVertexPair implements MapFunction<Embedding, Tuple2<GradoopId, GradoopId>>,
+  KeySelector<Embedding, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Column of the first id
+   */
+  private final int firstColumn;
+  /**
+   * Column of the second id
+   */
+  private final int secondColumn;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param firstColumn column of the first id
+   * @param secondColumn column of the second id
+   */
+  public ExtractVertexPair(int firstColumn, int secondColumn) {
+    this.firstColumn = firstColumn;
+    this.secondColumn = secondColumn;
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> map(Embedding embedding) throws Exception {
+    return Tuple2.of(embedding.getId(firstColumn), embedding.getId(secondColumn));
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> getKey(Embedding embedding) throws Exception {
+    return map(embedding);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Closes triangles by intersecting two sorted adjacency lists of vertex ids.
+ *
+ * The left input holds a vertex pair (a,b) together with the adjacency list of a, the right input
+ * holds the adjacency list of b. Both lists are traversed in a leapfrog fashion, i.e. the list
+ * which is behind seeks the current id of the other list using galloping search. Each common id
+ * c closes the triangle (a,b,c).
+ *
+ * (v1,v0,[v2,v3,v5]),(v1,[v3,v4,v5]) -> (v0,v1,v3),(v0,v1,v5)
+ */
+public class IntersectAdjacencyLists implements FlatJoinFunction<
+  Tuple3<GradoopId, GradoopId, GradoopId[]>, Tuple2<GradoopId, GradoopId[]>,
+  Tuple3<GradoopId, GradoopId, GradoopId>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<GradoopId, GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Creates a new UDF instance.
+   */
+  public IntersectAdjacencyLists() {
+    this.reuseTuple = new Tuple3<>();
+  }
+
+  @Override
+  public void join(Tuple3<GradoopId, GradoopId, GradoopId[]> left,
+    Tuple2<GradoopId, GradoopId[]> right,
+    Collector<Tuple3<GradoopId, GradoopId, GradoopId>> out) throws Exception {
+    GradoopId[] leftIds = left.f2;
+    GradoopId[] rightIds = right.f1;
+    reuseTuple.f0 = left.f1;
+    reuseTuple.f1 = left.f0;
+
+    int i = 0;
+    int j = 0;
+    while (i < leftIds.length && j < rightIds.length) {
+      int comparison = leftIds[i].compareTo(rightIds[j]);
+      if (comparison < 0) {
+        i = seek(leftIds, i, rightIds[j]);
+      } else if (comparison > 0) {
+        j = seek(rightIds, j, leftIds[i]);
+      } else {
+        reuseTuple.f2 = leftIds[i];
+        out.collect(reuseTuple);
+        i++;
+        j++;
+      }
+    }
+  }
+
+  /**
+   * Returns the first position greater than {@code from} at which the sorted array contains an id
+   * that is not smaller than the target. Uses galloping (exponential) search followed by a binary
+   * search, which is logarithmic in the distance skipped.
+   *
+   * @param ids sorted ids
+   * @param from current position, whose id is smaller than the target
+   * @param target id to seek
+   * @return first position with an id not smaller than the target or the array length
+   */
+  private int seek(GradoopId[] ids, int from, GradoopId target) {
+    int low = from + 1;
+    int step = 1;
+    int high = low;
+    while (high < ids.length && ids[high].compareTo(target) < 0) {
+      low = high + 1;
+      step <<= 1;
+      high = from + step;
+    }
+    high = Math.min(high, ids.length);
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (ids[mid].compareTo(target) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
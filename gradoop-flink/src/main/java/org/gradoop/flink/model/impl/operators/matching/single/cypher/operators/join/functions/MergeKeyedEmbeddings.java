@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Merges the embedding attached to a join key with the joined embedding using
+ * {@link MergeEmbeddings}.
+ *
+ * (v1,v2,(v0,e0,v1)),(v1,e1,v2) -> (v0,e0,v1,e1,v2)
+ */
+public class MergeKeyedEmbeddings implements
+  FlatJoinFunction<Tuple3<GradoopId, GradoopId, Embedding>, Embedding, Embedding> {
+  /**
+   * Merges the attached and the joined embedding
+   */
+  private final MergeEmbeddings merge;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param merge merges the attached and the joined embedding
+   */
+  public MergeKeyedEmbeddings(MergeEmbeddings merge) {
+    this.merge = merge;
+  }
+
+  @Override
+  public void join(Tuple3<GradoopId, GradoopId, Embedding> left, Embedding right,
+    Collector<Embedding> out) throws Exception {
+    merge.join(left.f2, right, out);
+  }
+}
@@ -15,13 +15,24 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyValueHistogram;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Keeps track of the leaf nodes in a query plan and computes a final selectivity factor resulting
@@ -101,6 +112,127 @@ class FilterEstimator extends Estimator {
    * @param predicates query predicates
    */
   private void updateSelectivity(CNF predicates) {
-    // TODO
+    for (CNFElement disjunction : predicates.getPredicates()) {
+      selectivity *= estimateSelectivity(disjunction);
+    }
+  }
+
+  /**
+   * Estimates the selectivity of a disjunction of comparisons assuming that the comparisons are
+   * independent of each other.
+   *
+   * @param disjunction disjunction of comparisons
+   * @return estimated selectivity factor
+   */
+  private double estimateSelectivity(CNFElement disjunction) {
+    double nonSelectivity = 1d;
+    for (ComparisonExpression comparison : disjunction.getPredicates()) {
+      nonSelectivity *= 1d - estimateSelectivity(comparison);
+    }
+    return 1d - nonSelectivity;
+  }
+
+  /**
+   * Estimates the selectivity of a comparison between a property and a literal using the property
+   * value distributions in the graph statistics. All other comparisons and comparisons without
+   * a matching value distribution are considered to be not selective.
+   *
+   * @param comparison comparison
+   * @return estimated selectivity factor
+   */
+  private double estimateSelectivity(ComparisonExpression comparison) {
+    QueryComparable lhs = comparison.getLhs();
+    QueryComparable rhs = comparison.getRhs();
+    Comparator comparator = comparison.getComparator();
+
+    if (lhs instanceof LiteralComparable && rhs instanceof PropertySelectorComparable) {
+      QueryComparable tmp = lhs;
+      lhs = rhs;
+      rhs = tmp;
+      comparator = swapOperands(comparator);
+    }
+    if (!(lhs instanceof PropertySelectorComparable && rhs instanceof LiteralComparable)) {
+      return 1d;
+    }
+
+    PropertySelectorComparable propertySelector = (PropertySelectorComparable) lhs;
+    PropertyValue value = PropertyValue.create(((LiteralComparable) rhs).getValue());
+    String variable = propertySelector.getVariable();
+    boolean isVertex = getQueryHandler().getVertexByVariable(variable) != null;
+
+    if (!PropertyValueHistogram.isSupported(value) ||
+      !isVertex && getQueryHandler().getEdgeByVariable(variable) == null) {
+      return 1d;
+    }
+
+    String label = getLabel(variable, isVertex);
+    List<PropertyValueHistogram> histograms =
+      getHistograms(label, propertySelector.getPropertyKey(), isVertex);
+    long elementCount = getCardinality(label, isVertex);
+
+    if (histograms.isEmpty() || elementCount == 0) {
+      return 1d;
+    }
+
+    double matchCount = 0d;
+    long valueCount = 0L;
+    for (PropertyValueHistogram histogram : histograms) {
+      matchCount += histogram.estimateCount(comparator, value);
+      valueCount += histogram.getCount();
+    }
+    if (comparator == Comparator.NEQ) {
+      // elements without the property do not equal any value
+      matchCount += Math.max(0L, elementCount - valueCount);
+    }
+
+    return Math.max(0d, Math.min(1d, matchCount / elementCount));
+  }
+
+  /**
+   * Returns the value distributions of the given property for elements with the given label. If
+   * the label is unknown to the statistics (e.g. a query element without label), the
+   * distributions of all labels are returned.
+   *
+   * @param label element label
+   * @param propertyKey property key
+   * @param isVertex true, iff the label maps to a vertex
+   * @return value distributions, may be empty
+   */
+  private List<PropertyValueHistogram> getHistograms(String label, String propertyKey,
+    boolean isVertex) {
+    GraphStatistics statistics = getGraphStatistics();
+    long labelCount = isVertex ? statistics.getVertexCount(label) : statistics.getEdgeCount(label);
+
+    if (labelCount == 0) {
+      return isVertex ? statistics.getVertexPropertyHistograms(propertyKey) :
+        statistics.getEdgePropertyHistograms(propertyKey);
+    }
+
+    PropertyValueHistogram histogram = isVertex ?
+      statistics.getVertexPropertyHistogram(label, propertyKey) :
+      statistics.getEdgePropertyHistogram(label, propertyKey);
+
+    return histogram != null ? Collections.singletonList(histogram) : Collections.emptyList();
+  }
+
+  /**
+   * Returns the comparator that yields the same result if the operands are swapped.
+   *
+   * @param comparator comparator
+   * @return comparator for swapped operands
+   */
+  private static Comparator swapOperands(Comparator comparator) {
+    switch (comparator) {
+    case LT:
+      return Comparator.GT;
+    case LTE:
+      return Comparator.GTE;
+    case GT:
+      return Comparator.LT;
+    case GTE:
+      return Comparator.LTE;
+    default:
+      return comparator;
+    }
   }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp.DPPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+
+/**
+ * Query planners available for Cypher queries.
+ */
+public enum PlannerStrategy {
+  /**
+   * Uses the {@link GreedyPlanner}.
+   */
+  GREEDY,
+  /**
+   * Uses the {@link DPPlanner}, which falls back to the {@link GreedyPlanner} if its planning
+   * time limit is exceeded.
+   */
+  DYNAMIC_PROGRAMMING;
+
+  /**
+   * Creates a planner for the given query using the default planning time limit.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @return query planner
+   */
+  public QueryPlanner createPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    return createPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      DPPlanner.DEFAULT_MAX_PLANNING_TIME);
+  }
+
+  /**
+   * Creates a planner for the given query.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param maxPlanningTime planning time limit in milliseconds, ignored by planners without one
+   * @return query planner
+   */
+  public QueryPlanner createPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    long maxPlanningTime) {
+    switch (this) {
+    case DYNAMIC_PROGRAMMING:
+      return new DPPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+        maxPlanningTime);
+    default:
+      return new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy);
+    }
+  }
+}
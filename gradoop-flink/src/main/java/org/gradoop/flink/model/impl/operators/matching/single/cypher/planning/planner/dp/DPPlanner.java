@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp;
+
+import com.google.common.collect.ImmutableSet;
+import org.apache.log4j.Logger;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.QueryPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.TriangleJoinNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A query planner that enumerates join orders bottom-up using dynamic programming.
+ *
+ * For each set of processed query variables, the planner keeps the cheapest plan covering exactly
+ * these variables. Plans of size n are built by joining all pairs of disjoint, connected plans
+ * whose sizes add up to n. This includes bushy plans, alternative placements of
+ * {@link ExpandEmbeddingsNode}s for variable length paths and the choice between joining the edges
+ * of a triangle pairwise or at once using a {@link TriangleJoinNode}. The costs of a plan are the
+ * sum of the estimated cardinalities of all its (intermediate) results, which penalizes large
+ * intermediate results instead of only considering the final cardinality.
+ *
+ * Since the number of enumerated plans grows exponentially with the query size, planning is
+ * limited by a time budget. If it is exceeded, the planner falls back to the {@link GreedyPlanner}.
+ */
+public class DPPlanner extends QueryPlanner {
+  /**
+   * Default planning time limit in milliseconds.
+   */
+  public static final long DEFAULT_MAX_PLANNING_TIME = 5000L;
+  /**
+   * Logger
+   */
+  private static final Logger LOG = Logger.getLogger(DPPlanner.class);
+  /**
+   * Planner used if the planning time limit is exceeded.
+   */
+  private final GreedyPlanner fallbackPlanner;
+  /**
+   * Planning time limit in milliseconds.
+   */
+  private final long maxPlanningTime;
+  /**
+   * Costs of the best plan for each set of processed variables.
+   */
+  private final Map<Set<String>, Long> costs;
+  /**
+   * Best plan for each set of processed variables.
+   */
+  private final Map<Set<String>, PlanTableEntry> bestPlans;
+  /**
+   * True, if the last planning fell back to the {@link GreedyPlanner}.
+   */
+  private boolean fellBack;
+
+  /**
+   * Creates a new planner using the default planning time limit.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   */
+  public DPPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      DEFAULT_MAX_PLANNING_TIME);
+  }
+
+  /**
+   * Creates a new planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param maxPlanningTime planning time limit in milliseconds, see
+   *                        {@link #DEFAULT_MAX_PLANNING_TIME}
+   */
+  public DPPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    long maxPlanningTime) {
+    super(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy);
+    if (maxPlanningTime < 0) {
+      throw new IllegalArgumentException(
+        "Planning time limit must not be negative, was " + maxPlanningTime);
+    }
+    this.fallbackPlanner =
+      new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy);
+    this.maxPlanningTime = maxPlanningTime;
+    this.costs = new HashMap<>();
+    this.bestPlans = new HashMap<>();
+  }
+
+  @Override
+  public void setReturnVariables(Set<String> returnVariables) {
+    super.setReturnVariables(returnVariables);
+    fallbackPlanner.setReturnVariables(returnVariables);
+  }
+
+  @Override
+  public void setTriangleJoins(boolean triangleJoins) {
+    super.setTriangleJoins(triangleJoins);
+    fallbackPlanner.setTriangleJoins(triangleJoins);
+  }
+
+  @Override
+  public PlannerStrategy getAppliedStrategy() {
+    return fellBack ? fallbackPlanner.getAppliedStrategy() : PlannerStrategy.DYNAMIC_PROGRAMMING;
+  }
+
+  @Override
+  public PlanTableEntry plan() {
+    long deadline = System.currentTimeMillis() + maxPlanningTime;
+    costs.clear();
+    bestPlans.clear();
+    fellBack = false;
+
+    PlanTable leaves = initPlanTable();
+
+    // plans grouped by the number of processed variables
+    List<List<Set<String>>> levels = new ArrayList<>();
+    for (int size = 0; size <= leaves.size(); size++) {
+      levels.add(new ArrayList<>());
+    }
+
+    for (PlanTableEntry leaf : leaves) {
+      addInitialPlan(leaf, levels);
+    }
+    // triangles compete with the binary joins of their edges
+    for (PlanTableEntry triangle : createTriangleJoins(leaves)) {
+      addTrianglePlan(triangle, leaves, levels);
+    }
+
+    for (int size = 2; size <= leaves.size(); size++) {
+      List<Set<String>> level = levels.get(size);
+      for (int leftSize = 1; leftSize < size; leftSize++) {
+        for (Set<String> leftVariables : levels.get(leftSize)) {
+          PlanTableEntry leftEntry = bestPlans.get(leftVariables);
+          if (!mayExtend(leftEntry)) {
+            continue;
+          }
+          for (Set<String> rightVariables : levels.get(size - leftSize)) {
+            if (System.currentTimeMillis() >= deadline) {
+              LOG.warn(String.format("Planning time limit of %d ms exceeded, " +
+                "falling back to greedy planning.", maxPlanningTime));
+              fellBack = true;
+              return fallbackPlanner.plan();
+            }
+            if (Collections.disjoint(leftVariables, rightVariables)) {
+              evaluateJoins(leftEntry, bestPlans.get(rightVariables), level);
+            }
+          }
+        }
+      }
+    }
+
+    return combineComponents();
+  }
+
+  /**
+   * Adds an initial plan, whose costs are its estimated cardinality.
+   *
+   * @param entry initial plan
+   * @param levels variable sets grouped by their size, the processed variables are added
+   */
+  private void addInitialPlan(PlanTableEntry entry, List<List<Set<String>>> levels) {
+    Set<String> variables = ImmutableSet.copyOf(entry.getProcessedVariables());
+    levels.get(variables.size()).add(variables);
+    bestPlans.put(variables, entry);
+    costs.put(variables, entry.getEstimatedCardinality());
+  }
+
+  /**
+   * Adds a plan joining the edges of a triangle at once. Like a join of the edges, its costs
+   * include the costs of the edge plans.
+   *
+   * @param triangle triangle plan
+   * @param leaves initial plans
+   * @param levels variable sets grouped by their size, the processed variables are added
+   */
+  private void addTrianglePlan(PlanTableEntry triangle, PlanTable leaves,
+    List<List<Set<String>>> levels) {
+    long cost = triangle.getEstimatedCardinality();
+    for (PlanTableEntry leaf : leaves) {
+      if (leaf.getType() == PlanTableEntry.Type.EDGE &&
+        triangle.getProcessedVariables().containsAll(leaf.getProcessedVariables())) {
+        cost += leaf.getEstimatedCardinality();
+      }
+    }
+    Set<String> variables = ImmutableSet.copyOf(triangle.getProcessedVariables());
+    levels.get(variables.size()).add(variables);
+    bestPlans.put(variables, triangle);
+    costs.put(variables, cost);
+  }
+
+  /**
+   * Evaluates all joins of the given entries and keeps each result if it is the cheapest plan
+   * for its processed variables.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param level variable sets of the current level, new sets are added
+   */
+  private void evaluateJoins(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+    List<Set<String>> level) {
+    PlanTable joined = new PlanTable();
+    evaluateJoins(leftEntry, rightEntry, joined);
+    if (joined.size() == 0) {
+      return;
+    }
+    joined = evaluateProjection(evaluateFilter(joined));
+
+    long inputCosts = costs.get(leftEntry.getProcessedVariables()) +
+      costs.get(rightEntry.getProcessedVariables());
+
+    for (PlanTableEntry entry : joined) {
+      long cost = inputCosts + entry.getEstimatedCardinality();
+      Set<String> variables = ImmutableSet.copyOf(entry.getProcessedVariables());
+      Long bestCost = costs.get(variables);
+      if (bestCost == null) {
+        level.add(variables);
+      }
+      if (bestCost == null || cost < bestCost) {
+        bestPlans.put(variables, entry);
+        costs.put(variables, cost);
+      }
+    }
+  }
+
+  /**
+   * Returns the plan covering all query variables. If the query graph consists of multiple
+   * disconnected components, the best plans of the components are combined using cartesian
+   * products or value joins.
+   *
+   * @return plan covering the whole query
+   */
+  private PlanTableEntry combineComponents() {
+    // the largest disjoint plans represent the connected components of the query graph
+    List<Set<String>> candidates = new ArrayList<>(bestPlans.keySet());
+    candidates.sort(Comparator.<Set<String>>comparingInt(Set::size).reversed());
+
+    PlanTable planTable = new PlanTable();
+    Set<String> covered = new HashSet<>();
+    for (Set<String> variables : candidates) {
+      if (Collections.disjoint(covered, variables)) {
+        covered.addAll(variables);
+        planTable.add(bestPlans.get(variables));
+      }
+    }
+
+    while (planTable.size() > 1) {
+      PlanTable newPlans = evaluateProjection(evaluateFilter(evaluateCartesianProducts(planTable)));
+      PlanTableEntry bestEntry = newPlans.min();
+      planTable.removeCoveredBy(bestEntry);
+      planTable.add(bestEntry);
+    }
+
+    return planTable.get(0);
+  }
+}
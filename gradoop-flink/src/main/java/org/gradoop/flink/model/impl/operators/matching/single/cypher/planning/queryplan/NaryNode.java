@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An n-ary node takes multiple data sets containing embeddings as input which are used to compute
+ * a new data set of embeddings based on the specific node implementation.
+ */
+public abstract class NaryNode extends PlanNode {
+  /**
+   * Input nodes
+   */
+  private final List<PlanNode> children;
+
+  /**
+   * Creates a new n-ary node
+   *
+   * @param children input nodes
+   */
+  public NaryNode(List<PlanNode> children) {
+    Objects.requireNonNull(children);
+    children.forEach(Objects::requireNonNull);
+    this.children = Collections.unmodifiableList(children);
+  }
+
+  /**
+   * Returns the input nodes.
+   *
+   * @return input nodes
+   */
+  public List<PlanNode> getChildren() {
+    return children;
+  }
+}
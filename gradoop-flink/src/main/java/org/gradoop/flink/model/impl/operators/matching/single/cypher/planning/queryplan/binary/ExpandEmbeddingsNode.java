@@ -22,11 +22,11 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.Expan
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
-import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand
-  .ExpandEmbeddings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsBulk;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandReachableVertices;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 
 import java.util.Collections;
@@ -34,7 +34,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Binary node that wraps an {@link ExpandEmbeddingsBulk} operator.
+ * Binary node that wraps an {@link ExpandEmbeddingsBulk} operator. If the path does not need to
+ * be materialized and vertices as well as edges may repeat, the node wraps an
+ * {@link ExpandReachableVertices} operator instead.
  */
 public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
   /**
@@ -77,6 +79,10 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
    * Morphism type for edges
    */
   private final MatchStrategy edgeStrategy;
+  /**
+   * True, if the path has to be contained in the resulting embeddings
+   */
+  private boolean materializePath = true;
 
   /**
    * Creates a new node.
@@ -110,14 +116,33 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
       leftChild.getEmbeddingMetaData().getEntryColumn(endVariable) : -1;
   }
 
+  /**
+   * Defines whether the path has to be contained in the resulting embeddings. If not, the
+   * expansion only needs to compute the reachable end vertices.
+   *
+   * @param materializePath true, if the path has to be contained in the result
+   * @return this node
+   */
+  public ExpandEmbeddingsNode setMaterializePath(boolean materializePath) {
+    this.materializePath = materializePath;
+    return this;
+  }
+
   @Override
   public DataSet<Embedding> execute() {
-    ExpandEmbeddings op = new ExpandEmbeddingsBulk(
-      getLeftChild().execute(), getRightChild().execute(),
-      expandColumn, lowerBound, upperBound, expandDirection,
-      getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
-      getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
-      closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+    PhysicalOperator op;
+    if (!materializePath && vertexStrategy == MatchStrategy.HOMOMORPHISM &&
+      edgeStrategy == MatchStrategy.HOMOMORPHISM) {
+      op = new ExpandReachableVertices(getLeftChild().execute(), getRightChild().execute(),
+        expandColumn, lowerBound, upperBound, expandDirection, closingColumn);
+    } else {
+      op = new ExpandEmbeddingsBulk(
+        getLeftChild().execute(), getRightChild().execute(),
+        expandColumn, lowerBound, upperBound, expandDirection,
+        getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
+        getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
+        closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+    }
     op.setName(toString());
     return op.evaluate();
   }
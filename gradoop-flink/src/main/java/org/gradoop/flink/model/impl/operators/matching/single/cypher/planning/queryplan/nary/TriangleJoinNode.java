@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.TriangleJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * N-ary node that wraps a {@link TriangleJoinEmbeddings} operator. The node joins three inputs
+ * containing the vertex variables (a,b), (b,c) and (a,c).
+ *
+ * The output has the same layout as joining the first and the second input on b and the result
+ * with the third input on a and c using {@link JoinEmbeddingsNode}s.
+ */
+public class TriangleJoinNode extends NaryNode implements JoinNode {
+  /**
+   * Vertex variable shared by the first and the third input
+   */
+  private final String variableA;
+  /**
+   * Vertex variable shared by the first and the second input
+   */
+  private final String variableB;
+  /**
+   * Vertex variable shared by the second and the third input
+   */
+  private final String variableC;
+  /**
+   * Morphism type for vertices
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism type for edges
+   */
+  private final MatchStrategy edgeStrategy;
+
+  /**
+   * Creates a new node.
+   *
+   * @param first input plan node containing a and b
+   * @param second input plan node containing b and c
+   * @param third input plan node containing a and c
+   * @param variableA vertex variable shared by the first and the third input
+   * @param variableB vertex variable shared by the first and the second input
+   * @param variableC vertex variable shared by the second and the third input
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   */
+  public TriangleJoinNode(PlanNode first, PlanNode second, PlanNode third,
+    String variableA, String variableB, String variableC,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    super(Lists.newArrayList(first, second, third));
+    this.variableA = variableA;
+    this.variableB = variableB;
+    this.variableC = variableC;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+  }
+
+  @Override
+  public DataSet<Embedding> execute() {
+    EmbeddingMetaData first = getFirst().getEmbeddingMetaData();
+    EmbeddingMetaData second = getSecond().getEmbeddingMetaData();
+    EmbeddingMetaData third = getThird().getEmbeddingMetaData();
+
+    EmbeddingMetaData intermediate = getFirstJoin().getEmbeddingMetaData();
+
+    TriangleJoinEmbeddings op = new TriangleJoinEmbeddings(
+      getFirst().execute(), getSecond().execute(), getThird().execute(),
+      getColumns(first, Lists.newArrayList(variableA, variableB)),
+      getColumns(second, Lists.newArrayList(variableB, variableC)),
+      getColumns(third, Lists.newArrayList(variableA, variableC)),
+      getColumns(intermediate, Lists.newArrayList(variableA, variableC)),
+      createMergeFunction(first, second, Collections.singletonList(variableB)),
+      createMergeFunction(intermediate, third, Lists.newArrayList(variableA, variableC)));
+    op.setName(toString());
+    return op.evaluate();
+  }
+
+  @Override
+  protected EmbeddingMetaData computeEmbeddingMetaData() {
+    return new JoinEmbeddingsNode(getFirstJoin(), getThird(),
+      Lists.newArrayList(variableA, variableC), vertexStrategy, edgeStrategy)
+      .getEmbeddingMetaData();
+  }
+
+  /**
+   * Returns the input containing a and b.
+   *
+   * @return first input
+   */
+  public PlanNode getFirst() {
+    return getChildren().get(0);
+  }
+
+  /**
+   * Returns the input containing b and c.
+   *
+   * @return second input
+   */
+  public PlanNode getSecond() {
+    return getChildren().get(1);
+  }
+
+  /**
+   * Returns the input containing a and c.
+   *
+   * @return third input
+   */
+  public PlanNode getThird() {
+    return getChildren().get(2);
+  }
+
+  /**
+   * Returns a binary join of the first and second input which describes the layout of the
+   * intermediate embeddings.
+   *
+   * @return join of the first and second input on b
+   */
+  private JoinEmbeddingsNode getFirstJoin() {
+    return new JoinEmbeddingsNode(getFirst(), getSecond(),
+      Collections.singletonList(variableB), vertexStrategy, edgeStrategy);
+  }
+
+  /**
+   * Creates the function merging the given embeddings in the same way as a
+   * {@link JoinEmbeddingsNode} with the same inputs would do.
+   *
+   * @param left meta data of the left embeddings
+   * @param right meta data of the right embeddings
+   * @param joinVariables variables the embeddings are joined on
+   * @return merge function
+   */
+  private MergeEmbeddings createMergeFunction(EmbeddingMetaData left, EmbeddingMetaData right,
+    List<String> joinVariables) {
+    boolean distinctVertices = vertexStrategy == MatchStrategy.ISOMORPHISM;
+    boolean distinctEdges = edgeStrategy == MatchStrategy.ISOMORPHISM;
+
+    return new MergeEmbeddings(right.getEntryCount(),
+      getColumns(right, joinVariables),
+      distinctVertices ? getColumns(left, left.getVertexVariables()) : Collections.emptyList(),
+      distinctVertices ? getColumns(right, right.getVertexVariables().stream()
+        .filter(var -> !joinVariables.contains(var))
+        .collect(Collectors.toList())) : Collections.emptyList(),
+      distinctEdges ? getColumns(left, left.getEdgeVariables()) : Collections.emptyList(),
+      distinctEdges ? getColumns(right, right.getEdgeVariables()) : Collections.emptyList());
+  }
+
+  /**
+   * Maps the given variables to their columns.
+   *
+   * @param metaData meta data of the embeddings
+   * @param variables query variables
+   * @return entry columns of the variables
+   */
+  private List<Integer> getColumns(EmbeddingMetaData metaData, List<String> variables) {
+    return variables.stream().map(metaData::getEntryColumn).collect(Collectors.toList());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TriangleJoinNode{" +
+      "variables=[%s, %s, %s], " +
+      "vertexMorphismType=%s, " +
+      "edgeMorphismType=%s}",
+      variableA, variableB, variableC, vertexStrategy, edgeStrategy);
+  }
+}
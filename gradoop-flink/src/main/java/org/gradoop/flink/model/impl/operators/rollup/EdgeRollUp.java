@@ -16,7 +16,7 @@
 package org.gradoop.flink.model.impl.operators.rollup;
 
 import org.gradoop.flink.model.api.functions.AggregateFunction;
-import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
 
 import java.util.List;
@@ -58,9 +58,8 @@ public class EdgeRollUp extends RollUp {
   }
 
   @Override
-  LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys) {
-    return graph.groupBy(vertexGroupingKeys, vertexAggregateFunctions, groupingKeys,
-      edgeAggregateFunctions, strategy);
+  Grouping createGrouping(List<String> groupingKeys) {
+    return createGrouping(vertexGroupingKeys, groupingKeys);
   }
 
   @Override
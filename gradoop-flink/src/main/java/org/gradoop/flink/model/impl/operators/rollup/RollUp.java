@@ -28,6 +28,7 @@ import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
 import org.gradoop.flink.model.impl.functions.epgm.SetProperty;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
 
 /**
@@ -37,6 +38,10 @@ import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
  * keys A, B and C leads to three differently grouped graphs {A,B,C},{A,B},{A} within the resulting
  * graph collection. The grouping can be applied using the vertex or edge grouping keys depending on
  * the implementations of the used sub class.
+ * <p>
+ * With {@link GroupingStrategy#GROUP_REDUCE} all combinations are evaluated as grouping sets of a
+ * single grouping, see {@link Grouping#groupBySets(LogicalGraph, List, List)}. Thus, the input
+ * graph is read only once. Other strategies apply a separate grouping for each combination.
  */
 public abstract class RollUp implements UnaryGraphToCollectionOperator {
   /**
@@ -94,15 +99,30 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
    */
   @Override
   public GraphCollection execute(LogicalGraph graph) {
+    List<List<String>> groupingKeyCombinations = getGroupingKeyCombinations();
+
+    if (strategy == GroupingStrategy.GROUP_REDUCE && !groupingKeyCombinations.isEmpty()) {
+      List<Grouping> groupingSets = new ArrayList<>(groupingKeyCombinations.size());
+      List<GraphHead> graphHeads = new ArrayList<>(groupingKeyCombinations.size());
+      for (List<String> combination : groupingKeyCombinations) {
+        groupingSets.add(createGrouping(combination));
+
+        // add a property to the grouped graph's head to specify the used keys
+        GraphHead graphHead = graph.getConfig().getGraphHeadFactory().createGraphHead();
+        graphHead.setProperty(getGraphPropertyKey(), String.join(",", combination));
+        graphHeads.add(graphHead);
+      }
+      return Grouping.groupBySets(graph, groupingSets, graphHeads);
+    }
+
     DataSet<GraphHead> graphHeads = null;
     DataSet<Vertex> vertices = null;
     DataSet<Edge> edges = null;
-    List<List<String>> groupingKeyCombinations = getGroupingKeyCombinations();
 
     // for each permutation execute a grouping
     for (List<String> combination : groupingKeyCombinations) {
       // apply the grouping
-      LogicalGraph groupedGraph = applyGrouping(graph, combination);
+      LogicalGraph groupedGraph = graph.callForGraph(createGrouping(combination));
 
       // add a property to the grouped graph's head to specify the used keys
       PropertyValue groupingKeys = PropertyValue.create(String.join(",", combination));
@@ -155,6 +175,33 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
     return combinations;
   }
 
+  /**
+   * Creates a grouping operator for the given vertex and edge grouping keys and the aggregate
+   * functions of this rollUp.
+   *
+   * @param vertexKeys vertex grouping keys
+   * @param edgeKeys edge grouping keys
+   * @return grouping operator
+   */
+  Grouping createGrouping(List<String> vertexKeys, List<String> edgeKeys) {
+    Grouping.GroupingBuilder builder = new Grouping.GroupingBuilder()
+      .setStrategy(strategy);
+
+    if (vertexKeys != null) {
+      builder.addVertexGroupingKeys(vertexKeys);
+    }
+    if (edgeKeys != null) {
+      builder.addEdgeGroupingKeys(edgeKeys);
+    }
+    if (vertexAggregateFunctions != null) {
+      vertexAggregateFunctions.forEach(builder::addVertexAggregateFunction);
+    }
+    if (edgeAggregateFunctions != null) {
+      edgeAggregateFunctions.forEach(builder::addEdgeAggregateFunction);
+    }
+    return builder.build();
+  }
+
   /**
    * Set the grouping strategy that will be used for each grouping.
    * {@link GroupingStrategy#GROUP_REDUCE} is used as default.
@@ -174,14 +221,13 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
   abstract String getGraphPropertyKey();
 
   /**
-   * Apply the groupBy-operator to the given logical graph and use the given grouping keys as vertex
-   * or edge grouping keys (depends on the child class).
+   * Creates the grouping operator which uses the given grouping keys as vertex or edge grouping
+   * keys (depends on the child class).
    *
-   * @param graph the graph the group-By operator is applied on
    * @param groupingKeys the vertex or edge grouping keys to use
-   * @return the grouped graph
+   * @return the grouping operator
    */
-  abstract LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys);
+  abstract Grouping createGrouping(List<String> groupingKeys);
 
   /**
    * Returns all vertex or edge grouping key combinations as list. Internally the
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.HyperLogLog;
+import org.gradoop.flink.model.impl.operators.statistics.functions.EstimateDistinctCountByKey;
+import org.gradoop.flink.model.impl.tuples.WithCount;
+
+/**
+ * Base class for statistics estimating the number of distinct property values per key.
+ *
+ * In contrast to {@link DistinctProperties}, each partition builds one {@link HyperLogLog}
+ * sketch per key, so only fixed-size sketches are shuffled instead of all values.
+ *
+ * @param <T> element type
+ * @param <K> key type
+ */
+public abstract class ApproxDistinctProperties<T extends GraphElement, K>
+  implements UnaryGraphToValueOperator<DataSet<WithCount<K>>> {
+
+  /**
+   * Sketch precision.
+   */
+  private final int precision;
+
+  /**
+   * Creates a new operator using the default sketch precision.
+   */
+  protected ApproxDistinctProperties() {
+    this(HyperLogLog.DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param precision sketch precision, see {@link HyperLogLog}
+   */
+  protected ApproxDistinctProperties(int precision) {
+    this.precision = precision;
+  }
+
+  @Override
+  public DataSet<WithCount<K>> execute(LogicalGraph graph) {
+    return buildSketches(graph, precision)
+      .groupBy(0)
+      .reduceGroup(new EstimateDistinctCountByKey<>());
+  }
+
+  /**
+   * Builds the partial sketches per key from the given logical graph
+   *
+   * @param graph input graph
+   * @param precision sketch precision
+   * @return keyed sketches
+   */
+  protected abstract DataSet<Tuple2<K, PropertyValue>> buildSketches(LogicalGraph graph,
+    int precision);
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.HyperLogLog;
+import org.gradoop.flink.model.impl.operators.statistics.functions.BuildIdSketchesByLabel;
+import org.gradoop.flink.model.impl.operators.statistics.functions.EstimateDistinctCountByKey;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ToSourceIdWithLabel;
+import org.gradoop.flink.model.impl.tuples.WithCount;
+
+/**
+ * Estimates the number of distinct source vertex ids per edge label using one
+ * {@link HyperLogLog} sketch per label and partition.
+ */
+public class ApproxDistinctSourceIdsByEdgeLabel
+  implements UnaryGraphToValueOperator<DataSet<WithCount<String>>> {
+
+  /**
+   * Sketch precision.
+   */
+  private final int precision;
+
+  /**
+   * Creates a new operator using the default sketch precision.
+   */
+  public ApproxDistinctSourceIdsByEdgeLabel() {
+    this(HyperLogLog.DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param precision sketch precision
+   */
+  public ApproxDistinctSourceIdsByEdgeLabel(int precision) {
+    this.precision = precision;
+  }
+
+  @Override
+  public DataSet<WithCount<String>> execute(LogicalGraph graph) {
+    return graph.getEdges()
+      .map(new ToSourceIdWithLabel<>())
+      .mapPartition(new BuildIdSketchesByLabel(precision))
+      .groupBy(0)
+      .reduceGroup(new EstimateDistinctCountByKey<>());
+  }
+
+  @Override
+  public String getName() {
+    return ApproxDistinctSourceIdsByEdgeLabel.class.getName();
+  }
+}
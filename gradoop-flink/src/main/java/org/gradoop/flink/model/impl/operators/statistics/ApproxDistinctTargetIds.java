@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.TargetId;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.HyperLogLog;
+import org.gradoop.flink.model.impl.operators.statistics.functions.BuildIdSketch;
+import org.gradoop.flink.model.impl.operators.statistics.functions.EstimateDistinctCount;
+
+/**
+ * Estimates the number of distinct target vertex ids using one {@link HyperLogLog} sketch per
+ * partition.
+ */
+public class ApproxDistinctTargetIds implements UnaryGraphToValueOperator<DataSet<Long>> {
+
+  /**
+   * Sketch precision.
+   */
+  private final int precision;
+
+  /**
+   * Creates a new operator using the default sketch precision.
+   */
+  public ApproxDistinctTargetIds() {
+    this(HyperLogLog.DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param precision sketch precision
+   */
+  public ApproxDistinctTargetIds(int precision) {
+    this.precision = precision;
+  }
+
+  @Override
+  public DataSet<Long> execute(LogicalGraph graph) {
+    return graph.getEdges()
+      .map(new TargetId<>())
+      .mapPartition(new BuildIdSketch(precision))
+      .reduceGroup(new EstimateDistinctCount());
+  }
+
+  @Override
+  public String getName() {
+    return ApproxDistinctTargetIds.class.getName();
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.statistics.functions.BuildPropertyValueSketches;
+
+/**
+ * Estimates the number of distinct vertex property values per property name
+ */
+public class ApproxDistinctVertexProperties extends ApproxDistinctProperties<Vertex, String> {
+
+  /**
+   * Creates a new operator using the default sketch precision.
+   */
+  public ApproxDistinctVertexProperties() {
+    super();
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param precision sketch precision
+   */
+  public ApproxDistinctVertexProperties(int precision) {
+    super(precision);
+  }
+
+  @Override
+  protected DataSet<Tuple2<String, PropertyValue>> buildSketches(LogicalGraph graph,
+    int precision) {
+    return graph.getVertices().mapPartition(new BuildPropertyValueSketches<>(precision));
+  }
+
+  @Override
+  public String getName() {
+    return ApproxDistinctVertexProperties.class.getName();
+  }
+}
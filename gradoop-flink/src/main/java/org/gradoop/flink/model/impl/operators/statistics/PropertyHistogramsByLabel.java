@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyValueHistogram;
+import org.gradoop.flink.model.impl.operators.statistics.functions.BuildPropertyValueHistogram;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ExtractPropertyValueOccurrencesByLabel;
+import org.gradoop.flink.model.impl.operators.statistics.functions.SelectMostCommonPropertyValues;
+
+/**
+ * Base class for Statistic operators computing the value distribution of properties for label -
+ * property name pairs. Each distribution consists of a list of most common values and an
+ * equi-depth histogram over the remaining values. Both are built from the summed value
+ * frequencies, only a bounded number of most common values is held in memory per pair.
+ *
+ * @param <T> element type
+ */
+public abstract class PropertyHistogramsByLabel<T extends GraphElement>
+  implements UnaryGraphToValueOperator<DataSet<Tuple3<String, String, PropertyValueHistogram>>> {
+
+  /**
+   * Maximum number of most common values per label - property name pair
+   */
+  private final int maxMostCommonValues;
+  /**
+   * Maximum number of histogram buckets per label - property name pair
+   */
+  private final int maxBuckets;
+
+  /**
+   * Creates a new operator using the default histogram size.
+   */
+  protected PropertyHistogramsByLabel() {
+    this(PropertyValueHistogram.DEFAULT_MOST_COMMON_VALUES, PropertyValueHistogram.DEFAULT_BUCKETS);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxMostCommonValues maximum number of most common values
+   * @param maxBuckets maximum number of histogram buckets
+   */
+  protected PropertyHistogramsByLabel(int maxMostCommonValues, int maxBuckets) {
+    this.maxMostCommonValues = maxMostCommonValues;
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public DataSet<Tuple3<String, String, PropertyValueHistogram>> execute(LogicalGraph graph) {
+    DataSet<Tuple5<String, String, String, PropertyValue, Long>> frequencies = getElements(graph)
+      .flatMap(new ExtractPropertyValueOccurrencesByLabel<>())
+      .groupBy(0, 1, 2, 3)
+      .sum(4);
+
+    return frequencies
+      .coGroup(frequencies
+        .groupBy(0, 1)
+        .reduceGroup(new SelectMostCommonPropertyValues(maxMostCommonValues)))
+      .where(0, 1).equalTo(0, 1)
+      .sortFirstGroup(2, Order.ASCENDING)
+      .sortFirstGroup(3, Order.ASCENDING)
+      .with(new BuildPropertyValueHistogram(maxBuckets));
+  }
+
+  /**
+   * Returns the graph elements to compute the value distributions for.
+   *
+   * @param graph input graph
+   * @return graph elements
+   */
+  protected abstract DataSet<T> getElements(LogicalGraph graph);
+}
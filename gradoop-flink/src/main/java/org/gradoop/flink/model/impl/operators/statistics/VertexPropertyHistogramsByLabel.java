@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+
+/**
+ * Computes the value distribution of vertex properties for label - property name pairs.
+ */
+public class VertexPropertyHistogramsByLabel extends PropertyHistogramsByLabel<Vertex> {
+
+  /**
+   * Creates a new operator using the default histogram size.
+   */
+  public VertexPropertyHistogramsByLabel() {
+    super();
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxMostCommonValues maximum number of most common values
+   * @param maxBuckets maximum number of histogram buckets
+   */
+  public VertexPropertyHistogramsByLabel(int maxMostCommonValues, int maxBuckets) {
+    super(maxMostCommonValues, maxBuckets);
+  }
+
+  @Override
+  protected DataSet<Vertex> getElements(LogicalGraph graph) {
+    return graph.getVertices();
+  }
+
+  @Override
+  public String getName() {
+    return VertexPropertyHistogramsByLabel.class.getName();
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.HyperLogLog;
+
+/**
+ * Builds a {@link HyperLogLog} sketch of the identifiers of a partition. A sketch is emitted
+ * for every partition, including empty ones.
+ *
+ * (id),.. => sketch
+ */
+public class BuildIdSketch implements MapPartitionFunction<GradoopId, PropertyValue> {
+
+  /**
+   * Sketch precision.
+   */
+  private final int precision;
+
+  /**
+   * Creates a new UDF
+   *
+   * @param precision sketch precision
+   */
+  public BuildIdSketch(int precision) {
+    this.precision = precision;
+  }
+
+  @Override
+  public void mapPartition(Iterable<GradoopId> ids, Collector<PropertyValue> out)
+    throws Exception {
+    HyperLogLog sketch = new HyperLogLog(precision);
+    for (GradoopId id : ids) {
+      sketch.addHash(HyperLogLog.hash(id.toByteArray()));
+    }
+    out.collect(sketch.toPropertyValue());
+  }
+}
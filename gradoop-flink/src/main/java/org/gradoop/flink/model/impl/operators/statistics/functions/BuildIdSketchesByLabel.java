@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.HyperLogLog;
+import org.gradoop.flink.model.impl.tuples.IdWithLabel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds a {@link HyperLogLog} sketch of the identifiers per label and partition.
+ *
+ * (id, label),.. => (label, sketch),..
+ */
+public class BuildIdSketchesByLabel
+  implements MapPartitionFunction<IdWithLabel, Tuple2<String, PropertyValue>> {
+
+  /**
+   * Sketch precision.
+   */
+  private final int precision;
+
+  /**
+   * Creates a new UDF
+   *
+   * @param precision sketch precision
+   */
+  public BuildIdSketchesByLabel(int precision) {
+    this.precision = precision;
+  }
+
+  @Override
+  public void mapPartition(Iterable<IdWithLabel> idsWithLabel,
+    Collector<Tuple2<String, PropertyValue>> out) throws Exception {
+    Map<String, HyperLogLog> sketches = new HashMap<>();
+    for (IdWithLabel idWithLabel : idsWithLabel) {
+      sketches.computeIfAbsent(idWithLabel.getLabel(), k -> new HyperLogLog(precision))
+        .addHash(HyperLogLog.hash(idWithLabel.getId().toByteArray()));
+    }
+    sketches.forEach((key, sketch) -> out.collect(Tuple2.of(key, sketch.toPropertyValue())));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyValueHistogram;
+
+/**
+ * Builds the value distribution of all property values grouped by label and property name. The
+ * values of a group have to be sorted by their type order and value, the buckets are built in a
+ * single pass without materializing the group.
+ *
+ * (label, propertyName, typeOrder, propertyValue, count)*,
+ * (label, propertyName, mostCommonValues, totalCount) -> (label, propertyName, histogram)
+ */
+@FunctionAnnotation.ForwardedFieldsSecond("f0;f1")
+public class BuildPropertyValueHistogram implements CoGroupFunction
+  <Tuple5<String, String, String, PropertyValue, Long>,
+    Tuple4<String, String, PropertyValueHistogram, Long>,
+    Tuple3<String, String, PropertyValueHistogram>> {
+
+  /**
+   * Maximum number of histogram buckets
+   */
+  private final int maxBuckets;
+
+  /**
+   * Creates a new UDF
+   *
+   * @param maxBuckets maximum number of histogram buckets
+   */
+  public BuildPropertyValueHistogram(int maxBuckets) {
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public void coGroup(Iterable<Tuple5<String, String, String, PropertyValue, Long>> values,
+    Iterable<Tuple4<String, String, PropertyValueHistogram, Long>> mostCommonValues,
+    Collector<Tuple3<String, String, PropertyValueHistogram>> out) throws Exception {
+
+    for (Tuple4<String, String, PropertyValueHistogram, Long> summary : mostCommonValues) {
+      PropertyValueHistogram.BucketBuilder builder = new PropertyValueHistogram.BucketBuilder(
+        summary.f2.getMostCommonValues(), summary.f3, maxBuckets);
+
+      for (Tuple5<String, String, String, PropertyValue, Long> value : values) {
+        builder.add(value.f3, value.f4);
+      }
+
+      out.collect(Tuple3.of(summary.f0, summary.f1, builder.build()));
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.HyperLogLog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds a {@link HyperLogLog} sketch of the property values per property key and partition.
+ *
+ * (element),.. => (propertyKey, sketch),..
+ *
+ * @param <T> graph element type
+ */
+public class BuildPropertyValueSketches<T extends GraphElement>
+  implements MapPartitionFunction<T, Tuple2<String, PropertyValue>> {
+
+  /**
+   * Sketch precision.
+   */
+  private final int precision;
+
+  /**
+   * Creates a new UDF
+   *
+   * @param precision sketch precision
+   */
+  public BuildPropertyValueSketches(int precision) {
+    this.precision = precision;
+  }
+
+  @Override
+  public void mapPartition(Iterable<T> elements, Collector<Tuple2<String, PropertyValue>> out)
+    throws Exception {
+    Map<String, HyperLogLog> sketches = new HashMap<>();
+    for (T element : elements) {
+      if (element.getProperties() != null) {
+        for (Property property : element.getProperties()) {
+          sketches.computeIfAbsent(property.getKey(), k -> new HyperLogLog(precision))
+            .addHash(HyperLogLog.hash(property.getValue()));
+        }
+      }
+    }
+    sketches.forEach((key, sketch) -> out.collect(Tuple2.of(key, sketch.toPropertyValue())));
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.HyperLogLog;
+
+import java.util.Iterator;
+
+/**
+ * Merges {@link HyperLogLog} sketches and estimates the number of distinct values.
+ *
+ * sketch,.. => count
+ */
+public class EstimateDistinctCount implements GroupReduceFunction<PropertyValue, Long> {
+
+  @Override
+  public void reduce(Iterable<PropertyValue> sketches, Collector<Long> out) throws Exception {
+    Iterator<PropertyValue> iterator = sketches.iterator();
+    HyperLogLog union = HyperLogLog.fromPropertyValue(iterator.next());
+    while (iterator.hasNext()) {
+      union.merge(iterator.next());
+    }
+    out.collect(union.estimate());
+  }
+}
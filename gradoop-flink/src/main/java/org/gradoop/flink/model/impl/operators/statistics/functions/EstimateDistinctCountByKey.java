@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.HyperLogLog;
+import org.gradoop.flink.model.impl.tuples.WithCount;
+
+/**
+ * Merges the {@link HyperLogLog} sketches of a key and estimates the number of distinct values.
+ *
+ * (key, sketch),.. => (key, count)
+ *
+ * @param <K> key type
+ */
+public class EstimateDistinctCountByKey<K>
+  implements GroupReduceFunction<Tuple2<K, PropertyValue>, WithCount<K>> {
+
+  @Override
+  public void reduce(Iterable<Tuple2<K, PropertyValue>> keyedSketches,
+    Collector<WithCount<K>> out) throws Exception {
+    K key = null;
+    HyperLogLog union = null;
+    for (Tuple2<K, PropertyValue> keyedSketch : keyedSketches) {
+      if (union == null) {
+        key = keyedSketch.f0;
+        union = HyperLogLog.fromPropertyValue(keyedSketch.f1);
+      } else {
+        union.merge(keyedSketch.f1);
+      }
+    }
+    out.collect(new WithCount<>(key, union.estimate()));
+  }
+}
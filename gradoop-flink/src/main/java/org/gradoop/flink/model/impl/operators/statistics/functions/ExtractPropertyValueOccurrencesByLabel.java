@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyValueHistogram;
+
+/**
+ * Extracts a single occurrence of each property value that can be described by a
+ * {@link PropertyValueHistogram} from the given graph elements.
+ *
+ * element -> (label, propertyName, typeOrder, propertyValue, 1L)
+ *
+ * The type order separates values of incomparable types, see
+ * {@link PropertyValueHistogram#getTypeOrder(PropertyValue)}.
+ *
+ * @param <T> graph element type
+ */
+@FunctionAnnotation.ForwardedFields("label->f0")
+public class ExtractPropertyValueOccurrencesByLabel<T extends GraphElement>
+  implements FlatMapFunction<T, Tuple5<String, String, String, PropertyValue, Long>> {
+
+  /**
+   * Reuse Tuple
+   */
+  private final Tuple5<String, String, String, PropertyValue, Long> reuseTuple;
+
+  /**
+   * Creates a new UDF
+   */
+  public ExtractPropertyValueOccurrencesByLabel() {
+    this.reuseTuple = new Tuple5<>();
+    this.reuseTuple.f4 = 1L;
+  }
+
+  @Override
+  public void flatMap(T value, Collector<Tuple5<String, String, String, PropertyValue, Long>> out)
+      throws Exception {
+
+    if (value.getProperties() != null) {
+      for (Property property : value.getProperties()) {
+        if (PropertyValueHistogram.isSupported(property.getValue())) {
+          reuseTuple.f0 = value.getLabel();
+          reuseTuple.f1 = property.getKey();
+          reuseTuple.f2 = PropertyValueHistogram.getTypeOrder(property.getValue());
+          reuseTuple.f3 = property.getValue();
+
+          out.collect(reuseTuple);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyValueHistogram;
+
+import java.util.Collections;
+
+/**
+ * Selects the most common property values grouped by label and property name. The result is a
+ * histogram without buckets and the total number of values.
+ *
+ * (label, propertyName, typeOrder, propertyValue, count)* ->
+ * (label, propertyName, mostCommonValues, totalCount)
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1")
+public class SelectMostCommonPropertyValues implements GroupReduceFunction
+  <Tuple5<String, String, String, PropertyValue, Long>,
+    Tuple4<String, String, PropertyValueHistogram, Long>> {
+
+  /**
+   * Maximum number of most common values
+   */
+  private final int maxMostCommonValues;
+
+  /**
+   * Creates a new UDF
+   *
+   * @param maxMostCommonValues maximum number of most common values
+   */
+  public SelectMostCommonPropertyValues(int maxMostCommonValues) {
+    this.maxMostCommonValues = maxMostCommonValues;
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple5<String, String, String, PropertyValue, Long>> values,
+    Collector<Tuple4<String, String, PropertyValueHistogram, Long>> out) throws Exception {
+
+    String label = null;
+    String propertyName = null;
+    PropertyValueHistogram.MostCommonValues mostCommonValues =
+      new PropertyValueHistogram.MostCommonValues(maxMostCommonValues);
+
+    for (Tuple5<String, String, String, PropertyValue, Long> value : values) {
+      label = value.f0;
+      propertyName = value.f1;
+      mostCommonValues.add(value.f3, value.f4);
+    }
+
+    out.collect(Tuple4.of(label, propertyName,
+      new PropertyValueHistogram(mostCommonValues.getMostCommonValues(), Collections.emptyList()),
+      mostCommonValues.getCount()));
+  }
+}
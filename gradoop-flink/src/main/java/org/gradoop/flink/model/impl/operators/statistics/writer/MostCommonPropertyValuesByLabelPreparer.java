@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.writer;
+
+import org.apache.flink.api.common.typeinfo.TypeHint;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyValueHistogram;
+import org.gradoop.flink.model.impl.operators.statistics.PropertyHistogramsByLabel;
+
+import java.util.Map;
+
+/**
+ * Computes the most common values of a {@link PropertyHistogramsByLabel} operator for a given
+ * logical graph and prepares them to be written in a CSV file.
+ */
+public class MostCommonPropertyValuesByLabelPreparer implements UnaryGraphToValueOperator
+  <DataSet<Tuple4<String, String, String, Long>>> {
+
+  /**
+   * Operator computing the value distributions
+   */
+  private final PropertyHistogramsByLabel<?> histograms;
+
+  /**
+   * Creates a new preparer.
+   *
+   * @param histograms operator computing the value distributions
+   */
+  public MostCommonPropertyValuesByLabelPreparer(PropertyHistogramsByLabel<?> histograms) {
+    this.histograms = histograms;
+  }
+
+  /**
+   * Prepares the most common property values by label and property name.
+   * @param graph the logical graph for the calculation.
+   * @return tuples with the containing statistics.
+   */
+  @Override
+  public DataSet<Tuple4<String, String, String, Long>> execute(final LogicalGraph graph) {
+    return histograms
+      .execute(graph)
+      .flatMap((Tuple3<String, String, PropertyValueHistogram> value,
+        Collector<Tuple4<String, String, String, Long>> out) -> {
+        for (Map.Entry<PropertyValue, Long> entry : value.f2.getMostCommonValues().entrySet()) {
+          out.collect(Tuple4.of(value.f0, value.f1,
+            GraphStatisticsReader.encodePropertyValue(entry.getKey()), entry.getValue()));
+        }
+      })
+      .returns(new TypeHint<Tuple4<String, String, String, Long>>() { });
+  }
+
+  @Override
+  public String getName() {
+    return MostCommonPropertyValuesByLabelPreparer.class.getName();
+  }
+}
@@ -25,6 +25,7 @@ import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.api.epgm.BaseGraph;
 import org.gradoop.flink.model.api.operators.UnaryBaseGraphToBaseGraphOperator;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.SourceId;
 import org.gradoop.flink.model.impl.functions.epgm.TargetId;
@@ -33,6 +34,7 @@ import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
 import org.gradoop.flink.model.impl.functions.tuple.Value1Of2;
 import org.gradoop.flink.model.impl.functions.utils.LeftSide;
 import org.gradoop.flink.model.impl.functions.utils.RightSide;
+import org.gradoop.flink.model.impl.operators.subgraph.functions.LabelIsIn;
 
 import static org.gradoop.flink.model.impl.operators.subgraph.Subgraph.Strategy.BOTH;
 import static org.gradoop.flink.model.impl.operators.subgraph.Subgraph.Strategy.BOTH_VERIFIED;
@@ -181,7 +183,7 @@ public class Subgraph<
    * @return vertex-induced subgraph
    */
   private LG vertexInducedSubgraph(LG superGraph) {
-    DataSet<V> filteredVertices = superGraph.getVertices().filter(vertexFilterFunction);
+    DataSet<V> filteredVertices = filterVertices(superGraph);
 
     DataSet<E> newEdges = superGraph.getEdges()
       .join(filteredVertices)
@@ -202,7 +204,7 @@ public class Subgraph<
    * @return edge-induced subgraph
    */
   private LG edgeInducedSubgraph(LG superGraph) {
-    DataSet<E> filteredEdges = superGraph.getEdges().filter(edgeFilterFunction);
+    DataSet<E> filteredEdges = filterEdges(superGraph);
 
     DataSet<V> filteredVertices = filteredEdges
       .join(superGraph.getVertices())
@@ -225,7 +227,7 @@ public class Subgraph<
    * @return edge-induced subgraph
    */
   private LG edgeInducedSubgraphProjectFirst(LG superGraph) {
-    DataSet<E> filteredEdges = superGraph.getEdges().filter(edgeFilterFunction);
+    DataSet<E> filteredEdges = filterEdges(superGraph);
 
     DataSet<Tuple1<GradoopId>> vertexIdentifiers = filteredEdges
       .map(new SourceId<>())
@@ -256,8 +258,46 @@ public class Subgraph<
    */
   private LG subgraph(LG superGraph) {
     return superGraph.getFactory().fromDataSets(
-      superGraph.getVertices().filter(vertexFilterFunction),
-      superGraph.getEdges().filter(edgeFilterFunction));
+      filterVertices(superGraph),
+      filterEdges(superGraph));
+  }
+
+  /**
+   * Applies the vertex filter function to the vertices of the given graph. Pure label filters are
+   * delegated to the graph's layout, which allows label-partitioned layouts to read only the
+   * datasets of the requested labels.
+   *
+   * @param superGraph supergraph
+   * @return filtered vertices
+   */
+  private DataSet<V> filterVertices(LG superGraph) {
+    if (vertexFilterFunction instanceof ByLabel) {
+      return superGraph.getVerticesByLabel(((ByLabel<?>) vertexFilterFunction).getLabel());
+    }
+    if (vertexFilterFunction instanceof LabelIsIn) {
+      return superGraph.getVerticesByLabels(((LabelIsIn<?>) vertexFilterFunction).getLabels()
+        .toArray(new String[0]));
+    }
+    return superGraph.getVertices().filter(vertexFilterFunction);
+  }
+
+  /**
+   * Applies the edge filter function to the edges of the given graph. Pure label filters are
+   * delegated to the graph's layout, which allows label-partitioned layouts to read only the
+   * datasets of the requested labels.
+   *
+   * @param superGraph supergraph
+   * @return filtered edges
+   */
+  private DataSet<E> filterEdges(LG superGraph) {
+    if (edgeFilterFunction instanceof ByLabel) {
+      return superGraph.getEdgesByLabel(((ByLabel<?>) edgeFilterFunction).getLabel());
+    }
+    if (edgeFilterFunction instanceof LabelIsIn) {
+      return superGraph.getEdgesByLabels(((LabelIsIn<?>) edgeFilterFunction).getLabels()
+        .toArray(new String[0]));
+    }
+    return superGraph.getEdges().filter(edgeFilterFunction);
   }
 
   /**
@@ -16,7 +16,7 @@
 package org.gradoop.flink.model.impl.operators.subgraph.functions;
 
 import com.google.common.collect.Sets;
-import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.api.entities.EPGMLabeled;
 import org.gradoop.flink.model.impl.functions.filters.CombinableFilter;
 
 import java.util.Collection;
@@ -26,7 +26,7 @@ import java.util.Collection;
  *
  * @param <EL> element type
  */
-public class LabelIsIn<EL extends Element> implements CombinableFilter<EL> {
+public class LabelIsIn<EL extends EPGMLabeled> implements CombinableFilter<EL> {
 
   /**
    * White list of labels.
@@ -41,6 +41,15 @@ public class LabelIsIn<EL extends Element> implements CombinableFilter<EL> {
     this.labels = Sets.newHashSet(labels);
   }
 
+  /**
+   * Returns the white list of labels.
+   *
+   * @return labels
+   */
+  public Collection<String> getLabels() {
+    return labels;
+  }
+
   @Override
   public boolean filter(EL element) throws Exception {
     return labels.contains(element.getLabel());
@@ -21,8 +21,8 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
-import org.gradoop.flink.model.api.operators.UnaryGraphCollectionToValueOperator;
 import org.gradoop.flink.model.impl.functions.epgm.LabelCombiner;
+import org.gradoop.flink.model.impl.operators.tostring.api.CanonicalLabelBuilder;
 import org.gradoop.flink.model.impl.operators.tostring.api.EdgeToString;
 import org.gradoop.flink.model.impl.operators.tostring.api.GraphHeadToString;
 import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
@@ -43,8 +43,7 @@ import org.gradoop.flink.model.impl.operators.tostring.tuples.VertexString;
  * Operator deriving a string representation from a graph collection.
  * The representation follows the concept of a canonical adjacency matrix.
  */
-public class CanonicalAdjacencyMatrixBuilder implements
-  UnaryGraphCollectionToValueOperator<String> {
+public class CanonicalAdjacencyMatrixBuilder implements CanonicalLabelBuilder {
 
   /**
    * function describing string representation of graph heads
@@ -108,6 +107,7 @@ public class CanonicalAdjacencyMatrixBuilder implements
    * @param collection input collection
    * @return (graph id, canonical label) pairs
    */
+  @Override
   public DataSet<GraphHeadString> getGraphHeadStrings(GraphCollection collection) {
     // 1. label graph heads
     DataSet<GraphHeadString> graphHeadLabels = collection.getGraphHeads()
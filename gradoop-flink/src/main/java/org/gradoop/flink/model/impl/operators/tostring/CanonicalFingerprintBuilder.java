@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.operators.tostring.api.CanonicalLabelBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.api.EdgeToString;
+import org.gradoop.flink.model.impl.operators.tostring.api.GraphHeadToString;
+import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.ConcatGraphHeadStrings;
+import org.gradoop.flink.model.impl.operators.tostring.functions.FingerprintCombiner;
+import org.gradoop.flink.model.impl.operators.tostring.functions.StructureFingerprint;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeString;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.VertexString;
+
+/**
+ * Operator deriving a fixed-width canonical label from each graph of a collection.
+ * <p>
+ * In contrast to {@link CanonicalAdjacencyMatrixBuilder}, which materializes a string
+ * containing the whole adjacency matrix, each graph is represented by the hex string of a
+ * 128 bit fingerprint of its canonical form (see
+ * {@link org.gradoop.flink.model.impl.operators.tostring.canonicalization.GraphFingerprinter}).
+ * Isomorphic graphs always get the same fingerprint, non-isomorphic graphs only in case of a
+ * hash collision.
+ */
+public class CanonicalFingerprintBuilder implements CanonicalLabelBuilder {
+
+  /**
+   * function describing string representation of graph heads
+   */
+  private final GraphHeadToString<GraphHead> graphHeadToString;
+  /**
+   * function describing string representation of vertices
+   */
+  private final VertexToString<Vertex> vertexToString;
+  /**
+   * function describing string representation of edges
+   */
+  private final EdgeToString<Edge> edgeToString;
+  /**
+   * sets mode for either directed or undirected graph
+   */
+  private final boolean directed;
+
+  /**
+   * constructor
+   * @param graphHeadToString representation of graph heads
+   * @param vertexToString representation of vertices
+   * @param edgeToString representation of edges
+   * @param directed sets mode for either directed or undirected graph
+   */
+  public CanonicalFingerprintBuilder(
+    GraphHeadToString<GraphHead> graphHeadToString,
+    VertexToString<Vertex> vertexToString,
+    EdgeToString<Edge> edgeToString,
+    boolean directed
+  ) {
+    this.graphHeadToString = graphHeadToString;
+    this.vertexToString = vertexToString;
+    this.edgeToString = edgeToString;
+    this.directed = directed;
+  }
+
+  @Override
+  public DataSet<String> execute(GraphCollection collection) {
+    // add empty head to prevent empty result for empty collection
+    return getGraphHeadStrings(collection)
+      .union(collection
+        .getConfig()
+        .getExecutionEnvironment()
+        .fromElements(new GraphHeadString(GradoopId.get(), "")))
+      .reduceGroup(new ConcatGraphHeadStrings());
+  }
+
+  @Override
+  public DataSet<GraphHeadString> getGraphHeadStrings(GraphCollection collection) {
+    // 1. label graph heads
+    DataSet<GraphHeadString> graphHeadLabels = collection.getGraphHeads()
+      .map(graphHeadToString);
+
+    // 2. label vertices
+    DataSet<VertexString> vertexLabels = collection.getVertices()
+      .flatMap(vertexToString);
+
+    // 3. label edges
+    DataSet<EdgeString> edgeLabels = collection.getEdges()
+      .flatMap(edgeToString);
+
+    // 4. fingerprint the canonical form of each graph
+    DataSet<GraphHeadString> structureFingerprints = vertexLabels
+      .coGroup(edgeLabels)
+      .where(0).equalTo(0)
+      .with(new StructureFingerprint(directed));
+
+    // 5. combine graph head labels and fingerprints
+    return graphHeadLabels
+      .leftOuterJoin(structureFingerprints)
+      .where(0).equalTo(0)
+      .with(new FingerprintCombiner());
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.tostring.api.CanonicalLabelBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.api.EdgeToString;
+import org.gradoop.flink.model.impl.operators.tostring.api.GraphHeadToString;
+import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
+
+/**
+ * Used to define how graphs are canonically labeled when comparing them by isomorphism.
+ */
+public enum CanonicalLabelingStrategy {
+  /**
+   * {@see CanonicalAdjacencyMatrixBuilder}
+   */
+  ADJACENCY_MATRIX,
+  /**
+   * {@see CanonicalFingerprintBuilder}
+   */
+  FINGERPRINT;
+
+  /**
+   * Creates the canonical label builder of this strategy.
+   *
+   * @param graphHeadToString representation of graph heads
+   * @param vertexToString representation of vertices
+   * @param edgeToString representation of edges
+   * @param directed sets mode for either directed or undirected graph
+   * @return canonical label builder
+   */
+  public CanonicalLabelBuilder createBuilder(GraphHeadToString<GraphHead> graphHeadToString,
+    VertexToString<Vertex> vertexToString, EdgeToString<Edge> edgeToString, boolean directed) {
+    CanonicalLabelBuilder builder;
+    switch (this) {
+    case FINGERPRINT:
+      builder = new CanonicalFingerprintBuilder(
+        graphHeadToString, vertexToString, edgeToString, directed);
+      break;
+    default:
+      builder = new CanonicalAdjacencyMatrixBuilder(
+        graphHeadToString, vertexToString, edgeToString, directed);
+    }
+    return builder;
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.api;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.api.operators.UnaryGraphCollectionToValueOperator;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+
+/**
+ * Derives a canonical label for each graph of a collection. Two graphs get the same label iff
+ * they are isomorphic according to the used string representations of their elements.
+ */
+public interface CanonicalLabelBuilder extends UnaryGraphCollectionToValueOperator<String> {
+
+  /**
+   * Creates a dataset of (graph id, canonical label) pairs.
+   *
+   * @param collection input collection
+   * @return (graph id, canonical label) pairs
+   */
+  DataSet<GraphHeadString> getGraphHeadStrings(GraphCollection collection);
+}
@@ -0,0 +1,472 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.canonicalization;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Computes a 128 bit fingerprint of a vertex and edge labeled multigraph which is equal for two
+ * graphs if and only if they are isomorphic (up to hash collisions).
+ * <p>
+ * Vertices are colored by their labels and the coloring is refined Weisfeiler-Lehman style,
+ * i.e., the new color of a vertex is derived from its color and the multiset of colors and edge
+ * labels of its neighborhood, until the number of colors stays stable. If all colors are
+ * distinct, ordering the vertices by color yields a canonical vertex order. Otherwise vertices of
+ * equal color are individualized one after another and the coloring is refined again
+ * (individualization-refinement). The smallest certificate over all resulting vertex orders is
+ * the canonical form. Branches which are equivalent under an already found automorphism are
+ * pruned, so symmetric graphs do not explode the search.
+ */
+public class GraphFingerprinter {
+
+  /**
+   * Direction marker of undirected edges.
+   */
+  private static final long UNDIRECTED = 0L;
+  /**
+   * Direction marker of outgoing edges.
+   */
+  private static final long OUTGOING = 1L;
+  /**
+   * Direction marker of incoming edges.
+   */
+  private static final long INCOMING = 2L;
+  /**
+   * Marker mixed into the color of an individualized vertex.
+   */
+  private static final long INDIVIDUALIZED = 0x5bd1e9955bd1e995L;
+  /**
+   * Hash function used for labels and the final fingerprint.
+   */
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  /**
+   * Number of vertices.
+   */
+  private final int vertexCount;
+  /**
+   * Source vertex index of each edge.
+   */
+  private final int[] sources;
+  /**
+   * Target vertex index of each edge.
+   */
+  private final int[] targets;
+  /**
+   * Label hash of each edge.
+   */
+  private final long[] edgeLabels;
+  /**
+   * True, if the edge direction shall be considered.
+   */
+  private final boolean directed;
+  /**
+   * Initial color of each vertex, i.e., its label hash.
+   */
+  private final long[] initialColors;
+  /**
+   * Incident edges of each vertex.
+   */
+  private final int[][] incidentEdges;
+  /**
+   * Smallest certificate found so far.
+   */
+  private long[] bestCertificate;
+  /**
+   * Vertex order of the smallest certificate.
+   */
+  private int[] bestOrder;
+  /**
+   * Automorphisms found during the search, as vertex permutations.
+   */
+  private final List<int[]> automorphisms;
+  /**
+   * Vertices individualized on the path to the current search node.
+   */
+  private final int[] path;
+
+  /**
+   * Creates a fingerprinter for a single graph.
+   *
+   * @param vertexLabels label of each vertex
+   * @param sources source vertex index of each edge
+   * @param targets target vertex index of each edge
+   * @param edgeLabels label of each edge
+   * @param directed true, if the edge direction shall be considered
+   */
+  public GraphFingerprinter(List<String> vertexLabels, int[] sources, int[] targets,
+    List<String> edgeLabels, boolean directed) {
+    this.vertexCount = vertexLabels.size();
+    this.sources = sources;
+    this.targets = targets;
+    this.directed = directed;
+    this.automorphisms = new ArrayList<>();
+    this.path = new int[vertexCount];
+
+    this.initialColors = new long[vertexCount];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      initialColors[vertex] = hash(vertexLabels.get(vertex));
+    }
+    this.edgeLabels = new long[sources.length];
+    for (int edge = 0; edge < sources.length; edge++) {
+      this.edgeLabels[edge] = hash(edgeLabels.get(edge));
+    }
+
+    int[] degrees = new int[vertexCount];
+    for (int edge = 0; edge < sources.length; edge++) {
+      degrees[sources[edge]]++;
+      degrees[targets[edge]]++;
+    }
+    this.incidentEdges = new int[vertexCount][];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      incidentEdges[vertex] = new int[degrees[vertex]];
+      degrees[vertex] = 0;
+    }
+    for (int edge = 0; edge < sources.length; edge++) {
+      incidentEdges[sources[edge]][degrees[sources[edge]]++] = edge;
+      incidentEdges[targets[edge]][degrees[targets[edge]]++] = edge;
+    }
+  }
+
+  /**
+   * Computes the fingerprint of the graph.
+   *
+   * @return 128 bit fingerprint
+   */
+  public HashCode fingerprint() {
+    bestCertificate = null;
+    bestOrder = null;
+    automorphisms.clear();
+
+    search(initialColors, 0);
+
+    Hasher hasher = HASH_FUNCTION.newHasher()
+      .putInt(vertexCount)
+      .putInt(sources.length);
+    if (bestCertificate != null) {
+      for (long value : bestCertificate) {
+        hasher.putLong(value);
+      }
+    }
+    return hasher.hash();
+  }
+
+  /**
+   * Refines the given coloring and either records the resulting vertex order if all colors are
+   * distinct or branches on the vertices of the first smallest color class.
+   *
+   * @param colors vertex coloring
+   * @param depth number of individualized vertices
+   */
+  private void search(long[] colors, int depth) {
+    long[] refined = refine(colors);
+    int[] order = orderByColor(refined);
+
+    int cellStart = -1;
+    int cellSize = Integer.MAX_VALUE;
+    int start = 0;
+    while (start < vertexCount) {
+      int end = start + 1;
+      while (end < vertexCount && refined[order[end]] == refined[order[start]]) {
+        end++;
+      }
+      if (end - start > 1 && end - start < cellSize) {
+        cellStart = start;
+        cellSize = end - start;
+      }
+      start = end;
+    }
+
+    if (cellStart < 0) {
+      leaf(refined, order);
+      return;
+    }
+
+    List<Integer> explored = new ArrayList<>();
+
+    for (int i = cellStart; i < cellStart + cellSize; i++) {
+      int vertex = order[i];
+      if (isEquivalentToExplored(vertex, explored, depth)) {
+        continue;
+      }
+      long[] individualized = Arrays.copyOf(refined, vertexCount);
+      individualized[vertex] = combine(combine(refined[vertex], INDIVIDUALIZED), depth);
+      path[depth] = vertex;
+      search(individualized, depth + 1);
+      explored.add(vertex);
+    }
+  }
+
+  /**
+   * Compares the certificate of a discrete coloring with the best one found so far. Equal
+   * certificates reveal an automorphism of the graph.
+   *
+   * @param colors discrete vertex coloring
+   * @param order vertices ordered by color
+   */
+  private void leaf(long[] colors, int[] order) {
+    long[] certificate = certificate(colors, order);
+
+    int comparison = bestCertificate == null ? -1 : compare(certificate, bestCertificate);
+    if (comparison < 0) {
+      bestCertificate = certificate;
+      bestOrder = order;
+    } else if (comparison == 0) {
+      int[] automorphism = new int[vertexCount];
+      for (int position = 0; position < vertexCount; position++) {
+        automorphism[order[position]] = bestOrder[position];
+      }
+      automorphisms.add(automorphism);
+    }
+  }
+
+  /**
+   * Checks if the vertex is mapped to an already explored vertex by the found automorphisms
+   * which fix all vertices individualized on the path to the current search node. Such
+   * automorphisms map the search tree below the explored vertex onto the one below the vertex.
+   *
+   * @param vertex vertex to check
+   * @param explored already explored vertices of the current cell
+   * @param depth number of individualized vertices on the path to the current node
+   * @return true, iff branching on the vertex leads to already found certificates
+   */
+  private boolean isEquivalentToExplored(int vertex, List<Integer> explored, int depth) {
+    if (explored.isEmpty() || automorphisms.isEmpty()) {
+      return false;
+    }
+    int[] orbits = new int[vertexCount];
+    for (int i = 0; i < vertexCount; i++) {
+      orbits[i] = i;
+    }
+    for (int[] automorphism : automorphisms) {
+      if (!fixesPath(automorphism, depth)) {
+        continue;
+      }
+      for (int i = 0; i < vertexCount; i++) {
+        int root = findOrbit(orbits, i);
+        int imageRoot = findOrbit(orbits, automorphism[i]);
+        if (root != imageRoot) {
+          orbits[Math.max(root, imageRoot)] = Math.min(root, imageRoot);
+        }
+      }
+    }
+    int orbit = findOrbit(orbits, vertex);
+    for (int exploredVertex : explored) {
+      if (findOrbit(orbits, exploredVertex) == orbit) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if the automorphism maps each vertex individualized on the path to itself.
+   *
+   * @param automorphism vertex permutation
+   * @param depth number of individualized vertices on the path
+   * @return true, iff the automorphism fixes the path
+   */
+  private boolean fixesPath(int[] automorphism, int depth) {
+    for (int i = 0; i < depth; i++) {
+      if (automorphism[path[i]] != path[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Refines the coloring until the number of colors stays stable.
+   *
+   * @param colors vertex coloring
+   * @return stable vertex coloring
+   */
+  private long[] refine(long[] colors) {
+    long[] current = colors;
+    int colorCount = countDistinct(current);
+
+    while (colorCount < vertexCount) {
+      long[] next = new long[vertexCount];
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        int[] edges = incidentEdges[vertex];
+        long[] neighborhood = new long[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+          int edge = edges[i];
+          boolean outgoing = sources[edge] == vertex;
+          int neighbor = outgoing ? targets[edge] : sources[edge];
+          long direction = directed ? (outgoing ? OUTGOING : INCOMING) : UNDIRECTED;
+          neighborhood[i] = combine(combine(direction, edgeLabels[edge]), current[neighbor]);
+        }
+        Arrays.sort(neighborhood);
+        long color = current[vertex];
+        for (long value : neighborhood) {
+          color = combine(color, value);
+        }
+        next[vertex] = color;
+      }
+      int nextColorCount = countDistinct(next);
+      if (nextColorCount == colorCount) {
+        break;
+      }
+      current = next;
+      colorCount = nextColorCount;
+    }
+    return current;
+  }
+
+  /**
+   * Creates the certificate of a vertex order, i.e., the vertex colors in order followed by the
+   * sorted edges given by the positions of their end vertices and their label.
+   *
+   * @param colors vertex coloring
+   * @param order vertex order
+   * @return certificate
+   */
+  private long[] certificate(long[] colors, int[] order) {
+    int[] positions = new int[vertexCount];
+    for (int position = 0; position < vertexCount; position++) {
+      positions[order[position]] = position;
+    }
+
+    long[][] edges = new long[sources.length][];
+    for (int edge = 0; edge < sources.length; edge++) {
+      long source = positions[sources[edge]];
+      long target = positions[targets[edge]];
+      if (!directed && source > target) {
+        long swap = source;
+        source = target;
+        target = swap;
+      }
+      edges[edge] = new long[] {source, target, edgeLabels[edge]};
+    }
+    Arrays.sort(edges, GraphFingerprinter::compare);
+
+    long[] certificate = new long[vertexCount + 3 * edges.length];
+    for (int position = 0; position < vertexCount; position++) {
+      certificate[position] = colors[order[position]];
+    }
+    int i = vertexCount;
+    for (long[] edge : edges) {
+      certificate[i++] = edge[0];
+      certificate[i++] = edge[1];
+      certificate[i++] = edge[2];
+    }
+    return certificate;
+  }
+
+  /**
+   * Orders the vertices by color.
+   *
+   * @param colors vertex coloring
+   * @return vertex indices ordered by color
+   */
+  private int[] orderByColor(long[] colors) {
+    Integer[] boxed = new Integer[vertexCount];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      boxed[vertex] = vertex;
+    }
+    Arrays.sort(boxed, (a, b) -> Long.compare(colors[a], colors[b]));
+    int[] order = new int[vertexCount];
+    for (int position = 0; position < vertexCount; position++) {
+      order[position] = boxed[position];
+    }
+    return order;
+  }
+
+  /**
+   * Counts the distinct colors of a coloring.
+   *
+   * @param colors vertex coloring
+   * @return number of distinct colors
+   */
+  private static int countDistinct(long[] colors) {
+    long[] sorted = Arrays.copyOf(colors, colors.length);
+    Arrays.sort(sorted);
+    int count = sorted.length > 0 ? 1 : 0;
+    for (int i = 1; i < sorted.length; i++) {
+      if (sorted[i] != sorted[i - 1]) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the representative of an orbit.
+   *
+   * @param orbits orbit forest
+   * @param vertex vertex
+   * @return representative vertex of the vertex's orbit
+   */
+  private static int findOrbit(int[] orbits, int vertex) {
+    int root = vertex;
+    while (orbits[root] != root) {
+      root = orbits[root];
+    }
+    return root;
+  }
+
+  /**
+   * Compares two arrays lexicographically.
+   *
+   * @param first first array
+   * @param second second array
+   * @return negative, zero or positive value
+   */
+  private static int compare(long[] first, long[] second) {
+    int length = Math.min(first.length, second.length);
+    for (int i = 0; i < length; i++) {
+      int comparison = Long.compare(first[i], second[i]);
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return Integer.compare(first.length, second.length);
+  }
+
+  /**
+   * Hashes a label to 64 bit.
+   *
+   * @param label label
+   * @return label hash
+   */
+  private static long hash(String label) {
+    return HASH_FUNCTION.hashString(label, StandardCharsets.UTF_8).asLong();
+  }
+
+  /**
+   * Combines a hash with a value, order dependent.
+   *
+   * @param hash hash
+   * @param value value
+   * @return combined hash
+   */
+  private static long combine(long hash, long value) {
+    long h = (hash ^ value) * 0xff51afd7ed558ccdL + Long.rotateLeft(hash, 31);
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
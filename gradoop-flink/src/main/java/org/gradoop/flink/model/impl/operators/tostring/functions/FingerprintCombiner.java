@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * (graphId, graph head label) |><| (graphId, structure fingerprint)
+ * => (graphId, fingerprint)
+ *
+ * Graphs without vertices have no structure fingerprint.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class FingerprintCombiner
+  implements JoinFunction<GraphHeadString, GraphHeadString, GraphHeadString> {
+
+  /**
+   * Hash function used for the combined fingerprint.
+   */
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  @Override
+  public GraphHeadString join(GraphHeadString graphHeadLabel,
+    GraphHeadString structureFingerprint) throws Exception {
+    String structure = structureFingerprint == null ? "" : structureFingerprint.getLabel();
+
+    graphHeadLabel.setLabel(HASH_FUNCTION.newHasher()
+      .putInt(graphHeadLabel.getLabel().length())
+      .putString(graphHeadLabel.getLabel(), StandardCharsets.UTF_8)
+      .putInt(structure.length())
+      .putString(structure, StandardCharsets.UTF_8)
+      .hash()
+      .toString());
+
+    return graphHeadLabel;
+  }
+}
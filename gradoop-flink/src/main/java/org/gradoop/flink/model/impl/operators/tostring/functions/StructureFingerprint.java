@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.tostring.canonicalization.GraphFingerprinter;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeString;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.VertexString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (graphId, vertexId, label),.. x (graphId, sourceId, targetId, .., label, ..),..
+ * => (graphId, fingerprint)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class StructureFingerprint
+  implements CoGroupFunction<VertexString, EdgeString, GraphHeadString> {
+
+  /**
+   * sets mode for either directed or undirected graph
+   */
+  private final boolean directed;
+
+  /**
+   * constructor
+   * @param directed sets mode for either directed or undirected graph
+   */
+  public StructureFingerprint(boolean directed) {
+    this.directed = directed;
+  }
+
+  @Override
+  public void coGroup(Iterable<VertexString> vertexLabels, Iterable<EdgeString> edgeLabels,
+    Collector<GraphHeadString> collector) throws Exception {
+    GradoopId graphId = null;
+    Map<GradoopId, Integer> vertexIndices = new HashMap<>();
+    List<String> vertexStrings = new ArrayList<>();
+
+    for (VertexString vertexLabel : vertexLabels) {
+      graphId = vertexLabel.getGraphId();
+      vertexIndices.put(vertexLabel.f1, vertexStrings.size());
+      vertexStrings.add(vertexLabel.getLabel());
+    }
+
+    // edges are only emitted for graphs with vertices
+    if (graphId == null) {
+      return;
+    }
+
+    List<Integer> sources = new ArrayList<>();
+    List<Integer> targets = new ArrayList<>();
+    List<String> edgeStrings = new ArrayList<>();
+
+    for (EdgeString edgeLabel : edgeLabels) {
+      Integer source = vertexIndices.get(edgeLabel.getSourceId());
+      Integer target = vertexIndices.get(edgeLabel.getTargetId());
+      // skip dangling edges like the joins of the adjacency matrix builder do
+      if (source != null && target != null) {
+        sources.add(source);
+        targets.add(target);
+        edgeStrings.add(edgeLabel.getEdgeLabel());
+      }
+    }
+
+    GraphFingerprinter fingerprinter = new GraphFingerprinter(vertexStrings,
+      sources.stream().mapToInt(Integer::intValue).toArray(),
+      targets.stream().mapToInt(Integer::intValue).toArray(),
+      edgeStrings, directed);
+
+    collector.collect(new GraphHeadString(graphId, fingerprinter.fingerprint().toString()));
+  }
+}
@@ -20,6 +20,8 @@ import org.gradoop.common.config.GradoopConfig;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertiesTypeInfo;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
@@ -159,4 +161,24 @@ public class GradoopFlinkConfig extends GradoopConfig<GraphHead, Vertex, Edge> {
     factory.setGradoopFlinkConfig(this);
     graphCollectionFactory.setLayoutFactory(factory);
   }
+
+  /**
+   * Sets a dictionary of property keys. Properties of all elements shipped between Flink
+   * operators will encode contained keys by their id in that dictionary instead of the full
+   * key string. The dictionary has to be set before the job is built.
+   *
+   * @param dictionary property key dictionary or {@code null} to write all keys as strings
+   */
+  public void setPropertyKeyDictionary(PropertyKeyDictionary dictionary) {
+    PropertiesTypeInfo.registerDictionary(executionEnvironment.getConfig(), dictionary);
+  }
+
+  /**
+   * Returns the dictionary of property keys used to serialize properties.
+   *
+   * @return property key dictionary or {@code null} if keys are written as strings
+   */
+  public PropertyKeyDictionary getPropertyKeyDictionary() {
+    return PropertiesTypeInfo.getDictionary(executionEnvironment.getConfig());
+  }
 }
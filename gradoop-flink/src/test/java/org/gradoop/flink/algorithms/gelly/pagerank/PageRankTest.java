@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.algorithms.gelly.pagerank;
 
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
@@ -22,7 +23,9 @@ import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.*;
 
@@ -88,6 +91,30 @@ public class PageRankTest extends GradoopFlinkTestBase {
     assertEquals(resultGraph.getVertices().count(), testGraph.getVertices().count());
   }
 
+  /**
+   * Check that PageRank computes the same scores with and without translated vertex ids
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testPageRankWithAndWithoutIdTranslation() throws Exception {
+    PageRank translated = new PageRank(propertyKey, 0.3, 20, true);
+    PageRank untranslated = new PageRank(propertyKey, 0.3, 20, true);
+    untranslated.setTranslateIds(false);
+    assertTrue(translated.isTranslateIds());
+
+    Map<GradoopId, Double> expected = new HashMap<>();
+    for (Vertex vertex : untranslated.execute(testGraph).getVertices().collect()) {
+      expected.put(vertex.getId(), vertex.getPropertyValue(propertyKey).getDouble());
+    }
+    List<Vertex> vertices = translated.execute(testGraph).getVertices().collect();
+    assertEquals(expected.size(), vertices.size());
+    for (Vertex vertex : vertices) {
+      assertEquals(expected.get(vertex.getId()),
+        vertex.getPropertyValue(propertyKey).getDouble(), 1e-9);
+    }
+  }
+
   /**
    * Checks if the PageRank property exists and its value was initialized
    *
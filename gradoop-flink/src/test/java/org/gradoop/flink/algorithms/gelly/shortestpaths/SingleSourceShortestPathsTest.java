@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.algorithms.gelly.shortestpaths;
 
+import org.apache.flink.runtime.client.JobExecutionException;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
@@ -107,5 +108,53 @@ public class SingleSourceShortestPathsTest extends GradoopFlinkTestBase {
     LogicalGraph expect = loader.getLogicalGraphByVariable("result");
 
     collectAndAssertTrue(outputGraph.equalsByElementData(expect));
+
+    //test without translating the vertex ids
+    outputGraph = input.callForGraph(new SingleSourceShortestPaths(srcVertexId,
+      "edgeValue", 10, "vertexValue").setTranslateIds(false));
+
+    collectAndAssertTrue(outputGraph.equalsByElementData(expect));
+  }
+
+  @Test
+  public void testWithAndWithoutIdTranslation() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
+      "(v0)-[{edgeValue:2.0d}]->(v1)" +
+      "(v0)-[{edgeValue:7.0d}]->(v2)" +
+      "(v1)-[{edgeValue:3.0d}]->(v2)" +
+      "(v2)-[{edgeValue:1.0d}]->(v3)" +
+      "(v3)-[{edgeValue:4.0d}]->(v1)" +
+      "(v4)-[{edgeValue:1.0d}]->(v0)" +
+      "]");
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+
+    // the source vertex has to keep its id for every choice of source
+    for (String variable : new String[] {"v0", "v2", "v4"}) {
+      GradoopId srcVertexId = loader.getVertexByVariable(variable).getId();
+      LogicalGraph translated = input.callForGraph(new SingleSourceShortestPaths(srcVertexId,
+        "edgeValue", 10, "vertexValue"));
+      LogicalGraph untranslated = input.callForGraph(new SingleSourceShortestPaths(srcVertexId,
+        "edgeValue", 10, "vertexValue").setTranslateIds(false));
+
+      collectAndAssertTrue(translated.equalsByElementData(untranslated));
+    }
+  }
+
+  @Test(expected = JobExecutionException.class)
+  public void testMissingSourceVertex() throws Exception {
+    LogicalGraph input = getLoaderFromString("input[(v0)-[{edgeValue:2.0d}]->(v1)]")
+      .getLogicalGraphByVariable("input");
+
+    input.callForGraph(new SingleSourceShortestPaths(GradoopId.get(),
+      "edgeValue", 10, "vertexValue")).getVertices().collect();
+  }
+
+  @Test(expected = JobExecutionException.class)
+  public void testMissingSourceVertexWithoutIdTranslation() throws Exception {
+    LogicalGraph input = getLoaderFromString("input[(v0)-[{edgeValue:2.0d}]->(v1)]")
+      .getLogicalGraphByVariable("input");
+
+    input.callForGraph(new SingleSourceShortestPaths(GradoopId.get(),
+      "edgeValue", 10, "vertexValue").setTranslateIds(false)).getVertices().collect();
   }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.columnar;
+
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.csv.CSVDataSink;
+import org.gradoop.flink.io.impl.csv.CSVDataSource;
+import org.gradoop.flink.io.impl.csv.CSVTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests writing and reading the columnar format.
+ */
+public class ColumnarCSVDataSinkTest extends CSVTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Test writing and reading a graph collection.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWrite() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    GraphCollection graphCollection = getSocialNetworkLoader().getGraphCollection();
+
+    checkColumnarWrite(tmpPath, graphCollection, 2);
+  }
+
+  /**
+   * Test writing elements with the same label but different property types. Values that do not
+   * match the type of the meta data are skipped, so the graph is compared to its CSV round trip.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteWithDifferentPropertyTypes() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "vertices[" +
+      "(v1:A {keya:1, keyb:2, keyc:\"Foo\"})," +
+      "(v2:A {keya:1.2f, keyb:\"Bar\", keyc:2.3f})," +
+      "(v3:A {keya:\"Bar\", keyb:true})" +
+      "]" +
+      "edges[" +
+      "(v1)-[e1:a {keya:14, keyb:3, keyc:\"Foo\"}]->(v1)," +
+      "(v1)-[e2:a {keya:1.1f, keyb:\"Bar\", keyc:2.5f}]->(v1)," +
+      "(v1)-[e3:a {keya:true, keyb:3.13f}]->(v1)" +
+      "]");
+
+    checkColumnarWrite(tmpPath, loader.getLogicalGraphByVariable("vertices"));
+    checkColumnarWrite(tmpPath, loader.getLogicalGraphByVariable("edges"));
+  }
+
+  /**
+   * Test writing and reading a graph with all supported property types.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteExtendedProperties() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph logicalGraph = getExtendedLogicalGraph();
+    DataSink dataSink = new ColumnarCSVDataSink(tmpPath, getConfig());
+    dataSink.write(logicalGraph, true);
+
+    getExecutionEnvironment().execute();
+
+    DataSource dataSource = new ColumnarCSVDataSource(tmpPath, getConfig());
+    LogicalGraph sourceLogicalGraph = dataSource.getLogicalGraph();
+
+    collectAndAssertTrue(logicalGraph.equalsByElementData(sourceLogicalGraph));
+
+    sourceLogicalGraph.getEdges().collect().forEach(this::checkProperties);
+    sourceLogicalGraph.getVertices().collect().forEach(this::checkProperties);
+  }
+
+  /**
+   * Test writing and reading the given graph to and from the columnar format and compare the
+   * result to the CSV round trip of the same graph.
+   *
+   * @param tmpPath path to write to
+   * @param input logical graph
+   * @throws Exception if the execution or IO fails.
+   */
+  private void checkColumnarWrite(String tmpPath, LogicalGraph input) throws Exception {
+    String csvPath = tmpPath + "/csv";
+    String columnarPath = tmpPath + "/columnar";
+
+    new CSVDataSink(csvPath, getConfig()).write(input, true);
+    new ColumnarCSVDataSink(columnarPath, getConfig()).write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    GraphCollection csvOutput = new CSVDataSource(csvPath, getConfig()).getGraphCollection();
+    GraphCollection columnarOutput = new ColumnarCSVDataSource(columnarPath, getConfig())
+      .getGraphCollection();
+
+    collectAndAssertTrue(csvOutput.equalsByGraphElementData(columnarOutput));
+  }
+
+  /**
+   * Test writing and reading the given graph collection using the specified block size.
+   *
+   * @param tmpPath path to write to
+   * @param input graph collection
+   * @param blockSize maximum number of elements per block
+   * @throws Exception if the execution or IO fails.
+   */
+  private void checkColumnarWrite(String tmpPath, GraphCollection input, int blockSize)
+    throws Exception {
+    DataSink dataSink = new ColumnarCSVDataSink(tmpPath, null, blockSize, getConfig());
+    dataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    DataSource dataSource = new ColumnarCSVDataSource(tmpPath, getConfig());
+    GraphCollection output = dataSource.getGraphCollection();
+
+    collectAndAssertTrue(input.equalsByGraphElementData(output));
+  }
+}
@@ -18,11 +18,13 @@ package org.gradoop.flink.io.impl.statistics;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyValueHistogram;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -293,4 +295,24 @@ public class GraphStatisticsDataSinkTest extends GradoopFlinkTestBase {
     assertThat(statistics.getDistinctVertexProperties("title"),   is(2L));
   }
 
+  @Test
+  public void testWritePropertyHistogramsByLabel() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+
+    DataSink statisticDataSink = new GraphStatisticsDataSink(tmpPath);
+    statisticDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(tmpPath);
+
+    PropertyValueHistogram age = statistics.getVertexPropertyHistogram("Person", "age");
+    assertThat(age.getCount(), is(6L));
+    assertThat(age.getMostCommonValues().get(PropertyValue.create(35)), is(2L));
+    PropertyValueHistogram since = statistics.getEdgePropertyHistogram("knows", "since");
+    assertThat(since.getCount(), is(10L));
+    assertThat(since.getMostCommonValues().get(PropertyValue.create(2014)), is(4L));
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary;
+
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.tlf.TLFDataSource;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryTLFDataSinkTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWrite() throws Exception {
+    testWrite("/data/tlf/io_test_string.tlf", false);
+  }
+
+  @Test
+  public void testWriteCompressed() throws Exception {
+    testWrite("/data/tlf/io_test.tlf", true);
+  }
+
+  @Test
+  public void testWriteWithoutEdges() throws Exception {
+    testWrite("/data/tlf/io_test_string_without_edges.tlf", true);
+  }
+
+  private void testWrite(String tlfFile, boolean compress) throws Exception {
+    String binaryTlfPath = temporaryFolder.getRoot().getPath() + "/binary_tlf";
+
+    // read from inputfile
+    GraphCollection input = new TLFDataSource(getFilePath(tlfFile), getConfig())
+      .getGraphCollection();
+    // write to ouput path
+    DataSink dataSink = new BinaryTLFDataSink(binaryTlfPath, compress, getConfig());
+    dataSink.write(input, true);
+    getExecutionEnvironment().execute();
+
+    // read from output path
+    DataSource dataSource = new BinaryTLFDataSource(binaryTlfPath, getConfig());
+
+    // compare original graph and written one
+    collectAndAssertTrue(input.equalsByGraphElementData(dataSource.getGraphCollection()));
+  }
+}
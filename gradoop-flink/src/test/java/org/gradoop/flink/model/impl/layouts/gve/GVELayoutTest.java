@@ -130,6 +130,13 @@ public class GVELayoutTest extends GradoopFlinkTestBase {
       from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).getVerticesByLabel("A").collect());
   }
 
+  @Test
+  public void getVerticesByLabels() throws Exception {
+    GradoopTestUtils.validateEPGMGraphElementCollections(Sets.newHashSet(v0, v2),
+      from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1))
+        .getVerticesByLabels("A", "C", "D").collect());
+  }
+
   @Test
   public void getEdges() throws Exception {
     GradoopTestUtils.validateEPGMGraphElementCollections(Sets.newHashSet(e0, e1),
@@ -141,4 +148,23 @@ public class GVELayoutTest extends GradoopFlinkTestBase {
     GradoopTestUtils.validateEPGMGraphElementCollections(Sets.newHashSet(e0),
       from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).getEdgesByLabel("a").collect());
   }
+
+  @Test
+  public void getEdgesByLabels() throws Exception {
+    GradoopTestUtils.validateEPGMGraphElementCollections(Sets.newHashSet(e0, e1),
+      from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1))
+        .getEdgesByLabels("a", "b").collect());
+  }
+
+  @Test
+  public void getVertexLabels() throws Exception {
+    assertEquals(Sets.newHashSet("A", "B", "C"), Sets.newHashSet(
+      from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).getVertexLabels().collect()));
+  }
+
+  @Test
+  public void getEdgeLabels() throws Exception {
+    assertEquals(asList("a"),
+      from(asList(g0, g1), asList(v0, v1), singletonList(e0)).getEdgeLabels().collect());
+  }
 }
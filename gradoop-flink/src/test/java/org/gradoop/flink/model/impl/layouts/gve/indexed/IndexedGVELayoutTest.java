@@ -21,6 +21,7 @@ import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.impl.layouts.gve.GVELayout;
 import org.gradoop.flink.model.impl.layouts.gve.GVELayoutTest;
+import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Map;
@@ -53,4 +54,10 @@ public class IndexedGVELayoutTest extends GVELayoutTest {
   public void isIndexedGVELayout() throws Exception {
     assertTrue(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isIndexedGVELayout());
   }
+
+  @Test
+  public void getVerticesByUnknownLabel() throws Exception {
+    assertTrue(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1))
+      .getVerticesByLabel("D").collect().isEmpty());
+  }
 }
@@ -145,4 +145,21 @@ public class TxCollectionLayoutTest extends GradoopFlinkTestBase {
       tx0.getEdges().stream().filter(e -> e.getLabel().equals("a")).collect(Collectors.toList()),
       layout.getEdgesByLabel("a").collect());
   }
+
+  @Test
+  public void getVertexLabels() throws Exception {
+    TxCollectionLayout layout = new TxCollectionLayout(
+      getExecutionEnvironment().fromElements(tx0, tx1));
+
+    assertEquals(Sets.newHashSet("A", "B", "C"), Sets.newHashSet(layout.getVertexLabels().collect()));
+    assertEquals(3, layout.getVertexLabels().count());
+  }
+
+  @Test
+  public void getEdgeLabels() throws Exception {
+    TxCollectionLayout layout = new TxCollectionLayout(
+      getExecutionEnvironment().fromElements(tx0, tx1));
+
+    assertEquals(Sets.newHashSet("a", "b"), Sets.newHashSet(layout.getEdgeLabels().collect()));
+  }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.gradoop.flink.model.api.functions.AggregateAccumulator;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.bool.Or;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.containment.HasVertexLabel;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.gradoop.common.model.impl.properties.PropertyValue.create;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the accumulators of the predefined aggregate functions against the pairwise
+ * {@link AggregateFunction#aggregate(PropertyValue, PropertyValue)} methods.
+ */
+public class AggregateAccumulatorTest {
+
+  /**
+   * Sequences of partial aggregates covering all numeric type promotions.
+   */
+  private static final List<List<PropertyValue>> NUMERIC_SEQUENCES = Arrays.asList(
+    Arrays.asList(create((short) 3)),
+    Arrays.asList(create((short) 3), create((short) 4)),
+    Arrays.asList(create(Integer.MAX_VALUE), create(1)),
+    Arrays.asList(create((short) 2), create(5), create(7L)),
+    Arrays.asList(create(7L), create((short) 2), create(1.5f)),
+    Arrays.asList(create(1.25f), create(3), create(0.1d)),
+    Arrays.asList(create(0.1d), create(0.2f), create(4L), create(BigDecimal.ONE)),
+    Arrays.asList(create(BigDecimal.TEN), create((short) 1), create(0.5f), create(-2.5d)),
+    Arrays.asList(create(-4), create(4L), create(0.25d), create((short) -1)));
+
+  @Test
+  public void testSum() {
+    testAgainstPairwise(new SumVertexProperty("p"));
+  }
+
+  @Test
+  public void testCount() {
+    Count count = new Count();
+    List<List<PropertyValue>> sequences = Arrays.asList(
+      Arrays.asList(create(3L)),
+      Arrays.asList(create(3L), create(0L), create(Long.MAX_VALUE - 3L)));
+    for (List<PropertyValue> sequence : sequences) {
+      assertEquals(pairwise(count, sequence), accumulate(count, sequence));
+    }
+
+    AggregateAccumulator accumulator = count.createAccumulator();
+    Vertex vertex = new VertexFactory().createVertex();
+    accumulator.accumulate(vertex);
+    accumulator.accumulate(vertex);
+    accumulator.merge(create(3L));
+    assertEquals(create(5L), accumulator.getResult());
+    assertNull(count.createAccumulator().getResult());
+  }
+
+  @Test
+  public void testMin() {
+    testAgainstPairwise(new MinVertexProperty("p"));
+  }
+
+  @Test
+  public void testMax() {
+    testAgainstPairwise(new MaxVertexProperty("p"));
+  }
+
+  @Test
+  public void testOr() {
+    Or or = new HasVertexLabel("A");
+    List<List<PropertyValue>> sequences = Arrays.asList(
+      Arrays.asList(create(false)),
+      Arrays.asList(create(false), create(false)),
+      Arrays.asList(create(false), create(true), create(false)));
+    for (List<PropertyValue> sequence : sequences) {
+      assertEquals(pairwise(or, sequence), accumulate(or, sequence));
+    }
+  }
+
+  @Test
+  public void testEmptyAccumulator() {
+    assertNull(new SumVertexProperty("p").createAccumulator().getResult());
+    assertNull(new MinVertexProperty("p").createAccumulator().getResult());
+    assertNull(new HasVertexLabel("A").createAccumulator().getResult());
+  }
+
+  @Test
+  public void testPartialAggregatesAreNotModified() {
+    PropertyValue first = create(1);
+    AggregateAccumulator accumulator = new SumVertexProperty("p").createAccumulator();
+    accumulator.merge(first);
+    accumulator.merge(create(2));
+    assertEquals(create(1), first);
+    assertEquals(create(3), accumulator.getResult());
+  }
+
+  /**
+   * Checks that the accumulator of a numeric function returns the same value and type as
+   * pairwise aggregation for all sequences.
+   *
+   * @param function aggregate function
+   */
+  private void testAgainstPairwise(AggregateFunction function) {
+    for (List<PropertyValue> sequence : NUMERIC_SEQUENCES) {
+      PropertyValue expected = pairwise(function, sequence);
+      PropertyValue actual = accumulate(function, sequence);
+      assertEquals(sequence.toString(), expected.getType(), actual.getType());
+      assertEquals(sequence.toString(), 0,
+        PropertyValueUtils.Numeric.compare(expected, actual));
+    }
+  }
+
+  /**
+   * Aggregates copies of the values using the pairwise aggregate method.
+   *
+   * @param function aggregate function
+   * @param values values to aggregate
+   * @return aggregate
+   */
+  private PropertyValue pairwise(AggregateFunction function, List<PropertyValue> values) {
+    PropertyValue aggregate = null;
+    for (PropertyValue value : values) {
+      aggregate = aggregate == null ? value.copy() : function.aggregate(aggregate, value.copy());
+    }
+    return aggregate;
+  }
+
+  /**
+   * Aggregates the values using an accumulator.
+   *
+   * @param function aggregate function
+   * @param values values to aggregate
+   * @return aggregate
+   */
+  private PropertyValue accumulate(AggregateFunction function, List<PropertyValue> values) {
+    AggregateAccumulator accumulator = function.createAccumulator();
+    values.forEach(accumulator::merge);
+    return accumulator.getResult();
+  }
+}
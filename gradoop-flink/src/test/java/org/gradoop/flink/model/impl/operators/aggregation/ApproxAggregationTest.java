@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation;
+
+import org.gradoop.common.model.api.entities.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.distinct.ApproxDistinctCountEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.distinct.ApproxDistinctCountVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.quantile.ApproxQuantileVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.HyperLogLog;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketches.TDigest;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the sketch based, approximate aggregate functions.
+ */
+public class ApproxAggregationTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testHyperLogLogAccuracy() {
+    HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+    int distinct = 100000;
+    for (int i = 0; i < 3 * distinct; i++) {
+      sketch.addHash(HyperLogLog.hash(PropertyValue.create((long) (i % distinct))));
+    }
+    double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+    assertTrue("relative error " + error, error < 0.05);
+  }
+
+  @Test
+  public void testHyperLogLogMerge() {
+    HyperLogLog all = new HyperLogLog(10);
+    List<HyperLogLog> partitions = new ArrayList<>();
+    for (int p = 0; p < 4; p++) {
+      partitions.add(new HyperLogLog(10));
+    }
+    for (int i = 0; i < 10000; i++) {
+      long hash = HyperLogLog.hash(PropertyValue.create("value" + i));
+      all.addHash(hash);
+      partitions.get(i % 4).addHash(hash);
+    }
+    HyperLogLog merged = HyperLogLog.fromPropertyValue(partitions.get(0).toPropertyValue());
+    for (int p = 1; p < 4; p++) {
+      merged.merge(partitions.get(p).toPropertyValue());
+    }
+    assertEquals(all.toPropertyValue(), merged.toPropertyValue());
+    assertEquals(all.estimate(), merged.estimate());
+  }
+
+  @Test
+  public void testSketchRepresentation() {
+    HyperLogLog hyperLogLog = new HyperLogLog(HyperLogLog.MIN_PRECISION);
+    TDigest digest = new TDigest(TDigest.DEFAULT_COMPRESSION);
+    for (int i = 0; i < 1000; i++) {
+      hyperLogLog.addHash(HyperLogLog.hash(PropertyValue.create(i)));
+      digest.add(i * 0.5d);
+    }
+
+    // the encoded sketches are regular property value lists
+    PropertyValue sketch = hyperLogLog.toPropertyValue();
+    List<PropertyValue> values = sketch.getList();
+    assertEquals(PropertyValue.create(values), sketch);
+    assertEquals(PropertyValue.create(HyperLogLog.MIN_PRECISION), values.get(0));
+    assertEquals(1 + (1 << HyperLogLog.MIN_PRECISION) / Long.BYTES, values.size());
+    assertEquals(hyperLogLog.estimate(), HyperLogLog.fromPropertyValue(sketch).estimate());
+
+    sketch = digest.toPropertyValue();
+    values = sketch.getList();
+    assertEquals(PropertyValue.create(values), sketch);
+    assertEquals(PropertyValue.create(TDigest.DEFAULT_COMPRESSION), values.get(0));
+    assertEquals(PropertyValue.create(0d), values.get(1));
+    assertEquals(PropertyValue.create(499.5d), values.get(2));
+    TDigest decoded = TDigest.fromPropertyValue(sketch);
+    assertEquals(digest.getWeight(), decoded.getWeight(), 0d);
+    assertEquals(digest.quantile(0.5d), decoded.quantile(0.5d), 0d);
+  }
+
+  @Test
+  public void testTDigestAccuracy() {
+    int count = 100000;
+    List<Double> values = new ArrayList<>(count);
+    for (int i = 1; i <= count; i++) {
+      values.add((double) i);
+    }
+    Collections.shuffle(values, new Random(42L));
+
+    List<TDigest> partitions = new ArrayList<>();
+    for (int p = 0; p < 4; p++) {
+      partitions.add(new TDigest(TDigest.DEFAULT_COMPRESSION));
+    }
+    for (int i = 0; i < count; i++) {
+      partitions.get(i % 4).add(values.get(i));
+    }
+    TDigest merged = TDigest.fromPropertyValue(partitions.get(0).toPropertyValue());
+    for (int p = 1; p < 4; p++) {
+      merged.merge(partitions.get(p).toPropertyValue());
+    }
+
+    assertEquals(count, merged.getWeight(), 0d);
+    for (double quantile : new double[] {0.001, 0.01, 0.25, 0.5, 0.75, 0.99, 0.999}) {
+      double rankError = Math.abs(merged.quantile(quantile) - quantile * count) / count;
+      assertTrue("rank error " + rankError + " at " + quantile, rankError < 0.01);
+    }
+    assertEquals(1d, merged.quantile(0d), 0d);
+    assertEquals(count, merged.quantile(1d), 0d);
+  }
+
+  @Test
+  public void testAggregation() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+
+    EPGMGraphHead graphHead = graph
+      .aggregate(
+        new ApproxDistinctCountVertexProperty("city", "cities"),
+        new ApproxDistinctCountEdgeProperty("since", "sinces"),
+        new ApproxQuantileVertexProperty("age", 0.5, "medianAge"))
+      .getGraphHead()
+      .collect()
+      .get(0);
+
+    assertEquals(PropertyValue.create(3L), graphHead.getPropertyValue("cities"));
+    assertEquals(PropertyValue.create(3L), graphHead.getPropertyValue("sinces"));
+    // ages 20, 30, 30, 35, 35, 40
+    assertEquals(32.5d, graphHead.getPropertyValue("medianAge").getDouble(), 1e-9);
+  }
+
+  @Test
+  public void testGrouping() throws Exception {
+    LogicalGraph persons = getSocialNetworkLoader().getLogicalGraph()
+      .vertexInducedSubgraph(new ByLabel<>("Person"));
+
+    for (GroupingStrategy strategy : GroupingStrategy.values()) {
+      List<Vertex> superVertices = new GroupingBuilder()
+        .addVertexGroupingKey("city")
+        .addVertexAggregateFunction(new ApproxDistinctCountVertexProperty("gender", "genders"))
+        .addVertexAggregateFunction(new ApproxQuantileVertexProperty("age", 0.5, "medianAge"))
+        .setStrategy(strategy)
+        .build()
+        .execute(persons)
+        .getVertices()
+        .collect();
+
+      Map<String, Vertex> byCity = new HashMap<>();
+      superVertices.forEach(v -> byCity.put(v.getPropertyValue("city").getString(), v));
+
+      assertEquals(strategy.name(), 3, byCity.size());
+      assertGroup(byCity.get("Leipzig"), 2L, 25d);
+      assertGroup(byCity.get("Dresden"), 2L, 35d);
+      assertGroup(byCity.get("Berlin"), 1L, 35d);
+    }
+  }
+
+  /**
+   * Checks the aggregates of a super vertex.
+   *
+   * @param superVertex super vertex
+   * @param genders expected number of distinct genders
+   * @param medianAge expected median age
+   */
+  private void assertGroup(Vertex superVertex, long genders, double medianAge) {
+    assertEquals(PropertyValue.create(genders), superVertex.getPropertyValue("genders"));
+    assertEquals(medianAge, superVertex.getPropertyValue("medianAge").getDouble(), 1e-9);
+  }
+}
@@ -16,6 +16,7 @@
 package org.gradoop.flink.model.impl.operators.distinction;
 
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalLabelingStrategy;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -36,4 +37,12 @@ public class DistinctByIsomorphismTest extends DistinctByIsomorphismTestBase {
     assertEquals(3, collection.getGraphHeads().count());
 
   }
+
+  @Test
+  public void executeWithFingerprints() throws Exception {
+    GraphCollection collection = getTestCollection()
+      .distinctByIsomorphism(CanonicalLabelingStrategy.FINGERPRINT);
+
+    assertEquals(3, collection.getGraphHeads().count());
+  }
 }
@@ -19,6 +19,7 @@ import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.api.functions.GraphHeadReduceFunction;
 import org.gradoop.flink.model.impl.operators.distinction.functions.CountGraphHeads;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalLabelingStrategy;
 import org.junit.Test;
 
 import java.util.List;
@@ -39,6 +40,20 @@ public class GroupByIsomorphismTest extends DistinctByIsomorphismTestBase {
 
     collection = collection.groupByIsomorphism(countFunc);
 
+    assertCounts(collection, propertyKey);
+  }
+
+  @Test
+  public void executeWithFingerprints() throws Exception {
+    String propertyKey = "count";
+
+    GraphCollection collection = getTestCollection().groupByIsomorphism(
+      new CountGraphHeads(propertyKey), CanonicalLabelingStrategy.FINGERPRINT);
+
+    assertCounts(collection, propertyKey);
+  }
+
+  private void assertCounts(GraphCollection collection, String propertyKey) throws Exception {
     List<GraphHead> graphHeads = collection.getGraphHeads().collect();
 
     assertEquals(3, graphHeads.size());
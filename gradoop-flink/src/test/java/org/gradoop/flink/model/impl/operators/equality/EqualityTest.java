@@ -18,6 +18,7 @@ package org.gradoop.flink.model.impl.operators.equality;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalLabelingStrategy;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToIdString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToDataString;
@@ -161,6 +162,38 @@ public class EqualityTest extends GradoopFlinkTestBase {
     collectAndAssertFalse(gRef.equalsByGraphData(gEmpty));
   }
 
+  @Test
+  public void testCollectionEqualityByGraphDataWithFingerprints() throws Exception {
+    FlinkAsciiGraphLoader loader = getTestGraphLoader();
+
+    CollectionEquality equality = new CollectionEquality(
+      new GraphHeadToDataString(),
+      new VertexToDataString(),
+      new EdgeToDataString(),
+      true,
+      CanonicalLabelingStrategy.FINGERPRINT
+    );
+
+    GraphCollection gRef = loader
+      .getGraphCollectionByVariables("gRef", "gEmpty");
+    GraphCollection gDiffId = loader
+      .getGraphCollectionByVariables("gDiffId", "gEmpty");
+    GraphCollection gClone = loader
+      .getGraphCollectionByVariables("gClone", "gEmpty");
+    GraphCollection gSmall = loader
+      .getGraphCollectionByVariables("gRef");
+    GraphCollection gDiffData = loader
+      .getGraphCollectionByVariables("gDiffData", "gEmpty");
+    GraphCollection gEmpty = getConfig().getGraphCollectionFactory()
+      .createEmptyCollection();
+
+    collectAndAssertTrue(equality.execute(gRef, gDiffId));
+    collectAndAssertFalse(equality.execute(gRef, gClone));
+    collectAndAssertFalse(equality.execute(gRef, gDiffData));
+    collectAndAssertFalse(equality.execute(gRef, gSmall));
+    collectAndAssertFalse(equality.execute(gRef, gEmpty));
+  }
+
   @Test
   public void testUndirectedCollectionEquality() throws Exception {
     FlinkAsciiGraphLoader loader = getTestGraphLoader();
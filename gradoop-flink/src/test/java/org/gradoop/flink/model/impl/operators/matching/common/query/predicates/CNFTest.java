@@ -204,6 +204,18 @@ public class CNFTest {
     assertFalse(cnf.evaluate(vertex));
   }
 
+  @Test
+  public void testGetLabels() {
+    CNF cnf = getPredicate("MATCH (a),(b) WHERE " +
+      "(a.__label__ = \"A\" OR a.__label__ = \"B\") AND " +
+      "(\"B\" = a.__label__ OR a.__label__ = \"C\") AND " +
+      "a.age > 10 AND (b.__label__ = \"A\" OR b.age > 10)");
+
+    assertEquals(Sets.newHashSet("B"), cnf.getLabels("a"));
+    assertNull(cnf.getLabels("b"));
+    assertNull(cnf.getLabels("c"));
+  }
+
   private CNF getPredicate(String queryString) {
     QueryHandler query = new QueryHandler(queryString);
     return query.getPredicates();
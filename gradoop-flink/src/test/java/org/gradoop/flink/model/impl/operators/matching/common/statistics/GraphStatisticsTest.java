@@ -15,9 +15,12 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.junit.Test;
+import org.s1ck.gdl.utils.Comparator;
 
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 
 public abstract class GraphStatisticsTest {
@@ -199,4 +202,25 @@ public abstract class GraphStatisticsTest {
       is(0L));
   }
 
+
+  @Test
+  public void testVertexPropertyHistogramByLabelAndPropertyName() throws Exception {
+    PropertyValueHistogram histogram =
+      TEST_STATISTICS.getVertexPropertyHistogram("Person", "age");
+    assertThat(histogram.getCount(), is(6L));
+    assertThat(histogram.getMostCommonValues().get(PropertyValue.create(30)), is(2L));
+    assertThat(histogram.estimateCount(Comparator.GT, PropertyValue.create(30)), is(3d));
+    // nonexistent vertex label
+    assertThat(TEST_STATISTICS.getVertexPropertyHistogram("foo", "age"), is(nullValue()));
+    // nonexistent property name
+    assertThat(TEST_STATISTICS.getVertexPropertyHistogram("Person", "bar"), is(nullValue()));
+  }
+
+  @Test
+  public void testEdgePropertyHistogramsByPropertyName() throws Exception {
+    assertThat(TEST_STATISTICS.getEdgePropertyHistograms("since").size(), is(2));
+    assertThat(TEST_STATISTICS.getEdgePropertyHistogram("knows", "since").getCount(), is(10L));
+    // nonexistent property name
+    assertThat(TEST_STATISTICS.getEdgePropertyHistograms("bar").isEmpty(), is(true));
+  }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class PropertyValueHistogramTest {
+
+  @Test
+  public void testCreateWithMostCommonValuesOnly() {
+    Map<PropertyValue, Long> frequencies = new HashMap<>();
+    frequencies.put(PropertyValue.create(1), 3L);
+    frequencies.put(PropertyValue.create(2), 1L);
+    frequencies.put(PropertyValue.create("foo"), 2L);
+
+    PropertyValueHistogram histogram = PropertyValueHistogram.create(frequencies, 3, 2);
+
+    assertThat(histogram.getMostCommonValues(), is(frequencies));
+    assertThat(histogram.getBuckets().isEmpty(), is(true));
+    assertThat(histogram.getCount(), is(6L));
+
+    assertEquals(3d, histogram.estimateCount(Comparator.EQ, PropertyValue.create(1)), 0d);
+    assertEquals(3d, histogram.estimateCount(Comparator.NEQ, PropertyValue.create(1)), 0d);
+    assertEquals(1d, histogram.estimateCount(Comparator.GT, PropertyValue.create(1L)), 0d);
+    assertEquals(4d, histogram.estimateCount(Comparator.LTE, PropertyValue.create(2.0)), 0d);
+    assertEquals(2d, histogram.estimateCount(Comparator.GTE, PropertyValue.create("bar")), 0d);
+  }
+
+  @Test
+  public void testCreateEquiDepthBuckets() {
+    Map<PropertyValue, Long> frequencies = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      frequencies.put(PropertyValue.create(i), 1L);
+    }
+    frequencies.put(PropertyValue.create(42), 50L);
+
+    PropertyValueHistogram histogram = PropertyValueHistogram.create(frequencies, 1, 4);
+
+    assertThat(histogram.getMostCommonValues().size(), is(1));
+    assertThat(histogram.getMostCommonValues().get(PropertyValue.create(42)), is(50L));
+    assertThat(histogram.getBuckets().size(), is(4));
+    assertThat(histogram.getCount(), is(149L));
+    for (PropertyValueHistogram.Bucket bucket : histogram.getBuckets()) {
+      assertThat(bucket.getCount(), is(bucket.getDistinctCount()));
+      assertThat(bucket.getCount() >= 24L && bucket.getCount() <= 25L, is(true));
+    }
+    assertThat(histogram.getBuckets().get(0).getLower(), is(PropertyValue.create(0)));
+    assertThat(histogram.getBuckets().get(3).getUpper(), is(PropertyValue.create(99)));
+
+    assertEquals(50d, histogram.estimateCount(Comparator.EQ, PropertyValue.create(42)), 0d);
+    assertEquals(1d, histogram.estimateCount(Comparator.EQ, PropertyValue.create(7)), 0d);
+    assertEquals(0d, histogram.estimateCount(Comparator.EQ, PropertyValue.create(100)), 0d);
+    assertEquals(0d, histogram.estimateCount(Comparator.LT, PropertyValue.create(0)), 0d);
+    assertEquals(149d, histogram.estimateCount(Comparator.LTE, PropertyValue.create(99)), 0d);
+    // values in [0, 29]
+    assertEquals(30d, histogram.estimateCount(Comparator.LT, PropertyValue.create(30)), 1d);
+    // values in [70, 99]
+    assertEquals(30d, histogram.estimateCount(Comparator.GTE, PropertyValue.create(70)), 1d);
+    // incompatible type
+    assertEquals(0d, histogram.estimateCount(Comparator.GT, PropertyValue.create("foo")), 0d);
+  }
+
+  @Test
+  public void testCreateWithMixedTypes() {
+    Map<PropertyValue, Long> frequencies = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      frequencies.put(PropertyValue.create(i), 1L);
+      frequencies.put(PropertyValue.create("v" + i), 1L);
+    }
+    frequencies.put(PropertyValue.create(true), 1L);
+
+    PropertyValueHistogram histogram = PropertyValueHistogram.create(frequencies, 0, 1);
+
+    assertThat(histogram.getBuckets().size(), is(3));
+    assertThat(histogram.getCount(), is(21L));
+    for (PropertyValueHistogram.Bucket bucket : histogram.getBuckets()) {
+      assertEquals(bucket.getLower().getType(), bucket.getUpper().getType());
+    }
+    assertEquals(10d, histogram.estimateCount(Comparator.GTE, PropertyValue.create(0L)), 0d);
+    assertEquals(10d, histogram.estimateCount(Comparator.LTE, PropertyValue.create("v9")), 0d);
+  }
+
+  @Test
+  public void testMostCommonValuesAreBounded() {
+    PropertyValueHistogram.MostCommonValues mostCommonValues =
+      new PropertyValueHistogram.MostCommonValues(2);
+    for (int i = 0; i < 100; i++) {
+      mostCommonValues.add(PropertyValue.create(i), i % 10 == 0 ? 10L + i : 1L);
+    }
+
+    Map<PropertyValue, Long> expected = new HashMap<>();
+    expected.put(PropertyValue.create(90), 100L);
+    expected.put(PropertyValue.create(80), 90L);
+    assertThat(mostCommonValues.getMostCommonValues(), is(expected));
+    assertThat(mostCommonValues.getCount(), is(90L + 10L * 10L + 450L));
+  }
+
+  @Test
+  public void testBucketBuilderMatchesCreate() {
+    Map<PropertyValue, Long> frequencies = new HashMap<>();
+    for (int i = 0; i < 50; i++) {
+      frequencies.put(PropertyValue.create(i), 1L + i % 3);
+    }
+    PropertyValueHistogram expected = PropertyValueHistogram.create(frequencies, 0, 5);
+
+    PropertyValueHistogram.BucketBuilder builder =
+      new PropertyValueHistogram.BucketBuilder(new HashMap<>(), expected.getCount(), 5);
+    for (int i = 0; i < 50; i++) {
+      builder.add(PropertyValue.create(i), 1L + i % 3);
+    }
+    PropertyValueHistogram histogram = builder.build();
+
+    assertThat(histogram.getBuckets().size(), is(expected.getBuckets().size()));
+    for (int i = 0; i < histogram.getBuckets().size(); i++) {
+      assertThat(histogram.getBuckets().get(i).toString(),
+        is(expected.getBuckets().get(i).toString()));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBucketBuilderRequiresAscendingValues() {
+    PropertyValueHistogram.BucketBuilder builder =
+      new PropertyValueHistogram.BucketBuilder(new HashMap<>(), 2L, 1);
+    builder.add(PropertyValue.create(2), 1L);
+    builder.add(PropertyValue.create(1), 1L);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp.DPPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.ExplorativePatternMatching;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the results of triangle queries, which are evaluated by a triangle join, with the
+ * results of the explorative pattern matching.
+ */
+public class CypherPatternMatchingTriangleTest extends GradoopFlinkTestBase {
+
+  private static final String[] QUERIES = {
+    "(a:Person)-[e1:knows]->(b:Person)-[e2:knows]->(c:Person),(a)-[e3:knows]->(c)",
+    "(a:Person)-[e1:knows]->(b:Person)-[e2:knows]->(c:Person)-[e3:knows]->(a)",
+    "(a)-[e1]->(b)<-[e2]-(c),(a)<-[e3:hasModerator]-(c)"
+  };
+
+  private static GraphStatistics STATS;
+
+  @BeforeClass
+  public static void setUpStatistics() throws Exception {
+    String path = URLDecoder.decode(
+      CypherPatternMatchingTriangleTest.class.getResource("/data/json/sna/statistics").getFile(),
+      StandardCharsets.UTF_8.name());
+    STATS = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testIsomorphism() throws Exception {
+    testTriangles(MatchStrategy.ISOMORPHISM);
+  }
+
+  @Test
+  public void testHomomorphism() throws Exception {
+    testTriangles(MatchStrategy.HOMOMORPHISM);
+  }
+
+  private void testTriangles(MatchStrategy matchStrategy) throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+
+    for (String query : QUERIES) {
+      long expected = new ExplorativePatternMatching.Builder()
+        .setQuery(query)
+        .setMatchStrategy(matchStrategy)
+        .build()
+        .execute(graph)
+        .getGraphHeads()
+        .count();
+
+      for (PlannerStrategy plannerStrategy : PlannerStrategy.values()) {
+        CypherPatternMatching op = new CypherPatternMatching(query, null, false,
+          matchStrategy, matchStrategy, STATS, plannerStrategy,
+          DPPlanner.DEFAULT_MAX_PLANNING_TIME, true);
+        assertTrue(op.explain(graph).contains("TriangleJoinNode") ||
+          plannerStrategy == PlannerStrategy.DYNAMIC_PROGRAMMING);
+        assertEquals(query, expected, op.execute(graph).getGraphHeads().count());
+      }
+    }
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.junit.Test;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+
+public class ExpandReachableVerticesTest extends PhysicalOperatorTest {
+  //define some vertices
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+  private final GradoopId d = GradoopId.get();
+
+  //define some edges
+  private final GradoopId e0 = GradoopId.get();
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+
+  @Test
+  public void testOutputFormat() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c)
+    );
+
+    DataSet<Embedding> result = new ExpandReachableVertices(input, candidateEdges,
+      0, 1, 2, ExpandDirection.OUT, -1).evaluate();
+
+    assertEquals(2, result.count());
+
+    assertEveryEmbedding(result, embedding -> {
+      assertEquals(3, embedding.size());
+      assertEquals(0, embedding.getIdList(1).size());
+    });
+
+    assertEmbeddingExists(result, a, b);
+    assertEmbeddingExists(result, a, c);
+  }
+
+  @Test
+  public void testResultForOutExpansion() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c),
+      createEmbedding(c, e3, d)
+    );
+
+    DataSet<Embedding> result = new ExpandReachableVertices(input, candidateEdges,
+      0, 2, 4, ExpandDirection.OUT, -1).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a, c);
+    assertEmbeddingExists(result, a, d);
+  }
+
+  @Test
+  public void testResultForInExpansion() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(b, e1, a),
+      createEmbedding(c, e2, b),
+      createEmbedding(d, e3, c)
+    );
+
+    DataSet<Embedding> result = new ExpandReachableVertices(input, candidateEdges,
+      0, 2, 4, ExpandDirection.IN, -1).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a, c);
+    assertEmbeddingExists(result, a, d);
+  }
+
+  @Test
+  public void testLowerBoundZero() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b)
+    );
+
+    DataSet<Embedding> result = new ExpandReachableVertices(input, candidateEdges,
+      0, 0, 1, ExpandDirection.OUT, -1).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a, a);
+    assertEmbeddingExists(result, a, b);
+  }
+
+  @Test
+  public void testUnboundedExpansionTerminatesOnCycles() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c),
+      createEmbedding(c, e3, a)
+    );
+
+    DataSet<Embedding> result = new ExpandReachableVertices(input, candidateEdges,
+      0, 1, Integer.MAX_VALUE, ExpandDirection.OUT, -1).evaluate();
+
+    assertEquals(3, result.count());
+    assertEmbeddingExists(result, a, a);
+    assertEmbeddingExists(result, a, b);
+    assertEmbeddingExists(result, a, c);
+  }
+
+  @Test
+  public void testEachEndVertexIsEmittedOnce() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(a, e2, c),
+      createEmbedding(b, e3, d),
+      createEmbedding(c, e4, d)
+    );
+
+    DataSet<Embedding> result = new ExpandReachableVertices(input, candidateEdges,
+      0, 2, 2, ExpandDirection.OUT, -1).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a, d);
+  }
+
+  @Test
+  public void testBidirectionalSearchWithOddLength() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c),
+      createEmbedding(c, e3, d)
+    );
+
+    DataSet<Embedding> result = new ExpandReachableVertices(input, candidateEdges,
+      0, 3, 3, ExpandDirection.OUT, 2).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a, e0, d, d);
+  }
+
+  @Test
+  public void testBidirectionalSearchWithEvenLength() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, c)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c),
+      createEmbedding(a, e3, c)
+    );
+
+    DataSet<Embedding> result = new ExpandReachableVertices(input, candidateEdges,
+      0, 1, 2, ExpandDirection.OUT, 2).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a, e0, c, c);
+  }
+
+  @Test
+  public void testBidirectionalSearchRespectsBounds() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c),
+      createEmbedding(c, e3, d)
+    );
+
+    DataSet<Embedding> tooShort = new ExpandReachableVertices(input, candidateEdges,
+      0, 1, 2, ExpandDirection.OUT, 2).evaluate();
+    DataSet<Embedding> tooLong = new ExpandReachableVertices(input, candidateEdges,
+      0, 4, 5, ExpandDirection.OUT, 2).evaluate();
+
+    assertEquals(0, tooShort.count());
+    assertEquals(0, tooLong.count());
+  }
+
+  @Test
+  public void testClosingColumnWithUnboundedExpansion() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, c),
+      createEmbedding(a, e0, d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c)
+    );
+
+    DataSet<Embedding> result = new ExpandReachableVertices(input, candidateEdges,
+      0, 1, Integer.MAX_VALUE, ExpandDirection.OUT, 2).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a, e0, c, c);
+  }
+}
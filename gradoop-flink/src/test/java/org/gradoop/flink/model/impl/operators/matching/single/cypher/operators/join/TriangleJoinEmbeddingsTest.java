@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+
+public class TriangleJoinEmbeddingsTest extends PhysicalOperatorTest {
+  private static GradoopId v0 = GradoopId.get();
+  private static GradoopId v1 = GradoopId.get();
+  private static GradoopId v2 = GradoopId.get();
+  private static GradoopId v3 = GradoopId.get();
+  private static GradoopId e0 = GradoopId.get();
+  private static GradoopId e1 = GradoopId.get();
+  private static GradoopId e2 = GradoopId.get();
+  private static GradoopId e3 = GradoopId.get();
+  private static GradoopId e4 = GradoopId.get();
+  private static GradoopId e5 = GradoopId.get();
+
+  @Test
+  public void testTriangle() throws Exception {
+    // (v0)->(v1)->(v2), (v0)->(v2) and the open wedge (v0)->(v1)->(v3)
+    DataSet<Embedding> first = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1)
+    );
+    DataSet<Embedding> second = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v1, e3, v3)
+    );
+    DataSet<Embedding> third = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e2, v2)
+    );
+
+    DataSet<Embedding> result = createOperator(first, second, third, false).evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e1, v2, e2);
+  }
+
+  @Test
+  public void testMultipleJoinPartners() throws Exception {
+    // parallel edges close the same triangle multiple times
+    DataSet<Embedding> first = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1)
+    );
+    DataSet<Embedding> second = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v1, e4, v2),
+      createEmbedding(v1, e3, v3)
+    );
+    DataSet<Embedding> third = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e2, v2),
+      createEmbedding(v0, e5, v3)
+    );
+
+    DataSet<Embedding> result = createOperator(first, second, third, false).evaluate();
+    assertEquals(3, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e1, v2, e2);
+    assertEmbeddingExists(result, v0, e0, v1, e4, v2, e2);
+    assertEmbeddingExists(result, v0, e0, v1, e3, v3, e5);
+  }
+
+  @Test
+  public void testVertexIsomorphism() throws Exception {
+    // c is mapped to the same vertex as a
+    DataSet<Embedding> first = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1)
+    );
+    DataSet<Embedding> second = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v0)
+    );
+    DataSet<Embedding> third = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e2, v0)
+    );
+
+    assertEquals(1, createOperator(first, second, third, false).evaluate().count());
+    assertEquals(0, createOperator(first, second, third, true).evaluate().count());
+  }
+
+  /**
+   * Creates an operator joining embeddings (a,e,b), (b,e,c) and (a,e,c).
+   *
+   * @param first first embeddings
+   * @param second second embeddings
+   * @param third third embeddings
+   * @param isomorphism true, if vertices and edges need to be distinct
+   * @return triangle join operator
+   */
+  private PhysicalOperator createOperator(DataSet<Embedding> first, DataSet<Embedding> second,
+    DataSet<Embedding> third, boolean isomorphism) {
+    List<Integer> none = Collections.emptyList();
+    MergeEmbeddings firstMerge = isomorphism ?
+      new MergeEmbeddings(3, Lists.newArrayList(0),
+        Lists.newArrayList(0, 2), Lists.newArrayList(2), Lists.newArrayList(1), Lists.newArrayList(1)) :
+      new MergeEmbeddings(3, Lists.newArrayList(0), none, none, none, none);
+    MergeEmbeddings secondMerge = isomorphism ?
+      new MergeEmbeddings(3, Lists.newArrayList(0, 2),
+        Lists.newArrayList(0, 2, 4), none, Lists.newArrayList(1, 3), Lists.newArrayList(1)) :
+      new MergeEmbeddings(3, Lists.newArrayList(0, 2), none, none, none, none);
+
+    return new TriangleJoinEmbeddings(first, second, third,
+      Lists.newArrayList(0, 2), Lists.newArrayList(0, 2), Lists.newArrayList(0, 2),
+      Lists.newArrayList(0, 4), firstMerge, secondMerge);
+  }
+}
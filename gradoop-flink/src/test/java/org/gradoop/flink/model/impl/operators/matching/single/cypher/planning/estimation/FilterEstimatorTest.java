@@ -23,6 +23,7 @@ import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
 
 public class FilterEstimatorTest extends EstimatorTestBase {
 
@@ -87,4 +88,92 @@ public class FilterEstimatorTest extends EstimatorTestBase {
     assertThat(elementEstimator.getCardinality(), is(10L));
     assertThat(elementEstimator.getSelectivity(), is(1d));
   }
+
+  @Test
+  public void testVertexWithRangePredicate() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age > 30";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(6L));
+    assertThat(elementEstimator.getSelectivity(), is(0.5));
+  }
+
+  @Test
+  public void testVertexWithSwappedRangePredicate() throws Exception {
+    String query = "MATCH (n:Person) WHERE 30 < n.age";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getSelectivity(), is(0.5));
+  }
+
+  @Test
+  public void testVertexWithDisjunction() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age = 20 OR n.age = 40";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertEquals(11d / 36d, elementEstimator.getSelectivity(), 1E-9);
+  }
+
+  @Test
+  public void testVertexWithoutLabelWithRangePredicate() throws Exception {
+    String query = "MATCH (n) WHERE n.age >= 35";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(11L));
+    assertEquals(3d / 11d, elementEstimator.getSelectivity(), 1E-9);
+  }
+
+  @Test
+  public void testEdgeWithRangePredicate() throws Exception {
+    String query = "MATCH (n)-[e:knows]->(m) WHERE e.since < 2014";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(null,
+      "n", "e", "m",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), false);
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(10L));
+    assertEquals(0.3, elementEstimator.getSelectivity(), 1E-9);
+  }
+
+  @Test
+  public void testPredicateWithoutStatistics() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.name = \"Alice\" OR n.age > n.size";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getSelectivity(), is(1d));
+  }
 }
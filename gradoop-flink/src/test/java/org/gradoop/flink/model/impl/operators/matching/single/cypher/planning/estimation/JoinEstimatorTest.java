@@ -163,6 +163,27 @@ public class JoinEstimatorTest extends EstimatorTestBase {
     assertThat(estimator.getCardinality(), is(10L));
   }
 
+  @Test
+  public void testLoop() throws Exception {
+    String query = "MATCH (n)-[e:knows]->(n)";
+
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    LeafNode nNode = new FilterAndProjectVerticesNode(null, "n",
+      queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+    LeafNode eNode = new FilterAndProjectEdgesNode(null,
+      "n", "e", "n",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), false);
+
+    JoinEmbeddingsNode neJoin = new JoinEmbeddingsNode(nNode, eNode, Lists.newArrayList("n"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    JoinEstimator estimator = new JoinEstimator(queryHandler, STATS);
+    estimator.visit(neJoin);
+
+    assertThat(estimator.getCardinality(), is(2L));
+  }
+
   @Test
   public void testPathVariableLength() throws Exception {
     String query = "MATCH (n)-[e*1..2]->(m)";
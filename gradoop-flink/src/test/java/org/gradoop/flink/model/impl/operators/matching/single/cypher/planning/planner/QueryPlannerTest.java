@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import com.google.common.collect.Sets;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.CartesianProductNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ValueJoinNode;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class QueryPlannerTest extends GradoopFlinkTestBase {
+
+  private static GraphStatistics STATS;
+
+  @BeforeClass
+  public static void setUpStatistics() throws Exception {
+    String path = URLDecoder.decode(
+      QueryPlannerTest.class.getResource("/data/json/sna/statistics").getFile(),
+      StandardCharsets.UTF_8.name());
+    STATS = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testCartesianProductsKeepInputVariables() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+    String query = "MATCH (a:Person),(b:Tag),(c:Forum) WHERE a.name = b.name";
+
+    QueryPlanner planner = new GreedyPlanner(graph, new QueryHandler(query), STATS,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM);
+    PlanTable leaves = planner.initPlanTable();
+    PlanTable products = planner.evaluateCartesianProducts(leaves);
+
+    // the input entries are left untouched
+    for (PlanTableEntry leaf : leaves) {
+      assertEquals(1, leaf.getProcessedVariables().size());
+    }
+
+    // each product covers exactly the variables of its two inputs
+    assertEquals(3, products.size());
+    Set<Set<String>> processedVariables = new HashSet<>();
+    for (PlanTableEntry product : products) {
+      assertEquals(2, product.getProcessedVariables().size());
+      processedVariables.add(product.getProcessedVariables());
+      Class<?> expectedNode = product.getProcessedVariables().equals(Sets.newHashSet("a", "b")) ?
+        ValueJoinNode.class : CartesianProductNode.class;
+      assertEquals(expectedNode, product.getQueryPlan().getRoot().getClass());
+    }
+    assertEquals(Sets.newHashSet(
+      Sets.newHashSet("a", "b"), Sets.newHashSet("a", "c"), Sets.newHashSet("b", "c")),
+      processedVariables);
+  }
+}
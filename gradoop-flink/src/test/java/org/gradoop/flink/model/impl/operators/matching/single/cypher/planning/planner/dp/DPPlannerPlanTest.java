@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp;
+
+import com.google.common.collect.Sets;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DPPlannerPlanTest extends GradoopFlinkTestBase {
+
+  private static final String QUERY = "MATCH (a:Person)-[e1:knows]->(b:Person)" +
+    "-[e2:knows]->(c:Person)-[e3:hasInterest]->(t:Tag), (a)-[e4:hasInterest]->(t)";
+
+  private static GraphStatistics STATS;
+
+  @BeforeClass
+  public static void setUpStatistics() throws Exception {
+    String path = URLDecoder.decode(
+      DPPlannerPlanTest.class.getResource("/data/json/sna/statistics").getFile(),
+      StandardCharsets.UTF_8.name());
+    STATS = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testPlanCoversQuery() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+    QueryHandler queryHandler = new QueryHandler(QUERY);
+
+    PlanTableEntry entry = new DPPlanner(graph, queryHandler, STATS,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+
+    assertEquals(Sets.newHashSet("a", "b", "c", "t", "e1", "e2", "e3", "e4"),
+      entry.getProcessedVariables());
+    assertEquals(entry.getProcessedVariables(), entry.getAllVariables());
+  }
+
+  @Test
+  public void testFallbackOnPlanningTimeLimit() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+    QueryHandler queryHandler = new QueryHandler(QUERY);
+
+    DPPlanner planner = new DPPlanner(graph, queryHandler, STATS,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, 0L);
+    PlanTableEntry entry = planner.plan();
+
+    assertEquals(Sets.newHashSet("a", "b", "c", "t", "e1", "e2", "e3", "e4"),
+      entry.getProcessedVariables());
+    assertEquals(PlannerStrategy.GREEDY, planner.getAppliedStrategy());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativePlanningTimeLimit() throws Exception {
+    new DPPlanner(getSocialNetworkLoader().getLogicalGraph(), new QueryHandler(QUERY), STATS,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, -1L);
+  }
+
+  @Test
+  public void testTriangleQuery() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+    String query = "MATCH (a:Person)-[e1:knows]->(b:Person)-[e2:knows]->(c:Person)," +
+      "(a)-[e3:knows]->(c)";
+
+    for (PlannerStrategy strategy : PlannerStrategy.values()) {
+      PlanTableEntry entry = strategy.createPlanner(graph, new QueryHandler(query), STATS,
+        MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+
+      assertEquals(Sets.newHashSet("a", "b", "c", "e1", "e2", "e3"),
+        entry.getProcessedVariables());
+    }
+
+    // triangle joins are opt-in
+    String explain = new CypherPatternMatching(query, null, false, MatchStrategy.HOMOMORPHISM,
+      MatchStrategy.ISOMORPHISM, STATS, PlannerStrategy.GREEDY).explain(graph);
+    assertFalse(explain.contains("TriangleJoinNode"));
+    explain = new CypherPatternMatching(query, null, false, MatchStrategy.HOMOMORPHISM,
+      MatchStrategy.ISOMORPHISM, STATS, PlannerStrategy.GREEDY,
+      DPPlanner.DEFAULT_MAX_PLANNING_TIME, true).explain(graph);
+    assertTrue(explain.contains("TriangleJoinNode"));
+  }
+
+  @Test
+  public void testExplain() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+
+    String explain = new CypherPatternMatching(QUERY, null, false, MatchStrategy.HOMOMORPHISM,
+      MatchStrategy.ISOMORPHISM, STATS, PlannerStrategy.DYNAMIC_PROGRAMMING).explain(graph);
+
+    assertTrue(explain.startsWith("Planner: " + PlannerStrategy.DYNAMIC_PROGRAMMING));
+    assertTrue(explain.contains("JoinEmbeddings"));
+  }
+
+  @Test
+  public void testExplainReportsFallback() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+
+    String explain = new CypherPatternMatching(QUERY, null, false, MatchStrategy.HOMOMORPHISM,
+      MatchStrategy.ISOMORPHISM, STATS, PlannerStrategy.DYNAMIC_PROGRAMMING, 0L).explain(graph);
+
+    assertTrue(explain.startsWith("Planner: " + PlannerStrategy.GREEDY));
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary;
 
+import com.google.common.collect.Sets;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
@@ -28,6 +29,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.junit.Test;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
 import static org.gradoop.common.GradoopTestUtils.call;
@@ -196,4 +198,45 @@ public class ExpandEmbeddingsNodeTest extends GradoopFlinkTestBase {
     assertThat(embedding.getIdList(1).get(4), is(f));
     assertThat(embedding.getId(2), is(g));
   }
+
+  @Test
+  public void testExecuteWithoutPathMaterialization() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId d = GradoopId.get();
+    GradoopId e = GradoopId.get();
+
+    EmbeddingMetaData leftInputMetaData = new EmbeddingMetaData();
+    leftInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+
+    DataSet<Embedding> leftEmbeddings = getExecutionEnvironment().fromElements(createEmbedding(a));
+
+    EmbeddingMetaData rightInputMetaData = new EmbeddingMetaData();
+    rightInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    rightInputMetaData.setEntryColumn("e1", EntryType.EDGE, 1);
+    rightInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 2);
+
+    // two paths a -> c and a cycle c -> a
+    DataSet<Embedding> rightEmbeddings = getExecutionEnvironment().fromElements(
+      createEmbedding(a, b, c), createEmbedding(a, d, c), createEmbedding(c, e, a));
+
+    MockPlanNode leftChild = new MockPlanNode(leftEmbeddings, leftInputMetaData);
+    MockPlanNode rightChild = new MockPlanNode(rightEmbeddings, rightInputMetaData);
+
+    ExpandEmbeddingsNode node = new ExpandEmbeddingsNode(leftChild, rightChild,
+      "v1", "e1", "v2",
+      1, 0, ExpandDirection.OUT,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.HOMOMORPHISM)
+      .setMaterializePath(false);
+
+    List<Embedding> result = node.execute().collect();
+    assertThat(result.size(), is(2));
+    for (Embedding embedding : result) {
+      assertThat(embedding.getId(0), is(a));
+      assertThat(embedding.getIdList(1).size(), is(0));
+    }
+    assertThat(result.stream().map(embedding -> embedding.getId(2))
+      .collect(Collectors.toSet()), is(Sets.newHashSet(a, c)));
+  }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbedding;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TriangleJoinNodeTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testMetaDataInitialization() throws Exception {
+    TriangleJoinNode node = new TriangleJoinNode(
+      new MockPlanNode(null, createEdgeMetaData("v1", "e1", "v2", "since")),
+      new MockPlanNode(null, createEdgeMetaData("v2", "e2", "v3", null)),
+      new MockPlanNode(null, createEdgeMetaData("v3", "e3", "v1", "since")),
+      "v1", "v2", "v3", MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    EmbeddingMetaData outputMetaData = node.getEmbeddingMetaData();
+
+    assertThat(outputMetaData.getEntryCount(), is(6));
+    assertThat(outputMetaData.getEntryColumn("v1"), is(0));
+    assertThat(outputMetaData.getEntryColumn("e1"), is(1));
+    assertThat(outputMetaData.getEntryColumn("v2"), is(2));
+    assertThat(outputMetaData.getEntryColumn("e2"), is(3));
+    assertThat(outputMetaData.getEntryColumn("v3"), is(4));
+    assertThat(outputMetaData.getEntryColumn("e3"), is(5));
+
+    assertThat(outputMetaData.getPropertyCount(), is(2));
+    assertThat(outputMetaData.getPropertyColumn("e1", "since"), is(0));
+    assertThat(outputMetaData.getPropertyColumn("e3", "since"), is(1));
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    GradoopId v1 = GradoopId.get();
+    GradoopId v2 = GradoopId.get();
+    GradoopId v3 = GradoopId.get();
+    GradoopId v4 = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+    GradoopId e2 = GradoopId.get();
+    GradoopId e3 = GradoopId.get();
+    GradoopId e4 = GradoopId.get();
+
+    // (v1)-[e1]->(v2)-[e2]->(v3)<-[e3]-(v1) and the open wedge (v1)-[e1]->(v2)-[e4]->(v4)
+    DataSet<Embedding> first = getExecutionEnvironment()
+      .fromElements(createEmbedding(v1, e1, v2));
+    DataSet<Embedding> second = getExecutionEnvironment()
+      .fromElements(createEmbedding(v2, e2, v3), createEmbedding(v2, e4, v4));
+    DataSet<Embedding> third = getExecutionEnvironment()
+      .fromElements(createEmbedding(v3, e3, v1));
+
+    TriangleJoinNode node = new TriangleJoinNode(
+      new MockPlanNode(first, createEdgeMetaData("a", "x", "b", null)),
+      new MockPlanNode(second, createEdgeMetaData("b", "y", "c", null)),
+      new MockPlanNode(third, createEdgeMetaData("c", "z", "a", null)),
+      "a", "b", "c", MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    List<Embedding> result = node.execute().collect();
+
+    assertThat(result.size(), is(1));
+    assertEmbedding(result.get(0), asList(v1, e1, v2, e2, v3, e3), emptyList());
+  }
+
+  /**
+   * Creates the meta data of an edge embedding (source,edge,target).
+   *
+   * @param source source variable
+   * @param edge edge variable
+   * @param target target variable
+   * @param propertyKey edge property key or {@code null}
+   * @return meta data
+   */
+  private EmbeddingMetaData createEdgeMetaData(String source, String edge, String target,
+    String propertyKey) {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn(source, EntryType.VERTEX, 0);
+    metaData.setEntryColumn(edge, EntryType.EDGE, 1);
+    metaData.setEntryColumn(target, EntryType.VERTEX, 2);
+    if (propertyKey != null) {
+      metaData.setPropertyColumn(edge, propertyKey, 0);
+    }
+    return metaData;
+  }
+}
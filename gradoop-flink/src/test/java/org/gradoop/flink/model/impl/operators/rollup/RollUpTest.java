@@ -20,8 +20,12 @@ import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
 import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping;
+import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
 
@@ -244,4 +248,54 @@ public class RollUpTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(output.equalsByGraphData(expected));
   }
+
+  /**
+   * Checks if the single-pass evaluation of the grouping sets of a vertex rollUp returns the
+   * same graphs as separate groupings for each grouping set.
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testVertexRollUpEqualsSeparateGroupings() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+
+    List<String> vertexGK = Arrays.asList(Grouping.LABEL_SYMBOL, "city", "gender");
+    List<AggregateFunction> vertexAGG = Arrays.asList(new Count("count"),
+      new MinVertexProperty("age"), new SumVertexProperty("age"));
+    List<String> edgeGK = Collections.singletonList(Grouping.LABEL_SYMBOL);
+    List<AggregateFunction> edgeAGG = Arrays.asList(new Count("count"),
+      new MaxEdgeProperty("since"));
+
+    VertexRollUp singlePass = new VertexRollUp(vertexGK, vertexAGG, edgeGK, edgeAGG);
+    VertexRollUp separate = new VertexRollUp(vertexGK, vertexAGG, edgeGK, edgeAGG);
+    separate.setGroupingStrategy(GroupingStrategy.GROUP_COMBINE);
+
+    collectAndAssertTrue(input.callForCollection(singlePass)
+      .equalsByGraphData(input.callForCollection(separate)));
+  }
+
+  /**
+   * Checks if the single-pass evaluation of the grouping sets of an edge rollUp returns the
+   * same graphs as separate groupings for each grouping set.
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testEdgeRollUpEqualsSeparateGroupings() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+
+    List<String> vertexGK = Arrays.asList(Grouping.LABEL_SYMBOL, "city");
+    List<AggregateFunction> vertexAGG = Arrays.asList(new Count("count"),
+      new MinVertexProperty("age"));
+    List<String> edgeGK = Arrays.asList(Grouping.LABEL_SYMBOL, "since");
+    List<AggregateFunction> edgeAGG = Arrays.asList(new Count("count"),
+      new MaxEdgeProperty("since"));
+
+    EdgeRollUp singlePass = new EdgeRollUp(vertexGK, vertexAGG, edgeGK, edgeAGG);
+    EdgeRollUp separate = new EdgeRollUp(vertexGK, vertexAGG, edgeGK, edgeAGG);
+    separate.setGroupingStrategy(GroupingStrategy.GROUP_COMBINE);
+
+    collectAndAssertTrue(input.callForCollection(singlePass)
+      .equalsByGraphData(input.callForCollection(separate)));
+  }
 }
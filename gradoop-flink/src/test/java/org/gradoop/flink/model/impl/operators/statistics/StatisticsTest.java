@@ -15,21 +15,31 @@
  */
 package org.gradoop.flink.model.impl.operators.statistics;
 
+import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.layouts.gve.indexed.IndexedGVEGraphLayoutFactory;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyValueHistogram;
 import org.gradoop.flink.model.impl.tuples.WithCount;
+import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.junit.Test;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public class StatisticsTest extends GradoopFlinkTestBase {
 
@@ -76,6 +86,37 @@ public class StatisticsTest extends GradoopFlinkTestBase {
     assertThat(cache.get("Person"), is(6L));
   }
 
+  @Test
+  public void testLabelDistributionOnIndexedLayout() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    config.setLogicalGraphLayoutFactory(new IndexedGVEGraphLayoutFactory());
+
+    Map<String, DataSet<Vertex>> vertices = db.getVertices().collect().stream()
+      .collect(Collectors.groupingBy(Vertex::getLabel)).entrySet().stream()
+      .collect(Collectors.toMap(Map.Entry::getKey,
+        e -> getExecutionEnvironment().fromCollection(e.getValue())));
+    Map<String, DataSet<Edge>> edges = db.getEdges().collect().stream()
+      .collect(Collectors.groupingBy(Edge::getLabel)).entrySet().stream()
+      .collect(Collectors.toMap(Map.Entry::getKey,
+        e -> getExecutionEnvironment().fromCollection(e.getValue())));
+    LogicalGraph indexed = config.getLogicalGraphFactory().fromIndexedDataSets(vertices, edges);
+    assertTrue(indexed.isIndexedGVELayout());
+
+    Map<String, Long> vertexCache = new HashMap<>();
+    new VertexLabelDistribution().execute(indexed).collect()
+      .forEach(e -> vertexCache.put(e.getObject(), e.getCount()));
+    Map<String, Long> edgeCache = new HashMap<>();
+    new EdgeLabelDistribution().execute(indexed).collect()
+      .forEach(e -> edgeCache.put(e.getObject(), e.getCount()));
+
+    assertThat(vertexCache.size(), is(3));
+    assertThat(vertexCache.get("Person"), is(6L));
+    assertThat(edgeCache.size(), is(5));
+    assertThat(edgeCache.get("knows"), is(10L));
+  }
+
   @Test
   public void testEdgeLabelDistribution() throws Exception {
     LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
@@ -286,6 +327,56 @@ public class StatisticsTest extends GradoopFlinkTestBase {
     assertThat(cache.get("hasMember"), is(4L));
   }
 
+  @Test
+  public void testApproxDistinctSourceAndTargetIds() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    assertThat(new ApproxDistinctSourceIds().execute(db).collect().get(0), is(8L));
+    assertThat(new ApproxDistinctTargetIds().execute(db).collect().get(0), is(7L));
+  }
+
+  @Test
+  public void testApproxDistinctSourceIdsByEdgeLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    List<WithCount<String>> result = new ApproxDistinctSourceIdsByEdgeLabel()
+      .execute(db)
+      .collect();
+
+    assertThat(result.size(), is(5));
+
+    Map<String, Long> cache = new HashMap<>(5);
+
+    result.forEach(e -> cache.put(e.getObject(), e.getCount()));
+
+    assertThat(cache.get("hasInterest"), is(4L));
+    assertThat(cache.get("hasModerator"), is(2L));
+    assertThat(cache.get("knows"), is(6L));
+    assertThat(cache.get("hasTag"), is(2L));
+    assertThat(cache.get("hasMember"), is(2L));
+  }
+
+  @Test
+  public void testApproxDistinctTargetIdsByEdgeLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    List<WithCount<String>> result = new ApproxDistinctTargetIdsByEdgeLabel()
+      .execute(db)
+      .collect();
+
+    assertThat(result.size(), is(5));
+
+    Map<String, Long> cache = new HashMap<>(5);
+
+    result.forEach(e -> cache.put(e.getObject(), e.getCount()));
+
+    assertThat(cache.get("hasInterest"), is(2L));
+    assertThat(cache.get("hasModerator"), is(2L));
+    assertThat(cache.get("knows"), is(4L));
+    assertThat(cache.get("hasTag"), is(3L));
+    assertThat(cache.get("hasMember"), is(4L));
+  }
+
   @Test
   public void testSourceLabelAndEdgeLabelDistribution() throws Exception {
     LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
@@ -408,4 +499,120 @@ public class StatisticsTest extends GradoopFlinkTestBase {
     assertThat(cache.get("locIP"), is(1L));
     assertThat(cache.get("title"), is(2L));
   }
+
+  @Test
+  public void testApproxDistinctEdgeProperties() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    List<WithCount<String>> result = new ApproxDistinctEdgeProperties().execute(db).collect();
+
+    assertThat(result.size(), is(1));
+    assertThat(result.get(0).getObject(), is("since"));
+    assertThat(result.get(0).getCount(), is(3L));
+
+    List<WithCount<Tuple2<String, String>>> byLabel =
+      new ApproxDistinctEdgePropertiesByLabel()
+        .execute(db)
+        .collect();
+
+    Map<Tuple, Long> cache = new HashMap<>(2);
+    byLabel.forEach(e -> cache.put(e.getObject(), e.getCount()));
+
+    assertThat(byLabel.size(), is(2));
+    assertThat(cache.get(Tuple2.of("knows", "since")), is(3L));
+    assertThat(cache.get(Tuple2.of("hasModerator", "since")), is(1L));
+  }
+
+  @Test
+  public void testApproxDistinctVertexProperties() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    Map<String, Long> exact = new HashMap<>();
+    new DistinctVertexProperties().execute(db).collect()
+      .forEach(e -> exact.put(e.getObject(), e.getCount()));
+    Map<String, Long> approx = new HashMap<>();
+    new ApproxDistinctVertexProperties().execute(db).collect()
+      .forEach(e -> approx.put(e.getObject(), e.getCount()));
+
+    assertEquals(exact, approx);
+
+    Map<Tuple2<String, String>, Long> exactByLabel = new HashMap<>();
+    new DistinctVertexPropertiesByLabel().execute(db).collect()
+      .forEach(e -> exactByLabel.put(e.getObject(), e.getCount()));
+    Map<Tuple2<String, String>, Long> approxByLabel = new HashMap<>();
+    new ApproxDistinctVertexPropertiesByLabel().execute(db).collect()
+      .forEach(e -> approxByLabel.put(e.getObject(), e.getCount()));
+
+    assertEquals(exactByLabel, approxByLabel);
+  }
+
+  @Test
+  public void testVertexPropertyHistogramsByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    List<Tuple3<String, String, PropertyValueHistogram>> result =
+      new VertexPropertyHistogramsByLabel(1, 2)
+        .execute(db)
+        .collect();
+
+    Map<Tuple, PropertyValueHistogram> cache = new HashMap<>(8);
+    result.forEach(e -> cache.put(Tuple2.of(e.f0, e.f1), e.f2));
+
+    assertThat(result.size(), is(8));
+
+    PropertyValueHistogram age = cache.get(Tuple2.of("Person", "age"));
+    assertThat(age.getCount(), is(6L));
+    assertThat(age.getMostCommonValues().size(), is(1));
+    assertThat(age.getBuckets().size(), is(2));
+
+    PropertyValueHistogram name = cache.get(Tuple2.of("Person", "name"));
+    assertThat(name.getCount(), is(6L));
+    assertThat(name.getMostCommonValues().isEmpty(), is(true));
+    assertThat(name.getBuckets().size(), is(2));
+  }
+
+  @Test
+  public void testEdgePropertyHistogramsByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    List<Tuple3<String, String, PropertyValueHistogram>> result =
+      new EdgePropertyHistogramsByLabel()
+        .execute(db)
+        .collect();
+
+    Map<Tuple, PropertyValueHistogram> cache = new HashMap<>(2);
+    result.forEach(e -> cache.put(Tuple2.of(e.f0, e.f1), e.f2));
+
+    assertThat(result.size(), is(2));
+
+    PropertyValueHistogram since = cache.get(Tuple2.of("knows", "since"));
+    assertThat(since.getMostCommonValues().get(PropertyValue.create(2013)), is(3L));
+    assertThat(since.getMostCommonValues().get(PropertyValue.create(2014)), is(4L));
+    assertThat(since.getMostCommonValues().get(PropertyValue.create(2015)), is(3L));
+    assertThat(cache.get(Tuple2.of("hasModerator", "since")).getCount(), is(1L));
+  }
+
+  @Test
+  public void testPropertyHistogramsWithMixedTypes() throws Exception {
+    LogicalGraph graph = getLoaderFromString("g[" +
+      "(:A {x : 1})(:A {x : 2L})(:A {x : 3.5})(:A {x : 1})" +
+      "(:A {x : \"a\"})(:A {x : \"b\"})(:A {x : true})" +
+      "]").getLogicalGraphByVariable("g");
+
+    List<Tuple3<String, String, PropertyValueHistogram>> result =
+      new VertexPropertyHistogramsByLabel(1, 1)
+        .execute(graph)
+        .collect();
+
+    assertThat(result.size(), is(1));
+    PropertyValueHistogram x = result.get(0).f2;
+    assertThat(x.getCount(), is(7L));
+    assertThat(x.getMostCommonValues().get(PropertyValue.create(1)), is(2L));
+    // numbers, strings and booleans are never placed in the same bucket
+    assertThat(x.getBuckets().size(), is(3));
+    for (PropertyValueHistogram.Bucket bucket : x.getBuckets()) {
+      assertEquals(bucket.getLower().isNumber(), bucket.getUpper().isNumber());
+      assertTrue(bucket.getLower().compareTo(bucket.getUpper()) <= 0);
+    }
+  }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.canonicalization;
+
+import com.google.common.hash.HashCode;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class GraphFingerprinterTest {
+
+  @Test
+  public void testPermutedGraphsHaveEqualFingerprints() {
+    // a labeled graph with symmetric parts, i.e., vertices of equal color after refinement
+    List<String> vertexLabels = Arrays.asList("A", "A", "B", "B", "B", "B", "C");
+    int[] sources = {0, 1, 2, 3, 4, 5, 0, 1, 6, 6};
+    int[] targets = {2, 3, 3, 4, 5, 2, 1, 0, 0, 1};
+    List<String> edgeLabels =
+      Arrays.asList("x", "x", "y", "y", "y", "y", "z", "z", "w", "w");
+
+    HashCode expected = fingerprint(vertexLabels, sources, targets, edgeLabels, true);
+
+    Random random = new Random(42);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(expected,
+        permutedFingerprint(vertexLabels, sources, targets, edgeLabels, true, random));
+      assertEquals(fingerprint(vertexLabels, sources, targets, edgeLabels, false),
+        permutedFingerprint(vertexLabels, sources, targets, edgeLabels, false, random));
+    }
+  }
+
+  @Test
+  public void testCompleteGraph() {
+    int vertexCount = 8;
+    List<String> vertexLabels = Collections.nCopies(vertexCount, "A");
+    List<Integer> sources = new ArrayList<>();
+    List<Integer> targets = new ArrayList<>();
+    for (int source = 0; source < vertexCount; source++) {
+      for (int target = 0; target < vertexCount; target++) {
+        if (source != target) {
+          sources.add(source);
+          targets.add(target);
+        }
+      }
+    }
+    List<String> edgeLabels = Collections.nCopies(sources.size(), "e");
+
+    int[] sourceArray = sources.stream().mapToInt(Integer::intValue).toArray();
+    int[] targetArray = targets.stream().mapToInt(Integer::intValue).toArray();
+
+    assertEquals(fingerprint(vertexLabels, sourceArray, targetArray, edgeLabels, true),
+      permutedFingerprint(vertexLabels, sourceArray, targetArray, edgeLabels, true,
+        new Random(42)));
+  }
+
+  @Test
+  public void testRegularGraphsAreDistinguished() {
+    // a 6-cycle and two triangles can not be distinguished by color refinement alone
+    List<String> vertexLabels = Collections.nCopies(6, "A");
+    List<String> edgeLabels = Collections.nCopies(6, "e");
+
+    HashCode cycle = fingerprint(vertexLabels,
+      new int[] {0, 1, 2, 3, 4, 5}, new int[] {1, 2, 3, 4, 5, 0}, edgeLabels, false);
+    HashCode triangles = fingerprint(vertexLabels,
+      new int[] {0, 1, 2, 3, 4, 5}, new int[] {1, 2, 0, 4, 5, 3}, edgeLabels, false);
+
+    assertNotEquals(cycle, triangles);
+  }
+
+  @Test
+  public void testDirectionAndLabelsAreConsidered() {
+    List<String> vertexLabels = Arrays.asList("A", "B");
+    List<String> edgeLabels = Collections.singletonList("e");
+
+    HashCode forward = fingerprint(vertexLabels, new int[] {0}, new int[] {1}, edgeLabels, true);
+    HashCode backward = fingerprint(vertexLabels, new int[] {1}, new int[] {0}, edgeLabels, true);
+
+    assertNotEquals(forward, backward);
+    assertEquals(
+      fingerprint(vertexLabels, new int[] {0}, new int[] {1}, edgeLabels, false),
+      fingerprint(vertexLabels, new int[] {1}, new int[] {0}, edgeLabels, false));
+    assertNotEquals(forward, fingerprint(vertexLabels, new int[] {0}, new int[] {1},
+      Collections.singletonList("f"), true));
+  }
+
+  private HashCode fingerprint(List<String> vertexLabels, int[] sources, int[] targets,
+    List<String> edgeLabels, boolean directed) {
+    return new GraphFingerprinter(vertexLabels, sources, targets, edgeLabels, directed)
+      .fingerprint();
+  }
+
+  private HashCode permutedFingerprint(List<String> vertexLabels, int[] sources, int[] targets,
+    List<String> edgeLabels, boolean directed, Random random) {
+    List<Integer> permutation = new ArrayList<>();
+    for (int vertex = 0; vertex < vertexLabels.size(); vertex++) {
+      permutation.add(vertex);
+    }
+    Collections.shuffle(permutation, random);
+
+    String[] permutedVertexLabels = new String[vertexLabels.size()];
+    for (int vertex = 0; vertex < vertexLabels.size(); vertex++) {
+      permutedVertexLabels[permutation.get(vertex)] = vertexLabels.get(vertex);
+    }
+
+    List<Integer> edgeOrder = new ArrayList<>();
+    for (int edge = 0; edge < sources.length; edge++) {
+      edgeOrder.add(edge);
+    }
+    Collections.shuffle(edgeOrder, random);
+
+    int[] permutedSources = new int[sources.length];
+    int[] permutedTargets = new int[sources.length];
+    List<String> permutedEdgeLabels = new ArrayList<>();
+    for (int i = 0; i < sources.length; i++) {
+      int edge = edgeOrder.get(i);
+      permutedSources[i] = permutation.get(sources[edge]);
+      permutedTargets[i] = permutation.get(targets[edge]);
+      permutedEdgeLabels.add(edgeLabels.get(edge));
+    }
+
+    return fingerprint(Arrays.asList(permutedVertexLabels), permutedSources, permutedTargets,
+      permutedEdgeLabels, directed);
+  }
+}
@@ -20,13 +20,18 @@ import org.gradoop.common.model.impl.pojo.EdgeFactory;
 import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
 import org.gradoop.common.model.impl.pojo.VertexFactory;
 import org.gradoop.storage.common.config.GradoopStoreConfig;
+import org.gradoop.storage.common.index.IndexedProperty;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
 import org.gradoop.storage.impl.accumulo.handler.AccumuloEdgeHandler;
 import org.gradoop.storage.impl.accumulo.handler.AccumuloGraphHandler;
 import org.gradoop.storage.impl.accumulo.handler.AccumuloVertexHandler;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * Gradoop Accumulo configuration define
@@ -68,6 +73,16 @@ public class GradoopAccumuloConfig implements GradoopStoreConfig {
    */
   public static final String GRADOOP_BATCH_SCANNER_THREADS = "gradoop.batch.scanner.threads";
 
+  /**
+   * indexed vertex properties, a collection of {@link IndexedProperty}, default empty
+   */
+  public static final String GRADOOP_VERTEX_INDEX = "gradoop.index.vertex";
+
+  /**
+   * indexed edge properties, a collection of {@link IndexedProperty}, default empty
+   */
+  public static final String GRADOOP_EDGE_INDEX = "gradoop.index.edge";
+
   /**
    * zookeeper hosts, default "localhost:2181"
    */
@@ -224,6 +239,44 @@ public class GradoopAccumuloConfig implements GradoopStoreConfig {
     return get(ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX) + AccumuloTables.GRAPH;
   }
 
+  /**
+   * Get vertex property index table name
+   *
+   * @return vertex property index table name
+   */
+  public String getVertexIndexTable() {
+    return get(ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX) + AccumuloTables.VERTEX_INDEX;
+  }
+
+  /**
+   * Get edge property index table name
+   *
+   * @return edge property index table name
+   */
+  public String getEdgeIndexTable() {
+    return get(ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX) + AccumuloTables.EDGE_INDEX;
+  }
+
+  /**
+   * Get indexed vertex properties
+   *
+   * @return indexed vertex properties
+   */
+  public Set<IndexedProperty> getVertexIndex() {
+    Collection<IndexedProperty> index = get(GRADOOP_VERTEX_INDEX, Collections.emptySet());
+    return new HashSet<>(index);
+  }
+
+  /**
+   * Get indexed edge properties
+   *
+   * @return indexed edge properties
+   */
+  public Set<IndexedProperty> getEdgeIndex() {
+    Collection<IndexedProperty> index = get(GRADOOP_EDGE_INDEX, Collections.emptySet());
+    return new HashSet<>(index);
+  }
+
   @Override
   public String toString() {
     return accumuloProperties.toString();
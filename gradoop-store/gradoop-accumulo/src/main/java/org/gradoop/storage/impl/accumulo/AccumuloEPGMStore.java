@@ -25,6 +25,7 @@ import org.apache.accumulo.core.client.Connector;
 import org.apache.accumulo.core.client.IteratorSetting;
 import org.apache.accumulo.core.client.MutationsRejectedException;
 import org.apache.accumulo.core.client.NamespaceExistsException;
+import org.apache.accumulo.core.client.Scanner;
 import org.apache.accumulo.core.client.TableExistsException;
 import org.apache.accumulo.core.client.TableNotFoundException;
 import org.apache.accumulo.core.client.ZooKeeperInstance;
@@ -34,40 +35,56 @@ import org.apache.accumulo.core.data.Mutation;
 import org.apache.accumulo.core.data.Range;
 import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.hadoop.io.Text;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Property;
 import org.gradoop.storage.common.api.EPGMConfigProvider;
 import org.gradoop.storage.common.api.EPGMGraphInput;
 import org.gradoop.storage.common.api.EPGMGraphPredictableOutput;
+import org.gradoop.storage.common.index.IndexKeys;
+import org.gradoop.storage.common.index.IndexLookup;
+import org.gradoop.storage.common.index.IndexedProperty;
 import org.gradoop.storage.common.iterator.ClosableIterator;
 import org.gradoop.storage.common.iterator.EmptyClosableIterator;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.config.GradoopAccumuloConfig;
+import org.gradoop.storage.impl.accumulo.aggregation.LabelAggregate;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
 import org.gradoop.storage.impl.accumulo.handler.AccumuloRowHandler;
 import org.gradoop.storage.impl.accumulo.iterator.client.ClientClosableIterator;
+import org.gradoop.storage.impl.accumulo.iterator.tserver.BaseElementIterator;
 import org.gradoop.storage.impl.accumulo.iterator.tserver.GradoopEdgeIterator;
 import org.gradoop.storage.impl.accumulo.iterator.tserver.GradoopGraphHeadIterator;
 import org.gradoop.storage.impl.accumulo.iterator.tserver.GradoopVertexIterator;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.impl.accumulo.predicate.query.AccumuloQueryHolder;
+import org.gradoop.storage.utils.AccumuloTableMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Default Accumulo EPGM graph store that handles reading and writing vertices and
@@ -114,6 +131,36 @@ public class AccumuloEPGMStore implements
    */
   private final BatchWriter edgeWriter;
 
+  /**
+   * indexed vertex properties
+   */
+  private final Set<IndexedProperty> vertexIndex;
+
+  /**
+   * indexed edge properties
+   */
+  private final Set<IndexedProperty> edgeIndex;
+
+  /**
+   * indexed vertex properties whose index entries are complete and can be used for lookups
+   */
+  private final Set<IndexedProperty> vertexLookupIndex;
+
+  /**
+   * indexed edge properties whose index entries are complete and can be used for lookups
+   */
+  private final Set<IndexedProperty> edgeLookupIndex;
+
+  /**
+   * batch writer for vertex property index table, null if no vertex property is indexed
+   */
+  private final BatchWriter vertexIndexWriter;
+
+  /**
+   * batch writer for edge property index table, null if no edge property is indexed
+   */
+  private final BatchWriter edgeIndexWriter;
+
   /**
    * auto flush flag, default false
    */
@@ -121,7 +168,9 @@ public class AccumuloEPGMStore implements
 
   /**
    * Creates an AccumuloEPGMStore based on the given parameters.
-   * Tables with given prefix will be auto-create if not exists
+   * Tables with given prefix will be auto-create if not exists.
+   * Index lookups are restricted to the properties recorded as complete in the properties of
+   * the index tables, see {@link AccumuloTableMetadata}.
    *
    * @param config                      accumulo store configuration
    * @throws AccumuloSecurityException  for security violations,
@@ -133,12 +182,21 @@ public class AccumuloEPGMStore implements
   public AccumuloEPGMStore(@Nonnull GradoopAccumuloConfig config)
     throws AccumuloSecurityException, AccumuloException {
     this.config = config;
+    this.vertexIndex = config.getVertexIndex();
+    this.edgeIndex = config.getEdgeIndex();
     this.conn = createConnector();
     createTablesIfNotExists();
     try {
+      vertexLookupIndex = registerIndex(config.getVertexIndexTable(), getVertexTableName(),
+        vertexIndex);
+      edgeLookupIndex = registerIndex(config.getEdgeIndexTable(), getEdgeTableName(), edgeIndex);
       graphWriter = conn.createBatchWriter(getGraphHeadName(), new BatchWriterConfig());
       vertexWriter = conn.createBatchWriter(getVertexTableName(), new BatchWriterConfig());
       edgeWriter = conn.createBatchWriter(getEdgeTableName(), new BatchWriterConfig());
+      vertexIndexWriter = vertexIndex.isEmpty() ? null :
+        conn.createBatchWriter(config.getVertexIndexTable(), new BatchWriterConfig());
+      edgeIndexWriter = edgeIndex.isEmpty() ? null :
+        conn.createBatchWriter(config.getEdgeIndexTable(), new BatchWriterConfig());
     } catch (TableNotFoundException e) {
       throw new IllegalStateException(e); //should not be here
     }
@@ -193,11 +251,13 @@ public class AccumuloEPGMStore implements
   @Override
   public void writeVertex(@Nonnull EPGMVertex record) {
     writeRecord(record, vertexWriter, config.getVertexHandler());
+    writeIndex(record, vertexIndexWriter, vertexIndex);
   }
 
   @Override
   public void writeEdge(@Nonnull EPGMEdge record) {
     writeRecord(record, edgeWriter, config.getEdgeHandler());
+    writeIndex(record, edgeIndexWriter, edgeIndex);
   }
 
   @Override
@@ -211,6 +271,12 @@ public class AccumuloEPGMStore implements
       graphWriter.flush();
       vertexWriter.flush();
       edgeWriter.flush();
+      if (vertexIndexWriter != null) {
+        vertexIndexWriter.flush();
+      }
+      if (edgeIndexWriter != null) {
+        edgeIndexWriter.flush();
+      }
     } catch (MutationsRejectedException e) {
       throw new RuntimeException(e);
     }
@@ -222,6 +288,12 @@ public class AccumuloEPGMStore implements
       graphWriter.close();
       vertexWriter.close();
       edgeWriter.close();
+      if (vertexIndexWriter != null) {
+        vertexIndexWriter.close();
+      }
+      if (edgeIndexWriter != null) {
+        edgeIndexWriter.close();
+      }
     } catch (MutationsRejectedException e) {
       throw new RuntimeException(e);
     }
@@ -269,91 +341,315 @@ public class AccumuloEPGMStore implements
     @Nullable ElementQuery<AccumuloElementFilter<GraphHead>> query,
     int cacheSize
   ) throws IOException {
-    if (query != null &&
-      query.getQueryRanges() != null &&
-      query.getQueryRanges().isEmpty()) {
-      return new EmptyClosableIterator<>();
-    }
+    return getGraphSpace(query, null, cacheSize);
+  }
 
-    if (query != null) {
-      LOG.info(query.toString());
-    }
+  @Nonnull
+  @Override
+  public ClosableIterator<Vertex> getVertexSpace(
+    @Nullable ElementQuery<AccumuloElementFilter<Vertex>> query,
+    int cacheSize
+  ) throws IOException {
+    return getVertexSpace(query, null, cacheSize);
+  }
 
-    BatchScanner scanner = createBatchScanner(
+  @Nonnull
+  @Override
+  public ClosableIterator<Edge> getEdgeSpace(
+    @Nullable ElementQuery<AccumuloElementFilter<Edge>> query,
+    int cacheSize
+  ) throws IOException {
+    return getEdgeSpace(query, null, cacheSize);
+  }
+
+  /**
+   * Read graph heads by query, returning only the given properties of each graph head.
+   * Properties are removed by the tablet server and never transferred to the client.
+   *
+   * @param query graph head query, null for all graph heads
+   * @param propertyKeys property keys to return, null for all properties
+   * @param cacheSize client result cache size
+   * @return graph head iterator
+   * @throws IOException on scanner creation failure
+   */
+  @Nonnull
+  public ClosableIterator<GraphHead> getGraphSpace(
+    @Nullable ElementQuery<AccumuloElementFilter<GraphHead>> query,
+    @Nullable Collection<String> propertyKeys,
+    int cacheSize
+  ) throws IOException {
+    return readElements(
       getGraphHeadName(),
       GradoopGraphHeadIterator.class,
-      query);
-    Iterator<Map.Entry<Key, Value>> iterator = scanner.iterator();
-    if (!iterator.hasNext()) {
-      return new EmptyClosableIterator<>();
-    } else {
-      return new ClientClosableIterator<>(scanner,
-        new GradoopGraphHeadIterator(),
-        config.getGraphHandler(),
-        cacheSize);
-    }
+      new GradoopGraphHeadIterator(),
+      config.getGraphHandler(),
+      createQueryHolder(query).withProjection(propertyKeys),
+      cacheSize);
   }
 
+  /**
+   * Read vertices by query, returning only the given properties of each vertex.
+   * Properties are removed by the tablet server and never transferred to the client.
+   * Queries on completely indexed properties only read the vertices found in the property index.
+   *
+   * @param query vertex query, null for all vertices
+   * @param propertyKeys property keys to return, null for all properties
+   * @param cacheSize client result cache size
+   * @return vertex iterator
+   * @throws IOException on scanner creation failure
+   */
   @Nonnull
-  @Override
   public ClosableIterator<Vertex> getVertexSpace(
     @Nullable ElementQuery<AccumuloElementFilter<Vertex>> query,
+    @Nullable Collection<String> propertyKeys,
     int cacheSize
   ) throws IOException {
-    if (query != null &&
-      query.getQueryRanges() != null &&
-      query.getQueryRanges().isEmpty()) {
-      return new EmptyClosableIterator<>();
-    }
-
-    if (query != null) {
-      LOG.info(query.toString());
-    }
-
-    BatchScanner scanner = createBatchScanner(
+    return readElements(
       getVertexTableName(),
       GradoopVertexIterator.class,
-      query);
-    Iterator<Map.Entry<Key, Value>> iterator = scanner.iterator();
-    if (!iterator.hasNext()) {
-      return new EmptyClosableIterator<>();
-    } else {
-      return new ClientClosableIterator<>(scanner,
-        new GradoopVertexIterator(),
-        config.getVertexHandler(),
-        cacheSize);
-    }
+      new GradoopVertexIterator(),
+      config.getVertexHandler(),
+      createQueryHolder(query, config.getVertexIndexTable(), vertexLookupIndex)
+        .withProjection(propertyKeys),
+      cacheSize);
   }
 
+  /**
+   * Read edges by query, returning only the given properties of each edge.
+   * Properties are removed by the tablet server and never transferred to the client.
+   * Queries on completely indexed properties only read the edges found in the property index.
+   *
+   * @param query edge query, null for all edges
+   * @param propertyKeys property keys to return, null for all properties
+   * @param cacheSize client result cache size
+   * @return edge iterator
+   * @throws IOException on scanner creation failure
+   */
   @Nonnull
-  @Override
   public ClosableIterator<Edge> getEdgeSpace(
     @Nullable ElementQuery<AccumuloElementFilter<Edge>> query,
+    @Nullable Collection<String> propertyKeys,
     int cacheSize
   ) throws IOException {
-    if (query != null &&
-      query.getQueryRanges() != null &&
-      query.getQueryRanges().isEmpty()) {
-      return new EmptyClosableIterator<>();
-    }
+    return readElements(
+      getEdgeTableName(),
+      GradoopEdgeIterator.class,
+      new GradoopEdgeIterator(),
+      config.getEdgeHandler(),
+      createQueryHolder(query, config.getEdgeIndexTable(), edgeLookupIndex)
+        .withProjection(propertyKeys),
+      cacheSize);
+  }
+
+  /**
+   * Count graph heads per label and compute min, max and sum of the given properties.
+   * Tablet servers return one partial aggregate per scanned range instead of the graph heads.
+   *
+   * @param query graph head query, null for all graph heads
+   * @param propertyKeys property keys to aggregate
+   * @return aggregates by label
+   * @throws IOException on scan failure
+   */
+  @Nonnull
+  public Map<String, LabelAggregate> aggregateGraphSpace(
+    @Nullable ElementQuery<AccumuloElementFilter<GraphHead>> query,
+    @Nonnull Collection<String> propertyKeys
+  ) throws IOException {
+    return aggregateElements(getGraphHeadName(), GradoopGraphHeadIterator.class,
+      createQueryHolder(query).withAggregation(propertyKeys));
+  }
+
+  /**
+   * Count vertices per label and compute min, max and sum of the given properties.
+   * Tablet servers return one partial aggregate per scanned range instead of the vertices.
+   *
+   * @param query vertex query, null for all vertices
+   * @param propertyKeys property keys to aggregate
+   * @return aggregates by label
+   * @throws IOException on scan failure
+   */
+  @Nonnull
+  public Map<String, LabelAggregate> aggregateVertexSpace(
+    @Nullable ElementQuery<AccumuloElementFilter<Vertex>> query,
+    @Nonnull Collection<String> propertyKeys
+  ) throws IOException {
+    return aggregateElements(getVertexTableName(), GradoopVertexIterator.class,
+      createQueryHolder(query, config.getVertexIndexTable(), vertexLookupIndex)
+        .withAggregation(propertyKeys));
+  }
+
+  /**
+   * Count edges per label and compute min, max and sum of the given properties.
+   * Tablet servers return one partial aggregate per scanned range instead of the edges.
+   *
+   * @param query edge query, null for all edges
+   * @param propertyKeys property keys to aggregate
+   * @return aggregates by label
+   * @throws IOException on scan failure
+   */
+  @Nonnull
+  public Map<String, LabelAggregate> aggregateEdgeSpace(
+    @Nullable ElementQuery<AccumuloElementFilter<Edge>> query,
+    @Nonnull Collection<String> propertyKeys
+  ) throws IOException {
+    return aggregateElements(getEdgeTableName(), GradoopEdgeIterator.class,
+      createQueryHolder(query, config.getEdgeIndexTable(), edgeLookupIndex)
+        .withAggregation(propertyKeys));
+  }
 
+  /**
+   * Create a query holder for an element query
+   *
+   * @param query element query, null for all elements
+   * @param <T> epgm element type
+   * @return accumulo query holder
+   */
+  private <T extends EPGMElement> AccumuloQueryHolder<T> createQueryHolder(
+    @Nullable ElementQuery<AccumuloElementFilter<T>> query
+  ) {
     if (query != null) {
       LOG.info(query.toString());
     }
+    return AccumuloQueryHolder.create(query != null ? query :
+      Query.elements().fromAll().noFilter());
+  }
 
-    BatchScanner scanner = createBatchScanner(
-      getEdgeTableName(),
-      GradoopEdgeIterator.class,
-      query);
-    Iterator<Map.Entry<Key, Value>> iterator = scanner.iterator();
-    if (!iterator.hasNext()) {
+  /**
+   * Create a query holder for an element query. If the query can be answered by the property
+   * index, its id ranges are replaced by the identifiers found in the index, so that only the
+   * candidate rows are read and filtered by the tablet servers.
+   *
+   * @param query element query, null for all elements
+   * @param indexTable property index table name
+   * @param index indexed properties usable for lookups
+   * @param <T> epgm element type
+   * @return accumulo query holder
+   * @throws IOException on index scan failure
+   */
+  private <T extends EPGMElement> AccumuloQueryHolder<T> createQueryHolder(
+    @Nullable ElementQuery<AccumuloElementFilter<T>> query,
+    @Nonnull String indexTable,
+    @Nonnull Set<IndexedProperty> index
+  ) throws IOException {
+    IndexLookup lookup = query != null ? query.planIndexLookup(index) : null;
+    if (lookup == null) {
+      return createQueryHolder(query);
+    }
+    LOG.info(lookup.toString());
+    Set<GradoopId> ids = lookupIndex(indexTable, lookup);
+    if (query.getQueryRanges() != null) {
+      ids.retainAll(query.getQueryRanges());
+    }
+    return createQueryHolder(Query.elements()
+      .fromSets(GradoopIdSet.fromExisting(ids))
+      .where(query.getFilterPredicate()));
+  }
+
+  /**
+   * Read the identifiers of the elements selected by an index lookup
+   *
+   * @param indexTable property index table name
+   * @param lookup index lookup
+   * @return identifiers of the candidate elements
+   * @throws IOException on scan failure
+   */
+  private Set<GradoopId> lookupIndex(String indexTable, IndexLookup lookup) throws IOException {
+    Set<GradoopId> ids = new LinkedHashSet<>();
+    if (lookup.getLabels().isEmpty()) {
+      return ids;
+    }
+    List<Range> ranges = new ArrayList<>();
+    for (String label : lookup.getLabels()) {
+      ranges.add(new Range(new Text(lookup.getStartRow(label)), true,
+        new Text(lookup.getStopRow(label)), false));
+    }
+    BatchScanner scanner;
+    try {
+      scanner = conn.createBatchScanner(indexTable,
+        config.get(GradoopAccumuloConfig.ACCUMULO_AUTHORIZATIONS,
+          AccumuloDefault.AUTHORIZATION),
+        config.get(GradoopAccumuloConfig.GRADOOP_BATCH_SCANNER_THREADS,
+          AccumuloDefault.BATCH_SCANNER_THREADS));
+    } catch (TableNotFoundException e) {
+      throw new IOException(e);
+    }
+    try {
+      scanner.setRanges(ranges);
+      for (Map.Entry<Key, Value> entry : scanner) {
+        ids.add(IndexKeys.elementId(entry.getKey().getRowData().toArray()));
+      }
+    } finally {
+      scanner.close();
+    }
+    return ids;
+  }
+
+  /**
+   * Read elements from table
+   *
+   * @param table table name
+   * @param iterator iterator class
+   * @param codec tserver iterator used to decode rows
+   * @param handler row handler of element type
+   * @param holder accumulo query holder
+   * @param cacheSize client result cache size
+   * @param <R> element type
+   * @param <E> epgm element type
+   * @return element iterator
+   * @throws IOException on scanner creation failure
+   */
+  private <R extends Element, E extends EPGMElement> ClosableIterator<R> readElements(
+    String table,
+    Class<? extends SortedKeyValueIterator<Key, Value>> iterator,
+    BaseElementIterator<E> codec,
+    AccumuloRowHandler<R, E> handler,
+    AccumuloQueryHolder<R> holder,
+    int cacheSize
+  ) throws IOException {
+    if (holder.getQueryRanges() != null && holder.getQueryRanges().isEmpty()) {
+      return new EmptyClosableIterator<>();
+    }
+    BatchScanner scanner = createBatchScanner(table, iterator, holder);
+    if (!scanner.iterator().hasNext()) {
       return new EmptyClosableIterator<>();
     } else {
-      return new ClientClosableIterator<>(scanner,
-        new GradoopEdgeIterator(),
-        config.getEdgeHandler(),
-        cacheSize);
+      return new ClientClosableIterator<>(scanner, codec, handler, cacheSize);
+    }
+  }
+
+  /**
+   * Merge the partial label aggregates returned by the tablet servers
+   *
+   * @param table table name
+   * @param iterator iterator class
+   * @param holder accumulo query holder with aggregation
+   * @param <T> epgm element type
+   * @return aggregates by label
+   * @throws IOException on scan failure
+   */
+  private <T extends EPGMElement> Map<String, LabelAggregate> aggregateElements(
+    String table,
+    Class<? extends SortedKeyValueIterator<Key, Value>> iterator,
+    AccumuloQueryHolder<T> holder
+  ) throws IOException {
+    Map<String, LabelAggregate> result = new HashMap<>();
+    if (holder.getQueryRanges() != null && holder.getQueryRanges().isEmpty()) {
+      return result;
     }
+    BatchScanner scanner = createBatchScanner(table, iterator, holder);
+    try {
+      for (Map.Entry<Key, Value> row : scanner) {
+        for (LabelAggregate partial : LabelAggregate.decode(row.getValue().get())) {
+          LabelAggregate aggregate = result.putIfAbsent(partial.getLabel(), partial);
+          if (aggregate != null) {
+            aggregate.merge(partial);
+          }
+        }
+      }
+    } finally {
+      scanner.close();
+    }
+    return result;
   }
 
   /**
@@ -382,12 +678,46 @@ public class AccumuloEPGMStore implements
     }
   }
 
+  /**
+   * Write the property index entries of an element. Properties with values that are neither
+   * booleans, numbers nor strings are not indexed.
+   *
+   * @param record gradoop EPGM element
+   * @param writer index batch writer, null if no property is indexed
+   * @param index indexed properties
+   */
+  private void writeIndex(
+    @Nonnull EPGMElement record,
+    @Nullable BatchWriter writer,
+    @Nonnull Set<IndexedProperty> index
+  ) {
+    if (writer == null || record.getLabel() == null || record.getProperties() == null) {
+      return;
+    }
+    try {
+      for (Property property : record.getProperties()) {
+        if (index.contains(IndexedProperty.of(record.getLabel(), property.getKey())) &&
+          IndexKeys.isIndexable(property.getValue())) {
+          Mutation mutation = new Mutation(IndexKeys.indexRow(record.getLabel(),
+            property.getKey(), property.getValue(), record.getId()));
+          mutation.put(AccumuloTables.KEY.INDEX, AccumuloTables.KEY.NONE, new Value(new byte[0]));
+          writer.addMutation(mutation);
+        }
+      }
+      if (autoFlush) {
+        writer.flush();
+      }
+    } catch (MutationsRejectedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Create accumulo batch scanner with element predicate
    *
    * @param table  table name
    * @param iterator iterator class
-   * @param predicate accumulo predicate
+   * @param predicate accumulo query holder
    * @param <T> epgm element type
    * @return batch scanner instance
    * @throws IOException if create fail
@@ -395,12 +725,9 @@ public class AccumuloEPGMStore implements
   private <T extends EPGMElement> BatchScanner createBatchScanner(
     String table,
     Class<? extends SortedKeyValueIterator<Key, Value>> iterator,
-    @Nullable ElementQuery<AccumuloElementFilter<T>> predicate
+    @Nonnull AccumuloQueryHolder<T> predicate
   ) throws IOException {
-    Map<String, String> options = new HashMap<>();
-    if (predicate != null && predicate.getFilterPredicate() != null) {
-      options.put(AccumuloTables.KEY_PREDICATE, predicate.getFilterPredicate().encode());
-    }
+    Map<String, String> options = predicate.getIteratorOptions();
     BatchScanner scanner;
     try {
       scanner = conn.createBatchScanner(table,
@@ -416,15 +743,10 @@ public class AccumuloEPGMStore implements
         /*iterator class*/iterator,
         /*args*/options));
 
-      if (predicate == null ||
-        predicate.getQueryRanges() == null) {
+      if (predicate.getQueryRanges() == null) {
         scanner.setRanges(Lists.newArrayList(new Range()));
       } else {
-        scanner.setRanges(Range.mergeOverlapping(predicate.getQueryRanges()
-          .stream()
-          .map(GradoopId::toString)
-          .map(Range::exact)
-          .collect(Collectors.toList())));
+        scanner.setRanges(predicate.getQueryRanges());
       }
       return scanner;
 
@@ -455,9 +777,15 @@ public class AccumuloEPGMStore implements
         //ignore if it is exists, maybe create by another process or thread
       }
     }
-    for (String table : new String[] {
-      getVertexTableName(), getEdgeTableName(), getGraphHeadName()
-    }) {
+    List<String> tables = Lists.newArrayList(
+      getVertexTableName(), getEdgeTableName(), getGraphHeadName());
+    if (!vertexIndex.isEmpty()) {
+      tables.add(config.getVertexIndexTable());
+    }
+    if (!edgeIndex.isEmpty()) {
+      tables.add(config.getEdgeIndexTable());
+    }
+    for (String table : tables) {
       try {
         if (!conn.tableOperations().exists(table)) {
           conn.tableOperations().create(table);
@@ -468,4 +796,61 @@ public class AccumuloEPGMStore implements
     }
   }
 
+  /**
+   * Update the properties recorded as complete for an index table and return them. A property
+   * is complete, if it has been indexed since the data table was empty. Properties that are not
+   * configured anymore are removed, since elements written by this store will not be indexed.
+   * Configured properties are added only if the data table is still empty, otherwise existing
+   * elements would be missing in the index and the store must not use it for lookups.
+   *
+   * @param indexTable index table name
+   * @param dataTable name of the indexed element table
+   * @param index configured indexed properties
+   * @return indexed properties usable for lookups
+   * @throws AccumuloSecurityException  for security violations,
+   *                                    authentication failures,
+   *                                    authorization failures,
+   *                                    etc.
+   * @throws AccumuloException          generic Accumulo Exception for general accumulo failures.
+   * @throws TableNotFoundException     if the data table does not exist
+   */
+  private Set<IndexedProperty> registerIndex(
+    String indexTable,
+    String dataTable,
+    Set<IndexedProperty> index
+  ) throws AccumuloSecurityException, AccumuloException, TableNotFoundException {
+    if (!conn.tableOperations().exists(indexTable)) {
+      return Collections.emptySet();
+    }
+    Set<IndexedProperty> recorded =
+      AccumuloTableMetadata.getIndexedProperties(conn.tableOperations(), indexTable);
+    Set<IndexedProperty> complete = new HashSet<>(recorded);
+    complete.retainAll(index);
+    if (!complete.containsAll(index) && isEmpty(dataTable)) {
+      complete.addAll(index);
+    }
+    if (!complete.equals(recorded)) {
+      AccumuloTableMetadata.setIndexedProperties(conn.tableOperations(), indexTable, complete);
+    }
+    return complete;
+  }
+
+  /**
+   * Check whether a table contains no rows
+   *
+   * @param table table name
+   * @return true, if the table is empty
+   * @throws TableNotFoundException if the table does not exist
+   */
+  private boolean isEmpty(String table) throws TableNotFoundException {
+    Scanner scanner = conn.createScanner(table,
+      config.get(GradoopAccumuloConfig.ACCUMULO_AUTHORIZATIONS, AccumuloDefault.AUTHORIZATION));
+    try {
+      scanner.setBatchSize(1);
+      return !scanner.iterator().hasNext();
+    } finally {
+      scanner.close();
+    }
+  }
+
 }
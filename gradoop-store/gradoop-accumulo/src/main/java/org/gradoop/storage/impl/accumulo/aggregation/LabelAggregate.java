@@ -0,0 +1,316 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.accumulo.aggregation;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Partial aggregate of all elements sharing one label. Tablet server iterators fold each scanned
+ * range into one partial per label, the client merges the partials of all ranges.
+ *
+ * The aggregate counts the elements and keeps minimum, maximum and sum of each requested
+ * property. Minimum and maximum are kept for comparable values only, the sum for numeric
+ * values only. Elements without the property are counted but do not change its statistics.
+ */
+public class LabelAggregate {
+
+  /**
+   * element label
+   */
+  private final String label;
+
+  /**
+   * minimum value by property key
+   */
+  private final Map<String, PropertyValue> min = new HashMap<>();
+
+  /**
+   * maximum value by property key
+   */
+  private final Map<String, PropertyValue> max = new HashMap<>();
+
+  /**
+   * sum by property key
+   */
+  private final Map<String, PropertyValue> sum = new HashMap<>();
+
+  /**
+   * number of aggregated elements
+   */
+  private long count;
+
+  /**
+   * Create an empty aggregate
+   *
+   * @param label element label
+   */
+  public LabelAggregate(@Nonnull String label) {
+    this.label = label;
+  }
+
+  /**
+   * Decode aggregates encoded by {@link #encode(Collection)}
+   *
+   * @param data encoded aggregates
+   * @return aggregate list
+   * @throws IOException on malformed data
+   */
+  @Nonnull
+  public static List<LabelAggregate> decode(@Nonnull byte[] data) throws IOException {
+    try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data))) {
+      int size = input.readInt();
+      List<LabelAggregate> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        LabelAggregate aggregate = new LabelAggregate(input.readUTF());
+        aggregate.count = input.readLong();
+        readValues(input, aggregate.min);
+        readValues(input, aggregate.max);
+        readValues(input, aggregate.sum);
+        result.add(aggregate);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Encode aggregates as byte array
+   *
+   * @param aggregates aggregates to encode
+   * @return encoded aggregates
+   * @throws IOException on write failure
+   */
+  @Nonnull
+  public static byte[] encode(@Nonnull Collection<LabelAggregate> aggregates) throws IOException {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(content)) {
+      output.writeInt(aggregates.size());
+      for (LabelAggregate aggregate : aggregates) {
+        output.writeUTF(aggregate.label);
+        output.writeLong(aggregate.count);
+        writeValues(output, aggregate.min);
+        writeValues(output, aggregate.max);
+        writeValues(output, aggregate.sum);
+      }
+    }
+    return content.toByteArray();
+  }
+
+  /**
+   * Add an element to this aggregate
+   *
+   * @param element element with this aggregate's label
+   * @param propertyKeys property keys to aggregate
+   */
+  public void add(@Nonnull EPGMElement element, @Nonnull Collection<String> propertyKeys) {
+    count++;
+    if (element.getProperties() == null) {
+      return;
+    }
+    for (String key : propertyKeys) {
+      PropertyValue value = element.getPropertyValue(key);
+      if (value != null) {
+        update(key, value, value, value);
+      }
+    }
+  }
+
+  /**
+   * Merge another partial aggregate of the same label into this one
+   *
+   * @param other partial aggregate
+   */
+  public void merge(@Nonnull LabelAggregate other) {
+    count += other.count;
+    for (Map.Entry<String, PropertyValue> entry : other.min.entrySet()) {
+      update(entry.getKey(), entry.getValue(), other.max.get(entry.getKey()), null);
+    }
+    for (Map.Entry<String, PropertyValue> entry : other.sum.entrySet()) {
+      update(entry.getKey(), null, null, entry.getValue());
+    }
+  }
+
+  /**
+   * Get element label
+   *
+   * @return element label
+   */
+  public String getLabel() {
+    return label;
+  }
+
+  /**
+   * Get number of aggregated elements
+   *
+   * @return element count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Get minimum value of a property
+   *
+   * @param key property key
+   * @return minimum value, null if no comparable value was seen
+   */
+  @Nullable
+  public PropertyValue getMin(String key) {
+    return min.get(key);
+  }
+
+  /**
+   * Get maximum value of a property
+   *
+   * @param key property key
+   * @return maximum value, null if no comparable value was seen
+   */
+  @Nullable
+  public PropertyValue getMax(String key) {
+    return max.get(key);
+  }
+
+  /**
+   * Get sum of a property
+   *
+   * @param key property key
+   * @return sum, null if no numeric value was seen
+   */
+  @Nullable
+  public PropertyValue getSum(String key) {
+    return sum.get(key);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s(count=%d, min=%s, max=%s, sum=%s)", label, count, min, max, sum);
+  }
+
+  /**
+   * Update the statistics of one property
+   *
+   * @param key property key
+   * @param minCandidate minimum candidate, may be null
+   * @param maxCandidate maximum candidate, may be null
+   * @param sumCandidate summand, may be null
+   */
+  private void update(
+    String key,
+    @Nullable PropertyValue minCandidate,
+    @Nullable PropertyValue maxCandidate,
+    @Nullable PropertyValue sumCandidate
+  ) {
+    if (minCandidate != null && isComparable(minCandidate)) {
+      PropertyValue current = min.get(key);
+      if (current == null) {
+        min.put(key, minCandidate);
+      } else if (isComparable(current, minCandidate) && minCandidate.compareTo(current) < 0) {
+        min.put(key, minCandidate);
+      }
+    }
+    if (maxCandidate != null && isComparable(maxCandidate)) {
+      PropertyValue current = max.get(key);
+      if (current == null) {
+        max.put(key, maxCandidate);
+      } else if (isComparable(current, maxCandidate) && maxCandidate.compareTo(current) > 0) {
+        max.put(key, maxCandidate);
+      }
+    }
+    if (sumCandidate != null && sumCandidate.isNumber()) {
+      // Numeric.add updates its first argument, so the sum must never share a candidate
+      PropertyValue current = sum.get(key);
+      sum.put(key, current == null ? sumCandidate.copy() :
+        PropertyValueUtils.Numeric.add(current, sumCandidate));
+    }
+  }
+
+  /**
+   * Check if a value supports ordering
+   *
+   * @param value property value
+   * @return true, if the value can be compared to values of the same type
+   */
+  private static boolean isComparable(PropertyValue value) {
+    return value.isNumber() || value.isString() || value.isBoolean() || value.isGradoopId() ||
+      value.isDate() || value.isTime() || value.isDateTime();
+  }
+
+  /**
+   * Check if two comparable values can be compared to each other
+   *
+   * @param a first value
+   * @param b second value
+   * @return true, if both are numbers or share the same type
+   */
+  private static boolean isComparable(PropertyValue a, PropertyValue b) {
+    return (a.isNumber() && b.isNumber()) || a.getType() == b.getType();
+  }
+
+  /**
+   * Write a property map
+   *
+   * @param output data output
+   * @param values values by property key
+   * @throws IOException on write failure
+   */
+  private static void writeValues(
+    DataOutputStream output,
+    Map<String, PropertyValue> values
+  ) throws IOException {
+    output.writeInt(values.size());
+    for (Map.Entry<String, PropertyValue> entry : values.entrySet()) {
+      byte[] raw = entry.getValue().getRawBytes();
+      output.writeUTF(entry.getKey());
+      output.writeInt(raw.length);
+      output.write(raw);
+    }
+  }
+
+  /**
+   * Read a property map
+   *
+   * @param input data input
+   * @param values values by property key to fill
+   * @throws IOException on malformed data
+   */
+  private static void readValues(
+    DataInputStream input,
+    Map<String, PropertyValue> values
+  ) throws IOException {
+    int size = input.readInt();
+    for (int i = 0; i < size; i++) {
+      String key = input.readUTF();
+      byte[] raw = new byte[input.readInt()];
+      input.readFully(raw);
+      values.put(key, PropertyValue.fromRawBytes(raw));
+    }
+  }
+
+}
@@ -35,11 +35,31 @@ public class AccumuloTables {
    */
   public static final String GRAPH = "graph";
 
+  /**
+   * gradoop vertex property index table name
+   */
+  public static final String VERTEX_INDEX = "vertex_index";
+
+  /**
+   * gradoop edge property index table name
+   */
+  public static final String EDGE_INDEX = "edge_index";
+
   /**
    * gradoop predicate options key
    */
   public static final String KEY_PREDICATE = "__filter__";
 
+  /**
+   * gradoop projection options key
+   */
+  public static final String KEY_PROJECTION = "__projection__";
+
+  /**
+   * gradoop aggregation options key
+   */
+  public static final String KEY_AGGREGATION = "__aggregation__";
+
   /**
    * cf or cq constants key
    */
@@ -84,6 +104,16 @@ public class AccumuloTables {
      * graph vertex edge out
      */
     public static final String EDGE_OUT = "edge_out";
+
+    /**
+     * property index entry
+     */
+    public static final String INDEX = "index";
+
+    /**
+     * label aggregate result, sorts behind all element column families
+     */
+    public static final String AGGREGATE = "~aggregate";
   }
 
 }
@@ -28,7 +28,9 @@ import org.gradoop.storage.impl.accumulo.io.outputformats.ElementOutputFormat;
 import javax.annotation.Nonnull;
 
 /**
- * Write graph or graph collection into accumulo store
+ * Write graph or graph collection into accumulo store. Elements are written by
+ * {@link ElementOutputFormat} through {@link AccumuloEPGMStore}, which also writes the entries of
+ * the configured property indices.
  */
 public class AccumuloDataSink extends AccumuloBase implements DataSink {
 
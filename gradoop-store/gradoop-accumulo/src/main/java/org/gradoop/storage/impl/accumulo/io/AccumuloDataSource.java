@@ -16,6 +16,7 @@
 package org.gradoop.storage.impl.accumulo.io;
 
 import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -26,6 +27,7 @@ import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.storage.common.io.FilterableDataSource;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.impl.accumulo.AccumuloEPGMStore;
 import org.gradoop.storage.impl.accumulo.io.inputformats.EdgeInputFormat;
 import org.gradoop.storage.impl.accumulo.io.inputformats.GraphHeadInputFormat;
@@ -35,6 +37,7 @@ import org.gradoop.storage.impl.accumulo.predicate.query.AccumuloQueryHolder;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collection;
 
 /**
  * Read logic graph or graph collection from accumulo store
@@ -121,7 +124,8 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
   public AccumuloDataSource applyGraphPredicate(
     @Nonnull ElementQuery<AccumuloElementFilter<GraphHead>> query
   ) {
-    AccumuloQueryHolder<GraphHead> newGraphQuery = AccumuloQueryHolder.create(query);
+    AccumuloQueryHolder<GraphHead> newGraphQuery = AccumuloQueryHolder.<GraphHead>create(query)
+      .withProjection(graphHeadQuery == null ? null : graphHeadQuery.getProjection());
     return new AccumuloDataSource(
       getStore(),
       getFlinkConfig(),
@@ -136,7 +140,8 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
   public AccumuloDataSource applyVertexPredicate(
     @Nonnull ElementQuery<AccumuloElementFilter<Vertex>> query
   ) {
-    AccumuloQueryHolder<Vertex> newVertexQuery = AccumuloQueryHolder.create(query);
+    AccumuloQueryHolder<Vertex> newVertexQuery = AccumuloQueryHolder.<Vertex>create(query)
+      .withProjection(vertexQuery == null ? null : vertexQuery.getProjection());
     return new AccumuloDataSource(
       getStore(),
       getFlinkConfig(),
@@ -151,7 +156,8 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
   public AccumuloDataSource applyEdgePredicate(
     @Nonnull ElementQuery<AccumuloElementFilter<Edge>> query
   ) {
-    AccumuloQueryHolder<Edge> newEdgeQuery = AccumuloQueryHolder.create(query);
+    AccumuloQueryHolder<Edge> newEdgeQuery = AccumuloQueryHolder.<Edge>create(query)
+      .withProjection(edgeQuery == null ? null : edgeQuery.getProjection());
     return new AccumuloDataSource(
       getStore(),
       getFlinkConfig(),
@@ -161,6 +167,60 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
     );
   }
 
+  /**
+   * Only read the given properties of each graph head. Properties are removed by the
+   * accumulo tablet servers and never transferred to flink.
+   *
+   * @param propertyKeys graph head property keys to read
+   * @return new data source with graph head projection
+   */
+  @Nonnull
+  public AccumuloDataSource applyGraphProjection(@Nonnull Collection<String> propertyKeys) {
+    return new AccumuloDataSource(
+      getStore(),
+      getFlinkConfig(),
+      project(graphHeadQuery, propertyKeys),
+      vertexQuery,
+      edgeQuery
+    );
+  }
+
+  /**
+   * Only read the given properties of each vertex. Properties are removed by the
+   * accumulo tablet servers and never transferred to flink.
+   *
+   * @param propertyKeys vertex property keys to read
+   * @return new data source with vertex projection
+   */
+  @Nonnull
+  public AccumuloDataSource applyVertexProjection(@Nonnull Collection<String> propertyKeys) {
+    return new AccumuloDataSource(
+      getStore(),
+      getFlinkConfig(),
+      graphHeadQuery,
+      project(vertexQuery, propertyKeys),
+      edgeQuery
+    );
+  }
+
+  /**
+   * Only read the given properties of each edge. Properties are removed by the
+   * accumulo tablet servers and never transferred to flink.
+   *
+   * @param propertyKeys edge property keys to read
+   * @return new data source with edge projection
+   */
+  @Nonnull
+  public AccumuloDataSource applyEdgeProjection(@Nonnull Collection<String> propertyKeys) {
+    return new AccumuloDataSource(
+      getStore(),
+      getFlinkConfig(),
+      graphHeadQuery,
+      vertexQuery,
+      project(edgeQuery, propertyKeys)
+    );
+  }
+
   @Override
   public boolean isFilterPushedDown() {
     return this.graphHeadQuery != null ||
@@ -168,4 +228,21 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
       this.edgeQuery != null;
   }
 
+  /**
+   * Add a projection to an optional query holder
+   *
+   * @param holder current query holder, may be null
+   * @param propertyKeys projected property keys
+   * @param <T> epgm element type
+   * @return query holder with projection
+   */
+  private static <T extends EPGMElement> AccumuloQueryHolder<T> project(
+    @Nullable AccumuloQueryHolder<T> holder,
+    @Nonnull Collection<String> propertyKeys
+  ) {
+    AccumuloQueryHolder<T> base = holder != null ? holder :
+      AccumuloQueryHolder.create(Query.elements().fromAll().noFilter());
+    return base.withProjection(propertyKeys);
+  }
+
 }
@@ -38,7 +38,6 @@ import org.apache.hadoop.mapred.JobConf;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.storage.config.GradoopAccumuloConfig;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
-import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
 import org.gradoop.storage.impl.accumulo.predicate.query.AccumuloQueryHolder;
 
 import javax.annotation.Nonnull;
@@ -169,10 +168,8 @@ public abstract class BaseInputFormat<T extends Element> extends GenericInputFor
         zkHosts,
         auth);
 
-      Map<String, String> options = new HashMap<>();
-      if (predicate != null && predicate.getReduceFilter() != null) {
-        options.put(AccumuloTables.KEY_PREDICATE, predicate.getReduceFilter().encode());
-      }
+      Map<String, String> options = predicate == null ?
+        new HashMap<>() : predicate.getIteratorOptions();
       if (split.getSplitNumber() + 1 > ranges.size()) {
         scanner = null;
         iterator = new ArrayList<Map.Entry<Key, Value>>().iterator();
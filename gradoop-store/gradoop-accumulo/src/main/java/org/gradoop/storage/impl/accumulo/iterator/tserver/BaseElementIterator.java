@@ -23,8 +23,11 @@ import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.util.Pair;
 import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.storage.impl.accumulo.aggregation.LabelAggregate;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.impl.accumulo.predicate.query.AccumuloQueryHolder;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -32,6 +35,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -41,6 +46,10 @@ import java.util.Map;
  * multi-rows into epgm element and check if this element should be return by predicate. Each
  * element that fulfill the predicate will be serialized into one row.
  *
+ * If a projection is given, only the projected properties are serialized. If an aggregation is
+ * given, the whole seek range is folded into {@link LabelAggregate} partials instead, which are
+ * returned as a single row keyed by the last element of the range.
+ *
  * @param <E> gradoop epgm element
  * @see <a href="https://accumulo.apache.org/1.9/accumulo_user_manual.html#_iterator_design">
  *   accumulo iterator design</a>
@@ -68,6 +77,16 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
    */
   private AccumuloElementFilter<E> filter;
 
+  /**
+   * Projected property keys, null for all properties
+   */
+  private List<String> projection;
+
+  /**
+   * Aggregated property keys, null if elements should be returned
+   */
+  private List<String> aggregation;
+
   /**
    * Deserialize from key-value pair
    *
@@ -121,6 +140,14 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
     } else {
       this.filter = (AccumuloElementFilter<E>) t -> true;
     }
+    //read pushed down projection and aggregation
+    if (options != null && options.containsKey(AccumuloTables.KEY_PROJECTION)) {
+      this.projection = AccumuloQueryHolder.decodeKeys(options.get(AccumuloTables.KEY_PROJECTION));
+    }
+    if (options != null && options.containsKey(AccumuloTables.KEY_AGGREGATION)) {
+      this.aggregation =
+        AccumuloQueryHolder.decodeKeys(options.get(AccumuloTables.KEY_AGGREGATION));
+    }
   }
 
   @Override
@@ -130,8 +157,12 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
 
   @Override
   public void next() throws IOException {
+    if (aggregation != null) {
+      top = seekIterator.hasNext() ? aggregateRange() : null;
+      return;
+    }
     E topElement = seekIterator.hasNext() ? seekIterator.next() : null;
-    top = topElement == null ? null : toRow(topElement);
+    top = topElement == null ? null : toRow(project(topElement));
   }
 
   @Override
@@ -161,6 +192,45 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
     throw new UnsupportedOperationException("deep copy is not supported!");
   }
 
+  /**
+   * Remove all properties not contained in the projection
+   *
+   * @param element fulfilled element
+   * @return projected element
+   */
+  private E project(E element) {
+    if (projection == null || element.getProperties() == null) {
+      return element;
+    }
+    Properties projected = Properties.createWithCapacity(projection.size());
+    for (String key : projection) {
+      if (element.getProperties().containsKey(key)) {
+        projected.set(key, element.getPropertyValue(key));
+      }
+    }
+    element.setProperties(projected);
+    return element;
+  }
+
+  /**
+   * Fold all remaining elements of the seek range into label aggregates
+   *
+   * @return single row containing the encoded aggregates
+   * @throws IOException on encoding failure
+   */
+  private Pair<Key, Value> aggregateRange() throws IOException {
+    Map<String, LabelAggregate> aggregates = new LinkedHashMap<>();
+    E last = null;
+    while (seekIterator.hasNext()) {
+      last = seekIterator.next();
+      aggregates.computeIfAbsent(last.getLabel(), LabelAggregate::new).add(last, aggregation);
+    }
+    // keyed behind all cells of the last consumed row, so a re-seek after this key
+    // continues with the next element
+    return new Pair<>(new Key(last.getId().toString(), AccumuloTables.KEY.AGGREGATE),
+      new Value(LabelAggregate.encode(aggregates.values())));
+  }
+
   /**
    * Logical iterator for seeking fulfilled element
    */
@@ -16,8 +16,10 @@
 package org.gradoop.storage.impl.accumulo.predicate.filter.calculate;
 
 import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.storage.common.index.IndexConstraints;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
 
+import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -72,6 +74,11 @@ public final class And<T extends EPGMElement> implements AccumuloElementFilter<T
     return true;
   }
 
+  @Override
+  public void collectIndexConstraints(@Nonnull IndexConstraints constraints) {
+    predicates.forEach(predicate -> predicate.collectIndexConstraints(constraints));
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" AND ");
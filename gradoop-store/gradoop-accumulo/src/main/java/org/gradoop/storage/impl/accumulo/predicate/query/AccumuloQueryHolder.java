@@ -20,6 +20,7 @@ import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
 import org.gradoop.storage.utils.KryoUtils;
 
@@ -27,7 +28,13 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -48,6 +55,16 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
    */
   private final AccumuloElementFilter<T> reduceFilter;
 
+  /**
+   * property keys returned by tserver, null for all properties
+   */
+  private final ArrayList<String> projection;
+
+  /**
+   * property keys aggregated by tserver, null if elements should be returned
+   */
+  private final ArrayList<String> aggregation;
+
   /**
    * accumulo predicate instance, low level api for store implement
    *
@@ -64,6 +81,26 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
     wrapper.ranges = logicalRanges;
     this.queryRanges = wrapper.encrypt();
     this.reduceFilter = reduceFilter;
+    this.projection = null;
+    this.aggregation = null;
+  }
+
+  /**
+   * copy a predicate instance with new pushdown definitions
+   *
+   * @param origin origin query holder
+   * @param projection projected property keys, may be null
+   * @param aggregation aggregated property keys, may be null
+   */
+  private AccumuloQueryHolder(
+    @Nonnull AccumuloQueryHolder<T> origin,
+    @Nullable Collection<String> projection,
+    @Nullable Collection<String> aggregation
+  ) {
+    this.queryRanges = origin.queryRanges;
+    this.reduceFilter = origin.reduceFilter;
+    this.projection = projection == null ? null : new ArrayList<>(projection);
+    this.aggregation = aggregation == null ? null : new ArrayList<>(aggregation);
   }
 
   /**
@@ -124,6 +161,100 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
     return reduceFilter;
   }
 
+  /**
+   * create a copy of this predicate that only returns the given properties of each element.
+   * Id, label, graph ids and edge endpoints are always returned.
+   *
+   * @param propertyKeys property keys to return, null for all properties
+   * @return accumulo predicate
+   */
+  public AccumuloQueryHolder<T> withProjection(@Nullable Collection<String> propertyKeys) {
+    return new AccumuloQueryHolder<>(this, propertyKeys, aggregation);
+  }
+
+  /**
+   * create a copy of this predicate that returns per label aggregates instead of elements.
+   * Each tserver range yields one encoded
+   * {@link org.gradoop.storage.impl.accumulo.aggregation.LabelAggregate} list.
+   *
+   * @param propertyKeys property keys to compute min, max and sum for
+   * @return accumulo predicate
+   */
+  public AccumuloQueryHolder<T> withAggregation(@Nonnull Collection<String> propertyKeys) {
+    return new AccumuloQueryHolder<>(this, projection, propertyKeys);
+  }
+
+  /**
+   * Get projected property keys
+   *
+   * @return projected property keys, null for all properties
+   */
+  @Nullable
+  public List<String> getProjection() {
+    return projection;
+  }
+
+  /**
+   * Get aggregated property keys
+   *
+   * @return aggregated property keys, null if elements are returned
+   */
+  @Nullable
+  public List<String> getAggregation() {
+    return aggregation;
+  }
+
+  /**
+   * Create tserver iterator options for this predicate
+   *
+   * @return iterator options
+   */
+  @Nonnull
+  public Map<String, String> getIteratorOptions() {
+    Map<String, String> options = new HashMap<>();
+    if (reduceFilter != null) {
+      options.put(AccumuloTables.KEY_PREDICATE, reduceFilter.encode());
+    }
+    if (projection != null) {
+      options.put(AccumuloTables.KEY_PROJECTION, encodeKeys(projection));
+    }
+    if (aggregation != null) {
+      options.put(AccumuloTables.KEY_AGGREGATION, encodeKeys(aggregation));
+    }
+    return options;
+  }
+
+  /**
+   * Encode property keys as iterator option value
+   *
+   * @param keys property keys
+   * @return encoded keys
+   */
+  public static String encodeKeys(@Nonnull List<String> keys) {
+    try {
+      return Base64.getEncoder().encodeToString(KryoUtils.dumps(keys.toArray(new String[0])));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Decode property keys from iterator option value
+   *
+   * @param encoded encoded keys
+   * @return property keys
+   */
+  public static List<String> decodeKeys(@Nonnull String encoded) {
+    try {
+      String[] keys = KryoUtils.loads(Base64.getDecoder().decode(encoded), String[].class);
+      List<String> result = new ArrayList<>(keys.length);
+      Collections.addAll(result, keys);
+      return result;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   @Override
   public String toString() {
     List<String> ranges = getQueryRanges() == null ? null :
@@ -132,7 +263,8 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
           it.getStartKey().getRow(),
           it.getEndKey().getRow()))
         .collect(Collectors.toList());
-    return String.format("range=%1$s, filter=%2$s", ranges, getReduceFilter());
+    return String.format("range=%1$s, filter=%2$s, projection=%3$s, aggregation=%4$s",
+      ranges, getReduceFilter(), projection, aggregation);
   }
 
   /**
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.utils;
+
+import org.apache.accumulo.core.client.AccumuloException;
+import org.apache.accumulo.core.client.AccumuloSecurityException;
+import org.apache.accumulo.core.client.TableNotFoundException;
+import org.apache.accumulo.core.client.admin.TableOperations;
+import org.gradoop.storage.common.index.IndexedProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utilities to store the layout of the graph store tables as custom table properties, so that
+ * a store opened later on can check it against its configuration.
+ */
+public class AccumuloTableMetadata {
+
+  /**
+   * Table property of the properties whose index entries are complete.
+   */
+  private static final String INDEXED_PROPERTIES = "table.custom.gradoop.index.properties";
+
+  /**
+   * Separator of the indexed properties.
+   */
+  private static final String PROPERTY_SEPARATOR = ",";
+
+  /**
+   * Separator of label and key of an indexed property.
+   */
+  private static final String KEY_SEPARATOR = ".";
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private AccumuloTableMetadata() {
+  }
+
+  /**
+   * Reads the properties whose index entries are complete, i.e., contain every element of the
+   * data table, from the properties of an index table.
+   *
+   * @param operations table operations
+   * @param indexTable index table name
+   * @return indexed properties, empty if none has been recorded
+   * @throws AccumuloException if reading the table properties fails
+   * @throws TableNotFoundException if the index table does not exist
+   */
+  public static Set<IndexedProperty> getIndexedProperties(TableOperations operations,
+    String indexTable) throws AccumuloException, TableNotFoundException {
+    Set<IndexedProperty> properties = new HashSet<>();
+    String value = null;
+    for (Map.Entry<String, String> entry : operations.getProperties(indexTable)) {
+      if (INDEXED_PROPERTIES.equals(entry.getKey())) {
+        value = entry.getValue();
+      }
+    }
+    if (value == null || value.isEmpty()) {
+      return properties;
+    }
+    for (String property : value.split(PROPERTY_SEPARATOR)) {
+      int separator = property.indexOf(KEY_SEPARATOR);
+      properties.add(IndexedProperty.of(
+        decode(property.substring(0, separator)), decode(property.substring(separator + 1))));
+    }
+    return properties;
+  }
+
+  /**
+   * Records the properties whose index entries are complete in the properties of an index table.
+   *
+   * @param operations table operations
+   * @param indexTable index table name
+   * @param properties indexed properties
+   * @throws AccumuloException if updating the table properties fails
+   * @throws AccumuloSecurityException if the user may not alter the table
+   */
+  public static void setIndexedProperties(TableOperations operations, String indexTable,
+    Set<IndexedProperty> properties) throws AccumuloException, AccumuloSecurityException {
+    StringBuilder value = new StringBuilder();
+    for (IndexedProperty property : properties) {
+      if (value.length() > 0) {
+        value.append(PROPERTY_SEPARATOR);
+      }
+      value.append(encode(property.getLabel()))
+        .append(KEY_SEPARATOR)
+        .append(encode(property.getKey()));
+    }
+    operations.setProperty(indexTable, INDEXED_PROPERTIES, value.toString());
+  }
+
+  /**
+   * Encodes a label or property key. The Base64 alphabet does not contain the separators.
+   *
+   * @param string label or property key
+   * @return encoded string
+   */
+  private static String encode(String string) {
+    return Base64.getEncoder().encodeToString(string.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a label or property key.
+   *
+   * @param string encoded string
+   * @return label or property key
+   */
+  private static String decode(String string) {
+    return new String(Base64.getDecoder().decode(string), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.utils;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Kryo serializers for gradoop model types, registered by {@link KryoUtils}.
+ * They write the compact binary representation of each type instead of its object graph.
+ */
+public final class KryoSerializers {
+
+  /**
+   * No instances
+   */
+  private KryoSerializers() {
+  }
+
+  /**
+   * Writes the raw id bytes
+   */
+  public static class GradoopIdSerializer extends Serializer<GradoopId> {
+
+    /**
+     * Create a new serializer for immutable ids
+     */
+    public GradoopIdSerializer() {
+      super(false, true);
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output, GradoopId id) {
+      output.writeBytes(id.toByteArray());
+    }
+
+    @Override
+    public GradoopId read(Kryo kryo, Input input, Class<GradoopId> type) {
+      return GradoopId.fromByteArray(input.readBytes(GradoopId.ID_SIZE));
+    }
+  }
+
+  /**
+   * Writes the id count followed by the sorted raw id bytes
+   */
+  public static class GradoopIdSetSerializer extends Serializer<GradoopIdSet> {
+
+    @Override
+    public void write(Kryo kryo, Output output, GradoopIdSet ids) {
+      output.writeVarInt(ids.size(), true);
+      output.writeBytes(ids.toByteArray());
+    }
+
+    @Override
+    public GradoopIdSet read(Kryo kryo, Input input, Class<GradoopIdSet> type) {
+      int size = input.readVarInt(true);
+      return GradoopIdSet.fromByteArray(input.readBytes(size * GradoopId.ID_SIZE));
+    }
+  }
+
+  /**
+   * Writes the length prefixed raw value bytes
+   */
+  public static class PropertyValueSerializer extends Serializer<PropertyValue> {
+
+    @Override
+    public void write(Kryo kryo, Output output, PropertyValue value) {
+      writeValue(output, value);
+    }
+
+    @Override
+    public PropertyValue read(Kryo kryo, Input input, Class<PropertyValue> type) {
+      return readValue(input);
+    }
+  }
+
+  /**
+   * Writes the property count followed by each key and length prefixed raw value
+   */
+  public static class PropertiesSerializer extends Serializer<Properties> {
+
+    @Override
+    public void write(Kryo kryo, Output output, Properties properties) {
+      output.writeVarInt(properties.size(), true);
+      for (Property property : properties) {
+        output.writeString(property.getKey());
+        writeValue(output, property.getValue());
+      }
+    }
+
+    @Override
+    public Properties read(Kryo kryo, Input input, Class<Properties> type) {
+      int size = input.readVarInt(true);
+      Properties properties = Properties.createWithCapacity(size);
+      for (int i = 0; i < size; i++) {
+        String key = input.readString();
+        properties.set(key, readValue(input));
+      }
+      return properties;
+    }
+  }
+
+  /**
+   * Write length prefixed raw value bytes
+   *
+   * @param output kryo output
+   * @param value property value
+   */
+  private static void writeValue(Output output, PropertyValue value) {
+    byte[] raw = value.getRawBytes();
+    output.writeVarInt(raw.length, true);
+    output.writeBytes(raw);
+  }
+
+  /**
+   * Read length prefixed raw value bytes
+   *
+   * @param input kryo input
+   * @return property value
+   */
+  private static PropertyValue readValue(Input input) {
+    return PropertyValue.fromRawBytes(input.readBytes(input.readVarInt(true)));
+  }
+}
@@ -18,33 +18,90 @@ package org.gradoop.storage.utils;
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
 
 /**
  * kryo utils
+ *
+ * Each thread owns one kryo instance together with a reusable input and output buffer, so
+ * encoding and decoding rows does not allocate streams. Gradoop model types are registered
+ * with fixed ids and the compact serializers of {@link KryoSerializers}.
+ *
+ * Encoded rows start with {@link #FORMAT_VERSION}. Rows of any other format are rejected, so
+ * client and tablet servers have to run the same gradoop-accumulo version.
  */
 public final class KryoUtils {
 
+  /**
+   * version of the encoded format, written as first byte of each row
+   */
+  private static final byte FORMAT_VERSION = (byte) 0xFF;
+
+  /**
+   * initial size of a pooled output buffer
+   */
+  private static final int BUFFER_SIZE = 4096;
+
+  /**
+   * pooled output buffers growing beyond this size are released after use
+   */
+  private static final int MAX_POOLED_BUFFER_SIZE = 1 << 20;
+
+  /**
+   * first registration id of gradoop types, behind kryo's default registrations
+   */
+  private static final int REGISTRATION_OFFSET = 64;
+
   /**
    * kryo instance, should be thread safe
    */
   private static final ThreadLocal<Kryo> KRYO_POOLS;
 
+  /**
+   * reusable output buffer per thread
+   */
+  private static final ThreadLocal<Output> OUTPUT_POOLS =
+    ThreadLocal.withInitial(() -> new Output(BUFFER_SIZE, -1));
+
+  /**
+   * reusable input per thread
+   */
+  private static final ThreadLocal<Input> INPUT_POOLS = ThreadLocal.withInitial(Input::new);
+
   static {
     KRYO_POOLS = ThreadLocal.withInitial(() -> {
       Kryo kryo = new Kryo();
       kryo.setReferences(false);
       kryo.register(Collection.class);
       kryo.register(Map.class);
+      int id = REGISTRATION_OFFSET;
+      kryo.register(GradoopId.class, new KryoSerializers.GradoopIdSerializer(), id++);
+      kryo.register(GradoopIdSet.class, new KryoSerializers.GradoopIdSetSerializer(), id++);
+      kryo.register(PropertyValue.class, new KryoSerializers.PropertyValueSerializer(), id++);
+      kryo.register(Properties.class, new KryoSerializers.PropertiesSerializer(), id++);
+      kryo.register(Vertex.class, id++);
+      kryo.register(Edge.class, id++);
+      kryo.register(GraphHead.class, id);
       return kryo;
     });
   }
 
+  /**
+   * No instances
+   */
+  private KryoUtils() {
+  }
+
   /**
    * load object from byte array
    *
@@ -52,18 +109,24 @@ public final class KryoUtils {
    * @param type type template
    * @param <T> type template
    * @return object instance
-   * @throws IOException io error
+   * @throws IOException if the row was encoded in another format
    */
   public static <T> T loads(
     byte[] encoded,
     Class<T> type
   ) throws IOException {
-    try (
-      ByteArrayInputStream content = new ByteArrayInputStream(encoded);
-      Input input = new Input(content)
-    ) {
-      //noinspection unchecked
+    if (encoded.length == 0 || encoded[0] != FORMAT_VERSION) {
+      throw new IOException(String.format(
+        "row is not in codec format %d, client and tablet servers must run the same " +
+        "gradoop-accumulo version", FORMAT_VERSION & 0xFF));
+    }
+    Input input = INPUT_POOLS.get();
+    input.setBuffer(encoded, 1, encoded.length - 1);
+    try {
       return KRYO_POOLS.get().readObject(input, type);
+    } finally {
+      // do not keep the row alive
+      input.setBuffer(new byte[0]);
     }
   }
 
@@ -75,13 +138,16 @@ public final class KryoUtils {
    * @throws IOException io error
    */
   public static byte[] dumps(Object data) throws IOException {
-    try (
-      ByteArrayOutputStream content = new ByteArrayOutputStream();
-      Output output = new Output(content)
-    ) {
+    Output output = OUTPUT_POOLS.get();
+    output.clear();
+    try {
+      output.writeByte(FORMAT_VERSION);
       KRYO_POOLS.get().writeObject(output, data);
-      output.flush();
-      return content.toByteArray();
+      return output.toBytes();
+    } finally {
+      if (output.getBuffer().length > MAX_POOLED_BUFFER_SIZE) {
+        OUTPUT_POOLS.set(new Output(BUFFER_SIZE, -1));
+      }
     }
   }
 }
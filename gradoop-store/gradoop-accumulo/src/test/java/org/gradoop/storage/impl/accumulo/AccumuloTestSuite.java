@@ -25,8 +25,10 @@ import org.gradoop.storage.impl.accumulo.io.source.IOGraphPredicateTest;
 import org.gradoop.storage.impl.accumulo.io.source.IOVertexPredicateTest;
 import org.gradoop.storage.impl.accumulo.predicate.StoreBasicPredicateTest;
 import org.gradoop.storage.impl.accumulo.predicate.StoreIdsPredicateTest;
+import org.gradoop.storage.impl.accumulo.predicate.StoreIndexTest;
 import org.gradoop.storage.impl.accumulo.predicate.StoreLabelPredicateTest;
 import org.gradoop.storage.impl.accumulo.predicate.StorePropPredicateTest;
+import org.gradoop.storage.impl.accumulo.predicate.StorePushdownTest;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
@@ -58,6 +60,8 @@ import static org.gradoop.storage.config.GradoopAccumuloConfig.ZOOKEEPER_HOSTS;
   StoreIdsPredicateTest.class,
   StoreLabelPredicateTest.class,
   StorePropPredicateTest.class,
+  StorePushdownTest.class,
+  StoreIndexTest.class,
   //sink and source
   IOBasicTest.class,
   IOEdgePredicateTest.class,
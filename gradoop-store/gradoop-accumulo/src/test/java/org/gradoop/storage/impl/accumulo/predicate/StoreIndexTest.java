@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.accumulo.predicate;
+
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.gradoop.storage.common.index.IndexedProperty;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.config.GradoopAccumuloConfig;
+import org.gradoop.storage.impl.accumulo.AccumuloEPGMStore;
+import org.gradoop.storage.impl.accumulo.AccumuloStoreTestBase;
+import org.gradoop.storage.impl.accumulo.AccumuloTestSuite;
+import org.gradoop.storage.impl.accumulo.aggregation.LabelAggregate;
+import org.gradoop.storage.impl.accumulo.io.AccumuloDataSink;
+import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.utils.AccumuloFilters;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * accumulo graph store secondary property index test
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StoreIndexTest extends AccumuloStoreTestBase {
+
+  private static final String TEST01 = "index_01";
+  private static final String TEST02 = "index_02";
+  private static final String TEST03 = "index_03";
+  private static final String TEST04 = "index_04";
+  private static final String TEST05 = "index_05";
+
+  /**
+   * find vertices by an indexed property value
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void vertexIndexEquality() throws Throwable {
+    doTest(createIndexedConfig(TEST01), (loader, store, config) -> {
+      ElementQuery<AccumuloElementFilter<Vertex>> query = Query.elements()
+        .fromAll()
+        .where(AccumuloFilters.<Vertex>labelIn("Person")
+          .and(AccumuloFilters.propEquals("city", "Leipzig")));
+      assertNotNull(query.planIndexLookup(store.getConfig().getVertexIndex()));
+
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> Objects.equals(it.getPropertyValue("city"), PropertyValue.create("Leipzig")))
+        .collect(Collectors.toList());
+
+      validateEPGMElementCollections(inputVertices,
+        store.getVertexSpace(query).readRemainsAndClose());
+    });
+  }
+
+  /**
+   * find vertices and edges by an indexed property range
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void elementIndexRange() throws Throwable {
+    doTest(createIndexedConfig(TEST02), (loader, store, config) -> {
+      ElementQuery<AccumuloElementFilter<Vertex>> unplanned = Query.elements()
+        .fromAll()
+        .where(AccumuloFilters.<Vertex>labelIn("Person")
+          .or(AccumuloFilters.propLargerThan("age", 30, false)));
+      assertNull(unplanned.planIndexLookup(store.getConfig().getVertexIndex()));
+
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> it.getPropertyValue("age").getInt() > 30)
+        .collect(Collectors.toList());
+      validateEPGMElementCollections(inputVertices, store.getVertexSpace(Query.elements()
+        .fromAll()
+        .where(AccumuloFilters.<Vertex>propLargerThan("age", 30, false)
+          .and(AccumuloFilters.labelIn("Person"))))
+        .readRemainsAndClose());
+
+      List<Edge> inputEdges = loader.getEdges().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "knows"))
+        .filter(it -> it.getPropertyValue("since").getInt() >= 2014)
+        .collect(Collectors.toList());
+      validateEPGMElementCollections(inputEdges, store.getEdgeSpace(Query.elements()
+        .fromAll()
+        .where(AccumuloFilters.<Edge>labelIn("knows")
+          .and(AccumuloFilters.propLargerThan("since", 2014, true))))
+        .readRemainsAndClose());
+    });
+  }
+
+  /**
+   * combine index lookups with id ranges and aggregation
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void edgeIndexWithIdsAndAggregation() throws Throwable {
+    doTest(createIndexedConfig(TEST03), (loader, store, config) -> {
+      List<Edge> knows = loader.getEdges().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "knows"))
+        .filter(it -> Objects.equals(it.getPropertyValue("since"), PropertyValue.create(2013)))
+        .collect(Collectors.toList());
+      Edge first = knows.get(0);
+
+      validateEPGMElementCollections(Collections.singletonList(first), store.getEdgeSpace(
+        Query.elements()
+          .fromSets(GradoopIdSet.fromExisting(first.getId()))
+          .where(AccumuloFilters.<Edge>labelIn("knows")
+            .and(AccumuloFilters.propEquals("since", 2013))))
+        .readRemainsAndClose());
+
+      Map<String, LabelAggregate> aggregates = store.aggregateEdgeSpace(
+        Query.elements()
+          .fromAll()
+          .where(AccumuloFilters.<Edge>labelIn("knows")
+            .and(AccumuloFilters.propEquals("since", 2013))),
+        Collections.singletonList("since"));
+      assertEquals(knows.size(), aggregates.get("knows").getCount());
+
+      assertEquals(0, store.getEdgeSpace(Query.elements()
+        .fromAll()
+        .where(AccumuloFilters.<Edge>labelIn("knows")
+          .and(AccumuloFilters.propEquals("since", 1970))))
+        .readRemainsAndClose().size());
+    });
+  }
+
+  /**
+   * find elements by indexed properties after writing them through the data sink
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void sinkWritesIndex() throws Throwable {
+    AccumuloEPGMStore store = new AccumuloEPGMStore(createIndexedConfig(TEST04));
+
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(
+      GradoopFlinkConfig.createConfig(getExecutionEnvironment()));
+    InputStream inputStream = getClass().getResourceAsStream(
+      GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE);
+    loader.initDatabaseFromStream(inputStream);
+
+    GradoopFlinkConfig flinkConfig = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    new AccumuloDataSink(store, flinkConfig)
+      .write(flinkConfig.getGraphCollectionFactory()
+        .fromCollections(
+          loader.getGraphHeads(),
+          loader.getVertices(),
+          loader.getEdges()));
+    getExecutionEnvironment().execute();
+
+    List<Vertex> inputVertices = loader.getVertices().stream()
+      .filter(it -> Objects.equals(it.getLabel(), "Person"))
+      .filter(it -> Objects.equals(it.getPropertyValue("city"), PropertyValue.create("Leipzig")))
+      .collect(Collectors.toList());
+    validateEPGMElementCollections(inputVertices, store.getVertexSpace(Query.elements()
+      .fromAll()
+      .where(AccumuloFilters.<Vertex>labelIn("Person")
+        .and(AccumuloFilters.propEquals("city", "Leipzig"))))
+      .readRemainsAndClose());
+
+    List<Edge> inputEdges = loader.getEdges().stream()
+      .filter(it -> Objects.equals(it.getLabel(), "knows"))
+      .filter(it -> Objects.equals(it.getPropertyValue("since"), PropertyValue.create(2013)))
+      .collect(Collectors.toList());
+    validateEPGMElementCollections(inputEdges, store.getEdgeSpace(Query.elements()
+      .fromAll()
+      .where(AccumuloFilters.<Edge>labelIn("knows")
+        .and(AccumuloFilters.propEquals("since", 2013))))
+      .readRemainsAndClose());
+
+    store.close();
+  }
+
+  /**
+   * an index configured after elements have been written is not used for lookups
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void incompleteIndexFallsBackToScan() throws Throwable {
+    doTest(TEST05, (loader, unindexed, config) -> {
+      AccumuloEPGMStore store = new AccumuloEPGMStore(createIndexedConfig(TEST05));
+
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> Objects.equals(it.getPropertyValue("city"), PropertyValue.create("Leipzig")))
+        .collect(Collectors.toList());
+      validateEPGMElementCollections(inputVertices, store.getVertexSpace(Query.elements()
+        .fromAll()
+        .where(AccumuloFilters.<Vertex>labelIn("Person")
+          .and(AccumuloFilters.propEquals("city", "Leipzig"))))
+        .readRemainsAndClose());
+
+      // elements written from now on are indexed, but the index stays incomplete
+      store.writeVertex(loader.getVertices().iterator().next());
+      store.flush();
+      store.close();
+      store = new AccumuloEPGMStore(createIndexedConfig(TEST05));
+      assertEquals(loader.getEdges().stream()
+          .filter(it -> Objects.equals(it.getLabel(), "knows"))
+          .filter(it -> Objects.equals(it.getPropertyValue("since"), PropertyValue.create(2013)))
+          .count(),
+        store.getEdgeSpace(Query.elements()
+          .fromAll()
+          .where(AccumuloFilters.<Edge>labelIn("knows")
+            .and(AccumuloFilters.propEquals("since", 2013))))
+          .readRemainsAndClose().size());
+      store.close();
+    });
+  }
+
+  /**
+   * Create a store configuration with indexed vertex and edge properties
+   *
+   * @param namespace store namespace
+   * @return store configuration
+   */
+  private GradoopAccumuloConfig createIndexedConfig(String namespace) {
+    return AccumuloTestSuite.getAcConfig(namespace)
+      .set(GradoopAccumuloConfig.GRADOOP_VERTEX_INDEX, Arrays.asList(
+        IndexedProperty.of("Person", "city"),
+        IndexedProperty.of("Person", "age")))
+      .set(GradoopAccumuloConfig.GRADOOP_EDGE_INDEX, Collections.singletonList(
+        IndexedProperty.of("knows", "since")));
+  }
+
+}
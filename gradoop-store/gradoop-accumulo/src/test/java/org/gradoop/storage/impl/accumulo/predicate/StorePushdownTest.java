@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.accumulo.predicate;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.impl.accumulo.AccumuloStoreTestBase;
+import org.gradoop.storage.impl.accumulo.aggregation.LabelAggregate;
+import org.gradoop.storage.impl.accumulo.io.AccumuloDataSource;
+import org.gradoop.storage.utils.AccumuloFilters;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * accumulo graph store projection and aggregation pushdown test
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StorePushdownTest extends AccumuloStoreTestBase {
+
+  private static final String TEST01 = "pushdown_01";
+  private static final String TEST02 = "pushdown_02";
+  private static final String TEST03 = "pushdown_03";
+  private static final String TEST04 = "pushdown_04";
+
+  /**
+   * read all vertices with name property only
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void vertexProjection() throws Throwable {
+    doTest(TEST01, (loader, store, config) -> {
+      Map<Object, Vertex> inputVertices = loader.getVertices().stream()
+        .collect(Collectors.toMap(Vertex::getId, Function.identity()));
+
+      List<Vertex> query = store
+        .getVertexSpace(null, Collections.singletonList("name"), 10)
+        .readRemainsAndClose();
+
+      assertEquals(inputVertices.size(), query.size());
+      for (Vertex vertex : query) {
+        Vertex origin = inputVertices.get(vertex.getId());
+        assertEquals(origin.getLabel(), vertex.getLabel());
+        assertEquals(origin.getGraphIds(), vertex.getGraphIds());
+        assertNotNull(vertex.getProperties());
+        assertTrue(vertex.getProperties().size() <= 1);
+        assertEquals(origin.getPropertyValue("name"), vertex.getPropertyValue("name"));
+      }
+    });
+  }
+
+  /**
+   * aggregate all vertices by label
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void vertexAggregation() throws Throwable {
+    doTest(TEST02, (loader, store, config) -> {
+      Map<String, LabelAggregate> aggregates =
+        store.aggregateVertexSpace(null, Arrays.asList("age", "name"));
+
+      Map<String, Long> counts = loader.getVertices().stream()
+        .collect(Collectors.groupingBy(Vertex::getLabel, Collectors.counting()));
+      assertEquals(counts.keySet(), aggregates.keySet());
+      counts.forEach((label, count) ->
+        assertEquals((long) count, aggregates.get(label).getCount()));
+
+      List<Integer> ages = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .map(it -> it.getPropertyValue("age"))
+        .filter(Objects::nonNull)
+        .map(PropertyValue::getInt)
+        .collect(Collectors.toList());
+      LabelAggregate person = aggregates.get("Person");
+      assertEquals(Collections.min(ages), (Integer) person.getMin("age").getInt());
+      assertEquals(Collections.max(ages), (Integer) person.getMax("age").getInt());
+      assertEquals(ages.stream().mapToInt(Integer::intValue).sum(), person.getSum("age").getInt());
+
+      List<String> names = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .map(it -> it.getPropertyValue("name").getString())
+        .collect(Collectors.toList());
+      assertEquals(Collections.min(names), person.getMin("name").getString());
+      assertEquals(Collections.max(names), person.getMax("name").getString());
+      assertNull(person.getSum("name"));
+    });
+  }
+
+  /**
+   * aggregate filtered edges by label
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void edgeAggregationWithFilter() throws Throwable {
+    doTest(TEST03, (loader, store, config) -> {
+      Map<String, LabelAggregate> aggregates = store.aggregateEdgeSpace(
+        Query.elements()
+          .fromAll()
+          .where(AccumuloFilters.<Edge>labelIn("knows")
+            .and(AccumuloFilters.propEquals("since", 2014))),
+        Collections.singletonList("since"));
+
+      long count = loader.getEdges().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "knows"))
+        .filter(it -> Objects.equals(it.getPropertyValue("since"), PropertyValue.create(2014)))
+        .count();
+
+      assertEquals(Collections.singleton("knows"), aggregates.keySet());
+      LabelAggregate knows = aggregates.get("knows");
+      assertEquals(count, knows.getCount());
+      assertEquals(2014, knows.getMin("since").getInt());
+      assertEquals(2014, knows.getMax("since").getInt());
+      assertEquals(2014 * count, knows.getSum("since").getInt());
+    });
+  }
+
+  /**
+   * read filtered vertices with name property only from data source
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void sourceVertexProjection() throws Throwable {
+    doTest(TEST04, (loader, store, config) -> {
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .map(it -> {
+          Vertex projected = new Vertex(it.getId(), it.getLabel(), null, it.getGraphIds());
+          projected.setProperty("name", it.getPropertyValue("name"));
+          return projected;
+        })
+        .collect(Collectors.toList());
+
+      List<Vertex> queryResult = new AccumuloDataSource(store, config)
+        .applyVertexProjection(Collections.singletonList("name"))
+        .applyVertexPredicate(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.labelIn("Person")))
+        .getLogicalGraph()
+        .getVertices()
+        .collect();
+
+      validateEPGMElementCollections(inputVertices, queryResult);
+    });
+  }
+
+}
@@ -15,12 +15,14 @@
  */
 package org.gradoop.storage.config;
 
+import org.apache.commons.lang.SerializationUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.hbase.TableName;
 import org.gradoop.common.model.impl.pojo.EdgeFactory;
 import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
 import org.gradoop.common.model.impl.pojo.VertexFactory;
 import org.gradoop.storage.common.config.GradoopStoreConfig;
+import org.gradoop.storage.common.index.IndexedProperty;
 import org.gradoop.storage.impl.hbase.api.EdgeHandler;
 import org.gradoop.storage.impl.hbase.api.GraphHeadHandler;
 import org.gradoop.storage.impl.hbase.api.VertexHandler;
@@ -28,6 +30,12 @@ import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
 import org.gradoop.storage.impl.hbase.handler.HBaseEdgeHandler;
 import org.gradoop.storage.impl.hbase.handler.HBaseGraphHeadHandler;
 import org.gradoop.storage.impl.hbase.handler.HBaseVertexHandler;
+import org.gradoop.storage.utils.HBaseRowKeys;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -72,6 +80,26 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
    */
   private final EdgeHandler edgeHandler;
 
+  /**
+   * True, if the incident edges are additionally stored at the vertex rows.
+   */
+  private final boolean adjacencyIndex;
+
+  /**
+   * Size of the client side write buffer per table in bytes, 0 if writes are not buffered.
+   */
+  private final long writeBufferSize;
+
+  /**
+   * Vertex properties stored in the secondary vertex index.
+   */
+  private final HashSet<IndexedProperty> vertexIndex;
+
+  /**
+   * Edge properties stored in the secondary edge index.
+   */
+  private final HashSet<IndexedProperty> edgeIndex;
+
   /**
    * Creates a new Configuration.
    *
@@ -81,6 +109,10 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
    * @param graphTableName              graph table name
    * @param vertexTableName             vertex table name
    * @param edgeTableName               edge table name
+   * @param adjacencyIndex              true, if the adjacency index shall be maintained
+   * @param writeBufferSize             write buffer size in bytes, 0 to disable buffering
+   * @param vertexIndex                 indexed vertex properties
+   * @param edgeIndex                   indexed edge properties
    */
   private GradoopHBaseConfig(
     GraphHeadHandler graphHeadHandler,
@@ -88,7 +120,11 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     EdgeHandler edgeHandler,
     String graphTableName,
     String vertexTableName,
-    String edgeTableName
+    String edgeTableName,
+    boolean adjacencyIndex,
+    long writeBufferSize,
+    Collection<IndexedProperty> vertexIndex,
+    Collection<IndexedProperty> edgeIndex
   ) {
     checkArgument(!StringUtils.isEmpty(graphTableName),
       "Graph table name was null or empty");
@@ -96,6 +132,7 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
       "EPGMVertex table name was null or empty");
     checkArgument(!StringUtils.isEmpty(edgeTableName),
       "EPGMEdge table name was null or empty");
+    checkArgument(writeBufferSize >= 0, "Write buffer size was negative");
 
     this.graphTableName = graphTableName;
     this.vertexTableName = vertexTableName;
@@ -104,6 +141,10 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     this.graphHeadHandler = checkNotNull(graphHeadHandler, "GraphHeadHandler was null");
     this.vertexHandler = checkNotNull(vertexHandler, "VertexHandler was null");
     this.edgeHandler = checkNotNull(edgeHandler, "EdgeHandler was null");
+    this.adjacencyIndex = adjacencyIndex;
+    this.writeBufferSize = writeBufferSize;
+    this.vertexIndex = new HashSet<>(checkNotNull(vertexIndex, "Vertex index was null"));
+    this.edgeIndex = new HashSet<>(checkNotNull(edgeIndex, "Edge index was null"));
   }
 
   /**
@@ -125,7 +166,11 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
       config.getEdgeHandler(),
       graphTableName,
       vertexTableName,
-      edgeTableName);
+      edgeTableName,
+      config.adjacencyIndex,
+      config.writeBufferSize,
+      config.vertexIndex,
+      config.edgeIndex);
   }
 
   /**
@@ -145,7 +190,11 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
       edgeHandler,
       HBaseConstants.DEFAULT_TABLE_GRAPHS,
       HBaseConstants.DEFAULT_TABLE_VERTICES,
-      HBaseConstants.DEFAULT_TABLE_EDGES
+      HBaseConstants.DEFAULT_TABLE_EDGES,
+      false,
+      0L,
+      Collections.emptySet(),
+      Collections.emptySet()
     );
   }
 
@@ -168,6 +217,144 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     return new GradoopHBaseConfig(gradoopConfig, graphTableName, vertexTableName, edgeTableName);
   }
 
+  /**
+   * Creates a Gradoop HBase configuration that equals the given one, but maintains an adjacency
+   * index at the vertex rows if {@code adjacencyIndex} is true. The index stores the incoming
+   * and outgoing edges of each vertex and enables neighborhood lookups without edge table scans
+   * at the cost of additional writes for each edge. Neighborhood lookups are only possible if
+   * the index has been maintained since the edge table was empty; stores enabling it on an
+   * existing edge table, or stores opened without the index in between, reject them.
+   *
+   * @param gradoopConfig  Gradoop configuration
+   * @param adjacencyIndex true, if the adjacency index shall be maintained
+   *
+   * @return Gradoop HBase configuration
+   */
+  public static GradoopHBaseConfig createConfig(
+    GradoopHBaseConfig gradoopConfig,
+    boolean adjacencyIndex
+  ) {
+    return new GradoopHBaseConfig(
+      gradoopConfig.getGraphHeadHandler(),
+      gradoopConfig.getVertexHandler(),
+      gradoopConfig.getEdgeHandler(),
+      gradoopConfig.graphTableName,
+      gradoopConfig.vertexTableName,
+      gradoopConfig.edgeTableName,
+      adjacencyIndex,
+      gradoopConfig.writeBufferSize,
+      gradoopConfig.vertexIndex,
+      gradoopConfig.edgeIndex);
+  }
+
+  /**
+   * Creates a Gradoop HBase configuration that equals the given one, but writes elements of the
+   * graph store through a {@link org.apache.hadoop.hbase.client.BufferedMutator} per table.
+   * Mutations are collected in a client side buffer of the given size and sent in batches that
+   * are grouped by region server. If the buffer is full, writing blocks until enough mutations
+   * have been acknowledged. Buffered mutations are visible after
+   * {@link org.gradoop.storage.impl.hbase.HBaseEPGMStore#flush()} or when the store is closed.
+   *
+   * @param gradoopConfig   Gradoop configuration
+   * @param writeBufferSize write buffer size per table in bytes, 0 to disable buffering
+   *
+   * @return Gradoop HBase configuration
+   */
+  public static GradoopHBaseConfig createBufferedConfig(
+    GradoopHBaseConfig gradoopConfig,
+    long writeBufferSize
+  ) {
+    return new GradoopHBaseConfig(
+      gradoopConfig.getGraphHeadHandler(),
+      gradoopConfig.getVertexHandler(),
+      gradoopConfig.getEdgeHandler(),
+      gradoopConfig.graphTableName,
+      gradoopConfig.vertexTableName,
+      gradoopConfig.edgeTableName,
+      gradoopConfig.adjacencyIndex,
+      writeBufferSize,
+      gradoopConfig.vertexIndex,
+      gradoopConfig.edgeIndex);
+  }
+
+  /**
+   * Creates a Gradoop HBase configuration that equals the given one, but maintains secondary
+   * indices of the given vertex and edge properties. Each index is stored in a separate table
+   * whose rows are ordered by label, property key and value of the indexed elements.
+   * Element queries whose filter restricts the label and compares an indexed property with a
+   * boolean, numerical or string value are answered by an index range scan followed by a
+   * batch of row lookups instead of a full table scan.
+   *
+   * Index entries are written together with the elements, by the store as well as by the data
+   * sink. Entries of overwritten property values are not removed, since the query filter is
+   * applied to all elements found by a lookup. An index is only used for lookups if it has been
+   * maintained since the element table was empty. Indices added to a store that already
+   * contains elements, or stores opened without the index in between, fall back to table scans.
+   *
+   * @param gradoopConfig Gradoop configuration
+   * @param vertexIndex   indexed vertex properties
+   * @param edgeIndex     indexed edge properties
+   *
+   * @return Gradoop HBase configuration
+   */
+  public static GradoopHBaseConfig createIndexedConfig(
+    GradoopHBaseConfig gradoopConfig,
+    Collection<IndexedProperty> vertexIndex,
+    Collection<IndexedProperty> edgeIndex
+  ) {
+    return new GradoopHBaseConfig(
+      gradoopConfig.getGraphHeadHandler(),
+      gradoopConfig.getVertexHandler(),
+      gradoopConfig.getEdgeHandler(),
+      gradoopConfig.graphTableName,
+      gradoopConfig.vertexTableName,
+      gradoopConfig.edgeTableName,
+      gradoopConfig.adjacencyIndex,
+      gradoopConfig.writeBufferSize,
+      vertexIndex,
+      edgeIndex);
+  }
+
+  /**
+   * Creates a Gradoop HBase configuration that equals the given one, but uses salted row keys
+   * for vertices and edges. Each row key is prefixed by a salt byte derived from a hash of the
+   * element identifier and the tables are pre-split into one region per salt bucket when they
+   * are created. This distributes writes of consecutively generated identifiers over all
+   * regions instead of a single one.
+   *
+   * The setting is applied to copies of the vertex and edge handlers, the given configuration
+   * is not modified. The number of salt buckets is recorded when the tables are created and
+   * opening a store with a configuration that does not match existing tables fails.
+   *
+   * @param gradoopConfig Gradoop configuration
+   * @param saltBuckets   number of salt buckets, between 1 (unsalted) and 256
+   *
+   * @return Gradoop HBase configuration
+   */
+  public static GradoopHBaseConfig createSaltedConfig(
+    GradoopHBaseConfig gradoopConfig,
+    int saltBuckets
+  ) {
+    HBaseRowKeys.checkSaltBuckets(saltBuckets);
+    VertexHandler vertexHandler =
+      (VertexHandler) SerializationUtils.clone(gradoopConfig.getVertexHandler());
+    vertexHandler.setSaltBuckets(saltBuckets);
+    EdgeHandler edgeHandler =
+      (EdgeHandler) SerializationUtils.clone(gradoopConfig.getEdgeHandler());
+    edgeHandler.setSaltBuckets(saltBuckets);
+    return new GradoopHBaseConfig(
+      gradoopConfig.getGraphHeadHandler(),
+      vertexHandler,
+      edgeHandler,
+      gradoopConfig.graphTableName,
+      gradoopConfig.vertexTableName,
+      gradoopConfig.edgeTableName,
+      gradoopConfig.adjacencyIndex,
+      gradoopConfig.writeBufferSize,
+      gradoopConfig.vertexIndex,
+      gradoopConfig.edgeIndex);
+  }
+
   /**
    * Get vertex table name
    *
@@ -186,6 +373,24 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     return TableName.valueOf(edgeTableName);
   }
 
+  /**
+   * Get vertex index table name
+   *
+   * @return vertex index table name
+   */
+  public TableName getVertexIndexTableName() {
+    return TableName.valueOf(vertexTableName + HBaseConstants.INDEX_TABLE_SUFFIX);
+  }
+
+  /**
+   * Get edge index table name
+   *
+   * @return edge index table name
+   */
+  public TableName getEdgeIndexTableName() {
+    return TableName.valueOf(edgeTableName + HBaseConstants.INDEX_TABLE_SUFFIX);
+  }
+
   /**
    * Get graph table name
    *
@@ -221,4 +426,58 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
   public EdgeHandler getEdgeHandler() {
     return edgeHandler;
   }
+
+  /**
+   * Returns true, if the incident edges are additionally stored at the vertex rows.
+   *
+   * @return true, if the adjacency index is maintained
+   */
+  public boolean isAdjacencyIndexEnabled() {
+    return adjacencyIndex;
+  }
+
+  /**
+   * Returns the size of the client side write buffer per table.
+   *
+   * @return write buffer size in bytes, 0 if writes are not buffered
+   */
+  public long getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  /**
+   * Returns true, if writes of the graph store are buffered.
+   *
+   * @return true, if writes are buffered
+   */
+  public boolean isWriteBufferEnabled() {
+    return writeBufferSize > 0;
+  }
+
+  /**
+   * Returns the vertex properties stored in the secondary vertex index.
+   *
+   * @return indexed vertex properties
+   */
+  public Set<IndexedProperty> getVertexIndex() {
+    return Collections.unmodifiableSet(vertexIndex);
+  }
+
+  /**
+   * Returns the edge properties stored in the secondary edge index.
+   *
+   * @return indexed edge properties
+   */
+  public Set<IndexedProperty> getEdgeIndex() {
+    return Collections.unmodifiableSet(edgeIndex);
+  }
+
+  /**
+   * Returns the number of salt buckets of the vertex and edge row keys.
+   *
+   * @return number of salt buckets, 1 for unsalted row keys
+   */
+  public int getSaltBuckets() {
+    return vertexHandler.getSaltBuckets();
+  }
 }
@@ -17,26 +17,40 @@ package org.gradoop.storage.impl.hbase;
 
 import com.google.common.base.Preconditions;
 import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
+import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.KeyOnlyFilter;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
 import org.gradoop.storage.common.api.EPGMConfigProvider;
 import org.gradoop.storage.common.api.EPGMGraphInput;
 import org.gradoop.storage.common.api.EPGMGraphPredictableOutput;
+import org.gradoop.storage.common.index.IndexKeys;
+import org.gradoop.storage.common.index.IndexLookup;
+import org.gradoop.storage.common.index.IndexedProperty;
 import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.common.iterator.CollectionClosableIterator;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.config.GradoopHBaseConfig;
+import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
 import org.gradoop.storage.impl.hbase.api.EdgeHandler;
 import org.gradoop.storage.impl.hbase.api.GraphHeadHandler;
 import org.gradoop.storage.impl.hbase.api.VertexHandler;
@@ -45,10 +59,21 @@ import org.gradoop.storage.impl.hbase.predicate.filter.api.HBaseElementFilter;
 import org.gradoop.storage.impl.hbase.iterator.HBaseEdgeIterator;
 import org.gradoop.storage.impl.hbase.iterator.HBaseGraphIterator;
 import org.gradoop.storage.impl.hbase.iterator.HBaseVertexIterator;
+import org.gradoop.storage.impl.hbase.metrics.TableWriteMetrics;
+import org.gradoop.storage.utils.HBaseTableMetadata;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Default HBase graph store that handles reading and writing vertices and
@@ -64,6 +89,26 @@ public class HBaseEPGMStore implements
     HBaseElementFilter<Vertex>,
     HBaseElementFilter<Edge>> {
 
+  /**
+   * Byte array representation of the outgoing edges column family.
+   */
+  private static final byte[] CF_OUT_EDGES_BYTES = Bytes.toBytes(HBaseConstants.CF_OUT_EDGES);
+  /**
+   * Byte array representation of the incoming edges column family.
+   */
+  private static final byte[] CF_IN_EDGES_BYTES = Bytes.toBytes(HBaseConstants.CF_IN_EDGES);
+  /**
+   * Byte array representation of the secondary index column family.
+   */
+  private static final byte[] CF_INDEX_BYTES = Bytes.toBytes(HBaseConstants.CF_INDEX);
+  /**
+   * Column families that contain the vertex data, i.e. all but the adjacency index.
+   */
+  private static final byte[][] VERTEX_DATA_FAMILIES = {
+    Bytes.toBytes(HBaseConstants.CF_META),
+    Bytes.toBytes(HBaseConstants.CF_PROPERTY_TYPE),
+    Bytes.toBytes(HBaseConstants.CF_PROPERTY_VALUE)
+  };
   /**
    * Gradoop configuration.
    */
@@ -80,10 +125,63 @@ public class HBaseEPGMStore implements
    * HBase table for storing edge data.
    */
   private final Table edgeTable;
+  /**
+   * HBase table for storing the vertex property index, {@code null} if no index is configured.
+   */
+  private final Table vertexIndexTable;
+  /**
+   * HBase table for storing the edge property index, {@code null} if no index is configured.
+   */
+  private final Table edgeIndexTable;
+  /**
+   * Indexed vertex properties whose index entries are complete and can be used for lookups.
+   */
+  private final Set<IndexedProperty> vertexLookupIndex;
+  /**
+   * Indexed edge properties whose index entries are complete and can be used for lookups.
+   */
+  private final Set<IndexedProperty> edgeLookupIndex;
+  /**
+   * True, if the adjacency index is enabled and recorded as complete in the descriptor of the
+   * vertex table.
+   */
+  private final boolean adjacencyIndexComplete;
   /**
    * HBase admin instance
    */
   private final Admin admin;
+  /**
+   * Buffered writer for the graph head table, {@code null} if writes are not buffered.
+   */
+  private final BufferedMutator graphHeadMutator;
+  /**
+   * Buffered writer for the vertex table, {@code null} if writes are not buffered.
+   */
+  private final BufferedMutator vertexMutator;
+  /**
+   * Buffered writer for the edge table, {@code null} if writes are not buffered.
+   */
+  private final BufferedMutator edgeMutator;
+  /**
+   * Buffered writer for the vertex index table, {@code null} if writes are not buffered.
+   */
+  private final BufferedMutator vertexIndexMutator;
+  /**
+   * Buffered writer for the edge index table, {@code null} if writes are not buffered.
+   */
+  private final BufferedMutator edgeIndexMutator;
+  /**
+   * Write metrics of the graph head table.
+   */
+  private final TableWriteMetrics graphHeadMetrics;
+  /**
+   * Write metrics of the vertex table.
+   */
+  private final TableWriteMetrics vertexMetrics;
+  /**
+   * Write metrics of the edge table.
+   */
+  private final TableWriteMetrics edgeMetrics;
   /**
    * Auto flush flag, default false
    */
@@ -91,7 +189,8 @@ public class HBaseEPGMStore implements
 
   /**
    * Creates a HBaseEPGMStore based on the given parameters. All parameters
-   * are mandatory and must not be {@code null}.
+   * are mandatory and must not be {@code null}. Writes are not buffered, even if
+   * a write buffer is configured.
    *
    * @param graphHeadTable HBase table to store graph data
    * @param vertexTable HBase table to store vertex data
@@ -105,12 +204,76 @@ public class HBaseEPGMStore implements
     final Table edgeTable,
     final GradoopHBaseConfig config,
     final Admin admin
+  ) {
+    this(graphHeadTable, vertexTable, edgeTable, config, admin, null);
+  }
+
+  /**
+   * Creates a HBaseEPGMStore based on the given parameters. If a write buffer is
+   * configured, the connection is used to create a {@link BufferedMutator} per table.
+   * The tables of configured property indices are opened using the connection of the admin.
+   * Index lookups are restricted to the properties recorded as complete in the descriptors of
+   * the index tables, see {@link HBaseTableMetadata}. Likewise, neighborhood lookups require the
+   * adjacency index to be recorded as complete in the descriptor of the vertex table.
+   *
+   * @param graphHeadTable HBase table to store graph data
+   * @param vertexTable HBase table to store vertex data
+   * @param edgeTable HBase table to store edge data
+   * @param config Gradoop Configuration
+   * @param admin HBase admin instance
+   * @param connection HBase connection used for buffered writes, may be {@code null}
+   *                   if writes are not buffered
+   */
+  public HBaseEPGMStore(
+    final Table graphHeadTable,
+    final Table vertexTable,
+    final Table edgeTable,
+    final GradoopHBaseConfig config,
+    final Admin admin,
+    @Nullable final Connection connection
   ) {
     this.graphHeadTable = Preconditions.checkNotNull(graphHeadTable);
     this.vertexTable = Preconditions.checkNotNull(vertexTable);
     this.edgeTable = Preconditions.checkNotNull(edgeTable);
     this.config = Preconditions.checkNotNull(config);
     this.admin = Preconditions.checkNotNull(admin);
+
+    this.graphHeadMetrics = new TableWriteMetrics(getGraphHeadName());
+    this.vertexMetrics = new TableWriteMetrics(getVertexTableName());
+    this.edgeMetrics = new TableWriteMetrics(getEdgeTableName());
+
+    try {
+      this.vertexIndexTable = config.getVertexIndex().isEmpty() ? null :
+        admin.getConnection().getTable(config.getVertexIndexTableName());
+      this.edgeIndexTable = config.getEdgeIndex().isEmpty() ? null :
+        admin.getConnection().getTable(config.getEdgeIndexTableName());
+      this.vertexLookupIndex = getLookupIndex(vertexIndexTable, config.getVertexIndex());
+      this.edgeLookupIndex = getLookupIndex(edgeIndexTable, config.getEdgeIndex());
+      this.adjacencyIndexComplete = config.isAdjacencyIndexEnabled() &&
+        HBaseTableMetadata.isAdjacencyIndexComplete(vertexTable.getTableDescriptor());
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not open index tables.", e);
+    }
+
+    if (connection != null && config.isWriteBufferEnabled()) {
+      try {
+        this.graphHeadMutator = createMutator(connection, graphHeadTable, graphHeadMetrics);
+        this.vertexMutator = createMutator(connection, vertexTable, vertexMetrics);
+        this.edgeMutator = createMutator(connection, edgeTable, edgeMetrics);
+        this.vertexIndexMutator = vertexIndexTable == null ? null :
+          createMutator(connection, vertexIndexTable, vertexMetrics);
+        this.edgeIndexMutator = edgeIndexTable == null ? null :
+          createMutator(connection, edgeIndexTable, edgeMetrics);
+      } catch (IOException e) {
+        throw new IllegalStateException("Could not create buffered writers.", e);
+      }
+    } else {
+      this.graphHeadMutator = null;
+      this.vertexMutator = null;
+      this.edgeMutator = null;
+      this.vertexIndexMutator = null;
+      this.edgeIndexMutator = null;
+    }
   }
 
   /**
@@ -145,6 +308,34 @@ public class HBaseEPGMStore implements
     return graphHeadTable.getName().getNameAsString();
   }
 
+  /**
+   * Returns the write metrics of the graph head table.
+   *
+   * @return graph head table write metrics
+   */
+  public TableWriteMetrics getGraphHeadWriteMetrics() {
+    return graphHeadMetrics;
+  }
+
+  /**
+   * Returns the write metrics of the vertex table, including adjacency and property index
+   * updates.
+   *
+   * @return vertex table write metrics
+   */
+  public TableWriteMetrics getVertexWriteMetrics() {
+    return vertexMetrics;
+  }
+
+  /**
+   * Returns the write metrics of the edge table, including property index updates.
+   *
+   * @return edge table write metrics
+   */
+  public TableWriteMetrics getEdgeWriteMetrics() {
+    return edgeMetrics;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -156,9 +347,9 @@ public class HBaseEPGMStore implements
     // write graph to Put
     put = graphHeadHandler.writeGraphHead(put, graphHead);
     // write to table
-    graphHeadTable.put(put);
+    write(graphHeadTable, graphHeadMutator, graphHeadMetrics, Collections.singletonList(put));
     if (autoFlush) {
-      admin.flush(graphHeadTable.getName());
+      flush(graphHeadTable, graphHeadMutator, graphHeadMetrics);
     }
   }
 
@@ -173,9 +364,14 @@ public class HBaseEPGMStore implements
     // write vertex data to Put
     put = vertexHandler.writeVertex(put, vertexData);
     // write to table
-    vertexTable.put(put);
+    write(vertexTable, vertexMutator, vertexMetrics, Collections.singletonList(put));
+    writeIndex(vertexIndexTable, vertexIndexMutator, vertexMetrics, config.getVertexIndex(),
+      vertexData);
     if (autoFlush) {
-      admin.flush(vertexTable.getName());
+      flush(vertexTable, vertexMutator, vertexMetrics);
+      if (vertexIndexTable != null) {
+        flush(vertexIndexTable, vertexIndexMutator, vertexMetrics);
+      }
     }
   }
 
@@ -190,9 +386,26 @@ public class HBaseEPGMStore implements
     Put put = new Put(edgeHandler.getRowKey(edgeData.getId()));
     // write edge data to Put
     put = edgeHandler.writeEdge(put, edgeData);
-    edgeTable.put(put);
+    write(edgeTable, edgeMutator, edgeMetrics, Collections.singletonList(put));
+    writeIndex(edgeIndexTable, edgeIndexMutator, edgeMetrics, config.getEdgeIndex(), edgeData);
+
+    if (config.isAdjacencyIndexEnabled()) {
+      VertexHandler vertexHandler = config.getVertexHandler();
+      write(vertexTable, vertexMutator, vertexMetrics, Arrays.asList(
+        vertexHandler.writeOutgoingEdge(
+          new Put(vertexHandler.getRowKey(edgeData.getSourceId())), edgeData),
+        vertexHandler.writeIncomingEdge(
+          new Put(vertexHandler.getRowKey(edgeData.getTargetId())), edgeData)));
+    }
+
     if (autoFlush) {
-      admin.flush(edgeTable.getName());
+      flush(edgeTable, edgeMutator, edgeMetrics);
+      if (edgeIndexTable != null) {
+        flush(edgeIndexTable, edgeIndexMutator, edgeMetrics);
+      }
+      if (config.isAdjacencyIndexEnabled()) {
+        flush(vertexTable, vertexMutator, vertexMetrics);
+      }
     }
   }
 
@@ -203,7 +416,7 @@ public class HBaseEPGMStore implements
   public GraphHead readGraph(@Nonnull final GradoopId graphId) throws IOException {
     GraphHead graphData = null;
     GraphHeadHandler graphHeadHandler = config.getGraphHeadHandler();
-    Result res = graphHeadTable.get(new Get(graphId.toByteArray()));
+    Result res = graphHeadTable.get(new Get(graphHeadHandler.getRowKey(graphId)));
     if (!res.isEmpty()) {
       graphData = graphHeadHandler.readGraphHead(res);
     }
@@ -218,7 +431,7 @@ public class HBaseEPGMStore implements
     Vertex vertexData = null;
     VertexHandler vertexHandler = config.getVertexHandler();
     byte[] rowKey = vertexHandler.getRowKey(vertexId);
-    Result res = vertexTable.get(new Get(rowKey));
+    Result res = vertexTable.get(addVertexDataFamilies(new Get(rowKey)));
     if (!res.isEmpty()) {
       vertexData = vertexHandler.readVertex(res);
     }
@@ -254,7 +467,7 @@ public class HBaseEPGMStore implements
     scan.setMaxVersions(1);
 
     if (query != null) {
-      attachFilter(query, scan);
+      attachFilter(query, scan, config.getGraphHeadHandler().getSaltBuckets());
     }
 
     return new HBaseGraphIterator(graphHeadTable.getScanner(scan), config.getGraphHeadHandler());
@@ -269,15 +482,33 @@ public class HBaseEPGMStore implements
     @Nullable ElementQuery<HBaseElementFilter<Vertex>> query,
     int cacheSize
   ) throws IOException {
+    VertexHandler vertexHandler = config.getVertexHandler();
+    IndexLookup lookup = query != null ? query.planIndexLookup(vertexLookupIndex) : null;
+    if (lookup != null) {
+      List<Get> gets = new ArrayList<>();
+      for (GradoopId vertexId : lookupIndex(vertexIndexTable, lookup, query, cacheSize)) {
+        gets.add(addVertexDataFamilies(new Get(vertexHandler.getRowKey(vertexId))));
+      }
+      List<Vertex> vertices = new ArrayList<>(gets.size());
+      for (Result res : getFiltered(vertexTable, gets, query)) {
+        vertices.add(vertexHandler.readVertex(res));
+      }
+      return new CollectionClosableIterator<>(vertices);
+    }
+
     Scan scan = new Scan();
     scan.setCaching(cacheSize);
     scan.setMaxVersions(1);
 
+    for (byte[] family : VERTEX_DATA_FAMILIES) {
+      scan.addFamily(family);
+    }
+
     if (query != null) {
-      attachFilter(query, scan);
+      attachFilter(query, scan, vertexHandler.getSaltBuckets());
     }
 
-    return new HBaseVertexIterator(vertexTable.getScanner(scan), config.getVertexHandler());
+    return new HBaseVertexIterator(vertexTable.getScanner(scan), vertexHandler);
   }
 
   /**
@@ -289,15 +520,107 @@ public class HBaseEPGMStore implements
     @Nullable ElementQuery<HBaseElementFilter<Edge>> query,
     int cacheSize
   ) throws IOException {
+    EdgeHandler edgeHandler = config.getEdgeHandler();
+    IndexLookup lookup = query != null ? query.planIndexLookup(edgeLookupIndex) : null;
+    if (lookup != null) {
+      List<Get> gets = new ArrayList<>();
+      for (GradoopId edgeId : lookupIndex(edgeIndexTable, lookup, query, cacheSize)) {
+        gets.add(new Get(edgeHandler.getRowKey(edgeId)));
+      }
+      List<Edge> edges = new ArrayList<>(gets.size());
+      for (Result res : getFiltered(edgeTable, gets, query)) {
+        edges.add(edgeHandler.readEdge(res));
+      }
+      return new CollectionClosableIterator<>(edges);
+    }
+
     Scan scan = new Scan();
     scan.setCaching(cacheSize);
     scan.setMaxVersions(1);
 
     if (query != null) {
-      attachFilter(query, scan);
+      attachFilter(query, scan, edgeHandler.getSaltBuckets());
+    }
+
+    return new HBaseEdgeIterator(edgeTable.getScanner(scan), edgeHandler);
+  }
+
+  /**
+   * Reads the outgoing edges of the given vertex using the adjacency index.
+   *
+   * @param vertexId source vertex identifier
+   * @param labels edge labels to consider or {@code null} to consider all edges
+   * @return outgoing edges of the vertex
+   * @throws IOException on failure
+   * @throws IllegalStateException if the adjacency index is not enabled or incomplete
+   */
+  @Nonnull
+  public List<Edge> getOutgoingEdges(@Nonnull final GradoopId vertexId,
+    @Nullable final Set<String> labels) throws IOException {
+    return readEdges(readAdjacency(vertexId, Neighborhood.EdgeDirection.OUT, labels).keySet());
+  }
+
+  /**
+   * Reads the incoming edges of the given vertex using the adjacency index.
+   *
+   * @param vertexId target vertex identifier
+   * @param labels edge labels to consider or {@code null} to consider all edges
+   * @return incoming edges of the vertex
+   * @throws IOException on failure
+   * @throws IllegalStateException if the adjacency index is not enabled or incomplete
+   */
+  @Nonnull
+  public List<Edge> getIncomingEdges(@Nonnull final GradoopId vertexId,
+    @Nullable final Set<String> labels) throws IOException {
+    return readEdges(readAdjacency(vertexId, Neighborhood.EdgeDirection.IN, labels).keySet());
+  }
+
+  /**
+   * Computes the identifiers of all vertices that can be reached from the given vertex within
+   * {@code maxHops} hops using the adjacency index. Each hop reads the adjacency of the current
+   * frontier with a single batch of row lookups. The start vertex is only contained in the
+   * result if it is reachable via a cycle.
+   *
+   * @param vertexId start vertex identifier
+   * @param maxHops maximum number of hops
+   * @param direction edge direction to follow
+   * @param labels edge labels to follow or {@code null} to follow all edges
+   * @return identifiers of the reachable vertices
+   * @throws IOException on failure
+   * @throws IllegalStateException if the adjacency index is not enabled or incomplete
+   */
+  @Nonnull
+  public Set<GradoopId> getNeighborhood(@Nonnull final GradoopId vertexId, int maxHops,
+    @Nonnull final Neighborhood.EdgeDirection direction, @Nullable final Set<String> labels)
+    throws IOException {
+    Preconditions.checkArgument(maxHops >= 0, "Number of hops must not be negative");
+    checkAdjacencyIndex();
+
+    VertexHandler vertexHandler = config.getVertexHandler();
+    Set<GradoopId> visited = new HashSet<>();
+    Set<GradoopId> reached = new HashSet<>();
+    Collection<GradoopId> frontier = Arrays.asList(vertexId);
+    visited.add(vertexId);
+
+    for (int hop = 0; hop < maxHops && !frontier.isEmpty(); hop++) {
+      List<Get> gets = new ArrayList<>(frontier.size());
+      for (GradoopId id : frontier) {
+        gets.add(addAdjacencyFamilies(new Get(vertexHandler.getRowKey(id)), direction));
+      }
+
+      List<GradoopId> nextFrontier = new ArrayList<>();
+      for (Result res : vertexTable.get(gets)) {
+        for (GradoopId neighbor : readAdjacency(res, direction, labels).values()) {
+          reached.add(neighbor);
+          if (visited.add(neighbor)) {
+            nextFrontier.add(neighbor);
+          }
+        }
+      }
+      frontier = nextFrontier;
     }
 
-    return new HBaseEdgeIterator(edgeTable.getScanner(scan), config.getEdgeHandler());
+    return reached;
   }
 
   /**
@@ -313,9 +636,20 @@ public class HBaseEPGMStore implements
    */
   @Override
   public void flush() throws IOException {
+    flushMutator(vertexMutator, vertexMetrics);
+    flushMutator(edgeMutator, edgeMetrics);
+    flushMutator(graphHeadMutator, graphHeadMetrics);
+    flushMutator(vertexIndexMutator, vertexMetrics);
+    flushMutator(edgeIndexMutator, edgeMetrics);
     admin.flush(vertexTable.getName());
     admin.flush(edgeTable.getName());
     admin.flush(graphHeadTable.getName());
+    if (vertexIndexTable != null) {
+      admin.flush(vertexIndexTable.getName());
+    }
+    if (edgeIndexTable != null) {
+      admin.flush(edgeIndexTable.getName());
+    }
   }
 
   /**
@@ -323,26 +657,336 @@ public class HBaseEPGMStore implements
    */
   @Override
   public void close() throws IOException {
+    if (vertexMutator != null) {
+      vertexMutator.close();
+      edgeMutator.close();
+      graphHeadMutator.close();
+    }
+    if (vertexIndexTable != null) {
+      if (vertexIndexMutator != null) {
+        vertexIndexMutator.close();
+      }
+      vertexIndexTable.close();
+    }
+    if (edgeIndexTable != null) {
+      if (edgeIndexMutator != null) {
+        edgeIndexMutator.close();
+      }
+      edgeIndexTable.close();
+    }
     vertexTable.close();
     edgeTable.close();
     graphHeadTable.close();
   }
 
+  /**
+   * Creates a buffered writer for the given table. Mutations that finally failed after all
+   * retries are counted in the table metrics and reported on the next write or flush.
+   *
+   * @param connection HBase connection
+   * @param table HBase table
+   * @param metrics write metrics of the table
+   * @return buffered writer
+   * @throws IOException on failure
+   */
+  private BufferedMutator createMutator(Connection connection, Table table,
+    TableWriteMetrics metrics) throws IOException {
+    BufferedMutatorParams params = new BufferedMutatorParams(table.getName())
+      .writeBufferSize(config.getWriteBufferSize())
+      .listener((exception, mutator) -> {
+        metrics.recordFailures(exception.getNumExceptions());
+        throw exception;
+      });
+    return connection.getBufferedMutator(params);
+  }
+
+  /**
+   * Writes the given mutations to a table, either directly or via the buffered writer.
+   *
+   * @param table HBase table
+   * @param mutator buffered writer of the table or {@code null} if writes are not buffered
+   * @param metrics write metrics of the table
+   * @param puts mutations to write
+   * @throws IOException on failure
+   */
+  private void write(Table table, @Nullable BufferedMutator mutator, TableWriteMetrics metrics,
+    List<Put> puts) throws IOException {
+    long start = System.nanoTime();
+    if (mutator != null) {
+      mutator.mutate(puts);
+    } else {
+      table.put(puts);
+    }
+    long nanos = (System.nanoTime() - start) / puts.size();
+    for (Put put : puts) {
+      metrics.recordWrite(put.heapSize(), nanos);
+    }
+  }
+
+  /**
+   * Writes the index entries of the indexed properties of the given element.
+   *
+   * @param indexTable index table or {@code null} if no index is configured
+   * @param mutator buffered writer of the index table or {@code null} if writes are not buffered
+   * @param metrics write metrics of the element table
+   * @param index indexed properties
+   * @param element element to index
+   * @throws IOException on failure
+   */
+  private void writeIndex(@Nullable Table indexTable, @Nullable BufferedMutator mutator,
+    TableWriteMetrics metrics, Set<IndexedProperty> index, EPGMElement element)
+    throws IOException {
+    if (indexTable == null) {
+      return;
+    }
+    List<Put> puts = new ArrayList<>();
+    for (byte[] row : IndexKeys.indexRows(index, element)) {
+      puts.add(new Put(row).addColumn(CF_INDEX_BYTES, new byte[0], new byte[0]));
+    }
+    if (!puts.isEmpty()) {
+      write(indexTable, mutator, metrics, puts);
+    }
+  }
+
+  /**
+   * Determines the indexed properties that can be used for index lookups, i.e., the configured
+   * properties recorded as complete in the descriptor of the index table.
+   *
+   * @param indexTable index table or {@code null} if no index is configured
+   * @param index configured indexed properties
+   * @return indexed properties usable for lookups
+   * @throws IOException if the table descriptor cannot be read
+   */
+  private static Set<IndexedProperty> getLookupIndex(@Nullable Table indexTable,
+    Set<IndexedProperty> index) throws IOException {
+    if (indexTable == null) {
+      return Collections.emptySet();
+    }
+    Set<IndexedProperty> lookupIndex =
+      HBaseTableMetadata.getIndexedProperties(indexTable.getTableDescriptor());
+    lookupIndex.retainAll(index);
+    return lookupIndex;
+  }
+
+  /**
+   * Reads the identifiers of the elements selected by an index lookup using range scans of the
+   * index table. The identifiers are restricted to the id ranges of the query.
+   *
+   * @param indexTable index table
+   * @param lookup index lookup planned for the query
+   * @param query element query
+   * @param cacheSize number of index rows fetched per scanner call
+   * @param <T> the type of the EPGM element
+   * @return identifiers of the candidate elements
+   * @throws IOException on failure
+   */
+  private <T extends EPGMElement> Set<GradoopId> lookupIndex(Table indexTable,
+    IndexLookup lookup, ElementQuery<HBaseElementFilter<T>> query, int cacheSize)
+    throws IOException {
+    Set<GradoopId> ids = new LinkedHashSet<>();
+    for (String label : lookup.getLabels()) {
+      Scan scan = new Scan(lookup.getStartRow(label), lookup.getStopRow(label));
+      scan.setCaching(cacheSize);
+      scan.setFilter(new KeyOnlyFilter());
+      try (ResultScanner scanner = indexTable.getScanner(scan)) {
+        for (Result res : scanner) {
+          ids.add(IndexKeys.elementId(res.getRow()));
+        }
+      }
+    }
+
+    GradoopIdSet ranges = query.getQueryRanges();
+    if (ranges != null && !ranges.isEmpty()) {
+      ids.retainAll(ranges);
+    }
+    return ids;
+  }
+
+  /**
+   * Executes the given row lookups as a single batch. The filter of the query is applied on
+   * the region servers, rows that do not match are skipped.
+   *
+   * @param table element table
+   * @param gets row lookups of the candidate elements
+   * @param query element query
+   * @param <T> the type of the EPGM element
+   * @return rows of the matching elements
+   * @throws IOException on failure
+   */
+  private <T extends EPGMElement> List<Result> getFiltered(Table table, List<Get> gets,
+    ElementQuery<HBaseElementFilter<T>> query) throws IOException {
+    Filter filter = query.getFilterPredicate().toHBaseFilter(false);
+    for (Get get : gets) {
+      get.setFilter(filter);
+    }
+
+    List<Result> results = new ArrayList<>(gets.size());
+    for (Result res : table.get(gets)) {
+      if (!res.isEmpty()) {
+        results.add(res);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Flushes pending writes of a single table. Buffered writes are sent to the region servers,
+   * otherwise the memstore of the table is flushed.
+   *
+   * @param table HBase table
+   * @param mutator buffered writer of the table or {@code null} if writes are not buffered
+   * @param metrics write metrics of the table
+   * @throws IOException on failure
+   */
+  private void flush(Table table, @Nullable BufferedMutator mutator, TableWriteMetrics metrics)
+    throws IOException {
+    if (mutator != null) {
+      flushMutator(mutator, metrics);
+    } else {
+      long start = System.nanoTime();
+      admin.flush(table.getName());
+      metrics.recordFlush(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Sends all buffered mutations of the given writer to the region servers.
+   *
+   * @param mutator buffered writer or {@code null} if writes are not buffered
+   * @param metrics write metrics of the table
+   * @throws IOException on failure
+   */
+  private void flushMutator(@Nullable BufferedMutator mutator, TableWriteMetrics metrics)
+    throws IOException {
+    if (mutator != null) {
+      long start = System.nanoTime();
+      mutator.flush();
+      metrics.recordFlush(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Reads the adjacency of a single vertex.
+   *
+   * @param vertexId vertex identifier
+   * @param direction edge direction
+   * @param labels edge labels to consider or {@code null} to consider all edges
+   * @return map from edge identifier to adjacent vertex identifier
+   * @throws IOException on failure
+   */
+  private Map<GradoopId, GradoopId> readAdjacency(GradoopId vertexId,
+    Neighborhood.EdgeDirection direction, Set<String> labels) throws IOException {
+    checkAdjacencyIndex();
+    Get get = new Get(config.getVertexHandler().getRowKey(vertexId));
+    return readAdjacency(vertexTable.get(addAdjacencyFamilies(get, direction)), direction, labels);
+  }
+
+  /**
+   * Reads the adjacency in the given direction from a vertex row.
+   *
+   * @param res vertex row
+   * @param direction edge direction
+   * @param labels edge labels to consider or {@code null} to consider all edges
+   * @return map from edge identifier to adjacent vertex identifier
+   */
+  private Map<GradoopId, GradoopId> readAdjacency(Result res,
+    Neighborhood.EdgeDirection direction, Set<String> labels) {
+    VertexHandler vertexHandler = config.getVertexHandler();
+    switch (direction) {
+    case OUT:
+      return vertexHandler.readOutgoingEdges(res, labels);
+    case IN:
+      return vertexHandler.readIncomingEdges(res, labels);
+    default:
+      Map<GradoopId, GradoopId> adjacency = vertexHandler.readOutgoingEdges(res, labels);
+      adjacency.putAll(vertexHandler.readIncomingEdges(res, labels));
+      return adjacency;
+    }
+  }
+
+  /**
+   * Reads the edges with the given identifiers with a single batch of row lookups.
+   *
+   * @param edgeIds edge identifiers
+   * @return edges
+   * @throws IOException on failure
+   */
+  private List<Edge> readEdges(Collection<GradoopId> edgeIds) throws IOException {
+    EdgeHandler edgeHandler = config.getEdgeHandler();
+    List<Get> gets = new ArrayList<>(edgeIds.size());
+    for (GradoopId edgeId : edgeIds) {
+      gets.add(new Get(edgeHandler.getRowKey(edgeId)));
+    }
+
+    List<Edge> edges = new ArrayList<>(edgeIds.size());
+    for (Result res : edgeTable.get(gets)) {
+      if (!res.isEmpty()) {
+        edges.add(edgeHandler.readEdge(res));
+      }
+    }
+    return edges;
+  }
+
+  /**
+   * Restricts the given lookup to the column families of the adjacency index.
+   *
+   * @param get row lookup
+   * @param direction edge direction
+   * @return restricted row lookup
+   */
+  private Get addAdjacencyFamilies(Get get, Neighborhood.EdgeDirection direction) {
+    if (direction != Neighborhood.EdgeDirection.IN) {
+      get.addFamily(CF_OUT_EDGES_BYTES);
+    }
+    if (direction != Neighborhood.EdgeDirection.OUT) {
+      get.addFamily(CF_IN_EDGES_BYTES);
+    }
+    return get;
+  }
+
+  /**
+   * Restricts the given lookup to the column families containing vertex data, so that the
+   * adjacency index is not transferred.
+   *
+   * @param get row lookup
+   * @return restricted row lookup
+   */
+  private Get addVertexDataFamilies(Get get) {
+    for (byte[] family : VERTEX_DATA_FAMILIES) {
+      get.addFamily(family);
+    }
+    return get;
+  }
+
+  /**
+   * Checks that the adjacency index is maintained by this store and contains all edges.
+   */
+  private void checkAdjacencyIndex() {
+    Preconditions.checkState(config.isAdjacencyIndexEnabled(),
+      "Adjacency index is not enabled in the store configuration.");
+    Preconditions.checkState(adjacencyIndexComplete,
+      "Adjacency index of table %s is incomplete, since edges have been written without it.",
+      getVertexTableName());
+  }
+
   /**
    * Attach a HBase filter represented by the given query to the given scan instance.
    *
    * @param query the query that represents a filter
    * @param scan the HBase scan instance on which the filter will be applied
+   * @param saltBuckets number of salt buckets of the table, 1 for unsalted row keys
    * @param <T> the type of the EPGM element
    */
   private <T extends EPGMElement> void attachFilter(
     @Nonnull ElementQuery<HBaseElementFilter<T>> query,
-    @Nonnull Scan scan
+    @Nonnull Scan scan,
+    int saltBuckets
   ) {
     FilterList conjunctFilters = new FilterList(FilterList.Operator.MUST_PASS_ALL);
 
     if (query.getQueryRanges() != null && !query.getQueryRanges().isEmpty()) {
-      conjunctFilters.addFilter(HBaseFilterUtils.getIdFilter(query.getQueryRanges()));
+      conjunctFilters.addFilter(
+        HBaseFilterUtils.getIdFilter(query.getQueryRanges(), saltBuckets));
     }
 
     if (query.getFilterPredicate() != null) {
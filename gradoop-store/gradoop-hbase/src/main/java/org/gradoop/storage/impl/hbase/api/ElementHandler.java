@@ -50,6 +50,22 @@ public interface ElementHandler extends Serializable {
    */
   GradoopId getId(final byte[] rowKey) throws IOException;
 
+  /**
+   * Sets the number of salt buckets. If more than one bucket is used, each row key is prefixed
+   * by a salt byte and tables are pre-split into one region per bucket. The setting has to match
+   * the one used to create the table.
+   *
+   * @param saltBuckets number of salt buckets, 1 for unsalted row keys
+   */
+  void setSaltBuckets(int saltBuckets);
+
+  /**
+   * Returns the number of salt buckets.
+   *
+   * @return number of salt buckets, 1 for unsalted row keys
+   */
+  int getSaltBuckets();
+
   /**
    * Adds the labels to the given {@link Put} and returns it.
    *
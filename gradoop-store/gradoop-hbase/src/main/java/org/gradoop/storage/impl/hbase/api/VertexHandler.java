@@ -17,11 +17,17 @@ package org.gradoop.storage.impl.hbase.api;
 
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMVertex;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.storage.impl.hbase.predicate.filter.api.HBaseElementFilter;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Responsible for reading and writing vertex data from and to HBase.
  */
@@ -44,6 +50,44 @@ public interface VertexHandler extends GraphElementHandler {
    */
   Vertex readVertex(final Result res);
 
+  /**
+   * Adds the given edge to the outgoing adjacency of its source vertex. The {@link Put} is
+   * expected to address the row of the source vertex.
+   *
+   * @param put      {@link Put} of the source vertex row
+   * @param edgeData outgoing edge
+   * @return put with adjacency entry
+   */
+  Put writeOutgoingEdge(final Put put, final EPGMEdge edgeData);
+
+  /**
+   * Adds the given edge to the incoming adjacency of its target vertex. The {@link Put} is
+   * expected to address the row of the target vertex.
+   *
+   * @param put      {@link Put} of the target vertex row
+   * @param edgeData incoming edge
+   * @return put with adjacency entry
+   */
+  Put writeIncomingEdge(final Put put, final EPGMEdge edgeData);
+
+  /**
+   * Reads the outgoing adjacency of a vertex from the given {@link Result}.
+   *
+   * @param res    HBase row
+   * @param labels edge labels to consider or {@code null} to consider all edges
+   * @return map from outgoing edge identifier to target vertex identifier
+   */
+  Map<GradoopId, GradoopId> readOutgoingEdges(final Result res, @Nullable Set<String> labels);
+
+  /**
+   * Reads the incoming adjacency of a vertex from the given {@link Result}.
+   *
+   * @param res    HBase row
+   * @param labels edge labels to consider or {@code null} to consider all edges
+   * @return map from incoming edge identifier to source vertex identifier
+   */
+  Map<GradoopId, GradoopId> readIncomingEdges(final Result res, @Nullable Set<String> labels);
+
   /**
    * Applies the given ElementQuery to the handler.
    *
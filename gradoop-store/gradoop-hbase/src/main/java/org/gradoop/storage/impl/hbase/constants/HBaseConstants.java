@@ -31,6 +31,10 @@ public final class HBaseConstants {
    * Default HBase table name for edges.
    */
   public static final String DEFAULT_TABLE_EDGES = "edges";
+  /**
+   * Suffix of the secondary property index tables of vertices and edges.
+   */
+  public static final String INDEX_TABLE_SUFFIX = "_index";
 
   /**
    * Column family name for label.
@@ -60,4 +64,16 @@ public final class HBaseConstants {
    * Column identifier for target vertex identifier.
    */
   public static final String COL_TARGET = "t";
+  /**
+   * Column family name for the outgoing edges of a vertex (adjacency index).
+   */
+  public static final String CF_OUT_EDGES = "e_out";
+  /**
+   * Column family name for the incoming edges of a vertex (adjacency index).
+   */
+  public static final String CF_IN_EDGES = "e_in";
+  /**
+   * Column family name of the secondary property index tables.
+   */
+  public static final String CF_INDEX = "i";
 }
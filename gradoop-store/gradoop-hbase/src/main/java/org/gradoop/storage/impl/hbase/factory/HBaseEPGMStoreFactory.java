@@ -16,21 +16,30 @@
 package org.gradoop.storage.impl.hbase.factory;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HColumnDescriptor;
 import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.filter.FirstKeyOnlyFilter;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.storage.common.api.EPGMGraphInput;
+import org.gradoop.storage.common.index.IndexedProperty;
 import org.gradoop.storage.config.GradoopHBaseConfig;
 import org.gradoop.storage.impl.hbase.HBaseEPGMStore;
 import org.gradoop.storage.impl.hbase.api.EdgeHandler;
 import org.gradoop.storage.impl.hbase.api.GraphHeadHandler;
 import org.gradoop.storage.impl.hbase.api.VertexHandler;
 import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
+import org.gradoop.storage.utils.HBaseTableMetadata;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Manages {@link EPGMGraphInput} instances which can be
@@ -84,15 +93,22 @@ public class HBaseEPGMStoreFactory {
     try {
       Connection connection = ConnectionFactory.createConnection(config);
 
-      createTablesIfNotExists(
-        connection.getAdmin(),
-        gradoopHBaseConfig.getVertexHandler(),
-        gradoopHBaseConfig.getEdgeHandler(),
-        gradoopHBaseConfig.getGraphHeadHandler(),
-        gradoopHBaseConfig.getVertexTableName(),
-        gradoopHBaseConfig.getEdgeTableName(),
-        gradoopHBaseConfig.getGraphTableName()
-      );
+      try {
+        createTablesIfNotExists(
+          connection.getAdmin(),
+          gradoopHBaseConfig.getVertexHandler(),
+          gradoopHBaseConfig.getEdgeHandler(),
+          gradoopHBaseConfig.getGraphHeadHandler(),
+          gradoopHBaseConfig.getVertexTableName(),
+          gradoopHBaseConfig.getEdgeTableName(),
+          gradoopHBaseConfig.getGraphTableName()
+        );
+      } catch (IllegalStateException e) {
+        connection.close();
+        throw e;
+      }
+      createIndexTablesIfNotExists(connection.getAdmin(), gradoopHBaseConfig);
+      registerAdjacencyIndex(connection.getAdmin(), gradoopHBaseConfig);
 
       Table graphDataTable = connection.getTable(gradoopHBaseConfig.getGraphTableName());
       Table vertexDataTable = connection.getTable(gradoopHBaseConfig.getVertexTableName());
@@ -103,7 +119,8 @@ public class HBaseEPGMStoreFactory {
         vertexDataTable,
         edgeDataTable,
         gradoopHBaseConfig,
-        connection.getAdmin()
+        connection.getAdmin(),
+        connection
       );
     } catch (IOException e) {
       e.printStackTrace();
@@ -157,7 +174,9 @@ public class HBaseEPGMStoreFactory {
         connection.getAdmin(),
         TableName.valueOf(vertexTableName),
         TableName.valueOf(edgeTableName),
-        TableName.valueOf(graphTableName)
+        TableName.valueOf(graphTableName),
+        TableName.valueOf(vertexTableName + HBaseConstants.INDEX_TABLE_SUFFIX),
+        TableName.valueOf(edgeTableName + HBaseConstants.INDEX_TABLE_SUFFIX)
       );
     } catch (IOException e) {
       e.printStackTrace();
@@ -195,34 +214,184 @@ public class HBaseEPGMStoreFactory {
     if (!admin.tableExists(graphTableName)) {
       graphHeadHandler.createTable(admin, new HTableDescriptor(graphTableName));
     }
+    checkSaltBuckets(admin, vertexTableName, vertexHandler.getSaltBuckets());
+    checkSaltBuckets(admin, edgeTableName, edgeHandler.getSaltBuckets());
 
     admin.close();
   }
 
   /**
-   * Deletes the tables given tables.
+   * Checks that the row keys of an existing table are salted like the configured ones. Tables
+   * without a recorded number of salt buckets have been created unsalted.
+   *
+   * @param admin HBase admin instance
+   * @param tableName data table name
+   * @param saltBuckets configured number of salt buckets
+   * @throws IOException if the table descriptor cannot be read
+   * @throws IllegalStateException if the numbers of salt buckets differ
+   */
+  private static void checkSaltBuckets(
+    final Admin admin,
+    final TableName tableName,
+    final int saltBuckets
+  ) throws IOException {
+    int tableSaltBuckets = HBaseTableMetadata.getSaltBuckets(admin.getTableDescriptor(tableName));
+    if (tableSaltBuckets != saltBuckets) {
+      throw new IllegalStateException(String.format(
+        "Table %s uses %d salt buckets, but the configuration uses %d", tableName,
+        tableSaltBuckets, saltBuckets));
+    }
+  }
+
+  /**
+   * Creates the secondary index tables of the configured vertex and edge indices and records
+   * which indexed properties are complete, see
+   * {@link #registerIndex(Admin, TableName, TableName, Set)}.
    *
-   * @param admin               HBase admin instance
-   * @param vertexDataTableName vertex data table name
-   * @param edgeDataTableName   edge data table name
-   * @param graphDataTableName  graph data table name
+   * @param admin HBase admin instance
+   * @param gradoopHBaseConfig Gradoop HBase configuration
    * @throws IOException if checking for the existence of the tables fails
    */
-  private static void deleteTablesIfExists(
+  private static void createIndexTablesIfNotExists(
+    final Admin admin,
+    final GradoopHBaseConfig gradoopHBaseConfig
+  ) throws IOException {
+
+    registerIndex(admin, gradoopHBaseConfig.getVertexIndexTableName(),
+      gradoopHBaseConfig.getVertexTableName(), gradoopHBaseConfig.getVertexIndex());
+    registerIndex(admin, gradoopHBaseConfig.getEdgeIndexTableName(),
+      gradoopHBaseConfig.getEdgeTableName(), gradoopHBaseConfig.getEdgeIndex());
+
+    admin.close();
+  }
+
+  /**
+   * Creates a secondary index table, if properties are indexed, and updates the properties
+   * recorded as complete in its descriptor. A property is complete, if it has been indexed since
+   * the data table was empty. Properties that are not configured anymore are removed, since
+   * elements written by this store will not be indexed. Configured properties are added only
+   * if the data table is still empty, otherwise existing elements would be missing in the index
+   * and the store must not use it for lookups.
+   *
+   * @param admin HBase admin instance
+   * @param indexTableName index table name
+   * @param dataTableName name of the indexed element table
+   * @param index configured indexed properties
+   * @throws IOException if reading or updating the tables fails
+   */
+  private static void registerIndex(
     final Admin admin,
-    final TableName vertexDataTableName,
-    final TableName edgeDataTableName,
-    final TableName graphDataTableName
+    final TableName indexTableName,
+    final TableName dataTableName,
+    final Set<IndexedProperty> index
   ) throws IOException {
+    boolean exists = admin.tableExists(indexTableName);
+    if (!exists && index.isEmpty()) {
+      return;
+    }
+
+    HTableDescriptor tableDescriptor;
+    if (exists) {
+      tableDescriptor = admin.getTableDescriptor(indexTableName);
+    } else {
+      tableDescriptor = new HTableDescriptor(indexTableName);
+      tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_INDEX));
+    }
 
-    if (admin.tableExists(vertexDataTableName)) {
-      deleteTable(admin, vertexDataTableName);
+    Set<IndexedProperty> recorded = HBaseTableMetadata.getIndexedProperties(tableDescriptor);
+    Set<IndexedProperty> complete = new HashSet<>(recorded);
+    complete.retainAll(index);
+    if (!complete.containsAll(index) && isEmpty(admin, dataTableName)) {
+      complete.addAll(index);
     }
-    if (admin.tableExists(edgeDataTableName)) {
-      deleteTable(admin, edgeDataTableName);
+
+    if (!exists) {
+      HBaseTableMetadata.setIndexedProperties(tableDescriptor, complete);
+      admin.createTable(tableDescriptor);
+    } else if (!complete.equals(recorded)) {
+      HBaseTableMetadata.setIndexedProperties(tableDescriptor, complete);
+      admin.modifyTable(indexTableName, tableDescriptor);
     }
-    if (admin.tableExists(graphDataTableName)) {
-      deleteTable(admin, graphDataTableName);
+  }
+
+  /**
+   * Adds the column families of the adjacency index to the vertex table, if the index is enabled
+   * and the table has been created without them, and records whether the index is complete in
+   * the descriptor of the vertex table. The index is complete, if it has been maintained since
+   * the edge table was empty. A store that does not maintain the index marks it as incomplete,
+   * since edges written by this store will not be indexed.
+   *
+   * @param admin HBase admin instance
+   * @param gradoopHBaseConfig Gradoop HBase configuration
+   * @throws IOException if reading or updating the tables fails
+   */
+  private static void registerAdjacencyIndex(
+    final Admin admin,
+    final GradoopHBaseConfig gradoopHBaseConfig
+  ) throws IOException {
+    TableName vertexTableName = gradoopHBaseConfig.getVertexTableName();
+    HTableDescriptor tableDescriptor = admin.getTableDescriptor(vertexTableName);
+    boolean enabled = gradoopHBaseConfig.isAdjacencyIndexEnabled();
+    boolean modified = false;
+
+    if (enabled) {
+      for (String family : new String[] {HBaseConstants.CF_OUT_EDGES, HBaseConstants.CF_IN_EDGES}) {
+        if (!tableDescriptor.hasFamily(Bytes.toBytes(family))) {
+          tableDescriptor.addFamily(new HColumnDescriptor(family));
+          modified = true;
+        }
+      }
+    }
+
+    boolean recorded = HBaseTableMetadata.isAdjacencyIndexComplete(tableDescriptor);
+    boolean complete = enabled &&
+      (recorded || isEmpty(admin, gradoopHBaseConfig.getEdgeTableName()));
+    if (complete != recorded) {
+      HBaseTableMetadata.setAdjacencyIndexComplete(tableDescriptor, complete);
+      modified = true;
+    }
+
+    if (modified) {
+      admin.modifyTable(vertexTableName, tableDescriptor);
+    }
+    admin.close();
+  }
+
+  /**
+   * Checks whether a table contains no rows.
+   *
+   * @param admin HBase admin instance
+   * @param tableName table name
+   * @return true, if the table is empty
+   * @throws IOException if scanning the table fails
+   */
+  private static boolean isEmpty(final Admin admin, final TableName tableName)
+    throws IOException {
+    Scan scan = new Scan();
+    scan.setFilter(new FirstKeyOnlyFilter());
+    scan.setCaching(1);
+    try (Table table = admin.getConnection().getTable(tableName);
+      ResultScanner scanner = table.getScanner(scan)) {
+      return scanner.next() == null;
+    }
+  }
+
+  /**
+   * Deletes the given tables, if they exist.
+   *
+   * @param admin      HBase admin instance
+   * @param tableNames names of the tables to delete
+   * @throws IOException if checking for the existence of the tables fails
+   */
+  private static void deleteTablesIfExists(
+    final Admin admin,
+    final TableName... tableNames
+  ) throws IOException {
+
+    for (TableName tableName : tableNames) {
+      if (admin.tableExists(tableName)) {
+        deleteTable(admin, tableName);
+      }
     }
 
     admin.close();
@@ -15,6 +15,8 @@
  */
 package org.gradoop.storage.impl.hbase.handler;
 
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.util.Bytes;
@@ -25,6 +27,8 @@ import org.gradoop.common.model.impl.properties.Property;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
 import org.gradoop.storage.impl.hbase.api.ElementHandler;
 import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
+import org.gradoop.storage.utils.HBaseRowKeys;
+import org.gradoop.storage.utils.HBaseTableMetadata;
 
 import java.io.IOException;
 import java.util.Map;
@@ -56,12 +60,17 @@ public abstract class HBaseElementHandler implements ElementHandler {
   private static final byte[] CF_PROPERTY_VALUE_BYTES =
     Bytes.toBytes(HBaseConstants.CF_PROPERTY_VALUE);
 
+  /**
+   * Number of salt buckets, 1 for unsalted row keys.
+   */
+  private int saltBuckets = 1;
+
   /**
    * {@inheritDoc}
    */
   @Override
   public byte[] getRowKey(final GradoopId elementId) throws IOException {
-    return elementId.toByteArray();
+    return HBaseRowKeys.getRowKey(elementId, saltBuckets);
   }
 
   /**
@@ -69,10 +78,23 @@ public abstract class HBaseElementHandler implements ElementHandler {
    */
   @Override
   public GradoopId getId(final byte[] rowKey) throws IOException {
-    if (rowKey == null) {
-      throw new IllegalArgumentException("rowKey must not be null");
-    }
-    return GradoopId.fromByteArray(rowKey);
+    return HBaseRowKeys.getId(rowKey, saltBuckets);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setSaltBuckets(int saltBuckets) {
+    this.saltBuckets = HBaseRowKeys.checkSaltBuckets(saltBuckets);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getSaltBuckets() {
+    return saltBuckets;
   }
 
   /**
@@ -147,6 +169,24 @@ public abstract class HBaseElementHandler implements ElementHandler {
    * @return gradoop id
    */
   GradoopId readId(Result res) {
-    return GradoopId.fromByteArray(res.getRow());
+    return HBaseRowKeys.getId(res.getRow(), saltBuckets);
+  }
+
+  /**
+   * Creates the given table. If row keys are salted, the table is pre-split into one region
+   * per salt bucket. The number of salt buckets is recorded in the table descriptor, so that
+   * stores opening the table can check it.
+   *
+   * @param admin HBase admin
+   * @param tableDescriptor table description including all column families
+   * @throws IOException on failure
+   */
+  void createPreSplitTable(Admin admin, HTableDescriptor tableDescriptor) throws IOException {
+    HBaseTableMetadata.setSaltBuckets(tableDescriptor, saltBuckets);
+    if (saltBuckets > 1) {
+      admin.createTable(tableDescriptor, HBaseRowKeys.getSplitKeys(saltBuckets));
+    } else {
+      admin.createTable(tableDescriptor);
+    }
   }
 }
@@ -20,15 +20,24 @@ import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.impl.hbase.api.VertexHandler;
 import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
 import org.gradoop.storage.impl.hbase.predicate.filter.api.HBaseElementFilter;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
 
 /**
  * Used to read/write EPGM vertex data from/to a HBase table.
@@ -50,6 +59,15 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
    */
   private static final long serialVersionUID = 42L;
 
+  /**
+   * Byte array representation of the outgoing edges column family.
+   */
+  private static final byte[] CF_OUT_EDGES_BYTES = Bytes.toBytes(HBaseConstants.CF_OUT_EDGES);
+  /**
+   * Byte array representation of the incoming edges column family.
+   */
+  private static final byte[] CF_IN_EDGES_BYTES = Bytes.toBytes(HBaseConstants.CF_IN_EDGES);
+
   /**
    * Creates vertex data objects from the rows.
    */
@@ -78,7 +96,9 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_META));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTY_TYPE));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTY_VALUE));
-    admin.createTable(tableDescriptor);
+    tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_OUT_EDGES));
+    tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_IN_EDGES));
+    createPreSplitTable(admin, tableDescriptor);
   }
 
   /**
@@ -101,6 +121,75 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
       readGraphIds(res));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Put writeOutgoingEdge(Put put, EPGMEdge edgeData) {
+    return put.addColumn(CF_OUT_EDGES_BYTES, edgeData.getId().toByteArray(),
+      createAdjacencyValue(edgeData.getTargetId(), edgeData.getLabel()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Put writeIncomingEdge(Put put, EPGMEdge edgeData) {
+    return put.addColumn(CF_IN_EDGES_BYTES, edgeData.getId().toByteArray(),
+      createAdjacencyValue(edgeData.getSourceId(), edgeData.getLabel()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<GradoopId, GradoopId> readOutgoingEdges(Result res, @Nullable Set<String> labels) {
+    return readAdjacency(res.getFamilyMap(CF_OUT_EDGES_BYTES), labels);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<GradoopId, GradoopId> readIncomingEdges(Result res, @Nullable Set<String> labels) {
+    return readAdjacency(res.getFamilyMap(CF_IN_EDGES_BYTES), labels);
+  }
+
+  /**
+   * Creates the value of an adjacency entry.
+   *
+   * @param vertexId adjacent vertex identifier
+   * @param label edge label
+   * @return adjacent vertex identifier followed by the edge label
+   */
+  private byte[] createAdjacencyValue(GradoopId vertexId, String label) {
+    return Bytes.add(vertexId.toByteArray(), Bytes.toBytes(label == null ? "" : label));
+  }
+
+  /**
+   * Reads the edges of an adjacency column family.
+   *
+   * @param family column family content, may be {@code null}
+   * @param labels edge labels to consider or {@code null} to consider all edges
+   * @return map from edge identifier to adjacent vertex identifier
+   */
+  private Map<GradoopId, GradoopId> readAdjacency(NavigableMap<byte[], byte[]> family,
+    @Nullable Set<String> labels) {
+    Map<GradoopId, GradoopId> adjacency = new HashMap<>();
+    if (family == null) {
+      return adjacency;
+    }
+    for (Map.Entry<byte[], byte[]> entry : family.entrySet()) {
+      byte[] value = entry.getValue();
+      if (labels == null || labels.contains(
+        Bytes.toString(value, GradoopId.ID_SIZE, value.length - GradoopId.ID_SIZE))) {
+        adjacency.put(GradoopId.fromByteArray(entry.getKey()),
+          GradoopId.fromByteArray(Arrays.copyOf(value, GradoopId.ID_SIZE)));
+      }
+    }
+    return adjacency;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -16,20 +16,39 @@
 package org.gradoop.storage.impl.hbase.io;
 
 import org.apache.commons.lang.NotImplementedException;
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.mapreduce.TableOutputFormat;
 import org.apache.hadoop.mapreduce.Job;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.storage.impl.hbase.HBaseEPGMStore;
+import org.gradoop.storage.impl.hbase.io.functions.BuildAdjacencyMutation;
 import org.gradoop.storage.impl.hbase.io.functions.BuildEdgeMutation;
 import org.gradoop.storage.impl.hbase.io.functions.BuildGraphHeadMutation;
+import org.gradoop.storage.impl.hbase.io.functions.BuildHFileRecord;
+import org.gradoop.storage.impl.hbase.io.functions.BuildIndexMutation;
+import org.gradoop.storage.impl.hbase.io.functions.BuildSortableKeyValues;
 import org.gradoop.storage.impl.hbase.io.functions.BuildVertexMutation;
+import org.gradoop.storage.impl.hbase.io.functions.RegionPartitioner;
+import org.gradoop.storage.impl.hbase.io.outputformats.HFileBulkLoadOutputFormat;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Converts runtime representation of EPGM elements into persistent
@@ -37,6 +56,11 @@ import java.io.IOException;
  */
 public class HBaseDataSink extends HBaseBase implements DataSink {
 
+  /**
+   * Staging directory for HFiles, {@code null} if elements are not bulk-loaded.
+   */
+  private final String bulkLoadDirectory;
+
   /**
    * Creates a new HBase data sink.
    *
@@ -46,8 +70,31 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
   public HBaseDataSink(
     @Nonnull HBaseEPGMStore epgmStore,
     @Nonnull GradoopFlinkConfig flinkConfig
+  ) {
+    this(epgmStore, flinkConfig, null);
+  }
+
+  /**
+   * Creates a new HBase data sink that bulk-loads the elements, if a staging
+   * directory is given. The elements are written to HFiles in the staging
+   * directory, which are moved into the tables when the job has finished.
+   * This bypasses the write path of the region servers and is intended for
+   * initial loads of large graphs. The directory has to be located on the
+   * file system used by HBase and must not contain a subdirectory named like
+   * one of the tables.
+   *
+   * @param epgmStore store implementation
+   * @param flinkConfig gradoop flink execute config
+   * @param bulkLoadDirectory staging directory for HFiles or {@code null} to
+   *                          write the elements through the region servers
+   */
+  public HBaseDataSink(
+    @Nonnull HBaseEPGMStore epgmStore,
+    @Nonnull GradoopFlinkConfig flinkConfig,
+    @Nullable String bulkLoadDirectory
   ) {
     super(epgmStore, flinkConfig);
+    this.bulkLoadDirectory = bulkLoadDirectory;
   }
 
   /**
@@ -91,6 +138,9 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
 
     // transform edge data to persistent edge data and write it
     writeEdges(graphCollection);
+
+    // write the entries of the secondary property indices
+    writeIndices(graphCollection);
   }
 
   /**
@@ -104,32 +154,32 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
     throws IOException {
 
     // write (graph-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getGraphTableName().getNameAsString());
-
-    collection.getGraphHeads()
-      .map(new BuildGraphHeadMutation(getHBaseConfig().getGraphHeadHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    writeMutations(getHBaseConfig().getGraphTableName(), Collections.singletonList(
+      collection.getGraphHeads()
+        .map(new BuildGraphHeadMutation(getHBaseConfig().getGraphHeadHandler()))));
   }
 
   /**
-   * Converts runtime vertex data to persistent vertex data (includes
-   * incoming and outgoing edge data) and writes it to HBase.
+   * Converts runtime vertex data to persistent vertex data and writes it to
+   * HBase. If the adjacency index is enabled, each edge is additionally added
+   * to the rows of its source and target vertex.
    *
    * @param collection Graph collection
    * @throws IOException if fetching mapreduce instance failed
    */
   private void writeVertices(final GraphCollection collection) throws IOException {
 
-    // write (vertex-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getVertexTableName().getNameAsString());
+    List<DataSet<Tuple2<GradoopId, Mutation>>> mutations = new ArrayList<>();
+    mutations.add(collection.getVertices()
+      .map(new BuildVertexMutation(getHBaseConfig().getVertexHandler())));
+
+    if (getHBaseConfig().isAdjacencyIndexEnabled()) {
+      mutations.add(collection.getEdges()
+        .flatMap(new BuildAdjacencyMutation(getHBaseConfig().getVertexHandler())));
+    }
 
-    collection.getVertices()
-      .map(new BuildVertexMutation(getHBaseConfig().getVertexHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    // write (vertex-data) to HBase table
+    writeMutations(getHBaseConfig().getVertexTableName(), mutations);
   }
 
   /**
@@ -142,12 +192,66 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
   private void writeEdges(final GraphCollection collection) throws IOException {
 
     // write (edge-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getEdgeTableName().getNameAsString());
+    writeMutations(getHBaseConfig().getEdgeTableName(), Collections.singletonList(
+      collection.getEdges()
+        .map(new BuildEdgeMutation(getHBaseConfig().getEdgeHandler()))));
+  }
+
+  /**
+   * Writes the secondary index entries of the indexed vertex and edge properties to the index
+   * tables, so that stores opened on the written tables can use the indices for lookups.
+   *
+   * @param collection Graph collection
+   * @throws IOException if fetching mapreduce instance failed
+   */
+  private void writeIndices(final GraphCollection collection) throws IOException {
+    if (!getHBaseConfig().getVertexIndex().isEmpty()) {
+      writeMutations(getHBaseConfig().getVertexIndexTableName(), Collections.singletonList(
+        collection.getVertices()
+          .flatMap(new BuildIndexMutation<>(getHBaseConfig().getVertexIndex()))));
+    }
+    if (!getHBaseConfig().getEdgeIndex().isEmpty()) {
+      writeMutations(getHBaseConfig().getEdgeIndexTableName(), Collections.singletonList(
+        collection.getEdges()
+          .flatMap(new BuildIndexMutation<>(getHBaseConfig().getEdgeIndex()))));
+    }
+  }
+
+  /**
+   * Writes the given mutations to a HBase table. Without a bulk load directory,
+   * each mutation is sent to the region servers. Otherwise, the cells of all
+   * mutations are partitioned by region, sorted and written to HFiles, which
+   * are bulk-loaded into the table after the job has finished.
+   *
+   * @param tableName table to write to
+   * @param mutations mutations to write
+   * @throws IOException if fetching mapreduce instance or table regions failed
+   */
+  private void writeMutations(TableName tableName,
+    List<DataSet<Tuple2<GradoopId, Mutation>>> mutations) throws IOException {
+
+    if (bulkLoadDirectory == null) {
+      for (DataSet<Tuple2<GradoopId, Mutation>> mutation : mutations) {
+        Job job = Job.getInstance();
+        job.getConfiguration().set(TableOutputFormat.OUTPUT_TABLE, tableName.getNameAsString());
+        mutation.output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+      }
+      return;
+    }
+
+    DataSet<Tuple2<String, byte[]>> keyValues = null;
+    for (DataSet<Tuple2<GradoopId, Mutation>> mutation : mutations) {
+      DataSet<Tuple2<String, byte[]>> cells = mutation.flatMap(new BuildSortableKeyValues());
+      keyValues = keyValues == null ? cells : keyValues.union(cells);
+    }
 
-    collection.getEdges()
-      .map(new BuildEdgeMutation(getHBaseConfig().getEdgeHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    Configuration config = HBaseConfiguration.create();
+    keyValues
+      .partitionCustom(new RegionPartitioner(
+        HFileBulkLoadOutputFormat.getRegionStartKeys(config, tableName)), 0)
+      .sortPartition(0, Order.ASCENDING)
+      .map(new BuildHFileRecord())
+      .output(HFileBulkLoadOutputFormat.create(config, tableName,
+        new Path(bulkLoadDirectory, tableName.getNameAsString()).toString()));
   }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.storage.impl.hbase.api.VertexHandler;
+
+/**
+ * Creates the HBase {@link Mutation}s that add an edge to the adjacency index of its source and
+ * target vertex using the vertex data handler.
+ */
+public class BuildAdjacencyMutation
+  extends RichFlatMapFunction<Edge, Tuple2<GradoopId, Mutation>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Reusable tuple for each writer.
+   */
+  private transient Tuple2<GradoopId, Mutation> reuseTuple;
+
+  /**
+   * Vertex data handler to create Mutations.
+   */
+  private final VertexHandler vertexHandler;
+
+  /**
+   * Creates rich flat map function.
+   *
+   * @param vertexHandler vertex data handler
+   */
+  public BuildAdjacencyMutation(VertexHandler vertexHandler) {
+    this.vertexHandler = vertexHandler;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void flatMap(Edge edge, Collector<Tuple2<GradoopId, Mutation>> out) throws Exception {
+    Put outgoing = new Put(vertexHandler.getRowKey(edge.getSourceId()));
+    reuseTuple.f0 = edge.getSourceId();
+    reuseTuple.f1 = vertexHandler.writeOutgoingEdge(outgoing, edge);
+    out.collect(reuseTuple);
+
+    Put incoming = new Put(vertexHandler.getRowKey(edge.getTargetId()));
+    reuseTuple.f0 = edge.getTargetId();
+    reuseTuple.f1 = vertexHandler.writeIncomingEdge(incoming, edge);
+    out.collect(reuseTuple);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    reuseTuple = new Tuple2<>();
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+
+/**
+ * Creates the HFile record of a serialized key value.
+ *
+ * (sortKey, serializedKeyValue) => (row, keyValue)
+ */
+public class BuildHFileRecord
+  implements MapFunction<Tuple2<String, byte[]>, Tuple2<ImmutableBytesWritable, Cell>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<ImmutableBytesWritable, Cell> reuseTuple = new Tuple2<>();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Tuple2<ImmutableBytesWritable, Cell> map(Tuple2<String, byte[]> keyValue) {
+    KeyValue cell = new KeyValue(keyValue.f1);
+    reuseTuple.f0 = new ImmutableBytesWritable(
+      cell.getRowArray(), cell.getRowOffset(), cell.getRowLength());
+    reuseTuple.f1 = cell;
+    return reuseTuple;
+  }
+}
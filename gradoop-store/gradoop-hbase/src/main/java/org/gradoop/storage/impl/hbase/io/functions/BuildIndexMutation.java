@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.storage.common.index.IndexKeys;
+import org.gradoop.storage.common.index.IndexedProperty;
+import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Creates a HBase {@link Mutation} for each secondary index entry of an element.
+ *
+ * element => (elementId, indexPut)*
+ *
+ * @param <E> EPGM element type
+ */
+public class BuildIndexMutation<E extends EPGMElement>
+  extends RichFlatMapFunction<E, Tuple2<GradoopId, Mutation>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Byte array representation of the secondary index column family.
+   */
+  private static final byte[] CF_INDEX_BYTES = Bytes.toBytes(HBaseConstants.CF_INDEX);
+
+  /**
+   * Reusable tuple for each writer.
+   */
+  private transient Tuple2<GradoopId, Mutation> reuseTuple;
+
+  /**
+   * Indexed properties.
+   */
+  private final HashSet<IndexedProperty> index;
+
+  /**
+   * Creates rich flat map function.
+   *
+   * @param index indexed properties
+   */
+  public BuildIndexMutation(Set<IndexedProperty> index) {
+    this.index = new HashSet<>(index);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    reuseTuple = new Tuple2<>();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void flatMap(E element, Collector<Tuple2<GradoopId, Mutation>> out) throws Exception {
+    for (byte[] row : IndexKeys.indexRows(index, element)) {
+      reuseTuple.f0 = element.getId();
+      reuseTuple.f1 = new Put(row).addColumn(CF_INDEX_BYTES, new byte[0], new byte[0]);
+      out.collect(reuseTuple);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellScanner;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Splits a HBase {@link Mutation} into its cells and attaches a sort key to each cell.
+ *
+ * The sort key is the hex representation of row, family and qualifier separated by a blank.
+ * Since the blank is smaller than all hex digits, the lexicographic order of the sort keys equals
+ * the order of the cells in a HFile.
+ *
+ * (id, mutation) => (sortKey, serializedKeyValue)*
+ */
+public class BuildSortableKeyValues
+  extends RichFlatMapFunction<Tuple2<GradoopId, Mutation>, Tuple2<String, byte[]>> {
+
+  /**
+   * Separator between the components of the sort key.
+   */
+  static final char SEPARATOR = ' ';
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Reusable tuple for each writer.
+   */
+  private transient Tuple2<String, byte[]> reuseTuple;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    reuseTuple = new Tuple2<>();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void flatMap(Tuple2<GradoopId, Mutation> mutation,
+    Collector<Tuple2<String, byte[]>> out) throws Exception {
+    CellScanner cells = mutation.f1.cellScanner();
+    while (cells.advance()) {
+      Cell cell = cells.current();
+      reuseTuple.f0 = Bytes.toHex(CellUtil.cloneRow(cell)) + SEPARATOR +
+        Bytes.toHex(CellUtil.cloneFamily(cell)) + SEPARATOR +
+        Bytes.toHex(CellUtil.cloneQualifier(cell));
+      reuseTuple.f1 = KeyValueUtil.copyToNewByteArray(KeyValueUtil.ensureKeyValue(cell));
+      out.collect(reuseTuple);
+    }
+  }
+}
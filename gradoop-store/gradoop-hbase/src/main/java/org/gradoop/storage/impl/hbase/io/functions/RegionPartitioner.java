@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io.functions;
+
+import org.apache.flink.api.common.functions.Partitioner;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.Arrays;
+
+/**
+ * Assigns sort keys created by {@link BuildSortableKeyValues} to partitions, such that no
+ * partition contains cells of different regions if possible. If there are more regions than
+ * partitions, a partition contains multiple consecutive regions. Otherwise, the rows of each
+ * region are distributed by hash over multiple partitions.
+ */
+public class RegionPartitioner implements Partitioner<String> {
+
+  /**
+   * Hex representation of the region start keys in ascending order, except the first one.
+   */
+  private final String[] startKeys;
+
+  /**
+   * Creates a new partitioner.
+   *
+   * @param regionStartKeys start keys of all regions of the table in ascending order
+   */
+  public RegionPartitioner(byte[][] regionStartKeys) {
+    this.startKeys = Arrays.stream(regionStartKeys)
+      .filter(key -> key.length > 0)
+      .map(Bytes::toHex)
+      .toArray(String[]::new);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int partition(String sortKey, int numPartitions) {
+    int position = Arrays.binarySearch(startKeys, sortKey);
+    // number of start keys that are smaller or equal to the sort key
+    int region = position >= 0 ? position + 1 : -(position + 1);
+    int regions = startKeys.length + 1;
+
+    int first = (int) ((long) region * numPartitions / regions);
+    int next = (int) ((long) (region + 1) * numPartitions / regions);
+    if (next - first <= 1) {
+      return first;
+    }
+    String row = sortKey.substring(0, sortKey.indexOf(BuildSortableKeyValues.SEPARATOR));
+    return first + (row.hashCode() & Integer.MAX_VALUE) % (next - first);
+  }
+}
@@ -38,12 +38,15 @@ abstract class BaseTableInputFormat<E extends EPGMElement> extends TableInputFor
    *
    * @param query the query that represents a filter
    * @param scan the HBase scan instance on which the filter will be applied
+   * @param saltBuckets number of salt buckets of the table, 1 for unsalted row keys
    */
-  void attachFilter(@Nonnull ElementQuery<HBaseElementFilter<E>> query, @Nonnull Scan scan) {
+  void attachFilter(@Nonnull ElementQuery<HBaseElementFilter<E>> query, @Nonnull Scan scan,
+    int saltBuckets) {
     FilterList conjunctFilters = new FilterList(FilterList.Operator.MUST_PASS_ALL);
 
     if (query.getQueryRanges() != null && !query.getQueryRanges().isEmpty()) {
-      conjunctFilters.addFilter(HBaseFilterUtils.getIdFilter(query.getQueryRanges()));
+      conjunctFilters.addFilter(
+        HBaseFilterUtils.getIdFilter(query.getQueryRanges(), saltBuckets));
     }
 
     if (query.getFilterPredicate() != null) {
@@ -18,9 +18,11 @@ package org.gradoop.storage.impl.hbase.io.inputformats;
 import org.apache.flink.api.java.tuple.Tuple1;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.storage.common.api.EPGMGraphOutput;
 import org.gradoop.storage.impl.hbase.api.VertexHandler;
+import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
 
 /**
  * Reads vertex data from HBase.
@@ -58,9 +60,13 @@ public class VertexTableInputFormat extends BaseTableInputFormat<Vertex> {
   protected Scan getScanner() {
     Scan scan = new Scan();
     scan.setCaching(EPGMGraphOutput.DEFAULT_CACHE_SIZE);
+    // skip the adjacency index
+    scan.addFamily(Bytes.toBytes(HBaseConstants.CF_META));
+    scan.addFamily(Bytes.toBytes(HBaseConstants.CF_PROPERTY_TYPE));
+    scan.addFamily(Bytes.toBytes(HBaseConstants.CF_PROPERTY_VALUE));
 
     if (vertexHandler.getQuery() != null) {
-      attachFilter(vertexHandler.getQuery(), scan);
+      attachFilter(vertexHandler.getQuery(), scan, vertexHandler.getSaltBuckets());
     }
 
     return scan;
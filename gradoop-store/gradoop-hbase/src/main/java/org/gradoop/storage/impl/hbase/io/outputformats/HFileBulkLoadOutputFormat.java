@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io.outputformats;
+
+import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.apache.hadoop.hbase.mapreduce.HFileOutputFormat2;
+import org.apache.hadoop.hbase.mapreduce.LoadIncrementalHFiles;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
+
+import java.io.IOException;
+
+/**
+ * Writes cells sorted by row, family and qualifier to HFiles in a staging directory and
+ * bulk-loads them into a HBase table once all tasks are finished. Cells bypass the write path
+ * of the region servers, i.e. memstore and write-ahead log.
+ *
+ * The staging directory has to be located on the file system used by HBase.
+ */
+public class HFileBulkLoadOutputFormat extends HadoopOutputFormat<ImmutableBytesWritable, Cell> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Name of the table to load the HFiles into.
+   */
+  private final String tableName;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param job Hadoop job containing the HBase configuration and the staging directory
+   * @param tableName name of the table to load the HFiles into
+   */
+  private HFileBulkLoadOutputFormat(Job job, String tableName) {
+    super(new HFileOutputFormat2(), job);
+    this.tableName = tableName;
+  }
+
+  /**
+   * Creates an output format for the given table. The HFiles are configured according to the
+   * column families of the table, e.g. compression and block encoding.
+   *
+   * @param config HBase configuration
+   * @param tableName table to load the HFiles into
+   * @param stagingDirectory directory to write the HFiles to, must not exist
+   * @return output format
+   * @throws IOException on failure
+   */
+  public static HFileBulkLoadOutputFormat create(Configuration config, TableName tableName,
+    String stagingDirectory) throws IOException {
+    Job job = Job.getInstance(HBaseConfiguration.create(config));
+    FileOutputFormat.setOutputPath(job, new Path(stagingDirectory));
+
+    try (Connection connection = ConnectionFactory.createConnection(job.getConfiguration());
+      Table table = connection.getTable(tableName)) {
+      HFileOutputFormat2.configureIncrementalLoadMap(job, table);
+    }
+
+    return new HFileBulkLoadOutputFormat(job, tableName.getNameAsString());
+  }
+
+  /**
+   * Returns the start keys of all regions of the given table.
+   *
+   * @param config HBase configuration
+   * @param tableName table name
+   * @return region start keys in ascending order
+   * @throws IOException on failure
+   */
+  public static byte[][] getRegionStartKeys(Configuration config, TableName tableName)
+    throws IOException {
+    try (Connection connection =
+      ConnectionFactory.createConnection(HBaseConfiguration.create(config));
+      RegionLocator regionLocator = connection.getRegionLocator(tableName)) {
+      return regionLocator.getStartKeys();
+    }
+  }
+
+  /**
+   * Commits the written HFiles and moves them into the regions of the table. HFiles that span
+   * multiple regions, e.g. because a region was split in the meantime, are split before. The
+   * staging directory is removed afterwards.
+   *
+   * @param parallelism parallelism of the output format
+   * @throws IOException on failure
+   */
+  @Override
+  public void finalizeGlobal(int parallelism) throws IOException {
+    super.finalizeGlobal(parallelism);
+
+    Path stagingDirectory = FileOutputFormat.getOutputPath(Job.getInstance(configuration));
+    TableName table = TableName.valueOf(tableName);
+
+    try (Connection connection = ConnectionFactory.createConnection(configuration);
+      Admin admin = connection.getAdmin();
+      Table hTable = connection.getTable(table);
+      RegionLocator regionLocator = connection.getRegionLocator(table)) {
+      createLoader(configuration).doBulkLoad(stagingDirectory, admin, hTable, regionLocator);
+    }
+
+    FileSystem fileSystem = stagingDirectory.getFileSystem(configuration);
+    fileSystem.delete(stagingDirectory, true);
+  }
+
+  /**
+   * Creates the HBase tool to load HFiles into a table.
+   *
+   * @param config HBase configuration
+   * @return bulk loader
+   * @throws IOException on failure
+   */
+  private static LoadIncrementalHFiles createLoader(Configuration config) throws IOException {
+    try {
+      return new LoadIncrementalHFiles(config);
+    } catch (Exception e) {
+      throw new IOException("Could not create bulk loader.", e);
+    }
+  }
+}
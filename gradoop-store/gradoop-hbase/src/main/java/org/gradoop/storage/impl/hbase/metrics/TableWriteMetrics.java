@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the mutations written to a single HBase table and the time spent writing them.
+ * Counters are thread-safe, since buffered writes are flushed by HBase client threads.
+ */
+public class TableWriteMetrics {
+
+  /**
+   * Name of the table.
+   */
+  private final String tableName;
+  /**
+   * Creation time in nanoseconds.
+   */
+  private final long startTime;
+  /**
+   * Number of submitted mutations.
+   */
+  private final LongAdder mutations = new LongAdder();
+  /**
+   * Estimated heap size of all submitted mutations in bytes.
+   */
+  private final LongAdder bytes = new LongAdder();
+  /**
+   * Time spent for submitting mutations in nanoseconds, including back-pressure.
+   */
+  private final LongAdder writeTime = new LongAdder();
+  /**
+   * Number of flushes.
+   */
+  private final LongAdder flushes = new LongAdder();
+  /**
+   * Time spent for flushing in nanoseconds.
+   */
+  private final LongAdder flushTime = new LongAdder();
+  /**
+   * Number of mutations that could not be written.
+   */
+  private final LongAdder failures = new LongAdder();
+
+  /**
+   * Creates new metrics for the given table.
+   *
+   * @param tableName name of the table
+   */
+  public TableWriteMetrics(String tableName) {
+    this.tableName = tableName;
+    this.startTime = System.nanoTime();
+  }
+
+  /**
+   * Records a submitted mutation.
+   *
+   * @param heapSize estimated size of the mutation in bytes
+   * @param nanos time spent for submitting the mutation
+   */
+  public void recordWrite(long heapSize, long nanos) {
+    mutations.increment();
+    bytes.add(heapSize);
+    writeTime.add(nanos);
+  }
+
+  /**
+   * Records a flush.
+   *
+   * @param nanos time spent for flushing
+   */
+  public void recordFlush(long nanos) {
+    flushes.increment();
+    flushTime.add(nanos);
+  }
+
+  /**
+   * Records mutations that could not be written.
+   *
+   * @param count number of failed mutations
+   */
+  public void recordFailures(int count) {
+    failures.add(count);
+  }
+
+  /**
+   * Get the name of the table
+   *
+   * @return table name
+   */
+  public String getTableName() {
+    return tableName;
+  }
+
+  /**
+   * Get the number of submitted mutations
+   *
+   * @return number of mutations
+   */
+  public long getMutationCount() {
+    return mutations.sum();
+  }
+
+  /**
+   * Get the estimated size of all submitted mutations
+   *
+   * @return size in bytes
+   */
+  public long getMutationBytes() {
+    return bytes.sum();
+  }
+
+  /**
+   * Get the number of flushes
+   *
+   * @return number of flushes
+   */
+  public long getFlushCount() {
+    return flushes.sum();
+  }
+
+  /**
+   * Get the number of mutations that could not be written
+   *
+   * @return number of failed mutations
+   */
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  /**
+   * Get the average time for submitting a single mutation. For buffered writes this includes
+   * the time the client was blocked because the write buffer was full.
+   *
+   * @return average write latency in microseconds
+   */
+  public double getAverageWriteLatencyMicros() {
+    long count = mutations.sum();
+    return count == 0 ? 0d : TimeUnit.NANOSECONDS.toMicros(writeTime.sum()) / (double) count;
+  }
+
+  /**
+   * Get the average time for a flush.
+   *
+   * @return average flush latency in milliseconds
+   */
+  public double getAverageFlushLatencyMillis() {
+    long count = flushes.sum();
+    return count == 0 ? 0d : TimeUnit.NANOSECONDS.toMicros(flushTime.sum()) / 1000d / count;
+  }
+
+  /**
+   * Get the number of mutations submitted per second since the metrics were created.
+   *
+   * @return throughput in mutations per second
+   */
+  public double getThroughput() {
+    long elapsed = System.nanoTime() - startTime;
+    return elapsed == 0 ? 0d : mutations.sum() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: mutations=%d, bytes=%d, failures=%d, throughput=%.1f/s, " +
+        "write latency=%.1fus, flushes=%d, flush latency=%.1fms",
+      tableName, getMutationCount(), getMutationBytes(), getFailureCount(), getThroughput(),
+      getAverageWriteLatencyMicros(), getFlushCount(), getAverageFlushLatencyMillis());
+  }
+}
@@ -27,6 +27,7 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.gradoop.storage.utils.HBaseRowKeys;
 
 import javax.annotation.Nonnull;
 import java.util.Set;
@@ -66,12 +67,24 @@ public class HBaseFilterUtils {
    * @return a HBase Filter object
    */
   public static Filter getIdFilter(GradoopIdSet elementIds) {
+    return getIdFilter(elementIds, 1);
+  }
+
+  /**
+   * Creates a HBase Filter object to return only graph elements that are equal to the given
+   * GradoopIds from a table with salted row keys.
+   *
+   * @param elementIds a set of graph element GradoopIds to filter
+   * @param saltBuckets number of salt buckets of the table, 1 for unsalted row keys
+   * @return a HBase Filter object
+   */
+  public static Filter getIdFilter(GradoopIdSet elementIds, int saltBuckets) {
     FilterList filterList = new FilterList(FilterList.Operator.MUST_PASS_ONE);
 
     for (GradoopId gradoopId : elementIds) {
       RowFilter rowFilter = new RowFilter(
         CompareFilter.CompareOp.EQUAL,
-        new BinaryComparator(gradoopId.toByteArray())
+        new BinaryComparator(HBaseRowKeys.getRowKey(gradoopId, saltBuckets))
       );
       filterList.addFilter(rowFilter);
     }
@@ -18,6 +18,7 @@ package org.gradoop.storage.impl.hbase.predicate.filter.calculate;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.filter.FilterList;
 import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.storage.common.index.IndexConstraints;
 import org.gradoop.storage.impl.hbase.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
@@ -83,6 +84,14 @@ public final class And<T extends EPGMElement> implements HBaseElementFilter<T> {
     return filterList;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void collectIndexConstraints(@Nonnull IndexConstraints constraints) {
+    predicates.forEach(predicate -> predicate.collectIndexConstraints(constraints));
+  }
+
   /**
    * {@inheritDoc}
    */
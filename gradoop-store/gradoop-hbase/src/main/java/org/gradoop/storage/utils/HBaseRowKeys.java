@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.utils;
+
+import com.google.common.base.Preconditions;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.Arrays;
+
+/**
+ * Utilities to create salted row keys. Generated {@link GradoopId}s start with a timestamp, so
+ * unsalted row keys of elements written together are adjacent and all writes hit the same
+ * region. A salted row key is prefixed by a single byte derived from a hash of the identifier,
+ * which distributes the elements uniformly over a fixed number of buckets. Tables are pre-split
+ * at the bucket boundaries, so that each bucket is served by its own region.
+ */
+public class HBaseRowKeys {
+
+  /**
+   * Maximum number of salt buckets, i.e. the number of distinct salt byte values.
+   */
+  public static final int MAX_SALT_BUCKETS = 256;
+
+  /**
+   * Creates the row key of an element.
+   *
+   * @param id element identifier
+   * @param saltBuckets number of salt buckets, 1 for unsalted row keys
+   * @return row key
+   */
+  public static byte[] getRowKey(GradoopId id, int saltBuckets) {
+    byte[] idBytes = id.toByteArray();
+    if (saltBuckets <= 1) {
+      return idBytes;
+    }
+    byte[] rowKey = new byte[idBytes.length + 1];
+    rowKey[0] = (byte) ((Bytes.hashCode(idBytes) & Integer.MAX_VALUE) % saltBuckets);
+    System.arraycopy(idBytes, 0, rowKey, 1, idBytes.length);
+    return rowKey;
+  }
+
+  /**
+   * Extracts the element identifier from a row key.
+   *
+   * @param rowKey row key
+   * @param saltBuckets number of salt buckets, 1 for unsalted row keys
+   * @return element identifier
+   */
+  public static GradoopId getId(byte[] rowKey, int saltBuckets) {
+    Preconditions.checkArgument(rowKey != null, "rowKey must not be null");
+    return GradoopId.fromByteArray(saltBuckets <= 1 ?
+      rowKey : Arrays.copyOfRange(rowKey, 1, rowKey.length));
+  }
+
+  /**
+   * Creates the split keys to pre-split a table into one region per salt bucket.
+   *
+   * @param saltBuckets number of salt buckets
+   * @return split keys, empty for unsalted row keys
+   */
+  public static byte[][] getSplitKeys(int saltBuckets) {
+    byte[][] splitKeys = new byte[Math.max(saltBuckets - 1, 0)][];
+    for (int i = 0; i < splitKeys.length; i++) {
+      splitKeys[i] = new byte[] {(byte) (i + 1)};
+    }
+    return splitKeys;
+  }
+
+  /**
+   * Checks that the given number of salt buckets is valid.
+   *
+   * @param saltBuckets number of salt buckets
+   * @return number of salt buckets
+   */
+  public static int checkSaltBuckets(int saltBuckets) {
+    Preconditions.checkArgument(saltBuckets >= 1 && saltBuckets <= MAX_SALT_BUCKETS,
+      "Number of salt buckets must be between 1 and %s", MAX_SALT_BUCKETS);
+    return saltBuckets;
+  }
+}
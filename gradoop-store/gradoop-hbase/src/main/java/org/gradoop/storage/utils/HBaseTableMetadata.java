@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.utils;
+
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.gradoop.storage.common.index.IndexedProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Utilities to store the layout of the graph store tables as metadata of their table
+ * descriptors, so that a store opened later on can check it against its configuration.
+ */
+public class HBaseTableMetadata {
+
+  /**
+   * Descriptor key of the properties whose index entries are complete.
+   */
+  private static final String INDEXED_PROPERTIES = "gradoop.index.properties";
+
+  /**
+   * Descriptor key of the number of salt buckets of the row keys.
+   */
+  private static final String SALT_BUCKETS = "gradoop.salt.buckets";
+
+  /**
+   * Descriptor key of the flag whether the adjacency index of a vertex table is complete.
+   */
+  private static final String ADJACENCY_INDEX = "gradoop.adjacency.complete";
+
+  /**
+   * Separator of the indexed properties.
+   */
+  private static final String PROPERTY_SEPARATOR = ",";
+
+  /**
+   * Separator of label and key of an indexed property.
+   */
+  private static final String KEY_SEPARATOR = ".";
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private HBaseTableMetadata() {
+  }
+
+  /**
+   * Reads the properties whose index entries are complete, i.e., contain every element of the
+   * data table, from the descriptor of an index table.
+   *
+   * @param descriptor index table descriptor
+   * @return indexed properties, empty if none has been recorded
+   */
+  public static Set<IndexedProperty> getIndexedProperties(HTableDescriptor descriptor) {
+    Set<IndexedProperty> properties = new HashSet<>();
+    String value = descriptor.getValue(INDEXED_PROPERTIES);
+    if (value == null || value.isEmpty()) {
+      return properties;
+    }
+    for (String property : value.split(PROPERTY_SEPARATOR)) {
+      int separator = property.indexOf(KEY_SEPARATOR);
+      properties.add(IndexedProperty.of(
+        decode(property.substring(0, separator)), decode(property.substring(separator + 1))));
+    }
+    return properties;
+  }
+
+  /**
+   * Records the properties whose index entries are complete in the descriptor of an index table.
+   *
+   * @param descriptor index table descriptor
+   * @param properties indexed properties
+   */
+  public static void setIndexedProperties(HTableDescriptor descriptor,
+    Set<IndexedProperty> properties) {
+    StringBuilder value = new StringBuilder();
+    for (IndexedProperty property : properties) {
+      if (value.length() > 0) {
+        value.append(PROPERTY_SEPARATOR);
+      }
+      value.append(encode(property.getLabel()))
+        .append(KEY_SEPARATOR)
+        .append(encode(property.getKey()));
+    }
+    descriptor.setValue(INDEXED_PROPERTIES, value.toString());
+  }
+
+  /**
+   * Reads the number of salt buckets of the row keys from the descriptor of a data table.
+   *
+   * @param descriptor data table descriptor
+   * @return number of salt buckets, 1 if none has been recorded
+   */
+  public static int getSaltBuckets(HTableDescriptor descriptor) {
+    String value = descriptor.getValue(SALT_BUCKETS);
+    return value == null ? 1 : Integer.parseInt(value);
+  }
+
+  /**
+   * Records the number of salt buckets of the row keys in the descriptor of a data table.
+   *
+   * @param descriptor data table descriptor
+   * @param saltBuckets number of salt buckets, 1 for unsalted row keys
+   */
+  public static void setSaltBuckets(HTableDescriptor descriptor, int saltBuckets) {
+    descriptor.setValue(SALT_BUCKETS, Integer.toString(saltBuckets));
+  }
+
+  /**
+   * Reads whether the adjacency index of a vertex table is complete, i.e., contains every edge of
+   * the edge table, from the descriptor of the vertex table.
+   *
+   * @param descriptor vertex table descriptor
+   * @return true, if the adjacency index is complete, false if nothing has been recorded
+   */
+  public static boolean isAdjacencyIndexComplete(HTableDescriptor descriptor) {
+    return Boolean.parseBoolean(descriptor.getValue(ADJACENCY_INDEX));
+  }
+
+  /**
+   * Records whether the adjacency index of a vertex table is complete in its descriptor.
+   *
+   * @param descriptor vertex table descriptor
+   * @param complete true, if the adjacency index is complete
+   */
+  public static void setAdjacencyIndexComplete(HTableDescriptor descriptor, boolean complete) {
+    descriptor.setValue(ADJACENCY_INDEX, Boolean.toString(complete));
+  }
+
+  /**
+   * Encodes a label or property key. The Base64 alphabet does not contain the separators.
+   *
+   * @param string label or property key
+   * @return encoded string
+   */
+  private static String encode(String string) {
+    return Base64.getEncoder().encodeToString(string.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a label or property key.
+   *
+   * @param string encoded string
+   * @return label or property key
+   */
+  private static String decode(String string) {
+    return new String(Base64.getDecoder().decode(string), StandardCharsets.UTF_8);
+  }
+}
@@ -14,6 +14,6 @@
  * limitations under the License.
  */
 /**
- * HBase filter utilities
+ * HBase filter, row key and table metadata utilities
  */
 package org.gradoop.storage.utils;
@@ -16,6 +16,7 @@
 package org.gradoop.storage.impl.hbase;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.hbase.HBaseConfiguration;
 import org.apache.hadoop.hbase.HBaseTestingUtility;
 import org.gradoop.common.GradoopTestUtils;
@@ -91,6 +92,27 @@ public class GradoopHBaseTestBase {
     }
   }
 
+  /**
+   * Returns the configuration of the test cluster.
+   *
+   * @return HBase configuration
+   */
+  public static Configuration getHBaseConfiguration() {
+    return utility.getConfiguration();
+  }
+
+  /**
+   * Returns a directory on the file system of the test cluster.
+   *
+   * @param name name of the directory
+   * @return fully qualified path of the directory
+   * @throws IOException on failure
+   */
+  public static String getTestDirectory(String name) throws IOException {
+    FileSystem fileSystem = utility.getTestFileSystem();
+    return fileSystem.makeQualified(utility.getDataTestDirOnTestFS(name)).toString();
+  }
+
   //----------------------------------------------------------------------------
   // Store handling methods
   //----------------------------------------------------------------------------
@@ -17,6 +17,10 @@ package org.gradoop.storage.impl.hbase;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Queues;
+import com.google.common.collect.Sets;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.config.GradoopConfig;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.common.model.api.entities.EPGMEdge;
@@ -33,7 +37,13 @@ import org.gradoop.common.model.impl.pojo.VertexFactory;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.util.AsciiGraphLoader;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
+import org.gradoop.storage.config.GradoopHBaseConfig;
+import org.gradoop.storage.common.index.IndexedProperty;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
+import org.gradoop.storage.impl.hbase.factory.HBaseEPGMStoreFactory;
 import org.gradoop.storage.impl.hbase.predicate.filter.api.HBaseElementFilter;
 import org.gradoop.storage.impl.hbase.predicate.filter.impl.HBaseLabelIn;
 import org.gradoop.storage.impl.hbase.predicate.filter.impl.HBaseLabelReg;
@@ -48,8 +58,12 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.gradoop.common.GradoopTestUtils.BIG_DECIMAL_VAL_7;
@@ -90,7 +104,10 @@ import static org.gradoop.common.GradoopTestUtils.validateEPGMElements;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElements;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Test class for {@link HBaseEPGMStore}
@@ -835,6 +852,342 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     validateEPGMElementCollections(edges, edgeResult);
   }
 
+  /**
+   * Test the adjacency index based neighborhood lookups
+   */
+  @Test
+  public void testAdjacencyIndex() throws IOException {
+    String prefix = "adjacency.";
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    HBaseEPGMStore graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(),
+      GradoopHBaseConfig.createConfig(GradoopHBaseConfig.getDefaultConfig(), true),
+      prefix);
+    writeSocialGraphToStore(graphStore);
+
+    Set<String> knows = Sets.newHashSet("knows");
+
+    for (Vertex vertex : getSocialVertices()) {
+      GradoopId id = vertex.getId();
+
+      validateEPGMElementCollections(getSocialEdges().stream()
+          .filter(e -> e.getSourceId().equals(id))
+          .collect(Collectors.toList()),
+        graphStore.getOutgoingEdges(id, null));
+      validateEPGMElementCollections(getSocialEdges().stream()
+          .filter(e -> e.getTargetId().equals(id))
+          .collect(Collectors.toList()),
+        graphStore.getIncomingEdges(id, null));
+      validateEPGMElementCollections(getSocialEdges().stream()
+          .filter(e -> e.getSourceId().equals(id) && e.getLabel().equals("knows"))
+          .collect(Collectors.toList()),
+        graphStore.getOutgoingEdges(id, knows));
+
+      Set<GradoopId> oneHop = getSocialEdges().stream()
+        .filter(e -> e.getSourceId().equals(id) && e.getLabel().equals("knows"))
+        .map(Edge::getTargetId)
+        .collect(Collectors.toSet());
+      Set<GradoopId> twoHops = new HashSet<>(oneHop);
+      getSocialEdges().stream()
+        .filter(e -> oneHop.contains(e.getSourceId()) && e.getLabel().equals("knows"))
+        .forEach(e -> twoHops.add(e.getTargetId()));
+
+      assertEquals(oneHop,
+        graphStore.getNeighborhood(id, 1, Neighborhood.EdgeDirection.OUT, knows));
+      assertEquals(twoHops,
+        graphStore.getNeighborhood(id, 2, Neighborhood.EdgeDirection.OUT, knows));
+
+      // the adjacency index is not part of the vertex data
+      validateEPGMElements(vertex, graphStore.readVertex(id));
+    }
+
+    assertEquals(getSocialVertices().size(),
+      graphStore.getVertexSpace().readRemainsAndClose().size());
+
+    graphStore.close();
+  }
+
+  /**
+   * Writes the social graph through buffered writers and checks the written elements and the
+   * collected write metrics
+   */
+  @Test
+  public void testBufferedWrites() throws IOException {
+    String prefix = "buffered.";
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    HBaseEPGMStore graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(),
+      GradoopHBaseConfig.createBufferedConfig(
+        GradoopHBaseConfig.createConfig(GradoopHBaseConfig.getDefaultConfig(), true), 1024),
+      prefix);
+    writeSocialGraphToStore(graphStore);
+
+    for (GraphHead graphHead : getSocialGraphHeads()) {
+      validateGraphHead(graphStore, graphHead);
+    }
+    for (Vertex vertex : getSocialVertices()) {
+      validateVertex(graphStore, vertex);
+    }
+    for (Edge edge : getSocialEdges()) {
+      validateEdge(graphStore, edge);
+      assertTrue(graphStore.getOutgoingEdges(edge.getSourceId(), null).contains(edge));
+    }
+
+    int edgeCount = getSocialEdges().size();
+    assertEquals(getSocialGraphHeads().size(),
+      graphStore.getGraphHeadWriteMetrics().getMutationCount());
+    assertEquals(getSocialVertices().size() + 2 * edgeCount,
+      graphStore.getVertexWriteMetrics().getMutationCount());
+    assertEquals(edgeCount, graphStore.getEdgeWriteMetrics().getMutationCount());
+    assertEquals(0, graphStore.getEdgeWriteMetrics().getFailureCount());
+    assertTrue(graphStore.getEdgeWriteMetrics().getMutationBytes() > 0);
+    assertTrue(graphStore.getEdgeWriteMetrics().getFlushCount() > 0);
+
+    graphStore.close();
+  }
+
+  /**
+   * Writes the social graph to pre-split tables with salted row keys and reads it by point
+   * lookups, full scans and id predicates
+   */
+  @Test
+  public void testSaltedRowKeys() throws IOException {
+    String prefix = "salted.";
+    int saltBuckets = 4;
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    HBaseEPGMStore graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(),
+      GradoopHBaseConfig.createSaltedConfig(
+        GradoopHBaseConfig.createConfig(GradoopHBaseConfig.getDefaultConfig(), true), saltBuckets),
+      prefix);
+    writeSocialGraphToStore(graphStore);
+
+    assertEquals(saltBuckets, graphStore.getConfig().getSaltBuckets());
+    assertEquals(saltBuckets, utility.getHBaseAdmin()
+      .getTableRegions(graphStore.getConfig().getVertexTableName()).size());
+    assertEquals(saltBuckets, utility.getHBaseAdmin()
+      .getTableRegions(graphStore.getConfig().getEdgeTableName()).size());
+
+    for (Vertex vertex : getSocialVertices()) {
+      validateVertex(graphStore, vertex);
+      validateEPGMElementCollections(getSocialEdges().stream()
+          .filter(e -> e.getSourceId().equals(vertex.getId()))
+          .collect(Collectors.toList()),
+        graphStore.getOutgoingEdges(vertex.getId(), null));
+    }
+    for (Edge edge : getSocialEdges()) {
+      validateEdge(graphStore, edge);
+    }
+
+    validateEPGMElementCollections(getSocialVertices(),
+      graphStore.getVertexSpace().readRemainsAndClose());
+    validateEPGMElementCollections(getSocialEdges(),
+      graphStore.getEdgeSpace().readRemainsAndClose());
+
+    List<Edge> edges = Lists.newArrayList(getSocialEdges()).subList(1, 5);
+    GradoopIdSet ids = GradoopIdSet.fromExisting(edges.stream()
+      .map(EPGMIdentifiable::getId)
+      .collect(Collectors.toList()));
+    validateEPGMElementCollections(edges, graphStore.getEdgeSpace(
+      Query.elements()
+        .fromSets(ids)
+        .noFilter())
+      .readRemainsAndClose());
+
+    graphStore.close();
+  }
+
+  /**
+   * Creating a salted configuration does not modify the given one, and stores whose salt
+   * buckets do not match the existing tables cannot be opened
+   */
+  @Test
+  public void testSaltBucketsAreChecked() throws IOException {
+    String prefix = "saltcheck.";
+    GradoopHBaseConfig unsaltedConfig = GradoopHBaseConfig.getDefaultConfig();
+    GradoopHBaseConfig saltedConfig = GradoopHBaseConfig.createSaltedConfig(unsaltedConfig, 4);
+    assertEquals(1, unsaltedConfig.getSaltBuckets());
+    assertEquals(1, unsaltedConfig.getEdgeHandler().getSaltBuckets());
+    assertEquals(4, saltedConfig.getSaltBuckets());
+    assertEquals(4, saltedConfig.getEdgeHandler().getSaltBuckets());
+
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    HBaseEPGMStore graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(), saltedConfig, prefix);
+    writeSocialGraphToStore(graphStore);
+    graphStore.close();
+
+    try {
+      HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+        utility.getConfiguration(), unsaltedConfig, prefix);
+      fail("Opening salted tables with an unsalted configuration must fail");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("4 salt buckets"));
+    }
+
+    graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(), GradoopHBaseConfig.createSaltedConfig(unsaltedConfig, 4),
+      prefix);
+    validateEPGMElementCollections(getSocialVertices(),
+      graphStore.getVertexSpace().readRemainsAndClose());
+    graphStore.close();
+  }
+
+  /**
+   * Queries on indexed properties are answered by index lookups and return the same elements
+   * as a full scan with the same filter
+   */
+  @Test
+  public void testPropertyIndex() throws IOException {
+    String prefix = "indexed.";
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    HBaseEPGMStore graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(),
+      GradoopHBaseConfig.createIndexedConfig(GradoopHBaseConfig.getDefaultConfig(),
+        Arrays.asList(
+          IndexedProperty.of("Person", PROP_CITY),
+          IndexedProperty.of("Person", PROP_AGE),
+          IndexedProperty.of("Tag", PROP_NAME)),
+        Collections.singletonList(IndexedProperty.of("knows", PROP_SINCE))),
+      prefix);
+    writeSocialGraphToStore(graphStore);
+    GradoopHBaseConfig config = graphStore.getConfig();
+
+    ElementQuery<HBaseElementFilter<Vertex>> cityQuery = Query.elements()
+      .fromAll()
+      .where(HBaseFilters.<Vertex>labelIn("Person")
+        .and(HBaseFilters.propEquals(PROP_CITY, "Leipzig")));
+    assertNotNull(cityQuery.planIndexLookup(config.getVertexIndex()));
+    validateEPGMElementCollections(getSocialVertices().stream()
+        .filter(v -> v.getLabel().equals("Person"))
+        .filter(v -> v.getPropertyValue(PROP_CITY).getString().equals("Leipzig"))
+        .collect(Collectors.toList()),
+      graphStore.getVertexSpace(cityQuery).readRemainsAndClose());
+
+    ElementQuery<HBaseElementFilter<Vertex>> ageQuery = Query.elements()
+      .fromAll()
+      .where(HBaseFilters.<Vertex>labelIn("Person", "Tag")
+        .and(HBaseFilters.propLargerThan(PROP_AGE, 30, false)));
+    assertNull(ageQuery.planIndexLookup(config.getVertexIndex()));
+    ageQuery = Query.elements()
+      .fromAll()
+      .where(HBaseFilters.<Vertex>labelIn("Person")
+        .and(HBaseFilters.propLargerThan(PROP_AGE, 30, false)));
+    assertNotNull(ageQuery.planIndexLookup(config.getVertexIndex()));
+    validateEPGMElementCollections(getSocialVertices().stream()
+        .filter(v -> v.getLabel().equals("Person"))
+        .filter(v -> v.getPropertyValue(PROP_AGE).getInt() > 30)
+        .collect(Collectors.toList()),
+      graphStore.getVertexSpace(ageQuery).readRemainsAndClose());
+
+    ElementQuery<HBaseElementFilter<Edge>> sinceQuery = Query.elements()
+      .fromAll()
+      .where(HBaseFilters.<Edge>propLargerThan(PROP_SINCE, 2014, true)
+        .and(HBaseFilters.labelIn("knows")));
+    assertNotNull(sinceQuery.planIndexLookup(config.getEdgeIndex()));
+    validateEPGMElementCollections(getSocialEdges().stream()
+        .filter(e -> e.getLabel().equals("knows"))
+        .filter(e -> e.getPropertyValue(PROP_SINCE).getInt() >= 2014)
+        .collect(Collectors.toList()),
+      graphStore.getEdgeSpace(sinceQuery).readRemainsAndClose());
+
+    assertEquals(0, graphStore.getEdgeSpace(Query.elements()
+      .fromAll()
+      .where(HBaseFilters.<Edge>labelIn("knows")
+        .and(HBaseFilters.propEquals(PROP_SINCE, 1970))))
+      .readRemainsAndClose().size());
+
+    graphStore.close();
+  }
+
+  /**
+   * An index configured for a store that already contains elements misses these elements, so
+   * queries must not be answered by index lookups. Elements written by a store without the
+   * index invalidate it as well.
+   */
+  @Test
+  public void testIncompletePropertyIndex() throws IOException {
+    String prefix = "incompleteIndex.";
+    GradoopHBaseConfig indexedConfig = GradoopHBaseConfig.createIndexedConfig(
+      GradoopHBaseConfig.getDefaultConfig(),
+      Collections.singletonList(IndexedProperty.of("Person", PROP_CITY)),
+      Collections.emptyList());
+    ElementQuery<HBaseElementFilter<Vertex>> cityQuery = Query.elements()
+      .fromAll()
+      .where(HBaseFilters.<Vertex>labelIn("Person")
+        .and(HBaseFilters.propEquals(PROP_CITY, "Leipzig")));
+    List<Vertex> expected = getSocialVertices().stream()
+      .filter(v -> v.getLabel().equals("Person"))
+      .filter(v -> v.getPropertyValue(PROP_CITY).getString().equals("Leipzig"))
+      .collect(Collectors.toList());
+
+    // elements are written before the index is configured
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    HBaseEPGMStore graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(), GradoopHBaseConfig.getDefaultConfig(), prefix);
+    writeSocialGraphToStore(graphStore);
+    graphStore.close();
+
+    graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(), indexedConfig, prefix);
+    validateEPGMElementCollections(expected,
+      graphStore.getVertexSpace(cityQuery).readRemainsAndClose());
+    graphStore.close();
+
+    // elements are written by a store that does not maintain the index
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(), indexedConfig, prefix);
+    graphStore.close();
+    graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(), GradoopHBaseConfig.getDefaultConfig(), prefix);
+    writeSocialGraphToStore(graphStore);
+    graphStore.close();
+
+    graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(), indexedConfig, prefix);
+    validateEPGMElementCollections(expected,
+      graphStore.getVertexSpace(cityQuery).readRemainsAndClose());
+    graphStore.close();
+  }
+
+  /**
+   * Neighborhood lookups require the adjacency index
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testAdjacencyIndexNotEnabled() throws IOException {
+    socialNetworkStore.getOutgoingEdges(getSocialVertices().iterator().next().getId(), null);
+  }
+
+  /**
+   * Enabling the adjacency index on an existing store adds the missing column families, but
+   * neighborhood lookups are rejected, since the edges written before are not indexed
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testAdjacencyIndexEnabledLater() throws IOException {
+    String prefix = "adjacency_later.";
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    HBaseEPGMStore graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(), GradoopHBaseConfig.getDefaultConfig(), prefix);
+    writeSocialGraphToStore(graphStore);
+    TableName vertexTableName = graphStore.getConfig().getVertexTableName();
+    graphStore.close();
+
+    // vertex table of a store created before the adjacency index existed
+    Admin admin = utility.getHBaseAdmin();
+    admin.deleteColumn(vertexTableName, Bytes.toBytes(HBaseConstants.CF_OUT_EDGES));
+    admin.deleteColumn(vertexTableName, Bytes.toBytes(HBaseConstants.CF_IN_EDGES));
+
+    graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(utility.getConfiguration(),
+      GradoopHBaseConfig.createConfig(GradoopHBaseConfig.getDefaultConfig(), true), prefix);
+    Edge edge = getSocialEdges().iterator().next();
+    graphStore.writeEdge(edge);
+    graphStore.flush();
+    validateEdge(graphStore, edge);
+
+    graphStore.getOutgoingEdges(edge.getSourceId(), null);
+  }
+
   private AsciiGraphLoader<GraphHead, Vertex, Edge>
   getMinimalFullFeaturedGraphLoader() {
     String asciiGraph = ":G{k:\"v\"}[(v:V{k:\"v\"}),(v)-[:e{k:\"v\"}]->(v)]";
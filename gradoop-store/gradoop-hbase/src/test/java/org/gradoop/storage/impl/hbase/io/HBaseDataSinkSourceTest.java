@@ -18,6 +18,13 @@ package org.gradoop.storage.impl.hbase.io;
 import com.google.common.collect.Lists;
 import org.apache.commons.lang.NotImplementedException;
 import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
 import org.gradoop.common.GradoopTestUtils;
 import org.gradoop.common.model.api.entities.EPGMIdentifiable;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
@@ -29,8 +36,12 @@ import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.gradoop.storage.common.index.IndexedProperty;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.config.GradoopHBaseConfig;
 import org.gradoop.storage.impl.hbase.HBaseEPGMStore;
+import org.gradoop.storage.impl.hbase.factory.HBaseEPGMStoreFactory;
 import org.gradoop.storage.impl.hbase.predicate.filter.api.HBaseElementFilter;
 import org.gradoop.storage.impl.hbase.predicate.filter.impl.HBaseLabelIn;
 import org.gradoop.storage.impl.hbase.predicate.filter.impl.HBaseLabelReg;
@@ -48,10 +59,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElements;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.LABEL_FORUM;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.LABEL_HAS_MEMBER;
@@ -71,12 +84,15 @@ import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.PROP_SINCE;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.PROP_STATUS;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.PROP_VERTEX_COUNT;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.createEmptyEPGMStore;
+import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.getHBaseConfiguration;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.getSocialEdges;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.getSocialGraphHeads;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.getSocialVertices;
+import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.getTestDirectory;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.openEPGMStore;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.writeSocialGraphToStore;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -724,6 +740,166 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
     );
   }
 
+  /**
+   * Test writing a graph to {@link HBaseDataSink} with an enabled adjacency index
+   */
+  @Test
+  public void testWriteToSinkWithAdjacencyIndex() throws Exception {
+    // Create an empty store that maintains the adjacency index
+    String prefix = "testWriteToSinkWithAdjacencyIndex";
+    HBaseEPGMStoreFactory.deleteEPGMStore(getHBaseConfiguration(), prefix);
+    HBaseEPGMStore newStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      getHBaseConfiguration(),
+      GradoopHBaseConfig.createConfig(GradoopHBaseConfig.getDefaultConfig(), true),
+      prefix);
+
+    GradoopFlinkConfig flinkConfig = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    new HBaseDataSink(newStore, flinkConfig)
+      .write(flinkConfig
+        .getGraphCollectionFactory()
+        .fromCollections(getSocialGraphHeads(), getSocialVertices(), getSocialEdges()));
+
+    getExecutionEnvironment().execute();
+
+    newStore.flush();
+
+    // vertices are not affected by the index
+    validateEPGMElementCollections(
+      getSocialVertices(),
+      newStore.getVertexSpace().readRemainsAndClose()
+    );
+
+    for (Vertex vertex : getSocialVertices()) {
+      validateEPGMElementCollections(
+        getSocialEdges().stream()
+          .filter(e -> e.getSourceId().equals(vertex.getId()))
+          .collect(Collectors.toList()),
+        newStore.getOutgoingEdges(vertex.getId(), null)
+      );
+      validateEPGMElementCollections(
+        getSocialEdges().stream()
+          .filter(e -> e.getTargetId().equals(vertex.getId()))
+          .collect(Collectors.toList()),
+        newStore.getIncomingEdges(vertex.getId(), null)
+      );
+    }
+
+    newStore.close();
+  }
+
+  /**
+   * Test writing a graph to {@link HBaseDataSink} and reading it with {@link HBaseDataSource}
+   * from tables with salted row keys
+   */
+  @Test
+  public void testWriteAndReadWithSaltedRowKeys() throws Exception {
+    String prefix = "testWriteAndReadWithSaltedRowKeys";
+    HBaseEPGMStoreFactory.deleteEPGMStore(getHBaseConfiguration(), prefix);
+    HBaseEPGMStore newStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      getHBaseConfiguration(),
+      GradoopHBaseConfig.createSaltedConfig(GradoopHBaseConfig.getDefaultConfig(), 8),
+      prefix);
+
+    GradoopFlinkConfig flinkConfig = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    new HBaseDataSink(newStore, flinkConfig)
+      .write(flinkConfig
+        .getGraphCollectionFactory()
+        .fromCollections(getSocialGraphHeads(), getSocialVertices(), getSocialEdges()));
+
+    getExecutionEnvironment().execute();
+
+    newStore.flush();
+
+    for (Vertex vertex : getSocialVertices()) {
+      validateEPGMElements(vertex, newStore.readVertex(vertex.getId()));
+    }
+
+    GraphCollection collection = new HBaseDataSource(newStore, flinkConfig).getGraphCollection();
+
+    Collection<Vertex> loadedVertices = Lists.newArrayList();
+    Collection<Edge> loadedEdges = Lists.newArrayList();
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    validateEPGMElementCollections(getSocialVertices(), loadedVertices);
+    validateEPGMGraphElementCollections(getSocialVertices(), loadedVertices);
+    validateEPGMElementCollections(getSocialEdges(), loadedEdges);
+    validateEPGMGraphElementCollections(getSocialEdges(), loadedEdges);
+
+    newStore.close();
+  }
+
+  /**
+   * Test bulk-loading a graph with {@link HBaseDataSink} into pre-split tables
+   */
+  @Test
+  public void testWriteToSinkWithBulkLoad() throws Exception {
+    String prefix = "testWriteToSinkWithBulkLoad";
+    HBaseEPGMStoreFactory.deleteEPGMStore(getHBaseConfiguration(), prefix);
+    HBaseEPGMStore newStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      getHBaseConfiguration(),
+      GradoopHBaseConfig.createSaltedConfig(
+        GradoopHBaseConfig.createConfig(GradoopHBaseConfig.getDefaultConfig(), true), 4),
+      prefix);
+
+    GradoopFlinkConfig flinkConfig = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    new HBaseDataSink(newStore, flinkConfig, getTestDirectory(prefix))
+      .write(flinkConfig
+        .getGraphCollectionFactory()
+        .fromCollections(getSocialGraphHeads(), getSocialVertices(), getSocialEdges()));
+
+    getExecutionEnvironment().execute();
+
+    validateEPGMElementCollections(
+      getSocialGraphHeads(),
+      newStore.getGraphSpace().readRemainsAndClose()
+    );
+    validateEPGMElementCollections(
+      getSocialVertices(),
+      newStore.getVertexSpace().readRemainsAndClose()
+    );
+    validateEPGMGraphElementCollections(
+      getSocialVertices(),
+      newStore.getVertexSpace().readRemainsAndClose()
+    );
+    validateEPGMElementCollections(
+      getSocialEdges(),
+      newStore.getEdgeSpace().readRemainsAndClose()
+    );
+
+    for (Vertex vertex : getSocialVertices()) {
+      validateEPGMElements(vertex, newStore.readVertex(vertex.getId()));
+      validateEPGMElementCollections(
+        getSocialEdges().stream()
+          .filter(e -> e.getSourceId().equals(vertex.getId()))
+          .collect(Collectors.toList()),
+        newStore.getOutgoingEdges(vertex.getId(), null)
+      );
+    }
+
+    newStore.close();
+  }
+
+  /**
+   * Test writing a graph with secondary property indices to {@link HBaseDataSink} and answering
+   * queries on the indexed properties by index lookups afterwards
+   */
+  @Test
+  public void testWriteToSinkWithPropertyIndex() throws Exception {
+    writeToSinkAndQueryIndex("testWriteToSinkWithPropertyIndex", false);
+  }
+
+  /**
+   * Test bulk-loading a graph with secondary property indices with {@link HBaseDataSink} and
+   * answering queries on the indexed properties by index lookups afterwards
+   */
+  @Test
+  public void testWriteToSinkWithBulkLoadAndPropertyIndex() throws Exception {
+    writeToSinkAndQueryIndex("testWriteToSinkWithBulkLoadAndPropertyIndex", true);
+  }
+
   /**
    * Test writing a graph to {@link HBaseDataSink} with overwrite flag, that results in an exception
    */
@@ -740,4 +916,86 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
 
     getExecutionEnvironment().execute();
   }
+
+  /**
+   * Writes the social graph to a new store with vertex and edge property indices using
+   * {@link HBaseDataSink} and checks the index entries and the results of index lookups.
+   *
+   * @param prefix table prefix of the store
+   * @param bulkLoad true, if the graph shall be bulk-loaded
+   * @throws Exception on failure
+   */
+  private void writeToSinkAndQueryIndex(String prefix, boolean bulkLoad) throws Exception {
+    HBaseEPGMStoreFactory.deleteEPGMStore(getHBaseConfiguration(), prefix);
+    HBaseEPGMStore newStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      getHBaseConfiguration(),
+      GradoopHBaseConfig.createIndexedConfig(GradoopHBaseConfig.getDefaultConfig(),
+        Collections.singletonList(IndexedProperty.of("Person", PROP_CITY)),
+        Collections.singletonList(IndexedProperty.of("knows", PROP_SINCE))),
+      prefix);
+
+    GradoopFlinkConfig flinkConfig = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    new HBaseDataSink(newStore, flinkConfig, bulkLoad ? getTestDirectory(prefix) : null)
+      .write(flinkConfig
+        .getGraphCollectionFactory()
+        .fromCollections(getSocialGraphHeads(), getSocialVertices(), getSocialEdges()));
+
+    getExecutionEnvironment().execute();
+
+    List<Vertex> persons = getSocialVertices().stream()
+      .filter(v -> v.getLabel().equals("Person"))
+      .collect(Collectors.toList());
+    List<Edge> knows = getSocialEdges().stream()
+      .filter(e -> e.getLabel().equals("knows"))
+      .collect(Collectors.toList());
+
+    // one index entry per indexed element
+    try (Connection connection = ConnectionFactory.createConnection(getHBaseConfiguration())) {
+      assertEquals(persons.size(),
+        countRows(connection, newStore.getConfig().getVertexIndexTableName()));
+      assertEquals(knows.size(),
+        countRows(connection, newStore.getConfig().getEdgeIndexTableName()));
+    }
+
+    ElementQuery<HBaseElementFilter<Vertex>> cityQuery = Query.elements()
+      .fromAll()
+      .where(HBaseFilters.<Vertex>labelIn("Person")
+        .and(HBaseFilters.propEquals(PROP_CITY, "Leipzig")));
+    assertNotNull(cityQuery.planIndexLookup(newStore.getConfig().getVertexIndex()));
+    validateEPGMElementCollections(persons.stream()
+        .filter(v -> v.getPropertyValue(PROP_CITY).getString().equals("Leipzig"))
+        .collect(Collectors.toList()),
+      newStore.getVertexSpace(cityQuery).readRemainsAndClose());
+
+    ElementQuery<HBaseElementFilter<Edge>> sinceQuery = Query.elements()
+      .fromAll()
+      .where(HBaseFilters.<Edge>labelIn("knows")
+        .and(HBaseFilters.propLargerThan(PROP_SINCE, 2014, true)));
+    assertNotNull(sinceQuery.planIndexLookup(newStore.getConfig().getEdgeIndex()));
+    validateEPGMElementCollections(knows.stream()
+        .filter(e -> e.getPropertyValue(PROP_SINCE).getInt() >= 2014)
+        .collect(Collectors.toList()),
+      newStore.getEdgeSpace(sinceQuery).readRemainsAndClose());
+
+    newStore.close();
+  }
+
+  /**
+   * Counts the rows of a table.
+   *
+   * @param connection HBase connection
+   * @param tableName table name
+   * @return number of rows
+   * @throws IOException on failure
+   */
+  private static int countRows(Connection connection, TableName tableName) throws IOException {
+    int count = 0;
+    try (Table table = connection.getTable(tableName);
+      ResultScanner scanner = table.getScanner(new Scan())) {
+      for (Result ignored : scanner) {
+        count++;
+      }
+    }
+    return count;
+  }
 }
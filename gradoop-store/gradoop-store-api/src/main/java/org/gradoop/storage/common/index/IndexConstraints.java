@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.index;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Conditions that every element matching a filter has to satisfy. The conditions are collected
+ * from the conjunctive parts of a filter only, negated or disjunctive parts are ignored.
+ *
+ * @see org.gradoop.storage.common.predicate.filter.api.ElementFilter#collectIndexConstraints
+ */
+public class IndexConstraints {
+
+  /**
+   * possible element labels, {@code null} if the label is not restricted
+   */
+  private Set<String> labels;
+
+  /**
+   * required property values by key
+   */
+  private final Map<String, PropertyValue> equalities = new HashMap<>();
+
+  /**
+   * lower bounds of property values by key
+   */
+  private final Map<String, PropertyValue> lowerBounds = new HashMap<>();
+
+  /**
+   * Restrict the element label to one of the given labels
+   *
+   * @param allowed allowed labels
+   */
+  public void restrictLabels(@Nonnull Collection<String> allowed) {
+    if (labels == null) {
+      labels = new HashSet<>(allowed);
+    } else {
+      labels.retainAll(allowed);
+    }
+  }
+
+  /**
+   * Require a property to be equal to the given value
+   *
+   * @param key property key
+   * @param value property value
+   */
+  public void addEquality(@Nonnull String key, @Nonnull PropertyValue value) {
+    equalities.putIfAbsent(key, value);
+  }
+
+  /**
+   * Require a property to be larger than or equal to the given value
+   *
+   * @param key property key
+   * @param min property min value
+   */
+  public void addLowerBound(@Nonnull String key, @Nonnull PropertyValue min) {
+    lowerBounds.putIfAbsent(key, min);
+  }
+
+  /**
+   * Get possible element labels
+   *
+   * @return possible labels, {@code null} if the label is not restricted
+   */
+  @Nullable
+  public Set<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Get required property values
+   *
+   * @return required property values by key
+   */
+  @Nonnull
+  public Map<String, PropertyValue> getEqualities() {
+    return equalities;
+  }
+
+  /**
+   * Get lower bounds of property values
+   *
+   * @return lower bounds by key
+   */
+  @Nonnull
+  public Map<String, PropertyValue> getLowerBounds() {
+    return lowerBounds;
+  }
+
+}
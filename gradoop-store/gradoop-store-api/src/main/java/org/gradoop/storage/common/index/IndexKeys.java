@@ -0,0 +1,272 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.index;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Row layout of secondary property indices. An index entry of an element is a single row
+ *
+ * {@code label 0x00 key 0x00 type value id}
+ *
+ * whose value part preserves the order of property values of the same type, so that equality
+ * and range predicates can be answered by a range scan over the index rows. Numbers of all types
+ * are stored as doubles, strings are terminated by 0x00. The encoding may map distinct values
+ * to the same row prefix, hence matches of an index lookup have to be filtered again.
+ */
+public final class IndexKeys {
+
+  /**
+   * type prefix of boolean values
+   */
+  private static final byte TYPE_BOOLEAN = 1;
+
+  /**
+   * type prefix of numerical values
+   */
+  private static final byte TYPE_NUMBER = 2;
+
+  /**
+   * type prefix of string values
+   */
+  private static final byte TYPE_STRING = 3;
+
+  /**
+   * separator of labels, keys and string values
+   */
+  private static final byte SEPARATOR = 0;
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private IndexKeys() {
+  }
+
+  /**
+   * Check whether a property value can be stored in an index.
+   *
+   * @param value property value
+   * @return true, if the value is a boolean, a number or a string
+   */
+  public static boolean isIndexable(@Nullable PropertyValue value) {
+    return value != null && (value.isBoolean() || value.isNumber() || value.isString());
+  }
+
+  /**
+   * Create the index row of an element property.
+   *
+   * @param label element label
+   * @param key property key
+   * @param value property value, has to be indexable
+   * @param id element id
+   * @return index row
+   */
+  @Nonnull
+  public static byte[] indexRow(
+    @Nonnull String label,
+    @Nonnull String key,
+    @Nonnull PropertyValue value,
+    @Nonnull GradoopId id
+  ) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeValuePrefix(out, label, key, value);
+    byte[] idBytes = id.toByteArray();
+    out.write(idBytes, 0, idBytes.length);
+    return out.toByteArray();
+  }
+
+  /**
+   * Create the index rows of all indexed properties of an element. Properties with values that
+   * are neither booleans, numbers nor strings are not indexed.
+   *
+   * @param index indexed properties
+   * @param element element to index
+   * @return index rows, empty if the element has no indexed property
+   */
+  @Nonnull
+  public static List<byte[]> indexRows(
+    @Nonnull Set<IndexedProperty> index,
+    @Nonnull EPGMElement element
+  ) {
+    if (index.isEmpty() || element.getLabel() == null || element.getProperties() == null) {
+      return Collections.emptyList();
+    }
+    List<byte[]> rows = new ArrayList<>();
+    for (Property property : element.getProperties()) {
+      if (index.contains(IndexedProperty.of(element.getLabel(), property.getKey())) &&
+        isIndexable(property.getValue())) {
+        rows.add(indexRow(element.getLabel(), property.getKey(), property.getValue(),
+          element.getId()));
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * Read the element id of an index row.
+   *
+   * @param row index row
+   * @return element id
+   */
+  @Nonnull
+  public static GradoopId elementId(@Nonnull byte[] row) {
+    return GradoopId.fromByteArray(
+      Arrays.copyOfRange(row, row.length - GradoopId.ID_SIZE, row.length));
+  }
+
+  /**
+   * Create the first index row of elements whose property is equal to or larger than the
+   * given value.
+   *
+   * @param label element label
+   * @param key property key
+   * @param value property value, has to be indexable
+   * @return start row (inclusive)
+   */
+  @Nonnull
+  public static byte[] startRow(
+    @Nonnull String label,
+    @Nonnull String key,
+    @Nonnull PropertyValue value
+  ) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeValuePrefix(out, label, key, value);
+    return out.toByteArray();
+  }
+
+  /**
+   * Create the row after the last index row of elements whose property is equal to the given
+   * value (if {@code exact} is true) or larger than the given value of the same type.
+   *
+   * @param label element label
+   * @param key property key
+   * @param value property value, has to be indexable
+   * @param exact true, if only equal values shall be included
+   * @return stop row (exclusive)
+   */
+  @Nonnull
+  public static byte[] stopRow(
+    @Nonnull String label,
+    @Nonnull String key,
+    @Nonnull PropertyValue value,
+    boolean exact
+  ) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    if (exact) {
+      writeValuePrefix(out, label, key, value);
+    } else {
+      writeKeyPrefix(out, label, key);
+      out.write(typeOf(value));
+    }
+    return successor(out.toByteArray());
+  }
+
+  /**
+   * Write label and property key of an index row.
+   *
+   * @param out output
+   * @param label element label
+   * @param key property key
+   */
+  private static void writeKeyPrefix(ByteArrayOutputStream out, String label, String key) {
+    byte[] labelBytes = label.getBytes(StandardCharsets.UTF_8);
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    out.write(labelBytes, 0, labelBytes.length);
+    out.write(SEPARATOR);
+    out.write(keyBytes, 0, keyBytes.length);
+    out.write(SEPARATOR);
+  }
+
+  /**
+   * Write label, property key and the order preserving value encoding of an index row.
+   *
+   * @param out output
+   * @param label element label
+   * @param key property key
+   * @param value property value
+   */
+  private static void writeValuePrefix(ByteArrayOutputStream out, String label, String key,
+    PropertyValue value) {
+    writeKeyPrefix(out, label, key);
+    byte type = typeOf(value);
+    out.write(type);
+    switch (type) {
+    case TYPE_BOOLEAN:
+      out.write(value.getBoolean() ? 1 : 0);
+      break;
+    case TYPE_NUMBER:
+      double number = ((Number) value.getObject()).doubleValue();
+      // treat -0.0 and 0.0 as the same value
+      long bits = Double.doubleToLongBits(number == 0d ? 0d : number);
+      bits = bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+      out.write(ByteBuffer.allocate(Long.BYTES).putLong(bits).array(), 0, Long.BYTES);
+      break;
+    default:
+      byte[] stringBytes = value.getString().getBytes(StandardCharsets.UTF_8);
+      out.write(stringBytes, 0, stringBytes.length);
+      out.write(SEPARATOR);
+    }
+  }
+
+  /**
+   * Get the type prefix of an indexable value.
+   *
+   * @param value property value
+   * @return type prefix
+   */
+  private static byte typeOf(PropertyValue value) {
+    if (value.isBoolean()) {
+      return TYPE_BOOLEAN;
+    } else if (value.isNumber()) {
+      return TYPE_NUMBER;
+    } else if (value.isString()) {
+      return TYPE_STRING;
+    }
+    throw new IllegalArgumentException("Property value is not indexable: " + value);
+  }
+
+  /**
+   * Create the smallest row that is larger than all rows starting with the given prefix.
+   *
+   * @param prefix row prefix
+   * @return successor of the prefix
+   */
+  private static byte[] successor(byte[] prefix) {
+    for (int i = prefix.length - 1; i >= 0; i--) {
+      if (prefix[i] != (byte) 0xFF) {
+        byte[] next = Arrays.copyOf(prefix, i + 1);
+        next[i]++;
+        return next;
+      }
+    }
+    throw new IllegalArgumentException("Row prefix has no successor");
+  }
+
+}
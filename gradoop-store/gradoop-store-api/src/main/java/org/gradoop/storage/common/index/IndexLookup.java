@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.index;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lookup of elements by a single indexed property. The lookup selects all index rows of the
+ * given labels and property key whose value equals the given value or, if the lookup is not
+ * exact, is larger than or equal to the given value.
+ *
+ * @see IndexKeys
+ */
+public class IndexLookup {
+
+  /**
+   * element labels
+   */
+  private final Set<String> labels;
+
+  /**
+   * property key
+   */
+  private final String key;
+
+  /**
+   * property value
+   */
+  private final PropertyValue value;
+
+  /**
+   * true, if only equal values are selected
+   */
+  private final boolean exact;
+
+  /**
+   * Creates a new index lookup
+   *
+   * @param labels element labels
+   * @param key property key
+   * @param value property value
+   * @param exact true, if only equal values are selected
+   */
+  IndexLookup(Set<String> labels, String key, PropertyValue value, boolean exact) {
+    this.labels = labels;
+    this.key = key;
+    this.value = value;
+    this.exact = exact;
+  }
+
+  /**
+   * Plans an index lookup for the given filter constraints. Equality constraints are preferred
+   * over range constraints. A lookup is only possible if the labels of the result elements are
+   * restricted and the constrained property is indexed for every one of those labels.
+   *
+   * @param constraints filter constraints
+   * @param indexed indexed properties
+   * @return index lookup or {@code null} if no index can be used
+   */
+  @Nullable
+  public static IndexLookup plan(
+    @Nonnull IndexConstraints constraints,
+    @Nonnull Collection<IndexedProperty> indexed
+  ) {
+    Set<String> labels = constraints.getLabels();
+    if (labels == null || indexed.isEmpty()) {
+      return null;
+    }
+    if (labels.isEmpty()) {
+      // the filter can not match any element, an empty lookup answers the query
+      return new IndexLookup(Collections.emptySet(), "", PropertyValue.NULL_VALUE, true);
+    }
+    IndexLookup lookup = plan(labels, constraints.getEqualities(), indexed, true);
+    return lookup != null ? lookup : plan(labels, constraints.getLowerBounds(), indexed, false);
+  }
+
+  /**
+   * Plans an index lookup for one of the given property constraints.
+   *
+   * @param labels element labels
+   * @param values property constraints by key
+   * @param indexed indexed properties
+   * @param exact true, if the constraints are equalities
+   * @return index lookup or {@code null} if no index can be used
+   */
+  private static IndexLookup plan(Set<String> labels, Map<String, PropertyValue> values,
+    Collection<IndexedProperty> indexed, boolean exact) {
+    for (Map.Entry<String, PropertyValue> constraint : values.entrySet()) {
+      if (IndexKeys.isIndexable(constraint.getValue()) && labels.stream()
+        .allMatch(label -> indexed.contains(IndexedProperty.of(label, constraint.getKey())))) {
+        return new IndexLookup(labels, constraint.getKey(), constraint.getValue(), exact);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Get element labels
+   *
+   * @return element labels
+   */
+  @Nonnull
+  public Set<String> getLabels() {
+    return Collections.unmodifiableSet(labels);
+  }
+
+  /**
+   * Get property key
+   *
+   * @return property key
+   */
+  @Nonnull
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Get the first index row of elements with the given label.
+   *
+   * @param label element label
+   * @return start row (inclusive)
+   */
+  @Nonnull
+  public byte[] getStartRow(@Nonnull String label) {
+    return IndexKeys.startRow(label, key, value);
+  }
+
+  /**
+   * Get the row after the last index row of elements with the given label.
+   *
+   * @param label element label
+   * @return stop row (exclusive)
+   */
+  @Nonnull
+  public byte[] getStopRow(@Nonnull String label) {
+    return IndexKeys.stopRow(label, key, value, exact);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("INDEX LOOKUP %1$s.%2$s%3$s`%4$s`",
+      labels, key, exact ? "=" : ">=", value);
+  }
+
+}
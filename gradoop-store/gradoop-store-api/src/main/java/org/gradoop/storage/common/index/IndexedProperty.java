@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.index;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A property key of elements with a certain label, whose values are stored in a secondary
+ * index of a graph store.
+ */
+public final class IndexedProperty implements Serializable {
+
+  /**
+   * Definition for serialize version control
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * element label
+   */
+  private final String label;
+
+  /**
+   * property key
+   */
+  private final String key;
+
+  /**
+   * Creates a new indexed property
+   *
+   * @param label element label
+   * @param key property key
+   */
+  private IndexedProperty(String label, String key) {
+    this.label = label;
+    this.key = key;
+  }
+
+  /**
+   * Creates a new indexed property
+   *
+   * @param label element label
+   * @param key property key
+   * @return indexed property
+   */
+  @Nonnull
+  public static IndexedProperty of(@Nonnull String label, @Nonnull String key) {
+    return new IndexedProperty(Objects.requireNonNull(label), Objects.requireNonNull(key));
+  }
+
+  /**
+   * Get element label
+   *
+   * @return element label
+   */
+  public String getLabel() {
+    return label;
+  }
+
+  /**
+   * Get property key
+   *
+   * @return property key
+   */
+  public String getKey() {
+    return key;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    IndexedProperty that = (IndexedProperty) o;
+    return label.equals(that.label) && key.equals(that.key);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(label, key);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s.%s", label, key);
+  }
+
+}
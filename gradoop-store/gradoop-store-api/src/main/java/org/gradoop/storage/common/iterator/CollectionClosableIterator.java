@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.iterator;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Closable iterator over elements that have already been read into memory
+ *
+ * @param <E> iterator element type
+ */
+public class CollectionClosableIterator<E> implements ClosableIterator<E> {
+
+  /**
+   * inner element iterator
+   */
+  private final Iterator<E> it;
+
+  /**
+   * Creates a new iterator over the given elements
+   *
+   * @param elements elements to iterate
+   */
+  public CollectionClosableIterator(@Nonnull Collection<E> elements) {
+    this.it = elements.iterator();
+  }
+
+  @Override
+  public void close() {
+    //do nothing
+  }
+
+  @Override
+  public boolean hasNext() {
+    return it.hasNext();
+  }
+
+  @Override
+  public E next() {
+    return it.next();
+  }
+
+}
@@ -15,6 +15,8 @@
  */
 package org.gradoop.storage.common.predicate.filter.api;
 
+import org.gradoop.storage.common.index.IndexConstraints;
+
 import javax.annotation.Nonnull;
 import java.io.Serializable;
 
@@ -55,4 +57,15 @@ public interface ElementFilter<FilterImpl extends ElementFilter> extends Seriali
   @Nonnull
   FilterImpl negate();
 
+  /**
+   * Add the conditions that each element matching this filter satisfies to the given
+   * constraints, which are used to plan secondary index lookups. Filters that can not be
+   * answered by an index add nothing.
+   *
+   * @param constraints constraints of the enclosing conjunction
+   */
+  default void collectIndexConstraints(@Nonnull IndexConstraints constraints) {
+    // no constraints by default
+  }
+
 }
@@ -16,8 +16,11 @@
 package org.gradoop.storage.common.predicate.filter.impl;
 
 
+import org.gradoop.storage.common.index.IndexConstraints;
 import org.gradoop.storage.common.predicate.filter.api.ElementFilter;
 
+import javax.annotation.Nonnull;
+
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -49,6 +52,11 @@ public abstract class LabelIn<FilterImpl extends ElementFilter>
     Collections.addAll(this.labels, labels);
   }
 
+  @Override
+  public void collectIndexConstraints(@Nonnull IndexConstraints constraints) {
+    constraints.restrictLabels(labels);
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" OR ");
@@ -16,6 +16,7 @@
 package org.gradoop.storage.common.predicate.filter.impl;
 
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.common.index.IndexConstraints;
 import org.gradoop.storage.common.predicate.filter.api.ElementFilter;
 
 import javax.annotation.Nonnull;
@@ -56,6 +57,11 @@ public abstract class PropEquals<FilterImpl extends ElementFilter>
       (PropertyValue) value : PropertyValue.create(value);
   }
 
+  @Override
+  public void collectIndexConstraints(@Nonnull IndexConstraints constraints) {
+    constraints.addEquality(key, value);
+  }
+
   @Override
   public String toString() {
     return String.format("e.prop.%1$s IS NOT NULL AND e.prop.%1$s=`%2$s`",
@@ -16,8 +16,11 @@
 package org.gradoop.storage.common.predicate.filter.impl;
 
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.common.index.IndexConstraints;
 import org.gradoop.storage.common.predicate.filter.api.ElementFilter;
 
+import javax.annotation.Nonnull;
+
 /**
  * Predicate by property value compare
  * return element if and only if:
@@ -66,6 +69,12 @@ public abstract class PropLargerThan<FilterImpl extends ElementFilter>
     this.min.compareTo(this.min);
   }
 
+  @Override
+  public void collectIndexConstraints(@Nonnull IndexConstraints constraints) {
+    // the index is scanned from the min value on, excluded values are filtered afterwards
+    constraints.addLowerBound(key, min);
+  }
+
   @Override
   public String toString() {
     return String.format("e.prop.%1$s IS NOT NULL AND e.prop.%1$s%3$s`%2$s`",
@@ -17,6 +17,9 @@ package org.gradoop.storage.common.predicate.query;
 
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.storage.common.index.IndexConstraints;
+import org.gradoop.storage.common.index.IndexLookup;
+import org.gradoop.storage.common.index.IndexedProperty;
 import org.gradoop.storage.common.predicate.filter.api.ElementFilter;
 
 import javax.annotation.Nonnull;
@@ -80,6 +83,23 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
     return ranges;
   }
 
+  /**
+   * Plan a lookup of the result elements in a secondary property index. The filter predicate
+   * still has to be applied to the elements found by the lookup.
+   *
+   * @param indexed indexed properties of the store
+   * @return index lookup or {@code null} if the query can not be answered by an index
+   */
+  @Nullable
+  public IndexLookup planIndexLookup(@Nonnull Collection<IndexedProperty> indexed) {
+    if (filter == null || indexed.isEmpty()) {
+      return null;
+    }
+    IndexConstraints constraints = new IndexConstraints();
+    filter.collectIndexConstraints(constraints);
+    return IndexLookup.plan(constraints, indexed);
+  }
+
   @Override
   public String toString() {
     return String.format("QUERY ELEMENT FROM %1$s %2$s",